@@ -82,7 +82,7 @@ public class ApprovalController {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         if (auth != null && auth.getPrincipal() instanceof CustomUserDetails) {
             CustomUserDetails userDetails = (CustomUserDetails) auth.getPrincipal();
-            return userDetails.getUser().getUsername();
+            return userDetails.getUsername();
         }
         return "사용자";
     }
@@ -155,6 +155,45 @@ public class ApprovalController {
         return ResponseEntity.ok(approvals);
     }
 
+    /**
+     * 기안함 커서 페이지 조회
+     * - GET /api/approvals/draft-box/page?cursor=&size=
+     */
+    @GetMapping("/draft-box/page")
+    public ResponseEntity<ApprovalBoxPage> getDraftBoxPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        String empNo = getCurrentUserEmpNo();
+        log.info("GET /api/approvals/draft-box/page - 기안함 페이지 조회, empNo: {}", empNo);
+        return ResponseEntity.ok(approvalService.getDraftBoxPage(empNo, cursor, size));
+    }
+
+    /**
+     * 결재대기함 커서 페이지 조회
+     * - GET /api/approvals/pending-box/page?cursor=&size=
+     */
+    @GetMapping("/pending-box/page")
+    public ResponseEntity<ApprovalBoxPage> getPendingBoxPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        String empNo = getCurrentUserEmpNo();
+        log.info("GET /api/approvals/pending-box/page - 결재대기함 페이지 조회, empNo: {}", empNo);
+        return ResponseEntity.ok(approvalService.getPendingBoxPage(empNo, cursor, size));
+    }
+
+    /**
+     * 결재완료함 커서 페이지 조회
+     * - GET /api/approvals/completed-box/page?cursor=&size=
+     */
+    @GetMapping("/completed-box/page")
+    public ResponseEntity<ApprovalBoxPage> getCompletedBoxPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        String empNo = getCurrentUserEmpNo();
+        log.info("GET /api/approvals/completed-box/page - 결재완료함 페이지 조회, empNo: {}", empNo);
+        return ResponseEntity.ok(approvalService.getCompletedBoxPage(empNo, cursor, size));
+    }
+
     /**
      * 기안함 검색
      * - GET /api/approvals/draft-box/search
@@ -295,6 +334,7 @@ public class ApprovalController {
     /**
      * 결재 일괄 처리 (승인)
      * - POST /api/approvals/batch-approve
+     * - 하나의 트랜잭션으로 처리, 처리할 수 없는 문서는 failures에 사유와 함께 반환
      */
     @PostMapping("/batch-approve")
     public ResponseEntity<Map<String, Object>> batchApprove(
@@ -307,33 +347,28 @@ public class ApprovalController {
         String deptCd = getCurrentUserDeptCd();
         String deptName = getCurrentUserDeptName();
 
-        int successCount = 0;
-        int failCount = 0;
-
         ProcessApprovalRequest request = ProcessApprovalRequest.builder()
                 .resultCd("APPROVE")
                 .comment(comment != null ? comment : "일괄 승인")
                 .build();
 
-        for (String approvalId : approvalIds) {
-            try {
-                approvalService.processApproval(approvalId, request, empNo, userName, deptCd, deptName);
-                successCount++;
-            } catch (Exception e) {
-                log.error("일괄 승인 실패 - id: {}, error: {}", approvalId, e.getMessage());
-                failCount++;
-            }
-        }
+        BulkProcessApprovalResult result = approvalService.processApprovals(
+                approvalIds, request, empNo, userName, deptCd, deptName);
+        result.getFailures().forEach(failure ->
+                log.warn("일괄 승인 실패 - id: {}, error: {}", failure.getApprovalId(), failure.getMessage()));
 
         return ResponseEntity.ok(Map.of(
-                "success", successCount,
-                "fail", failCount
+                "success", result.getSuccessCount(),
+                "fail", result.getFailureCount(),
+                "processedIds", result.getProcessedIds(),
+                "failures", result.getFailures()
         ));
     }
 
     /**
      * 결재 일괄 처리 (반려)
      * - POST /api/approvals/batch-reject
+     * - 하나의 트랜잭션으로 처리, 처리할 수 없는 문서는 failures에 사유와 함께 반환
      */
     @PostMapping("/batch-reject")
     public ResponseEntity<Map<String, Object>> batchReject(
@@ -346,27 +381,21 @@ public class ApprovalController {
         String deptCd = getCurrentUserDeptCd();
         String deptName = getCurrentUserDeptName();
 
-        int successCount = 0;
-        int failCount = 0;
-
         ProcessApprovalRequest request = ProcessApprovalRequest.builder()
                 .resultCd("REJECT")
                 .comment(comment != null ? comment : "일괄 반려")
                 .build();
 
-        for (String approvalId : approvalIds) {
-            try {
-                approvalService.processApproval(approvalId, request, empNo, userName, deptCd, deptName);
-                successCount++;
-            } catch (Exception e) {
-                log.error("일괄 반려 실패 - id: {}, error: {}", approvalId, e.getMessage());
-                failCount++;
-            }
-        }
+        BulkProcessApprovalResult result = approvalService.processApprovals(
+                approvalIds, request, empNo, userName, deptCd, deptName);
+        result.getFailures().forEach(failure ->
+                log.warn("일괄 반려 실패 - id: {}, error: {}", failure.getApprovalId(), failure.getMessage()));
 
         return ResponseEntity.ok(Map.of(
-                "success", successCount,
-                "fail", failCount
+                "success", result.getSuccessCount(),
+                "fail", result.getFailureCount(),
+                "processedIds", result.getProcessedIds(),
+                "failures", result.getFailures()
         ));
     }
 }
@@ -0,0 +1,84 @@
+package com.rsms.domain.approval.dto;
+
+import lombok.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 결재함 커서 페이지 응답 DTO
+ *
+ * @description 기안함/결재대기함/결재완료함 keyset 페이지네이션 결과
+ * - 정렬: 기안일시 DESC, 결재ID DESC
+ * - nextCursor를 다음 요청의 cursor로 전달하면 이어서 조회 (마지막 페이지면 null)
+ * - 목록 항목에는 결재 이력(histories)을 포함하지 않음 (상세 조회에서 제공)
+ *
+ * @author Claude AI
+ * @since 2025-12-05
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApprovalBoxPage {
+
+    /**
+     * 결재 문서 목록
+     */
+    private List<ApprovalDto> items;
+
+    /**
+     * 다음 페이지 커서 (마지막 페이지면 null)
+     */
+    private String nextCursor;
+
+    /**
+     * 다음 페이지 존재 여부
+     */
+    private boolean hasNext;
+
+    /**
+     * 요청 페이지 크기
+     */
+    private int size;
+
+    /**
+     * 커서 (마지막으로 받은 문서의 기안일시 + 결재ID)
+     */
+    public record Cursor(LocalDateTime draftDate, String approvalId) {
+
+        /**
+         * 커서 문자열로 변환 (URL-safe Base64)
+         */
+        public String encode() {
+            String raw = draftDate + "|" + approvalId;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        /**
+         * 커서 문자열 해석
+         *
+         * @param cursor 커서 문자열 (null 또는 빈 값이면 첫 페이지)
+         * @return 커서 (첫 페이지면 null)
+         */
+        public static Cursor decode(String cursor) {
+            if (cursor == null || cursor.isBlank()) {
+                return null;
+            }
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.indexOf('|');
+                if (separator <= 0 || separator == raw.length() - 1) {
+                    throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+                }
+                return new Cursor(LocalDateTime.parse(raw.substring(0, separator)), raw.substring(separator + 1));
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + cursor, e);
+            }
+        }
+    }
+}
@@ -194,9 +194,27 @@ public class ApprovalDto {
     private List<ApprovalHistoryDto> histories;
 
     /**
-     * 엔티티 → DTO 변환
+     * 엔티티 → DTO 변환 (결재 이력 포함)
+     * - 이력은 지연 로딩이므로 상세 조회처럼 이력을 함께 조회한 경우에만 사용
      */
     public static ApprovalDto fromEntity(Approval entity) {
+        ApprovalDto dto = fromEntityWithoutHistories(entity);
+
+        // 이력 목록 매핑
+        if (dto != null && entity.getHistories() != null && !entity.getHistories().isEmpty()) {
+            dto.setHistories(entity.getHistories().stream()
+                    .map(ApprovalHistoryDto::fromEntity)
+                    .collect(Collectors.toList()));
+        }
+
+        return dto;
+    }
+
+    /**
+     * 엔티티 → DTO 변환 (결재 이력 제외)
+     * - 결재함 목록용: 문서마다 이력을 지연 로딩하지 않음
+     */
+    public static ApprovalDto fromEntityWithoutHistories(Approval entity) {
         if (entity == null) return null;
 
         ApprovalDtoBuilder builder = ApprovalDto.builder()
@@ -264,13 +282,6 @@ public class ApprovalDto {
         // 결재 진행률 생성
         builder.approvalSchedule(entity.getCurrentStep() + "/" + entity.getTotalSteps());
 
-        // 이력 목록 매핑
-        if (entity.getHistories() != null && !entity.getHistories().isEmpty()) {
-            builder.histories(entity.getHistories().stream()
-                    .map(ApprovalHistoryDto::fromEntity)
-                    .collect(Collectors.toList()));
-        }
-
         return builder.build();
     }
 }
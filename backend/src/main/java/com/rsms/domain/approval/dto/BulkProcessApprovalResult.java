@@ -0,0 +1,69 @@
+package com.rsms.domain.approval.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 결재 일괄 처리 결과 DTO
+ *
+ * @description 일괄 승인/반려 결과
+ * - 처리할 수 없는 문서(미존재, 처리 불가 상태, 현재 결재자 아님 등)는 건너뛰고 사유를 건별로 반환
+ * - 나머지 문서는 하나의 트랜잭션으로 처리
+ *
+ * @author Claude AI
+ * @since 2025-12-05
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkProcessApprovalResult {
+
+    /**
+     * 결재결과 (APPROVE: 승인, REJECT: 반려)
+     */
+    private String resultCd;
+
+    /**
+     * 요청 건수 (중복 제거 후)
+     */
+    private int requestedCount;
+
+    /**
+     * 처리 성공 결재ID 목록
+     */
+    private List<String> processedIds;
+
+    /**
+     * 처리 실패 목록
+     */
+    private List<Failure> failures;
+
+    public int getSuccessCount() {
+        return processedIds != null ? processedIds.size() : 0;
+    }
+
+    public int getFailureCount() {
+        return failures != null ? failures.size() : 0;
+    }
+
+    /**
+     * 처리 실패 건
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Failure {
+
+        /**
+         * 결재ID
+         */
+        private String approvalId;
+
+        /**
+         * 실패 사유
+         */
+        private String message;
+    }
+}
@@ -297,9 +297,16 @@ public class Approval {
      * - currentStep을 totalSteps로 설정하여 진행률이 2/2로 표시되도록 함
      */
     public void complete() {
+        complete(LocalDateTime.now());
+    }
+
+    /**
+     * 결재 완료 (완료일시 지정)
+     */
+    public void complete(LocalDateTime completedAt) {
         this.currentStep = this.totalSteps;  // 진행률 2/2 표시를 위해 추가
         this.approvalStatusCd = "03";
-        this.completedDate = LocalDateTime.now();
+        this.completedDate = completedAt;
         this.currentApproverId = null;
         this.currentApproverName = null;
         this.updatedAt = LocalDateTime.now();
@@ -0,0 +1,75 @@
+package com.rsms.domain.approval.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 결재 참여자 엔티티
+ *
+ * @description 결재자가 승인(APPROVE)한 결재 문서 인덱스
+ * - (결재자, 결재ID) 1행: 결재완료함을 approval_histories JOIN + DISTINCT 없이 조회
+ * - ApprovalParticipantRepository의 native 쿼리로만 기록/갱신
+ *
+ * @author Claude AI
+ * @since 2025-12-05
+ */
+@Entity
+@Table(name = "approval_participants", schema = "rsms")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@IdClass(ApprovalParticipant.ParticipantId.class)
+public class ApprovalParticipant {
+
+    /**
+     * 결재자ID (복합키)
+     */
+    @Id
+    @Column(name = "approver_id", length = 50, nullable = false)
+    private String approverId;
+
+    /**
+     * 결재ID (복합키, FK)
+     */
+    @Id
+    @Column(name = "approval_id", length = 20, nullable = false)
+    private String approvalId;
+
+    /**
+     * 기안일시 (approvals.draft_date 복제, 결재함 정렬용)
+     */
+    @Column(name = "draft_date", nullable = false)
+    private LocalDateTime draftDate;
+
+    /**
+     * 최초 승인일시
+     */
+    @Column(name = "approved_at", nullable = false)
+    private LocalDateTime approvedAt;
+
+    /**
+     * 결재 완료일시 (완료 전 null)
+     */
+    @Column(name = "completed_date")
+    private LocalDateTime completedDate;
+
+    /**
+     * 생성일시
+     */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // ===============================
+    // 복합키 클래스
+    // ===============================
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ParticipantId implements Serializable {
+        private String approverId;
+        private String approvalId;
+    }
+}
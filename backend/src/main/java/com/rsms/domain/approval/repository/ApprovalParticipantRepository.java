@@ -0,0 +1,77 @@
+package com.rsms.domain.approval.repository;
+
+import com.rsms.domain.approval.entity.ApprovalParticipant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * 결재 참여자 Repository
+ *
+ * @description 결재 참여자 데이터 접근 인터페이스
+ * - SQL 스키마: approval_participants 테이블
+ * - PK: (approver_id, approval_id)
+ *
+ * @author Claude AI
+ * @since 2025-12-05
+ */
+@Repository
+public interface ApprovalParticipantRepository extends JpaRepository<ApprovalParticipant, ApprovalParticipant.ParticipantId> {
+
+    /**
+     * 승인 기록 (이미 있으면 무시)
+     * - 같은 결재자가 한 문서를 여러 단계에서 승인해도 1행
+     *
+     * @return 추가된 행 수 (0: 이미 참여한 문서)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO rsms.approval_participants (approver_id, approval_id, draft_date, approved_at, created_at) " +
+                   "VALUES (:approverId, :approvalId, :draftDate, :approvedAt, CURRENT_TIMESTAMP) " +
+                   "ON CONFLICT (approver_id, approval_id) DO NOTHING",
+           nativeQuery = true)
+    int recordApproval(@Param("approverId") String approverId,
+                       @Param("approvalId") String approvalId,
+                       @Param("draftDate") LocalDateTime draftDate,
+                       @Param("approvedAt") LocalDateTime approvedAt);
+
+    /**
+     * 승인 일괄 기록 (이미 있으면 무시, 일괄 승인용)
+     * - 기안일시는 결재 문서에서 복사
+     *
+     * @return 추가된 행 수
+     */
+    @Modifying
+    @Query(value = "INSERT INTO rsms.approval_participants (approver_id, approval_id, draft_date, approved_at, created_at) " +
+                   "SELECT :approverId, a.approval_id, a.draft_date, :approvedAt, CURRENT_TIMESTAMP " +
+                   "FROM rsms.approvals a WHERE a.approval_id IN (:approvalIds) " +
+                   "ON CONFLICT (approver_id, approval_id) DO NOTHING",
+           nativeQuery = true)
+    int recordApprovals(@Param("approverId") String approverId,
+                        @Param("approvalIds") Collection<String> approvalIds,
+                        @Param("approvedAt") LocalDateTime approvedAt);
+
+    /**
+     * 결재 완료일시 반영 (문서의 모든 참여자)
+     */
+    @Modifying
+    @Query(value = "UPDATE rsms.approval_participants SET completed_date = :completedDate " +
+                   "WHERE approval_id = :approvalId",
+           nativeQuery = true)
+    int markCompleted(@Param("approvalId") String approvalId,
+                      @Param("completedDate") LocalDateTime completedDate);
+
+    /**
+     * 결재 완료일시 일괄 반영 (일괄 승인용)
+     */
+    @Modifying
+    @Query(value = "UPDATE rsms.approval_participants SET completed_date = :completedDate " +
+                   "WHERE approval_id IN (:approvalIds)",
+           nativeQuery = true)
+    int markCompletedAll(@Param("approvalIds") Collection<String> approvalIds,
+                         @Param("completedDate") LocalDateTime completedDate);
+}
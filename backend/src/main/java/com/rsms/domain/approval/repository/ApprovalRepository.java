@@ -9,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -53,21 +54,84 @@ public interface ApprovalRepository extends JpaRepository<Approval, String> {
 
     /**
      * 결재완료함 조회 (내가 결재한 문서)
-     * - 결재 이력에 내가 승인한 기록이 있는 문서
+     * - 결재 참여자(approval_participants)에 내가 승인한 기록이 있는 문서 (문서당 1행, DISTINCT 불필요)
      */
-    @Query("SELECT DISTINCT a FROM Approval a JOIN a.histories h " +
-           "WHERE h.approverId = :approverId AND h.actionCd = 'APPROVE' " +
+    @Query("SELECT a FROM ApprovalParticipant p JOIN Approval a ON a.approvalId = p.approvalId " +
+           "WHERE p.approverId = :approverId " +
            "ORDER BY a.completedDate DESC")
     List<Approval> findCompletedBox(@Param("approverId") String approverId);
 
     /**
      * 결재완료함 조회 (페이징)
      */
-    @Query("SELECT DISTINCT a FROM Approval a JOIN a.histories h " +
-           "WHERE h.approverId = :approverId AND h.actionCd = 'APPROVE' " +
-           "ORDER BY a.completedDate DESC")
+    @Query(value = "SELECT a FROM ApprovalParticipant p JOIN Approval a ON a.approvalId = p.approvalId " +
+                   "WHERE p.approverId = :approverId " +
+                   "ORDER BY a.completedDate DESC",
+           countQuery = "SELECT COUNT(p) FROM ApprovalParticipant p WHERE p.approverId = :approverId")
     Page<Approval> findCompletedBox(@Param("approverId") String approverId, Pageable pageable);
 
+    /**
+     * 기안함 keyset 조회 - 첫 페이지
+     * - 정렬: 기안일시 DESC, 결재ID DESC (idx_approvals_drafter_keyset)
+     * - 결재 이력은 조회하지 않음
+     */
+    @Query("SELECT a FROM Approval a WHERE a.drafterId = :drafterId " +
+           "ORDER BY a.draftDate DESC, a.approvalId DESC")
+    List<Approval> findDraftBoxFirst(@Param("drafterId") String drafterId, Pageable pageable);
+
+    /**
+     * 기안함 keyset 조회 - 커서 이후
+     */
+    @Query("SELECT a FROM Approval a WHERE a.drafterId = :drafterId " +
+           "AND (a.draftDate < :draftDate OR (a.draftDate = :draftDate AND a.approvalId < :approvalId)) " +
+           "ORDER BY a.draftDate DESC, a.approvalId DESC")
+    List<Approval> findDraftBoxAfter(@Param("drafterId") String drafterId,
+                                     @Param("draftDate") LocalDateTime draftDate,
+                                     @Param("approvalId") String approvalId,
+                                     Pageable pageable);
+
+    /**
+     * 결재대기함 keyset 조회 - 첫 페이지
+     * - 정렬: 기안일시 DESC, 결재ID DESC (idx_approvals_pending_keyset)
+     */
+    @Query("SELECT a FROM Approval a WHERE a.currentApproverId = :approverId " +
+           "AND a.approvalStatusCd IN ('01', '02') " +
+           "ORDER BY a.draftDate DESC, a.approvalId DESC")
+    List<Approval> findPendingBoxFirst(@Param("approverId") String approverId, Pageable pageable);
+
+    /**
+     * 결재대기함 keyset 조회 - 커서 이후
+     */
+    @Query("SELECT a FROM Approval a WHERE a.currentApproverId = :approverId " +
+           "AND a.approvalStatusCd IN ('01', '02') " +
+           "AND (a.draftDate < :draftDate OR (a.draftDate = :draftDate AND a.approvalId < :approvalId)) " +
+           "ORDER BY a.draftDate DESC, a.approvalId DESC")
+    List<Approval> findPendingBoxAfter(@Param("approverId") String approverId,
+                                       @Param("draftDate") LocalDateTime draftDate,
+                                       @Param("approvalId") String approvalId,
+                                       Pageable pageable);
+
+    /**
+     * 결재완료함 keyset 조회 - 첫 페이지
+     * - 결재 참여자 인덱스(idx_approval_participants_keyset)로 정렬/커서 처리 후 결재 문서 PK 조회
+     */
+    @Query("SELECT a FROM ApprovalParticipant p JOIN Approval a ON a.approvalId = p.approvalId " +
+           "WHERE p.approverId = :approverId " +
+           "ORDER BY p.draftDate DESC, p.approvalId DESC")
+    List<Approval> findCompletedBoxFirst(@Param("approverId") String approverId, Pageable pageable);
+
+    /**
+     * 결재완료함 keyset 조회 - 커서 이후
+     */
+    @Query("SELECT a FROM ApprovalParticipant p JOIN Approval a ON a.approvalId = p.approvalId " +
+           "WHERE p.approverId = :approverId " +
+           "AND (p.draftDate < :draftDate OR (p.draftDate = :draftDate AND p.approvalId < :approvalId)) " +
+           "ORDER BY p.draftDate DESC, p.approvalId DESC")
+    List<Approval> findCompletedBoxAfter(@Param("approverId") String approverId,
+                                         @Param("draftDate") LocalDateTime draftDate,
+                                         @Param("approvalId") String approvalId,
+                                         Pageable pageable);
+
     /**
      * 상태별 결재 문서 조회
      */
@@ -84,6 +148,12 @@ public interface ApprovalRepository extends JpaRepository<Approval, String> {
     @Query("SELECT DISTINCT a FROM Approval a LEFT JOIN FETCH a.histories WHERE a.approvalId = :id")
     Optional<Approval> findByIdWithHistories(@Param("id") String id);
 
+    /**
+     * 결재 문서 복수 조회 (이력 포함, 일괄 처리용)
+     */
+    @Query("SELECT DISTINCT a FROM Approval a LEFT JOIN FETCH a.histories WHERE a.approvalId IN :ids")
+    List<Approval> findAllByIdWithHistories(@Param("ids") Collection<String> ids);
+
     /**
      * 참조문서로 결재 문서 조회
      */
@@ -140,9 +210,9 @@ public interface ApprovalRepository extends JpaRepository<Approval, String> {
 
     /**
      * 결재완료함 건수 조회
+     * - 결재 참여자 테이블 기준 (인덱스 전용 조회)
      */
-    @Query("SELECT COUNT(DISTINCT a) FROM Approval a JOIN a.histories h " +
-           "WHERE h.approverId = :approverId AND h.actionCd = 'APPROVE'")
+    @Query("SELECT COUNT(p) FROM ApprovalParticipant p WHERE p.approverId = :approverId")
     long countCompletedBox(@Param("approverId") String approverId);
 
     /**
@@ -0,0 +1,97 @@
+package com.rsms.domain.approval.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 결재함 건수 캐시
+ * - 사용자별 기안함/결재대기함/결재완료함 건수를 보관 (대시보드 폴링 시 COUNT 3회 생략)
+ * - 최초 조회(또는 만료) 시에만 DB 집계, 결재 상태 전이가 커밋되면 관련 사용자 항목만 제거 후 다음 조회에서 재집계
+ *   (커밋 후 증감 방식은 커밋 직후~증감 사이에 변경 후 건수를 집계해 둔 경우 증감이 이중 반영됨)
+ * - 다른 노드에서 발생한 변경은 TTL 경과 후 재집계로 반영
+ * - 집계 도중 변경이 커밋되면 집계 결과를 캐시하지 않음 (다음 조회에서 다시 집계)
+ *
+ * @author Claude AI
+ * @since 2025-12-05
+ */
+@Slf4j
+@Component
+public class ApprovalBoxCountCache {
+
+    /**
+     * 캐시 유효 시간 (밀리초)
+     */
+    private static final long TTL_MILLIS = 60_000L;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * 건수 변경 스탬프 (변경 커밋마다 증가)
+     */
+    private final AtomicLong changeStamp = new AtomicLong();
+
+    /**
+     * 결재함 건수
+     */
+    public record Counts(long draft, long pending, long completed) {
+    }
+
+    private record Entry(Counts counts, long loadedAt) {
+    }
+
+    /**
+     * 사용자 결재함 건수 조회 (없거나 만료되었으면 집계)
+     * - 스탬프 확인과 저장은 키 단위로 원자 처리 (무효화는 스탬프 증가 후 항목 제거)
+     *
+     * @param userId 사용자 직원번호
+     * @param loader DB 집계 함수
+     * @return 결재함 건수
+     */
+    public Counts get(String userId, Supplier<Counts> loader) {
+        long now = System.currentTimeMillis();
+        Entry cached = entries.get(userId);
+        if (cached != null && now - cached.loadedAt() < TTL_MILLIS) {
+            return cached.counts();
+        }
+
+        long stamp = changeStamp.get();
+        Counts loaded = loader.get();
+        entries.compute(userId, (key, current) -> changeStamp.get() == stamp ? new Entry(loaded, now) : null);
+        return loaded;
+    }
+
+    /**
+     * 결재함 건수 무효화 (커밋 후 반영, 롤백 시 무시)
+     * - 캐시에 없는 사용자는 다음 조회 시 집계하므로 영향 없음
+     *
+     * @param userId 사용자 직원번호 (null이면 무시)
+     */
+    public void invalidateAfterCommit(String userId) {
+        if (userId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(userId);
+                }
+            });
+        } else {
+            invalidate(userId);
+        }
+    }
+
+    private void invalidate(String userId) {
+        changeStamp.incrementAndGet();
+        entries.remove(userId);
+        log.debug("결재함 건수 무효화 - userId: {}", userId);
+    }
+}
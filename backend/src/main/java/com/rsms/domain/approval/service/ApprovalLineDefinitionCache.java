@@ -0,0 +1,171 @@
+package com.rsms.domain.approval.service;
+
+import com.rsms.domain.approval.entity.ApprovalLine;
+import com.rsms.domain.approval.entity.ApprovalLineStep;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 결재선 정의 캐시
+ * - 결재선ID별로 단계 목록을 불변 정의(ApprovalLineDefinition)로 변환해 보관 (단계순서로 미리 색인)
+ * - 결재 요청/처리 시 결재선 + 단계 조회(fetch join)와 단계 선형 탐색을 생략
+ * - 결재선 수정/삭제 시 커밋 후 버전을 올려 해당 결재선 무효화
+ * - 적재 도중 변경이 커밋되면 적재 결과를 캐시하지 않음 (다음 조회에서 다시 적재)
+ * - 다른 노드에서 발생한 변경은 TTL 경과 후 재적재로 반영
+ *
+ * @author Claude AI
+ * @since 2025-12-05
+ */
+@Slf4j
+@Component
+public class ApprovalLineDefinitionCache {
+
+    /**
+     * 캐시 유효 시간 (밀리초)
+     */
+    private static final long TTL_MILLIS = 300_000L;
+
+    private final AtomicLong version = new AtomicLong(1L);
+    private final Map<String, ApprovalLineDefinition> definitions = new ConcurrentHashMap<>();
+
+    /**
+     * 결재선 단계 정의 (불변)
+     */
+    public record StepDefinition(int stepOrder, String stepName, String approvalTypeCd,
+                                 String approverId, String approverName) {
+
+        static StepDefinition from(ApprovalLineStep step) {
+            return new StepDefinition(
+                    step.getStepOrder(),
+                    step.getStepName(),
+                    step.getApprovalTypeCd(),
+                    step.getApproverId(),
+                    step.getApproverName());
+        }
+    }
+
+    /**
+     * 결재선 정의 (불변)
+     * - steps: 단계순서 오름차순
+     * - stepsByOrder: 단계순서 → 단계 (같은 순서가 중복되면 먼저 나온 단계)
+     */
+    public record ApprovalLineDefinition(long version, long loadedAt, String approvalLineId,
+                                         List<StepDefinition> steps, Map<Integer, StepDefinition> stepsByOrder) {
+
+        static ApprovalLineDefinition of(long version, ApprovalLine approvalLine) {
+            List<StepDefinition> steps = approvalLine.getSteps().stream()
+                    .map(StepDefinition::from)
+                    .toList();
+            Map<Integer, StepDefinition> byOrder = new LinkedHashMap<>();
+            steps.forEach(step -> byOrder.putIfAbsent(step.stepOrder(), step));
+            return new ApprovalLineDefinition(version, System.currentTimeMillis(),
+                    approvalLine.getApprovalLineId(), steps, Map.copyOf(byOrder));
+        }
+
+        /**
+         * 단계 수
+         */
+        public int totalSteps() {
+            return steps.size();
+        }
+
+        /**
+         * 단계순서로 단계 조회
+         *
+         * @param stepOrder 단계순서
+         * @return 단계 (없으면 null)
+         */
+        public StepDefinition step(int stepOrder) {
+            return stepsByOrder.get(stepOrder);
+        }
+
+        /**
+         * 기안 단계 (단계순서 1, 없으면 첫 단계)
+         */
+        public StepDefinition draftStep() {
+            StepDefinition draft = stepsByOrder.get(1);
+            return draft != null ? draft : steps.get(0);
+        }
+
+        /**
+         * 첫 번째 결재자 단계 (기안 다음 단계, 없으면 null)
+         */
+        public StepDefinition firstApproverStep() {
+            return steps.stream()
+                    .filter(s -> s.stepOrder() > 1)
+                    .findFirst()
+                    .orElse(null);
+        }
+    }
+
+    /**
+     * 결재선 정의 조회 (없거나 이전 버전/만료면 적재)
+     * - 버전 확인과 저장을 같은 키의 compute 안에서 수행하여 무효화(버전 증가 → 제거)와 교차되어도
+     *   이전 버전 정의가 남지 않음 (더 새 버전으로 적재된 정의도 덮어쓰지 않음)
+     *
+     * @param approvalLineId 결재선ID
+     * @param loader 결재선 + 단계 조회 함수
+     * @return 결재선 정의 (결재선이 없으면 empty)
+     */
+    public Optional<ApprovalLineDefinition> get(String approvalLineId, Supplier<Optional<ApprovalLine>> loader) {
+        long currentVersion = version.get();
+        ApprovalLineDefinition cached = definitions.get(approvalLineId);
+        if (cached != null && cached.version() == currentVersion
+                && System.currentTimeMillis() - cached.loadedAt() < TTL_MILLIS) {
+            return Optional.of(cached);
+        }
+
+        Optional<ApprovalLineDefinition> loaded = loader.get()
+                .map(line -> ApprovalLineDefinition.of(currentVersion, line));
+        if (loaded.isPresent()) {
+            ApprovalLineDefinition definition = loaded.get();
+            ApprovalLineDefinition stored = definitions.compute(approvalLineId, (key, current) ->
+                    version.get() == currentVersion && (current == null || current.version() <= currentVersion)
+                            ? definition : current);
+            if (stored == definition) {
+                log.debug("결재선 정의 캐시 적재: id={}, version={}, 단계 {} 개",
+                        approvalLineId, currentVersion, definition.totalSteps());
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 커밋 후 무효화
+     * - 트랜잭션 내부면 커밋 이후, 아니면 즉시 무효화
+     *
+     * @param approvalLineId 결재선ID
+     */
+    public void invalidateAfterCommit(String approvalLineId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(approvalLineId);
+                }
+            });
+        } else {
+            invalidate(approvalLineId);
+        }
+    }
+
+    /**
+     * 즉시 무효화
+     * - 버전을 올려 적재 중인 다른 결재선 정의도 이전 버전으로 처리 (다음 조회에서 재적재)
+     */
+    public void invalidate(String approvalLineId) {
+        long newVersion = version.incrementAndGet();
+        definitions.remove(approvalLineId);
+        log.debug("결재선 정의 캐시 무효화: id={}, version={}", approvalLineId, newVersion);
+    }
+}
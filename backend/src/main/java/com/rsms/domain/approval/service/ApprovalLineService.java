@@ -5,6 +5,9 @@ import com.rsms.domain.approval.entity.ApprovalLine;
 import com.rsms.domain.approval.entity.ApprovalLineStep;
 import com.rsms.domain.approval.repository.ApprovalLineRepository;
 import com.rsms.domain.approval.repository.ApprovalLineStepRepository;
+import com.rsms.domain.approval.service.ApprovalLineDefinitionCache.ApprovalLineDefinition;
+import com.rsms.global.id.IdAllocator;
+import com.rsms.global.id.IdSequence;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -20,6 +23,7 @@ import java.util.stream.Collectors;
  * @description 결재선 관련 비즈니스 로직 처리
  * - 결재선 CRUD
  * - 결재선 단계 관리
+ * - 결재 처리용 결재선 정의 캐시 적재/무효화
  *
  * @author Claude AI
  * @since 2025-12-02
@@ -32,6 +36,8 @@ public class ApprovalLineService {
 
     private final ApprovalLineRepository approvalLineRepository;
     private final ApprovalLineStepRepository approvalLineStepRepository;
+    private final IdAllocator idAllocator;
+    private final ApprovalLineDefinitionCache definitionCache;
 
     /**
      * 전체 결재선 목록 조회
@@ -67,6 +73,15 @@ public class ApprovalLineService {
         return ApprovalLineDto.fromEntity(approvalLine);
     }
 
+    /**
+     * 결재선 정의 조회 (결재 요청/처리용)
+     * - 캐시에 없을 때만 결재선 + 단계 조회
+     */
+    public ApprovalLineDefinition getDefinition(String approvalLineId) {
+        return definitionCache.get(approvalLineId, () -> approvalLineRepository.findByIdWithSteps(approvalLineId))
+                .orElseThrow(() -> new IllegalArgumentException("결재선을 찾을 수 없습니다: " + approvalLineId));
+    }
+
     /**
      * 업무구분별 사용중인 결재선 목록 조회
      */
@@ -173,6 +188,8 @@ public class ApprovalLineService {
             }
         }
 
+        definitionCache.invalidateAfterCommit(approvalLineId);
+
         log.info("결재선 수정 완료 - id: {}", approvalLineId);
         return ApprovalLineDto.fromEntity(approvalLine);
     }
@@ -192,6 +209,7 @@ public class ApprovalLineService {
 
         // 결재선 삭제
         approvalLineRepository.delete(approvalLine);
+        definitionCache.invalidateAfterCommit(approvalLineId);
 
         log.info("결재선 삭제 완료 - id: {}", approvalLineId);
     }
@@ -247,19 +265,17 @@ public class ApprovalLineService {
     }
 
     /**
-     * 결재선 ID 생성 (시퀀스 기반 간단 구현)
+     * 결재선 ID 생성 (AL00001 형식)
      */
     private String generateApprovalLineId() {
-        long count = approvalLineRepository.count() + 1;
-        return String.format("AL%05d", count);
+        return idAllocator.next(IdSequence.APPROVAL_LINE_ID);
     }
 
     /**
-     * 결재선 단계 ID 생성 (시퀀스 기반)
+     * 결재선 단계 ID 생성 (ALS00000001 형식)
      */
     private String generateApprovalLineStepId() {
-        long count = approvalLineStepRepository.count() + 1;
-        return String.format("ALS%08d", count);
+        return idAllocator.next(IdSequence.APPROVAL_LINE_STEP_ID);
     }
 
     /**
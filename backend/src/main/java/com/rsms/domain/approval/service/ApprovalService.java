@@ -3,21 +3,30 @@ package com.rsms.domain.approval.service;
 import com.rsms.domain.approval.dto.*;
 import com.rsms.domain.approval.entity.Approval;
 import com.rsms.domain.approval.entity.ApprovalHistory;
-import com.rsms.domain.approval.entity.ApprovalLine;
-import com.rsms.domain.approval.entity.ApprovalLineStep;
 import com.rsms.domain.approval.repository.ApprovalHistoryRepository;
-import com.rsms.domain.approval.repository.ApprovalLineRepository;
+import com.rsms.domain.approval.repository.ApprovalParticipantRepository;
 import com.rsms.domain.approval.repository.ApprovalRepository;
+import com.rsms.domain.approval.service.ApprovalBoxCountCache.Counts;
+import com.rsms.domain.approval.service.ApprovalLineDefinitionCache.ApprovalLineDefinition;
+import com.rsms.domain.approval.service.ApprovalLineDefinitionCache.StepDefinition;
 import com.rsms.domain.compliance.entity.ImplInspectionItem;
 import com.rsms.domain.compliance.repository.ImplInspectionItemRepository;
+import com.rsms.global.id.IdAllocator;
+import com.rsms.global.id.IdSequence;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.time.Year;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -38,8 +47,22 @@ public class ApprovalService {
 
     private final ApprovalRepository approvalRepository;
     private final ApprovalHistoryRepository approvalHistoryRepository;
-    private final ApprovalLineRepository approvalLineRepository;
+    private final ApprovalLineService approvalLineService;
+    private final ApprovalParticipantRepository approvalParticipantRepository;
     private final ImplInspectionItemRepository implInspectionItemRepository;
+    private final IdAllocator idAllocator;
+    private final ApprovalBoxCountCache boxCountCache;
+
+    /**
+     * 결재함 페이지 크기 (기본 / 최대)
+     */
+    private static final int DEFAULT_BOX_PAGE_SIZE = 20;
+    private static final int MAX_BOX_PAGE_SIZE = 100;
+
+    /**
+     * 일괄 처리 최대 건수 (한 트랜잭션)
+     */
+    private static final int MAX_BULK_PROCESS_SIZE = 500;
 
     // ==============================
     // 결재함 조회
@@ -51,7 +74,7 @@ public class ApprovalService {
     public List<ApprovalDto> getDraftBox(String userId) {
         log.info("기안함 조회 - userId: {}", userId);
         return approvalRepository.findDraftBox(userId).stream()
-                .map(ApprovalDto::fromEntity)
+                .map(ApprovalDto::fromEntityWithoutHistories)
                 .collect(Collectors.toList());
     }
 
@@ -61,7 +84,7 @@ public class ApprovalService {
     public List<ApprovalDto> getPendingBox(String userId) {
         log.info("결재대기함 조회 - userId: {}", userId);
         return approvalRepository.findPendingBox(userId).stream()
-                .map(ApprovalDto::fromEntity)
+                .map(ApprovalDto::fromEntityWithoutHistories)
                 .collect(Collectors.toList());
     }
 
@@ -71,10 +94,53 @@ public class ApprovalService {
     public List<ApprovalDto> getCompletedBox(String userId) {
         log.info("결재완료함 조회 - userId: {}", userId);
         return approvalRepository.findCompletedBox(userId).stream()
-                .map(ApprovalDto::fromEntity)
+                .map(ApprovalDto::fromEntityWithoutHistories)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 기안함 조회 (커서 페이지)
+     *
+     * @param userId 사용자 직원번호
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param size 페이지 크기 (기본 20, 최대 100)
+     */
+    public ApprovalBoxPage getDraftBoxPage(String userId, String cursor, Integer size) {
+        log.info("기안함 페이지 조회 - userId: {}, cursor: {}", userId, cursor);
+        ApprovalBoxPage.Cursor after = ApprovalBoxPage.Cursor.decode(cursor);
+        int pageSize = boxPageSize(size);
+        List<Approval> rows = after == null
+                ? approvalRepository.findDraftBoxFirst(userId, lookAhead(pageSize))
+                : approvalRepository.findDraftBoxAfter(userId, after.draftDate(), after.approvalId(), lookAhead(pageSize));
+        return toBoxPage(rows, pageSize);
+    }
+
+    /**
+     * 결재대기함 조회 (커서 페이지)
+     */
+    public ApprovalBoxPage getPendingBoxPage(String userId, String cursor, Integer size) {
+        log.info("결재대기함 페이지 조회 - userId: {}, cursor: {}", userId, cursor);
+        ApprovalBoxPage.Cursor after = ApprovalBoxPage.Cursor.decode(cursor);
+        int pageSize = boxPageSize(size);
+        List<Approval> rows = after == null
+                ? approvalRepository.findPendingBoxFirst(userId, lookAhead(pageSize))
+                : approvalRepository.findPendingBoxAfter(userId, after.draftDate(), after.approvalId(), lookAhead(pageSize));
+        return toBoxPage(rows, pageSize);
+    }
+
+    /**
+     * 결재완료함 조회 (커서 페이지)
+     */
+    public ApprovalBoxPage getCompletedBoxPage(String userId, String cursor, Integer size) {
+        log.info("결재완료함 페이지 조회 - userId: {}, cursor: {}", userId, cursor);
+        ApprovalBoxPage.Cursor after = ApprovalBoxPage.Cursor.decode(cursor);
+        int pageSize = boxPageSize(size);
+        List<Approval> rows = after == null
+                ? approvalRepository.findCompletedBoxFirst(userId, lookAhead(pageSize))
+                : approvalRepository.findCompletedBoxAfter(userId, after.draftDate(), after.approvalId(), lookAhead(pageSize));
+        return toBoxPage(rows, pageSize);
+    }
+
     /**
      * 기안함 검색
      */
@@ -93,7 +159,7 @@ public class ApprovalService {
                 startDate,
                 endDate
         ).stream()
-                .map(ApprovalDto::fromEntity)
+                .map(ApprovalDto::fromEntityWithoutHistories)
                 .collect(Collectors.toList());
     }
 
@@ -114,22 +180,24 @@ public class ApprovalService {
                 startDate,
                 endDate
         ).stream()
-                .map(ApprovalDto::fromEntity)
+                .map(ApprovalDto::fromEntityWithoutHistories)
                 .collect(Collectors.toList());
     }
 
     /**
      * 결재함 건수 조회
+     * - 사용자별 건수 캐시에서 제공 (최초/만료/결재 상태 변경 후에만 COUNT 집계)
      */
     public ApprovalBoxCount getBoxCount(String userId) {
-        long draft = approvalRepository.countByDrafterId(userId);
-        long pending = approvalRepository.countPendingBox(userId);
-        long completed = approvalRepository.countCompletedBox(userId);
+        Counts counts = boxCountCache.get(userId, () -> new Counts(
+                approvalRepository.countByDrafterId(userId),
+                approvalRepository.countPendingBox(userId),
+                approvalRepository.countCompletedBox(userId)));
 
         return ApprovalBoxCount.builder()
-                .draft(draft)
-                .pending(pending)
-                .completed(completed)
+                .draft(counts.draft())
+                .pending(counts.pending())
+                .completed(counts.completed())
                 .build();
     }
 
@@ -159,21 +227,16 @@ public class ApprovalService {
                                        String deptCd, String deptName) {
         log.info("결재 요청 - title: {}, userId: {}", request.getTitle(), userId);
 
-        // 결재선 조회
-        ApprovalLine approvalLine = approvalLineRepository.findByIdWithSteps(request.getApprovalLineId())
-                .orElseThrow(() -> new IllegalArgumentException("결재선을 찾을 수 없습니다: " + request.getApprovalLineId()));
+        // 결재선 정의 조회 (캐시)
+        ApprovalLineDefinition approvalLine = approvalLineService.getDefinition(request.getApprovalLineId());
 
         // 결재선 단계 확인
-        List<ApprovalLineStep> steps = approvalLine.getSteps();
-        if (steps.isEmpty()) {
+        if (approvalLine.totalSteps() == 0) {
             throw new IllegalArgumentException("결재선에 단계가 없습니다.");
         }
 
         // 첫 번째 결재자 찾기 (기안 다음 단계)
-        ApprovalLineStep firstApproverStep = steps.stream()
-                .filter(s -> s.getStepOrder() > 1)
-                .findFirst()
-                .orElse(null);
+        StepDefinition firstApproverStep = approvalLine.firstApproverStep();
 
         // 결재 ID, 번호 생성
         String approvalId = generateApprovalId();
@@ -194,10 +257,10 @@ public class ApprovalService {
                 .drafterDeptId(deptCd)
                 .drafterDeptName(deptName)
                 .draftDate(LocalDateTime.now())
-                .currentApproverId(firstApproverStep != null ? firstApproverStep.getApproverId() : null)
-                .currentApproverName(firstApproverStep != null ? firstApproverStep.getApproverName() : null)
+                .currentApproverId(firstApproverStep != null ? firstApproverStep.approverId() : null)
+                .currentApproverName(firstApproverStep != null ? firstApproverStep.approverName() : null)
                 .currentStep(1)
-                .totalSteps(steps.size())
+                .totalSteps(approvalLine.totalSteps())
                 .referenceType(request.getRefDocType())
                 .referenceId(request.getRefDocId())
                 .priorityCd(request.getIsUrgent() != null && "Y".equals(request.getIsUrgent()) ? "HIGH" : "MEDIUM")
@@ -212,18 +275,15 @@ public class ApprovalService {
         Approval savedApproval = approvalRepository.save(approval);
 
         // 기안 이력 생성
-        ApprovalLineStep draftStep = steps.stream()
-                .filter(s -> s.getStepOrder() == 1)
-                .findFirst()
-                .orElse(steps.get(0));
+        StepDefinition draftStep = approvalLine.draftStep();
 
         String historyId = generateApprovalHistoryId();
         ApprovalHistory draftHistory = ApprovalHistory.builder()
                 .approvalHistoryId(historyId)
                 .approval(savedApproval)
                 .stepSequence(1)
-                .stepName(draftStep.getStepName())
-                .stepTypeCd(draftStep.getApprovalTypeCd())
+                .stepName(draftStep.stepName())
+                .stepTypeCd(draftStep.approvalTypeCd())
                 .actionCd("DRAFT")
                 .approverId(userId)
                 .approverName(userName)
@@ -242,12 +302,12 @@ public class ApprovalService {
             ApprovalHistory pendingHistory = ApprovalHistory.builder()
                     .approvalHistoryId(pendingHistoryId)
                     .approval(savedApproval)
-                    .stepSequence(firstApproverStep.getStepOrder())
-                    .stepName(firstApproverStep.getStepName())
-                    .stepTypeCd(firstApproverStep.getApprovalTypeCd())
+                    .stepSequence(firstApproverStep.stepOrder())
+                    .stepName(firstApproverStep.stepName())
+                    .stepTypeCd(firstApproverStep.approvalTypeCd())
                     .actionCd("DRAFT") // 초기 상태 - 아직 처리 안됨
-                    .approverId(firstApproverStep.getApproverId())
-                    .approverName(firstApproverStep.getApproverName())
+                    .approverId(firstApproverStep.approverId())
+                    .approverName(firstApproverStep.approverName())
                     .createdBy(userId)
                     .createdAt(LocalDateTime.now())
                     .build();
@@ -257,6 +317,12 @@ public class ApprovalService {
         // 개선이행 결재 요청 시 impl_inspection_items 상태 업데이트
         updateImprovementStatusOnRequest(request);
 
+        // 결재함 건수: 기안자(기안함), 첫 결재자(결재대기함) 재집계
+        boxCountCache.invalidateAfterCommit(userId);
+        if (firstApproverStep != null) {
+            boxCountCache.invalidateAfterCommit(firstApproverStep.approverId());
+        }
+
         log.info("결재 요청 완료 - id: {}, no: {}", savedApproval.getApprovalId(), savedApproval.getApprovalNo());
         return ApprovalDto.fromEntity(savedApproval);
     }
@@ -276,6 +342,123 @@ public class ApprovalService {
         Approval approval = approvalRepository.findByIdWithHistories(approvalId)
                 .orElseThrow(() -> new IllegalArgumentException("결재 문서를 찾을 수 없습니다: " + approvalId));
 
+        ApprovalHistory currentHistory = validateProcessable(approval, userId);
+        LocalDateTime now = LocalDateTime.now();
+
+        boolean completed = applyProcess(approval, currentHistory, request, userId, deptCd, deptName,
+                referenceId -> implInspectionItemRepository.findById(referenceId).orElse(null), now);
+
+        if ("APPROVE".equals(request.getResultCd())) {
+            // 결재완료함 참여 기록 (같은 문서를 이전 단계에서 이미 승인했으면 추가되지 않음)
+            int participated = approvalParticipantRepository.recordApproval(
+                    userId, approvalId, approval.getDraftDate(), now);
+            if (participated > 0) {
+                boxCountCache.invalidateAfterCommit(userId);
+            }
+            if (completed) {
+                approvalParticipantRepository.markCompleted(approvalId, approval.getCompletedDate());
+            }
+        }
+
+        log.info("결재 처리 완료 - id: {}, status: {}", approvalId, approval.getApprovalStatusCd());
+        return ApprovalDto.fromEntity(approval);
+    }
+
+    /**
+     * 결재 일괄 처리 (승인/반려)
+     * - 결재 문서 + 이력 1회, 개선이행 점검항목 1회 조회 (결재선 정의는 캐시)
+     * - 처리할 수 없는 문서는 건너뛰고 사유를 건별로 반환, 나머지는 하나의 트랜잭션으로 처리
+     * - 다음 단계 이력 INSERT / 상태 UPDATE는 JDBC 배치로 flush,
+     *   결재완료함 참여 기록과 완료일시 반영은 문서 수와 무관하게 각 1회
+     */
+    @Transactional
+    public BulkProcessApprovalResult processApprovals(List<String> approvalIds, ProcessApprovalRequest request,
+                                                       String userId, String userName, String deptCd, String deptName) {
+        List<String> ids = approvalIds == null ? List.of() : approvalIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (ids.isEmpty()) {
+            throw new IllegalArgumentException("처리할 결재 문서가 없습니다.");
+        }
+        if (ids.size() > MAX_BULK_PROCESS_SIZE) {
+            throw new IllegalArgumentException("한 번에 처리할 수 있는 결재 문서는 최대 " + MAX_BULK_PROCESS_SIZE + "건입니다.");
+        }
+        String resultCd = request.getResultCd();
+        if (!"APPROVE".equals(resultCd) && !"REJECT".equals(resultCd)) {
+            throw new IllegalArgumentException("결재결과가 올바르지 않습니다: " + resultCd);
+        }
+        log.info("결재 일괄 처리 - result: {}, 요청: {} 건", resultCd, ids.size());
+
+        // 1. 결재 문서 + 이력 일괄 조회
+        Map<String, Approval> approvals = approvalRepository.findAllByIdWithHistories(ids).stream()
+                .collect(Collectors.toMap(Approval::getApprovalId, Function.identity()));
+
+        // 2. 건별 검증 (실패 건은 사유 기록 후 제외)
+        List<BulkProcessApprovalResult.Failure> failures = new ArrayList<>();
+        List<ProcessTarget> targets = new ArrayList<>(ids.size());
+        for (String approvalId : ids) {
+            Approval approval = approvals.get(approvalId);
+            if (approval == null) {
+                failures.add(new BulkProcessApprovalResult.Failure(approvalId, "결재 문서를 찾을 수 없습니다."));
+                continue;
+            }
+            try {
+                ApprovalHistory currentHistory = validateProcessable(approval, userId);
+                if ("APPROVE".equals(resultCd)) {
+                    // 결재선 확인 (캐시 적재, 상태 변경 전에 실패 건 분리)
+                    approvalLineService.getDefinition(approval.getApprovalLineId());
+                }
+                targets.add(new ProcessTarget(approval, currentHistory));
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                failures.add(new BulkProcessApprovalResult.Failure(approvalId, e.getMessage()));
+            }
+        }
+
+        // 3. 개선이행 점검항목 일괄 조회
+        Map<String, ImplInspectionItem> improvementItems = findImprovementItems(
+                targets.stream().map(ProcessTarget::approval).toList());
+
+        // 4. 상태 전이
+        LocalDateTime now = LocalDateTime.now();
+        List<String> processedIds = new ArrayList<>(targets.size());
+        List<String> completedIds = new ArrayList<>();
+        for (ProcessTarget target : targets) {
+            boolean completed = applyProcess(target.approval(), target.currentHistory(), request,
+                    userId, deptCd, deptName, improvementItems::get, now);
+            processedIds.add(target.approval().getApprovalId());
+            if (completed) {
+                completedIds.add(target.approval().getApprovalId());
+            }
+        }
+
+        // 5. 결재완료함 참여 기록 / 완료일시 반영 (각 1회)
+        if ("APPROVE".equals(resultCd) && !processedIds.isEmpty()) {
+            int participated = approvalParticipantRepository.recordApprovals(userId, processedIds, now);
+            if (participated > 0) {
+                boxCountCache.invalidateAfterCommit(userId);
+            }
+            if (!completedIds.isEmpty()) {
+                approvalParticipantRepository.markCompletedAll(completedIds, now);
+            }
+        }
+
+        log.info("결재 일괄 처리 완료 - result: {}, 성공: {} 건 (완료 {} 건), 실패: {} 건",
+                resultCd, processedIds.size(), completedIds.size(), failures.size());
+        return BulkProcessApprovalResult.builder()
+                .resultCd(resultCd)
+                .requestedCount(ids.size())
+                .processedIds(processedIds)
+                .failures(failures)
+                .build();
+    }
+
+    /**
+     * 결재 가능 여부 확인
+     *
+     * @return 현재 대기중인 결재 이력
+     */
+    private ApprovalHistory validateProcessable(Approval approval, String userId) {
         // 결재 가능 상태 확인
         if (!approval.canProcess()) {
             throw new IllegalStateException("결재할 수 없는 상태입니다.");
@@ -286,52 +469,61 @@ public class ApprovalService {
             throw new IllegalStateException("현재 결재자가 아닙니다.");
         }
 
-        // 현재 대기중인 이력 조회
-        ApprovalHistory currentHistory = approvalHistoryRepository
-                .findByApproval_ApprovalIdAndStepSequence(approvalId, approval.getCurrentStep() + 1)
+        // 현재 대기중인 이력 (이력은 결재 문서와 함께 조회됨)
+        int pendingStep = approval.getCurrentStep() + 1;
+        return approval.getHistories().stream()
+                .filter(h -> h.getStepSequence() != null && h.getStepSequence() == pendingStep)
+                .findFirst()
                 .orElseThrow(() -> new IllegalStateException("결재 이력을 찾을 수 없습니다."));
+    }
+
+    /**
+     * 결재 상태 전이 (승인/반려)
+     * - 결재완료함 참여 기록은 호출 측에서 처리
+     *
+     * @param itemLookup 개선이행 점검항목 조회 함수 (참조ID → 점검항목, 없으면 null)
+     * @return 결재 완료(마지막 단계 승인) 여부
+     */
+    private boolean applyProcess(Approval approval, ApprovalHistory currentHistory, ProcessApprovalRequest request,
+                                 String userId, String deptCd, String deptName,
+                                 Function<String, ImplInspectionItem> itemLookup, LocalDateTime now) {
+        boolean completed = false;
 
         // 승인 처리
         if ("APPROVE".equals(request.getResultCd())) {
             currentHistory.approve(request.getComment());
             currentHistory.setApproverDeptId(deptCd);
             currentHistory.setApproverDeptName(deptName);
+            boxCountCache.invalidateAfterCommit(userId);
 
-            // 다음 단계 확인
-            ApprovalLine approvalLine = approvalLineRepository.findByIdWithSteps(approval.getApprovalLineId())
-                    .orElseThrow(() -> new IllegalArgumentException("결재선을 찾을 수 없습니다."));
-
-            int nextStepOrder = approval.getCurrentStep() + 2; // 현재 기준 다음 단계
-            ApprovalLineStep nextStep = approvalLine.getSteps().stream()
-                    .filter(s -> s.getStepOrder() == nextStepOrder)
-                    .findFirst()
-                    .orElse(null);
+            // 다음 단계 확인 (결재선 정의 캐시)
+            ApprovalLineDefinition approvalLine = approvalLineService.getDefinition(approval.getApprovalLineId());
+            StepDefinition nextStep = approvalLine.step(approval.getCurrentStep() + 2); // 현재 기준 다음 단계
 
             if (nextStep != null) {
                 // 다음 결재자 설정
-                approval.processApproval(nextStep.getApproverId(), nextStep.getApproverName());
-
-                // 다음 결재자 대기 이력 생성
-                String nextHistoryId = generateApprovalHistoryId();
-                ApprovalHistory nextHistory = ApprovalHistory.builder()
-                        .approvalHistoryId(nextHistoryId)
-                        .approval(approval)
-                        .stepSequence(nextStep.getStepOrder())
-                        .stepName(nextStep.getStepName())
-                        .stepTypeCd(nextStep.getApprovalTypeCd())
+                approval.processApproval(nextStep.approverId(), nextStep.approverName());
+                boxCountCache.invalidateAfterCommit(nextStep.approverId());
+
+                // 다음 결재자 대기 이력 생성 (결재 문서 cascade로 저장)
+                approval.addHistory(ApprovalHistory.builder()
+                        .approvalHistoryId(generateApprovalHistoryId())
+                        .stepSequence(nextStep.stepOrder())
+                        .stepName(nextStep.stepName())
+                        .stepTypeCd(nextStep.approvalTypeCd())
                         .actionCd("DRAFT") // 초기 상태 - 아직 처리 안됨
-                        .approverId(nextStep.getApproverId())
-                        .approverName(nextStep.getApproverName())
+                        .approverId(nextStep.approverId())
+                        .approverName(nextStep.approverName())
                         .createdBy(userId)
-                        .createdAt(LocalDateTime.now())
-                        .build();
-                approvalHistoryRepository.save(nextHistory);
+                        .createdAt(now)
+                        .build());
             } else {
                 // 마지막 단계 - 결재 완료
-                approval.complete();
+                approval.complete(now);
+                completed = true;
 
                 // 개선이행 결재 승인 시 impl_inspection_items 상태 업데이트
-                updateImprovementStatusOnApproval(approval, userId);
+                updateImprovementStatusOnApproval(approval, userId, itemLookup);
             }
         }
         // 반려 처리
@@ -340,16 +532,21 @@ public class ApprovalService {
             currentHistory.setApproverDeptId(deptCd);
             currentHistory.setApproverDeptName(deptName);
             approval.reject(request.getComment());
+            boxCountCache.invalidateAfterCommit(userId);
 
             // 개선이행 결재 반려 시 impl_inspection_items 상태 업데이트
-            updateImprovementStatusOnRejection(approval);
+            updateImprovementStatusOnRejection(approval, itemLookup);
         }
 
         approval.setUpdatedBy(userId);
-        approval.setUpdatedAt(LocalDateTime.now());
+        approval.setUpdatedAt(now);
+        return completed;
+    }
 
-        log.info("결재 처리 완료 - id: {}, status: {}", approvalId, approval.getApprovalStatusCd());
-        return ApprovalDto.fromEntity(approval);
+    /**
+     * 일괄 처리 대상 (결재 문서 + 현재 대기중인 이력)
+     */
+    private record ProcessTarget(Approval approval, ApprovalHistory currentHistory) {
     }
 
     /**
@@ -373,6 +570,7 @@ public class ApprovalService {
         }
 
         approval.withdraw();
+        boxCountCache.invalidateAfterCommit(approval.getCurrentApproverId());
         approval.setUpdatedBy(userId);
         approval.setUpdatedAt(LocalDateTime.now());
 
@@ -431,8 +629,10 @@ public class ApprovalService {
      *
      * @param approval 결재 엔티티
      * @param approverId 승인자 ID
+     * @param itemLookup 점검항목 조회 함수
      */
-    private void updateImprovementStatusOnApproval(Approval approval, String approverId) {
+    private void updateImprovementStatusOnApproval(Approval approval, String approverId,
+                                                   Function<String, ImplInspectionItem> itemLookup) {
         // 업무구분이 IMPROVE가 아니면 처리하지 않음
         if (!"IMPROVE".equals(approval.getWorkTypeCd())) {
             return;
@@ -447,7 +647,7 @@ public class ApprovalService {
         }
 
         // 이행점검항목 조회
-        ImplInspectionItem item = implInspectionItemRepository.findById(referenceId).orElse(null);
+        ImplInspectionItem item = itemLookup.apply(referenceId);
         if (item == null) {
             log.warn("이행점검항목을 찾을 수 없습니다 - referenceId: {}", referenceId);
             return;
@@ -471,8 +671,10 @@ public class ApprovalService {
      * - IMPROVE + COMPLETE_APPROVAL 반려: improvement_status_cd = '04' (개선이행)
      *
      * @param approval 결재 엔티티
+     * @param itemLookup 점검항목 조회 함수
      */
-    private void updateImprovementStatusOnRejection(Approval approval) {
+    private void updateImprovementStatusOnRejection(Approval approval,
+                                                    Function<String, ImplInspectionItem> itemLookup) {
         // 업무구분이 IMPROVE가 아니면 처리하지 않음
         if (!"IMPROVE".equals(approval.getWorkTypeCd())) {
             return;
@@ -487,7 +689,7 @@ public class ApprovalService {
         }
 
         // 이행점검항목 조회
-        ImplInspectionItem item = implInspectionItemRepository.findById(referenceId).orElse(null);
+        ImplInspectionItem item = itemLookup.apply(referenceId);
         if (item == null) {
             log.warn("이행점검항목을 찾을 수 없습니다 - referenceId: {}", referenceId);
             return;
@@ -505,33 +707,80 @@ public class ApprovalService {
         }
     }
 
+    /**
+     * 개선이행 결재의 참조 점검항목 일괄 조회
+     *
+     * @return 점검항목ID → 점검항목
+     */
+    private Map<String, ImplInspectionItem> findImprovementItems(List<Approval> approvals) {
+        Set<String> referenceIds = approvals.stream()
+                .filter(a -> "IMPROVE".equals(a.getWorkTypeCd()) && a.getReferenceId() != null)
+                .map(Approval::getReferenceId)
+                .collect(Collectors.toSet());
+        if (referenceIds.isEmpty()) {
+            return Map.of();
+        }
+        return implInspectionItemRepository.findAllById(referenceIds).stream()
+                .collect(Collectors.toMap(ImplInspectionItem::getImplInspectionItemId, Function.identity()));
+    }
+
     // ==============================
     // 유틸리티
     // ==============================
 
+    private int boxPageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_BOX_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_BOX_PAGE_SIZE);
+    }
+
+    /**
+     * 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+     */
+    private Pageable lookAhead(int pageSize) {
+        return PageRequest.of(0, pageSize + 1);
+    }
+
+    private ApprovalBoxPage toBoxPage(List<Approval> rows, int pageSize) {
+        boolean hasNext = rows.size() > pageSize;
+        List<Approval> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            Approval last = page.get(page.size() - 1);
+            nextCursor = new ApprovalBoxPage.Cursor(last.getDraftDate(), last.getApprovalId()).encode();
+        }
+
+        return ApprovalBoxPage.builder()
+                .items(page.stream()
+                        .map(ApprovalDto::fromEntityWithoutHistories)
+                        .collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .size(pageSize)
+                .build();
+    }
+
     /**
-     * 결재 ID 생성
+     * 결재 ID 생성 (APR00000001 형식)
      */
     private String generateApprovalId() {
-        long count = approvalRepository.count() + 1;
-        return String.format("APR%08d", count);
+        return idAllocator.next(IdSequence.APPROVAL_ID);
     }
 
     /**
-     * 결재번호 생성 (APR-YYYY-NNNNN)
+     * 결재번호 생성 (APR-YYYY-NNNNN, 연도별 순번)
      */
     private String generateApprovalNo() {
-        String year = Year.now().toString();
-        long count = approvalRepository.count() + 1;
-        return String.format("APR-%s-%05d", year, count);
+        return idAllocator.next(IdSequence.APPROVAL_NO);
     }
 
     /**
      * 결재이력 ID 생성 (AH00000001 형식)
      */
     private String generateApprovalHistoryId() {
-        long count = approvalHistoryRepository.count() + 1;
-        return String.format("AH%08d", count);
+        return idAllocator.next(IdSequence.APPROVAL_HISTORY_ID);
     }
 
     /**
@@ -1,14 +1,22 @@
 package com.rsms.domain.auth.controller;
 
 import com.rsms.domain.auth.dto.*;
+import com.rsms.domain.auth.security.CustomUserDetails;
+import com.rsms.domain.auth.service.MenuPermissionMatrix;
 import com.rsms.domain.auth.service.MenuService;
+import com.rsms.domain.auth.service.MenuTreeCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -27,25 +35,46 @@ import java.util.Map;
 public class MenuController {
 
     private final MenuService menuService;
+    private final MenuPermissionMatrix menuPermissionMatrix;
 
     /**
      * 메뉴 계층 구조 조회 (LeftMenu용)
      * GET /api/menus/hierarchy
+     * - ETag 기반 조건부 요청 지원: If-None-Match가 현재 트리 내용 해시와 같으면 304 응답 (본문 없음)
+     * - byRole=true: 로그인 사용자의 역할 조합으로 조회권한이 있는 메뉴만 반환
      *
+     * @param byRole 역할별 필터 여부 (기본 false: 전체 활성 메뉴)
+     * @param webRequest If-None-Match 확인용
      * @return 메뉴 계층 구조
      */
     @GetMapping("/hierarchy")
-    public ResponseEntity<Map<String, Object>> getMenuHierarchy() {
-        log.debug("메뉴 계층 구조 조회 API 호출");
+    public ResponseEntity<Map<String, Object>> getMenuHierarchy(
+            @RequestParam(defaultValue = "false") boolean byRole,
+            WebRequest webRequest) {
+        log.debug("메뉴 계층 구조 조회 API 호출: byRole={}", byRole);
+
+        MenuTreeCache.CachedMenuTree tree = menuService.getMenuHierarchyTree(byRole ? getCurrentRoles() : null);
+
+        // 변경 없음 → 304 (프론트엔드는 보관 중인 트리 재사용)
+        if (webRequest.checkNotModified(tree.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(tree.etag())
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .build();
+        }
 
-        List<MenuItemDto> menus = menuService.getMenuHierarchy();
+        List<MenuItemDto> menus = tree.menus();
 
         Map<String, Object> response = new HashMap<>();
         response.put("success", true);
         response.put("menus", menus);
         response.put("totalCount", menus.size());
+        response.put("version", tree.version());
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+            .eTag(tree.etag())
+            .cacheControl(CacheControl.noCache().cachePrivate())
+            .body(response);
     }
 
     /**
@@ -256,6 +285,48 @@ public class MenuController {
     // 메뉴 권한 API (MenuMgmt 오른쪽 그리드용)
     // ===============================
 
+    /**
+     * 로그인 사용자의 메뉴 권한 비트마스크 조회
+     * GET /api/menus/permissions/me
+     * - 역할 조합별로 OR 결합된 (메뉴ID → 마스크) 전체를 1회 응답
+     * - 프론트엔드는 세션 동안 보관하고 버튼/화면 권한을 비트 연산으로 판단
+     * - 권한 내용 해시 기반 ETag 지원 (변경 없으면 304, 노드/재기동과 무관)
+     *
+     * @param webRequest If-None-Match 확인용
+     * @return 메뉴 권한 마스크
+     */
+    @GetMapping("/permissions/me")
+    public ResponseEntity<Map<String, Object>> getMyMenuPermissions(WebRequest webRequest) {
+        List<String> roles = getCurrentRoles();
+        log.debug("GET /api/menus/permissions/me - 메뉴 권한 마스크 조회 roles: {}", roles);
+
+        MenuPermissionMatrix.EffectivePermissions permissions = menuPermissionMatrix.getEffectivePermissions(roles);
+        String etag = "W/\"perm-" + permissions.contentHash() + "\"";
+
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .build();
+        }
+
+        Map<String, Integer> bits = new LinkedHashMap<>();
+        for (MenuPermissionMatrix.MenuAction action : MenuPermissionMatrix.MenuAction.values()) {
+            bits.put(action.name(), action.bit());
+        }
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("version", permissions.version());
+        response.put("bits", bits);
+        response.put("permissions", permissions.toMaskMap());
+
+        return ResponseEntity.ok()
+            .eTag(etag)
+            .cacheControl(CacheControl.noCache().cachePrivate())
+            .body(response);
+    }
+
     /**
      * 메뉴별 권한 목록 조회
      * GET /api/menus/{menuId}/permissions
@@ -326,4 +397,17 @@ public class MenuController {
         menuService.deleteMenuPermissions(menuPermissionIds);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * 현재 로그인 사용자의 역할 코드 목록
+     * - 인증 정보가 없으면 빈 목록 (조회 가능한 메뉴 없음)
+     */
+    private List<String> getCurrentRoles() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.getPrincipal() instanceof CustomUserDetails) {
+            CustomUserDetails userDetails = (CustomUserDetails) auth.getPrincipal();
+            return userDetails.getRoles();
+        }
+        return List.of();
+    }
 }
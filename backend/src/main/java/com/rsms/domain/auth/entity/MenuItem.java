@@ -27,7 +27,8 @@ public class MenuItem {
      * 메뉴 ID (PK, 자동증가)
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "menu_items_id_generator")
+    @SequenceGenerator(name = "menu_items_id_generator", sequenceName = "menu_items_menu_id_seq", schema = "rsms", allocationSize = 50)
     @Column(name = "menu_id")
     private Long menuId;
 
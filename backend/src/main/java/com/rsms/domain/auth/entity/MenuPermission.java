@@ -26,7 +26,8 @@ public class MenuPermission {
      * 메뉴권한ID (PK, 자동증가)
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "menu_permissions_id_generator")
+    @SequenceGenerator(name = "menu_permissions_id_generator", sequenceName = "menu_permissions_menu_permission_id_seq", schema = "rsms", allocationSize = 50)
     @Column(name = "menu_permission_id")
     private Long menuPermissionId;
 
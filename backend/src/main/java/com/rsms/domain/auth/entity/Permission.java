@@ -27,7 +27,8 @@ public class Permission {
      * 권한ID (PK, 자동증가)
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "permissions_id_generator")
+    @SequenceGenerator(name = "permissions_id_generator", sequenceName = "permissions_permission_id_seq", schema = "rsms", allocationSize = 50)
     @Column(name = "permission_id")
     private Long permissionId;
 
@@ -27,7 +27,8 @@ public class Role {
      * 역할ID (PK, 자동증가)
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "roles_id_generator")
+    @SequenceGenerator(name = "roles_id_generator", sequenceName = "roles_role_id_seq", schema = "rsms", allocationSize = 50)
     @Column(name = "role_id")
     private Long roleId;
 
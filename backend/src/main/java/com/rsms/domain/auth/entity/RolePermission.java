@@ -27,7 +27,8 @@ public class RolePermission {
      * 역할권한ID (PK, 자동증가)
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "role_permissions_id_generator")
+    @SequenceGenerator(name = "role_permissions_id_generator", sequenceName = "role_permissions_role_permission_id_seq", schema = "rsms", allocationSize = 50)
     @Column(name = "role_permission_id")
     private Long rolePermissionId;
 
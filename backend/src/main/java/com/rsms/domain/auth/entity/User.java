@@ -11,7 +11,7 @@ import java.time.LocalDateTime;
  * - Spring Security 인증에 사용되는 사용자 계정 정보
  * - employees 테이블과 선택적 1:1 관계 (emp_no FK, NULL 가능)
  * - emp_no NULL: 외주직원, 파견직, 임시계정, 시스템계정
- * - BCrypt 해시 (강도 12) 사용
+ * - BCrypt 해시 사용 (강도는 AdaptivePasswordEncoder가 결정, 로그인 시 재해시)
  * - Serializable 구현: Spring Session에 세션 저장을 위해 필요
  *
  * @author RSMS Development Team
@@ -28,11 +28,22 @@ public class User implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
+    /**
+     * 계정 잠금 기준 로그인 실패 횟수
+     */
+    public static final int MAX_FAILED_LOGIN_COUNT = 5;
+
+    /**
+     * 계정 잠금 시간 (분)
+     */
+    public static final int LOCK_DURATION_MINUTES = 30;
+
     /**
      * 사용자ID (PK, 자동증가)
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_id_generator")
+    @SequenceGenerator(name = "users_id_generator", sequenceName = "users_user_id_seq", schema = "rsms", allocationSize = 50)
     @Column(name = "user_id")
     private Long userId;
 
@@ -175,8 +186,8 @@ public class User implements Serializable {
         this.failedLoginCount = (this.failedLoginCount == null ? 0 : this.failedLoginCount) + 1;
 
         // 5회 이상 실패 시 30분 잠금
-        if (this.failedLoginCount >= 5) {
-            this.lockedUntil = LocalDateTime.now().plusMinutes(30);
+        if (this.failedLoginCount >= MAX_FAILED_LOGIN_COUNT) {
+            this.lockedUntil = LocalDateTime.now().plusMinutes(LOCK_DURATION_MINUTES);
             this.accountStatus = "LOCKED";
         }
     }
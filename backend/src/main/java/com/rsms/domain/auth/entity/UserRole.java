@@ -27,7 +27,8 @@ public class UserRole {
      * 사용자-역할 매핑 ID (PK, 자동증가)
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_roles_id_generator")
+    @SequenceGenerator(name = "user_roles_id_generator", sequenceName = "user_roles_user_role_id_seq", schema = "rsms", allocationSize = 50)
     @Column(name = "user_role_id")
     private Long userRoleId;
 
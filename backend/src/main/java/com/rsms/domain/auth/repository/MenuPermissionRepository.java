@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -47,6 +48,25 @@ public interface MenuPermissionRepository extends JpaRepository<MenuPermission,
     @Query("SELECT mp FROM MenuPermission mp WHERE mp.roleId = :roleId AND mp.canView = 'Y' AND mp.isDeleted = 'N'")
     List<MenuPermission> findViewableByRoleId(@Param("roleId") Long roleId);
 
+    /**
+     * 조회 권한이 있는 메뉴ID 목록 조회 (역할 코드 복수)
+     * - 메뉴 트리 역할별 필터링용 (roles JOIN 1회 조회)
+     */
+    @Query("SELECT DISTINCT mp.menuId FROM MenuPermission mp, Role r " +
+           "WHERE mp.roleId = r.roleId AND r.roleCode IN :roleCodes AND r.isDeleted = 'N' " +
+           "AND mp.canView = 'Y' AND mp.isDeleted = 'N'")
+    List<Long> findViewableMenuIdsByRoleCodes(@Param("roleCodes") Collection<String> roleCodes);
+
+    /**
+     * 전체 메뉴 권한 플래그 조회 (역할코드 기준)
+     * - 메뉴 권한 비트 행렬(MenuPermissionMatrix) 적재용 (roles JOIN 1회 조회)
+     * - [roleCode, menuId, canView, canCreate, canUpdate, canDelete, canSelect]
+     */
+    @Query("SELECT r.roleCode, mp.menuId, mp.canView, mp.canCreate, mp.canUpdate, mp.canDelete, mp.canSelect " +
+           "FROM MenuPermission mp, Role r " +
+           "WHERE mp.roleId = r.roleId AND r.isDeleted = 'N' AND mp.isDeleted = 'N'")
+    List<Object[]> findAllActivePermissionFlags();
+
     /**
      * 메뉴ID로 권한 삭제 (논리적 삭제)
      * - 메뉴 삭제 시 연관된 모든 권한도 삭제
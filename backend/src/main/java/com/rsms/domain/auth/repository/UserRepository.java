@@ -2,6 +2,7 @@ package com.rsms.domain.auth.repository;
 
 import com.rsms.domain.auth.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -25,6 +26,14 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT u FROM User u WHERE u.username = :username AND u.isDeleted = 'N'")
     Optional<User> findByUsername(@Param("username") String username);
 
+    /**
+     * 비밀번호 해시 재작성 (로그인 시 BCrypt 강도 변경 반영)
+     * - 조회 이후 비밀번호가 바뀌었으면(관리자 변경 등) 갱신하지 않음
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.passwordHash = :newHash WHERE u.userId = :userId AND u.passwordHash = :oldHash AND u.isDeleted = 'N'")
+    int updatePasswordHash(@Param("userId") Long userId, @Param("oldHash") String oldHash, @Param("newHash") String newHash);
+
     /**
      * 직원번호로 조회
      */
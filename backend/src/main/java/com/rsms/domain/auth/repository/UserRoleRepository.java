@@ -25,6 +25,16 @@ public interface UserRoleRepository extends JpaRepository<UserRole, Long> {
     @Query("SELECT ur FROM UserRole ur WHERE ur.userId = :userId AND ur.isActive = 'Y' AND ur.isDeleted = 'N'")
     List<UserRole> findActiveRolesByUserId(@Param("userId") Long userId);
 
+    /**
+     * 사용자 ID로 활성 역할 코드 조회
+     * - 사용자-역할 매핑(활성)과 역할(ACTIVE, 미삭제)을 조인하여 코드만 조회 (쿼리 1회)
+     */
+    @Query("SELECT DISTINCT r.roleCode FROM UserRole ur JOIN ur.role r " +
+           "WHERE ur.userId = :userId AND ur.isActive = 'Y' AND ur.isDeleted = 'N' " +
+           "AND r.status = 'ACTIVE' AND r.isDeleted = 'N' " +
+           "ORDER BY r.roleCode")
+    List<String> findActiveRoleCodesByUserId(@Param("userId") Long userId);
+
     /**
      * 역할 ID로 할당된 사용자 조회
      */
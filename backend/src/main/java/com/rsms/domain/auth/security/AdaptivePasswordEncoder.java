@@ -0,0 +1,166 @@
+package com.rsms.domain.auth.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 비밀번호 암호화 (BCrypt 강도 자동 조정 + 동시 해시 수 제한)
+ * - DelegatingPasswordEncoder 기반: 새 해시는 {bcrypt} 접두어, 접두어 없는 기존 해시($2a$12$...)도 BCrypt로 검증
+ * - BCrypt 강도는 기동 시 측정한 해시 시간으로 목표 시간(target-hash-ms) 이하가 되는 최대 강도를 선택 (고정값 지정 가능)
+ * - 저장된 해시의 강도가 현재 강도와 다르면 upgradeEncoding=true
+ *   → 로그인 성공 시 DaoAuthenticationProvider가 CustomUserDetailsService.updatePassword로 재해시 (상향/하향 모두)
+ * - 해시 계산(encode/matches)은 세마포어로 동시 실행 수를 제한하여 로그인 집중 시 BCrypt가 요청 처리 스레드의 CPU를 독점하지 않도록 함
+ *
+ * @author RSMS Development Team
+ * @since 1.0
+ */
+@Slf4j
+public class AdaptivePasswordEncoder implements PasswordEncoder {
+
+    private static final String BCRYPT_ID = "bcrypt";
+    private static final String BCRYPT_PREFIX = "{" + BCRYPT_ID + "}";
+    private static final Pattern BCRYPT_COST = Pattern.compile("^(?:\\{bcrypt})?\\$2[aby]?\\$(\\d{2})\\$");
+
+    /**
+     * 강도 측정 반복 횟수 (최솟값 사용)
+     */
+    private static final int CALIBRATION_ROUNDS = 3;
+
+    private final int strength;
+    private final DelegatingPasswordEncoder delegate;
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final long acquireTimeoutMillis;
+
+    /**
+     * @param strength BCrypt 강도 (4~31)
+     * @param maxConcurrent 동시 해시 계산 수
+     * @param acquireTimeout 해시 계산 대기 최대 시간
+     */
+    public AdaptivePasswordEncoder(int strength, int maxConcurrent, Duration acquireTimeout) {
+        if (maxConcurrent < 1) {
+            throw new IllegalArgumentException("동시 해시 계산 수는 1 이상이어야 합니다: " + maxConcurrent);
+        }
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(strength);
+        this.strength = strength;
+        this.delegate = new DelegatingPasswordEncoder(BCRYPT_ID, Map.of(BCRYPT_ID, bcrypt));
+        this.delegate.setDefaultPasswordEncoderForMatches(bcrypt);
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxConcurrent = maxConcurrent;
+        this.acquireTimeoutMillis = acquireTimeout.toMillis();
+    }
+
+    /**
+     * 목표 해시 시간에 맞는 BCrypt 강도 측정
+     * - 최소 강도로 해시 시간을 측정하고 강도 1 증가마다 시간이 2배가 되는 것으로 추정
+     *
+     * @param targetMillis 로그인 1회 해시 목표 시간 (밀리초)
+     * @param minStrength 최소 강도
+     * @param maxStrength 최대 강도
+     * @return 목표 시간 이하인 최대 강도 (최소 강도 미만으로는 내리지 않음)
+     */
+    public static int calibrate(long targetMillis, int minStrength, int maxStrength) {
+        if (minStrength > maxStrength) {
+            throw new IllegalArgumentException("BCrypt 최소 강도가 최대 강도보다 큽니다: " + minStrength + " > " + maxStrength);
+        }
+        double baseMillis = measureMillis(minStrength);
+        int strength = minStrength;
+        double estimated = baseMillis;
+        while (strength < maxStrength && estimated * 2 <= targetMillis) {
+            strength++;
+            estimated *= 2;
+        }
+        log.info("BCrypt 강도 측정: 강도 {} = {}ms → 선택 강도 {} (예상 {}ms, 목표 {}ms, 코어당 초당 로그인 약 {}건)",
+            minStrength, String.format("%.1f", baseMillis), strength, String.format("%.1f", estimated),
+            targetMillis, String.format("%.1f", 1000.0 / estimated));
+        return strength;
+    }
+
+    /**
+     * 지정 강도의 해시 1회 시간 측정 (밀리초, 워밍업 후 최솟값)
+     */
+    public static double measureMillis(int strength) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(strength);
+        String hash = bcrypt.encode("calibration");
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < CALIBRATION_ROUNDS; i++) {
+            long start = System.nanoTime();
+            bcrypt.matches("calibration", hash);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best / 1_000_000.0;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        acquire();
+        try {
+            return delegate.encode(rawPassword);
+        } finally {
+            permits.release();
+        }
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null) {
+            return false;
+        }
+        acquire();
+        try {
+            return delegate.matches(rawPassword, encodedPassword);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * 재해시 필요 여부
+     * - 접두어 없는 해시, 다른 방식 해시, 강도가 현재 강도와 다른 BCrypt 해시
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        if (!matcher.find()) {
+            return delegate.upgradeEncoding(encodedPassword);
+        }
+        return !encodedPassword.startsWith(BCRYPT_PREFIX) || Integer.parseInt(matcher.group(1)) != strength;
+    }
+
+    /**
+     * 현재 BCrypt 강도
+     */
+    public int getStrength() {
+        return strength;
+    }
+
+    /**
+     * 동시 해시 계산 수
+     */
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    private void acquire() {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("비밀번호 해시 처리 대기 시간이 초과되었습니다 (" + acquireTimeoutMillis + "ms)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 해시 처리 대기 중 인터럽트되었습니다", e);
+        }
+    }
+}
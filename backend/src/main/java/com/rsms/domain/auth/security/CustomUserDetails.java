@@ -6,26 +6,83 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Objects;
 
 /**
  * Spring Security UserDetails 구현체
  * - User 엔티티를 Spring Security 인증에 사용 가능한 형태로 변환
  * - 계정 상태, 잠금, 권한 등을 Spring Security와 연동
+ * - 세션(spring_session_attributes)에 저장되는 인증 주체이므로 JPA 엔티티를 보관하지 않고
+ *   필요한 값(사용자 ID, 로그인 ID, 직원번호, 역할, 상태 플래그)만 불변으로 보관
+ * - 비밀번호 해시는 인증 시에만 사용하며 직렬화하지 않음 (transient)
+ * - 동일 사용자 판단은 로그인 ID 기준 (동시 세션 제어 maximumSessions에서 사용)
  *
  * @author RSMS Development Team
  * @since 1.0
  */
 public class CustomUserDetails implements UserDetails {
 
-    private final User user;
+    private static final long serialVersionUID = 2L;
+
+    private final Long userId;
+    private final String username;
+    private final String empNo;
+    private final transient String passwordHash;
     private final List<String> roles;
+    private final List<GrantedAuthority> authorities;
+
+    private final boolean accountNonExpired;
+    private final boolean accountNonLocked;
+    private final boolean enabled;
+    private final boolean admin;
+    private final boolean executive;
+    private final boolean passwordChangeRequired;
+    private final Integer authLevel;
+    private final String timezone;
+    private final String language;
 
     public CustomUserDetails(User user, List<String> roles) {
-        this.user = user;
-        this.roles = roles != null ? roles : Collections.emptyList();
+        this(user.getUserId(),
+            user.getUsername(),
+            user.getEmpNo(),
+            user.getPasswordHash(),
+            roles,
+            !"RESIGNED".equals(user.getAccountStatus()),
+            !user.isLocked(),
+            user.canLogin(),
+            user.isAdminUser(),
+            user.isExecutiveUser(),
+            user.needsPasswordChange(),
+            user.getAuthLevel(),
+            user.getTimezone(),
+            user.getLanguage());
+    }
+
+    /**
+     * 전체 값 생성자 (세션 역직렬화용, 비밀번호 해시 없음)
+     */
+    CustomUserDetails(Long userId, String username, String empNo, String passwordHash, List<String> roles,
+                      boolean accountNonExpired, boolean accountNonLocked, boolean enabled,
+                      boolean admin, boolean executive, boolean passwordChangeRequired,
+                      Integer authLevel, String timezone, String language) {
+        this.userId = userId;
+        this.username = username;
+        this.empNo = empNo;
+        this.passwordHash = passwordHash;
+        this.roles = roles != null ? List.copyOf(roles) : List.of();
+        this.authorities = this.roles.stream()
+            .map(role -> (GrantedAuthority) new SimpleGrantedAuthority("ROLE_" + role))
+            .toList();
+        this.accountNonExpired = accountNonExpired;
+        this.accountNonLocked = accountNonLocked;
+        this.enabled = enabled;
+        this.admin = admin;
+        this.executive = executive;
+        this.passwordChangeRequired = passwordChangeRequired;
+        this.authLevel = authLevel;
+        this.timezone = timezone;
+        this.language = language;
     }
 
     /**
@@ -34,17 +91,16 @@ public class CustomUserDetails implements UserDetails {
      */
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return roles.stream()
-            .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
-            .collect(Collectors.toList());
+        return authorities;
     }
 
     /**
      * 비밀번호 반환
+     * - 세션에서 복원된 인증 주체는 null
      */
     @Override
     public String getPassword() {
-        return user.getPasswordHash();
+        return passwordHash;
     }
 
     /**
@@ -52,7 +108,7 @@ public class CustomUserDetails implements UserDetails {
      */
     @Override
     public String getUsername() {
-        return user.getUsername();
+        return username;
     }
 
     /**
@@ -61,16 +117,16 @@ public class CustomUserDetails implements UserDetails {
      */
     @Override
     public boolean isAccountNonExpired() {
-        return !"RESIGNED".equals(user.getAccountStatus());
+        return accountNonExpired;
     }
 
     /**
      * 계정 잠금 여부
-     * - LOCKED 상태 또는 lockedUntil이 미래 시간인 경우 잠금
+     * - LOCKED 상태 또는 lockedUntil이 미래 시간인 경우 잠금 (조회 시점 기준)
      */
     @Override
     public boolean isAccountNonLocked() {
-        return !user.isLocked();
+        return accountNonLocked;
     }
 
     /**
@@ -89,74 +145,67 @@ public class CustomUserDetails implements UserDetails {
      */
     @Override
     public boolean isEnabled() {
-        return user.canLogin();
+        return enabled;
     }
 
     // ===============================
     // 추가 메서드
     // ===============================
 
-    /**
-     * User 엔티티 반환
-     */
-    public User getUser() {
-        return user;
-    }
-
     /**
      * 사용자 ID 반환
      */
     public Long getUserId() {
-        return user.getUserId();
+        return userId;
     }
 
     /**
      * 직원번호 반환
      */
     public String getEmpNo() {
-        return user.getEmpNo();
+        return empNo;
     }
 
     /**
      * 관리자 권한 확인
      */
     public boolean isAdmin() {
-        return user.isAdminUser();
+        return admin;
     }
 
     /**
      * 임원 권한 확인
      */
     public boolean isExecutive() {
-        return user.isExecutiveUser();
+        return executive;
     }
 
     /**
      * 권한 레벨 반환
      */
     public Integer getAuthLevel() {
-        return user.getAuthLevel();
+        return authLevel;
     }
 
     /**
      * 비밀번호 변경 필요 여부
      */
     public boolean needsPasswordChange() {
-        return user.needsPasswordChange();
+        return passwordChangeRequired;
     }
 
     /**
      * 타임존 반환
      */
     public String getTimezone() {
-        return user.getTimezone();
+        return timezone;
     }
 
     /**
      * 언어 반환
      */
     public String getLanguage() {
-        return user.getLanguage();
+        return language;
     }
 
     /**
@@ -166,10 +215,35 @@ public class CustomUserDetails implements UserDetails {
         return roles;
     }
 
+    /**
+     * 비밀번호 해시만 바꾼 사본 반환 (로그인 시 재해시 결과 반영)
+     */
+    public CustomUserDetails withPassword(String newPasswordHash) {
+        return new CustomUserDetails(userId, username, empNo, newPasswordHash, roles,
+            accountNonExpired, accountNonLocked, enabled, admin, executive, passwordChangeRequired,
+            authLevel, timezone, language);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CustomUserDetails other)) {
+            return false;
+        }
+        return Objects.equals(username, other.username);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(username);
+    }
+
     @Override
     public String toString() {
         return "CustomUserDetails{" +
-            "username='" + user.getUsername() + '\'' +
+            "username='" + username + '\'' +
             ", roles=" + roles +
             ", enabled=" + isEnabled() +
             ", accountNonLocked=" + isAccountNonLocked() +
@@ -1,25 +1,25 @@
 package com.rsms.domain.auth.security;
 
 import com.rsms.domain.auth.entity.User;
-import com.rsms.domain.auth.entity.UserRole;
 import com.rsms.domain.auth.repository.UserRepository;
 import com.rsms.domain.auth.repository.UserRoleRepository;
-import com.rsms.domain.auth.repository.RoleRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Spring Security UserDetailsService 구현체
  * - 사용자 인증 시 DB에서 사용자 정보 조회
  * - 사용자의 역할(Role) 정보를 포함하여 CustomUserDetails 생성
+ * - 로그인 ID별 인증 정보는 UserDetailsCache에 짧게 보관 (로그인 집중 시 DB 조회 감소)
+ * - 로그인 성공 시 BCrypt 강도가 바뀐 비밀번호 해시 재작성 (UserDetailsPasswordService)
  *
  * @author RSMS Development Team
  * @since 1.0
@@ -27,25 +27,32 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
     private final UserRoleRepository userRoleRepository;
-    private final RoleRepository roleRepository;
+    private final UserDetailsCache userDetailsCache;
 
     /**
      * 사용자명(username)으로 사용자 정보 조회
      * - Spring Security 인증 시 자동 호출
+     * - 캐시에 있으면 DB 조회 없이 반환 (사용자/역할 변경 시 커밋 후 무효화)
+     * - 캐시 적중 시 커넥션을 잡지 않도록 트랜잭션을 선언하지 않음 (조회는 Repository 트랜잭션 사용)
      *
      * @param username 로그인 ID
      * @return CustomUserDetails 사용자 상세 정보
      * @throws UsernameNotFoundException 사용자를 찾을 수 없는 경우
      */
     @Override
-    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         log.debug("로그인 시도: username={}", username);
+        return userDetailsCache.get(username, () -> loadUserDetails(username));
+    }
 
+    /**
+     * 사용자명(username)으로 사용자 + 역할 조회 (캐시 미사용)
+     */
+    private CustomUserDetails loadUserDetails(String username) {
         // 1. 사용자 조회
         User user = userRepository.findByUsername(username)
             .orElseThrow(() -> {
@@ -68,27 +75,40 @@ public class CustomUserDetailsService implements UserDetailsService {
         return new CustomUserDetails(user, roles);
     }
 
+    /**
+     * 비밀번호 해시 재작성
+     * - DaoAuthenticationProvider가 로그인 성공 후 PasswordEncoder.upgradeEncoding이 true이면 호출
+     * - 조회 이후 비밀번호가 바뀌었으면 덮어쓰지 않고 기존 인증 정보 반환
+     *
+     * @param user 인증된 사용자 (기존 해시 포함)
+     * @param newPassword 새 비밀번호 해시
+     * @return 새 해시를 반영한 사용자 정보
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        CustomUserDetails userDetails = (CustomUserDetails) user;
+        int updated = userRepository.updatePasswordHash(userDetails.getUserId(), userDetails.getPassword(), newPassword);
+        userDetailsCache.invalidateAfterCommit(userDetails.getUsername());
+
+        if (updated == 0) {
+            log.debug("비밀번호 해시 재작성 생략 (비밀번호 변경됨): username={}", userDetails.getUsername());
+            return userDetails;
+        }
+        log.info("비밀번호 해시 재작성: username={}", userDetails.getUsername());
+        return userDetails.withPassword(newPassword);
+    }
+
     /**
      * 사용자 ID로 역할 목록 조회
+     * - 사용자-역할 매핑과 역할을 조인하여 활성 역할 코드만 조회 (쿼리 1회)
      *
      * @param userId 사용자 ID
      * @return 역할 코드 목록 (예: ["001", "102"])
      */
     @Transactional(readOnly = true)
     public List<String> getUserRoles(Long userId) {
-        // 사용자-역할 매핑 조회
-        List<UserRole> userRoles = userRoleRepository.findActiveRolesByUserId(userId);
-
-        // 역할 ID 목록 추출
-        List<Long> roleIds = userRoles.stream()
-            .map(UserRole::getRoleId)
-            .collect(Collectors.toList());
-
-        // 역할 코드 조회
-        return roleRepository.findAllById(roleIds).stream()
-            .filter(role -> "ACTIVE".equals(role.getStatus()))
-            .map(role -> role.getRoleCode())
-            .collect(Collectors.toList());
+        return userRoleRepository.findActiveRoleCodesByUserId(userId);
     }
 
     /**
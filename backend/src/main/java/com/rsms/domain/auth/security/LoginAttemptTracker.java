@@ -0,0 +1,313 @@
+package com.rsms.domain.auth.security;
+
+import com.rsms.domain.auth.entity.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로그인 시도 추적기
+ * - 로그인 성공(마지막 로그인 일시)/실패 횟수를 메모리에서 집계하고 주기적으로 일괄 UPDATE
+ *   (로그인 요청마다 users 행을 갱신하던 방식 대체, 사용자당 flush 주기마다 최대 1회)
+ * - 잠금 판단은 메모리 상태로 즉시 수행 (처음 보는 사용자는 users 행의 실패 횟수/잠금 일시로 초기화)
+ *   다른 노드가 기록한 잠금을 놓치지 않도록 로그인 시 읽은 users 행의 잠금 일시와 비교하여 늦은 쪽 적용
+ * - 실패 횟수는 절대값이 아닌 증분(초기화 여부 + 실패 증가분)으로 반영하여 노드 간 집계가 서로 덮어쓰지 않음
+ * - 잠금/잠금 해제 전환은 드물고 다른 노드의 인증(CustomUserDetailsService 상태 검증)에 영향을 주므로 즉시 반영
+ * - 사용자별 상태 변경은 로그인 ID 해시로 나눈 잠금 구간(stripe) 단위로 직렬화
+ * - 변경 없이 일정 시간 지난 상태는 제거하여 다른 노드/관리자 변경을 다음 로그인에서 다시 읽음
+ *
+ * @author RSMS Development Team
+ * @since 1.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LoginAttemptTracker implements DisposableBean {
+
+    /**
+     * 잠금 구간 수 (2의 거듭제곱)
+     */
+    private static final int STRIPES = 64;
+
+    /**
+     * 변경 없는 상태 보관 시간 (밀리초)
+     */
+    private static final long IDLE_MILLIS = 300_000L;
+
+    private static final String FLUSH_SQL =
+        "UPDATE rsms.users SET failed_login_count = CASE WHEN ? THEN 0 ELSE failed_login_count END + ?, " +
+        "last_login_at = COALESCE(?, last_login_at) " +
+        "WHERE user_id = ?";
+
+    private static final String LOCK_SQL =
+        "UPDATE rsms.users SET failed_login_count = CASE WHEN ? THEN 0 ELSE failed_login_count END + ?, " +
+        "locked_until = GREATEST(locked_until, ?), account_status = 'LOCKED' " +
+        "WHERE user_id = ?";
+
+    private static final String UNLOCK_SQL =
+        "UPDATE rsms.users SET failed_login_count = 0, locked_until = NULL, " +
+        "account_status = CASE WHEN account_status = 'LOCKED' THEN 'ACTIVE' ELSE account_status END " +
+        "WHERE user_id = ? AND locked_until IS NOT NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserDetailsCache userDetailsCache;
+
+    private final Object[] stripes = createStripes();
+    private final Map<String, AttemptState> states = new ConcurrentHashMap<>();
+
+    /**
+     * 사용자별 로그인 상태 (잠금 구간 안에서만 변경)
+     */
+    private static final class AttemptState {
+        private final String username;
+        private final Long userId;
+        private int failedCount;
+        private LocalDateTime lockedUntil;
+        private LocalDateTime pendingLastLoginAt;
+        private boolean pendingReset;
+        private int pendingFailures;
+        private boolean dirty;
+        private long lastAccess;
+
+        private AttemptState(User user) {
+            this.username = user.getUsername();
+            this.userId = user.getUserId();
+            this.failedCount = user.getFailedLoginCount() != null ? user.getFailedLoginCount() : 0;
+            this.lockedUntil = user.getLockedUntil();
+            this.lastAccess = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * 반영 대기 행 (실패 시 재시도용)
+     */
+    private record PendingRow(AttemptState state, boolean reset, int failures, LocalDateTime lastLoginAt) {
+    }
+
+    private static Object[] createStripes() {
+        Object[] locks = new Object[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new Object();
+        }
+        return locks;
+    }
+
+    private Object stripe(String username) {
+        int h = username.hashCode();
+        return stripes[(h ^ (h >>> 16)) & (STRIPES - 1)];
+    }
+
+    /**
+     * 잠금 해제 일시 조회 (잠겨 있지 않으면 null)
+     * - 메모리 잠금 일시와 users 행의 잠금 일시(다른 노드에서 잠근 경우) 중 늦은 쪽 기준
+     * - 잠금 시간이 지났으면 즉시 해제하고 users 행에도 바로 반영
+     *
+     * @param user 로그인 시도 사용자 (방금 조회한 users 행)
+     * @return 잠금 해제 일시 (잠겨 있지 않으면 null)
+     */
+    public LocalDateTime getLockedUntil(User user) {
+        String username = user.getUsername();
+        LocalDateTime now = LocalDateTime.now();
+        synchronized (stripe(username)) {
+            AttemptState state = states.computeIfAbsent(username, key -> new AttemptState(user));
+            state.lastAccess = System.currentTimeMillis();
+            LocalDateTime rowLockedUntil = user.getLockedUntil();
+            if (rowLockedUntil != null && rowLockedUntil.isAfter(now)
+                    && (state.lockedUntil == null || rowLockedUntil.isAfter(state.lockedUntil))) {
+                state.lockedUntil = rowLockedUntil;
+            }
+            if (state.lockedUntil == null) {
+                return null;
+            }
+            if (!now.isAfter(state.lockedUntil)) {
+                return state.lockedUntil;
+            }
+            // 잠금 시간이 지났으면 자동 해제 (반영 대기 중인 실패 증분도 함께 초기화)
+            state.lockedUntil = null;
+            state.failedCount = 0;
+            state.pendingReset = false;
+            state.pendingFailures = 0;
+        }
+
+        jdbcTemplate.update(UNLOCK_SQL, user.getUserId());
+        userDetailsCache.invalidate(username);
+        log.info("계정 잠금 자동 해제: username={}", username);
+        return null;
+    }
+
+    /**
+     * 로그인 성공 기록 (실패 횟수 초기화, 마지막 로그인 일시는 다음 flush에 반영)
+     *
+     * @param user 로그인 사용자
+     */
+    public void onLoginSuccess(User user) {
+        String username = user.getUsername();
+        synchronized (stripe(username)) {
+            AttemptState state = states.computeIfAbsent(username, key -> new AttemptState(user));
+            state.failedCount = 0;
+            state.pendingReset = true;
+            state.pendingFailures = 0;
+            state.pendingLastLoginAt = LocalDateTime.now();
+            state.dirty = true;
+            state.lastAccess = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * 로그인 실패 기록
+     * - 실패 횟수가 기준(User.MAX_FAILED_LOGIN_COUNT)에 도달하면 즉시 잠금하고 users 행에도 바로 반영
+     * - 존재하지 않는 사용자(잠금 확인 전에 실패한 요청)는 기록하지 않음
+     *
+     * @param username 로그인 ID
+     * @return 이번 실패로 잠금되었으면 true
+     */
+    public boolean onLoginFailure(String username) {
+        if (username == null) {
+            return false;
+        }
+
+        Long userId;
+        int failedCount;
+        boolean reset;
+        int failures;
+        LocalDateTime lockedUntil;
+        synchronized (stripe(username)) {
+            AttemptState state = states.get(username);
+            if (state == null) {
+                return false;
+            }
+            state.failedCount++;
+            state.pendingFailures++;
+            state.lastAccess = System.currentTimeMillis();
+            if (state.failedCount < User.MAX_FAILED_LOGIN_COUNT || state.lockedUntil != null) {
+                state.dirty = true;
+                return false;
+            }
+            state.lockedUntil = LocalDateTime.now().plusMinutes(User.LOCK_DURATION_MINUTES);
+            // 실패 증분은 잠금 UPDATE로 반영, 마지막 로그인 일시는 다음 flush에 반영
+            reset = state.pendingReset;
+            failures = state.pendingFailures;
+            state.pendingReset = false;
+            state.pendingFailures = 0;
+            state.dirty = state.pendingLastLoginAt != null;
+            userId = state.userId;
+            failedCount = state.failedCount;
+            lockedUntil = state.lockedUntil;
+        }
+
+        jdbcTemplate.update(LOCK_SQL, reset, failures, Timestamp.valueOf(lockedUntil), userId);
+        userDetailsCache.invalidate(username);
+        log.warn("로그인 {}회 실패로 계정 잠금: username={}, lockedUntil={}", failedCount, username, lockedUntil);
+        return true;
+    }
+
+    /**
+     * 사용자 상태 커밋 후 제거 (관리자 수정/삭제가 메모리 집계보다 우선)
+     * - 반영 대기 중인 로그인 기록도 함께 버림 (다음 로그인에서 users 행으로 다시 초기화)
+     *
+     * @param username 로그인 ID
+     */
+    public void resetAfterCommit(String username) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reset(username);
+                }
+            });
+        } else {
+            reset(username);
+        }
+    }
+
+    private void reset(String username) {
+        synchronized (stripe(username)) {
+            states.remove(username);
+        }
+    }
+
+    /**
+     * 로그인 기록 일괄 반영
+     * - 변경된 사용자별로 실패 횟수 증분 + 마지막 로그인 일시 1건씩 batch UPDATE
+     * - 변경 없이 IDLE_MILLIS 지난 상태 제거
+     */
+    @Scheduled(fixedDelayString = "${rsms.auth.login-tracker.flush-interval-ms:5000}",
+               initialDelayString = "${rsms.auth.login-tracker.flush-interval-ms:5000}")
+    public void flush() {
+        long now = System.currentTimeMillis();
+        List<PendingRow> pending = new ArrayList<>();
+
+        for (Map.Entry<String, AttemptState> entry : states.entrySet()) {
+            String username = entry.getKey();
+            synchronized (stripe(username)) {
+                AttemptState state = entry.getValue();
+                if (state.dirty) {
+                    pending.add(new PendingRow(state, state.pendingReset, state.pendingFailures,
+                        state.pendingLastLoginAt));
+                    state.dirty = false;
+                    state.pendingReset = false;
+                    state.pendingFailures = 0;
+                    state.pendingLastLoginAt = null;
+                } else if (now - state.lastAccess >= IDLE_MILLIS) {
+                    states.remove(username, state);
+                }
+            }
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> rows = new ArrayList<>(pending.size());
+        for (PendingRow row : pending) {
+            rows.add(new Object[]{
+                row.reset(),
+                row.failures(),
+                row.lastLoginAt() != null ? Timestamp.valueOf(row.lastLoginAt()) : null,
+                row.state().userId
+            });
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, rows,
+                new int[]{Types.BOOLEAN, Types.INTEGER, Types.TIMESTAMP, Types.BIGINT});
+            log.debug("로그인 기록 일괄 반영: {}건", rows.size());
+        } catch (RuntimeException e) {
+            // 다음 주기에 재시도 (그 사이 초기화(로그인 성공)가 있었으면 이전 증분은 버림)
+            for (PendingRow row : pending) {
+                AttemptState state = row.state();
+                synchronized (stripe(state.username)) {
+                    state.dirty = true;
+                    if (!state.pendingReset) {
+                        state.pendingReset = row.reset();
+                        state.pendingFailures += row.failures();
+                    }
+                    if (state.pendingLastLoginAt == null) {
+                        state.pendingLastLoginAt = row.lastLoginAt();
+                    }
+                }
+            }
+            log.warn("로그인 기록 일괄 반영 실패 - {}건 재시도 예정: {}", rows.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 종료 시 대기 중인 로그인 기록 반영
+     */
+    @Override
+    public void destroy() {
+        flush();
+    }
+}
@@ -0,0 +1,216 @@
+package com.rsms.domain.auth.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.serializer.support.DeserializingConverter;
+import org.springframework.core.serializer.support.SerializingConverter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 세션 속성 직렬화기 (spring_session_attributes.attribute_bytes)
+ * - SecurityContext(UsernamePasswordAuthenticationToken + CustomUserDetails)는 고정 필드 바이너리 형식으로 직렬화
+ *   (클래스 기술자/권한 객체 그래프 없이 사용자 ID, 로그인 ID, 직원번호, 역할, 상태 플래그만 기록)
+ * - 그 외 속성은 기존과 같이 Java 직렬화
+ * - 역직렬화 시 선두 MAGIC 바이트로 형식 구분 (Java 직렬화 스트림은 0xACED로 시작)
+ * - 이전 형식(User 엔티티를 포함한 CustomUserDetails)으로 저장된 속성은 복원하지 못하므로 없는 속성으로 처리 (재로그인)
+ *
+ * @author RSMS Development Team
+ * @since 1.0
+ */
+@Slf4j
+public class SessionAttributeSerializer {
+
+    /**
+     * 압축 SecurityContext 형식 식별자 ("RSC" + 형식 버전)
+     */
+    private static final byte[] MAGIC = {'R', 'S', 'C', 1};
+
+    private static final int FLAG_ACCOUNT_NON_EXPIRED = 1;
+    private static final int FLAG_ACCOUNT_NON_LOCKED = 1 << 1;
+    private static final int FLAG_ENABLED = 1 << 2;
+    private static final int FLAG_ADMIN = 1 << 3;
+    private static final int FLAG_EXECUTIVE = 1 << 4;
+    private static final int FLAG_PASSWORD_CHANGE_REQUIRED = 1 << 5;
+
+    private final SerializingConverter javaSerializer = new SerializingConverter();
+    private final DeserializingConverter javaDeserializer;
+
+    public SessionAttributeSerializer(ClassLoader classLoader) {
+        this.javaDeserializer = new DeserializingConverter(classLoader);
+    }
+
+    /**
+     * 세션 속성 → 바이트
+     *
+     * @param attribute 세션 속성 값
+     * @return 직렬화 결과
+     */
+    public byte[] serialize(Object attribute) {
+        if (attribute == null) {
+            return null;
+        }
+        CustomUserDetails principal = compactPrincipal(attribute);
+        if (principal == null) {
+            return javaSerializer.convert(attribute);
+        }
+
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.write(MAGIC);
+            out.writeLong(principal.getUserId() != null ? principal.getUserId() : -1L);
+            writeString(out, principal.getUsername());
+            writeString(out, principal.getEmpNo());
+            out.writeByte(flags(principal));
+            out.writeInt(principal.getAuthLevel() != null ? principal.getAuthLevel() : Integer.MIN_VALUE);
+            writeString(out, principal.getTimezone());
+            writeString(out, principal.getLanguage());
+            out.writeShort(principal.getRoles().size());
+            for (String role : principal.getRoles()) {
+                writeString(out, role);
+            }
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException("세션 인증 정보 직렬화 실패", e);
+        }
+    }
+
+    /**
+     * 바이트 → 세션 속성
+     * - 복원할 수 없는 속성(이전 클래스 형식 등)은 null (속성 없음)
+     *
+     * @param bytes 직렬화된 값
+     * @return 세션 속성 값
+     */
+    public Object deserialize(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        try {
+            if (hasMagic(bytes)) {
+                return readSecurityContext(bytes);
+            }
+            return javaDeserializer.convert(bytes);
+        } catch (Exception e) {
+            log.warn("세션 속성 역직렬화 실패 - 속성 무시 ({} bytes): {}", bytes.length, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 압축 형식 대상이면 인증 주체 반환
+     * - SecurityContextImpl + 인증 완료된 UsernamePasswordAuthenticationToken + CustomUserDetails
+     * - 부가 정보(details)가 없고 권한이 역할에서 파생된 값과 같을 때만 (복원 결과가 원본과 동일)
+     */
+    private CustomUserDetails compactPrincipal(Object attribute) {
+        if (attribute.getClass() != SecurityContextImpl.class) {
+            return null;
+        }
+        Authentication authentication = ((SecurityContext) attribute).getAuthentication();
+        if (authentication == null
+                || authentication.getClass() != UsernamePasswordAuthenticationToken.class
+                || !authentication.isAuthenticated()
+                || authentication.getDetails() != null
+                || authentication.getCredentials() != null
+                || !(authentication.getPrincipal() instanceof CustomUserDetails principal)) {
+            return null;
+        }
+        if (!List.copyOf(authentication.getAuthorities()).equals(List.copyOf(principal.getAuthorities()))) {
+            return null;
+        }
+        return principal;
+    }
+
+    private SecurityContext readSecurityContext(byte[] bytes) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, MAGIC.length, bytes.length - MAGIC.length));
+        long userId = in.readLong();
+        String username = readString(in);
+        String empNo = readString(in);
+        int flags = in.readUnsignedByte();
+        int authLevel = in.readInt();
+        String timezone = readString(in);
+        String language = readString(in);
+        int roleCount = in.readUnsignedShort();
+        List<String> roles = new ArrayList<>(roleCount);
+        for (int i = 0; i < roleCount; i++) {
+            roles.add(readString(in));
+        }
+
+        CustomUserDetails principal = new CustomUserDetails(
+            userId >= 0 ? userId : null,
+            username,
+            empNo,
+            null,
+            roles,
+            (flags & FLAG_ACCOUNT_NON_EXPIRED) != 0,
+            (flags & FLAG_ACCOUNT_NON_LOCKED) != 0,
+            (flags & FLAG_ENABLED) != 0,
+            (flags & FLAG_ADMIN) != 0,
+            (flags & FLAG_EXECUTIVE) != 0,
+            (flags & FLAG_PASSWORD_CHANGE_REQUIRED) != 0,
+            authLevel != Integer.MIN_VALUE ? authLevel : null,
+            timezone,
+            language);
+
+        return new SecurityContextImpl(
+            UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities()));
+    }
+
+    private int flags(CustomUserDetails principal) {
+        int flags = 0;
+        if (principal.isAccountNonExpired()) {
+            flags |= FLAG_ACCOUNT_NON_EXPIRED;
+        }
+        if (principal.isAccountNonLocked()) {
+            flags |= FLAG_ACCOUNT_NON_LOCKED;
+        }
+        if (principal.isEnabled()) {
+            flags |= FLAG_ENABLED;
+        }
+        if (principal.isAdmin()) {
+            flags |= FLAG_ADMIN;
+        }
+        if (principal.isExecutive()) {
+            flags |= FLAG_EXECUTIVE;
+        }
+        if (principal.needsPasswordChange()) {
+            flags |= FLAG_PASSWORD_CHANGE_REQUIRED;
+        }
+        return flags;
+    }
+
+    private boolean hasMagic(byte[] bytes) {
+        if (bytes.length < MAGIC.length) {
+            return false;
+        }
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (bytes[i] != MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
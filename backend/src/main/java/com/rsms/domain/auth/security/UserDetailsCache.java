@@ -0,0 +1,133 @@
+package com.rsms.domain.auth.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 사용자 인증 정보 캐시
+ * - 로그인 ID(username)별로 CustomUserDetails(사용자 + 역할 코드)를 짧은 시간 보관
+ * - 로그인 집중 시간대에 같은 사용자의 반복 인증 요청이 사용자/역할 조회 쿼리를 다시 실행하지 않도록 함
+ * - 사용자/역할 변경 시 커밋 후 무효화 (UserMgmtService, RoleService)
+ * - 잠금 여부는 AuthService가 LoginAttemptTracker로 로그인마다 확인하므로 캐시 값에 의존하지 않음
+ * - 다른 노드에서 발생한 변경은 TTL 경과 후 재조회로 반영
+ *
+ * @author RSMS Development Team
+ * @since 1.0
+ */
+@Component
+@Slf4j
+public class UserDetailsCache {
+
+    /**
+     * 캐시 유효 시간 (밀리초)
+     */
+    private static final long TTL_MILLIS = 30_000L;
+
+    /**
+     * 무효화 순번 (무효화마다 증가, 적재 시작 시점과 비교용)
+     */
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * 마지막 전체 무효화 순번
+     */
+    private volatile long clearedAt;
+
+    private final Map<String, CachedUserDetails> entries = new ConcurrentHashMap<>();
+
+    /**
+     * 캐시된 사용자 인증 정보
+     * - stamp: 적재 시작 시점의 무효화 순번 (무효화 표시는 무효화 시점의 순번)
+     * - userDetails가 null이면 무효화 표시 (적재 중인 이전 결과가 저장되지 않도록 보관)
+     * - userDetails는 읽기 전용으로 사용 (여러 인증 요청이 같은 인스턴스를 공유)
+     */
+    private record CachedUserDetails(long stamp, long loadedAt, CustomUserDetails userDetails) {
+    }
+
+    /**
+     * 사용자 인증 정보 조회 (없거나 무효화/만료면 적재)
+     * - 적재 도중 같은 사용자 또는 전체가 무효화되면 적재 결과를 캐시하지 않음 (다음 조회에서 다시 적재)
+     * - 적재 함수가 예외를 던지면(사용자 없음, 로그인 불가 상태) 캐시하지 않고 그대로 전파
+     *
+     * @param username 로그인 ID
+     * @param loader 사용자 + 역할 조회 함수
+     * @return 사용자 인증 정보
+     */
+    public CustomUserDetails get(String username, Supplier<CustomUserDetails> loader) {
+        long start = sequence.get();
+        CachedUserDetails cached = entries.get(username);
+        if (cached != null && cached.userDetails() != null
+                && System.currentTimeMillis() - cached.loadedAt() < TTL_MILLIS) {
+            return cached.userDetails();
+        }
+
+        CustomUserDetails loaded = loader.get();
+        // 확인과 저장을 키 단위로 원자 처리 (무효화는 표시를 남긴 뒤 항목을 교체하므로 확인 이후 무효화도 반영됨)
+        entries.compute(username, (key, current) -> {
+            if (clearedAt > start || (current != null && current.stamp() > start)) {
+                return current;
+            }
+            log.debug("사용자 인증 정보 캐시 적재: username={}, stamp={}", username, start);
+            return new CachedUserDetails(start, System.currentTimeMillis(), loaded);
+        });
+        return loaded;
+    }
+
+    /**
+     * 사용자 커밋 후 무효화
+     * - 트랜잭션 내부면 커밋 이후, 아니면 즉시 무효화
+     *
+     * @param username 로그인 ID
+     */
+    public void invalidateAfterCommit(String username) {
+        afterCommit(() -> invalidate(username));
+    }
+
+    /**
+     * 전체 커밋 후 무효화 (역할 상태 변경/삭제 등 여러 사용자에 영향)
+     */
+    public void invalidateAllAfterCommit() {
+        afterCommit(this::invalidateAll);
+    }
+
+    /**
+     * 사용자 즉시 무효화
+     * - 해당 사용자만 무효화 표시로 교체 (다른 사용자 캐시는 유지)
+     * - 적재 중인 같은 사용자의 이전 결과는 무효화 표시보다 오래되어 저장되지 않음
+     */
+    public void invalidate(String username) {
+        long stamp = sequence.incrementAndGet();
+        entries.put(username, new CachedUserDetails(stamp, 0L, null));
+        log.debug("사용자 인증 정보 캐시 무효화: username={}, stamp={}", username, stamp);
+    }
+
+    /**
+     * 전체 즉시 무효화
+     */
+    public void invalidateAll() {
+        long stamp = sequence.incrementAndGet();
+        clearedAt = stamp;
+        entries.clear();
+        log.debug("사용자 인증 정보 캐시 전체 무효화: stamp={}", stamp);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
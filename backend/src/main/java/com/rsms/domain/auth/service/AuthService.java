@@ -5,7 +5,7 @@ import com.rsms.domain.auth.dto.LoginResponse;
 import com.rsms.domain.auth.entity.User;
 import com.rsms.domain.auth.repository.UserRepository;
 import com.rsms.domain.auth.security.CustomUserDetails;
-import com.rsms.domain.auth.security.CustomUserDetailsService;
+import com.rsms.domain.auth.security.LoginAttemptTracker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -17,6 +17,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -33,16 +34,17 @@ public class AuthService {
 
     private final AuthenticationManager authenticationManager;
     private final UserRepository userRepository;
-    private final CustomUserDetailsService customUserDetailsService;
+    private final MenuPermissionMatrix menuPermissionMatrix;
+    private final LoginAttemptTracker loginAttemptTracker;
 
     /**
      * 로그인 처리
      * - 사용자 인증 및 세션 생성
+     * - 마지막 로그인 일시/실패 횟수는 LoginAttemptTracker가 메모리에서 집계 후 일괄 반영 (users 행 즉시 갱신 없음)
      *
      * @param loginRequest 로그인 요청 정보
      * @return LoginResponse 로그인 결과 및 사용자 정보
      */
-    @Transactional
     public LoginResponse login(LoginRequest loginRequest) {
         try {
             log.info("로그인 시도: username={}", loginRequest.getUsername());
@@ -51,10 +53,11 @@ public class AuthService {
             User user = userRepository.findByUsername(loginRequest.getUsername())
                 .orElseThrow(() -> new BadCredentialsException("사용자를 찾을 수 없습니다"));
 
-            // 2. 계정 잠금 확인
-            if (user.isLocked()) {
-                log.warn("계정 잠금: username={}, lockedUntil={}", user.getUsername(), user.getLockedUntil());
-                throw new LockedException("계정이 잠겨있습니다. " + user.getLockedUntil() + " 까지 로그인할 수 없습니다");
+            // 2. 계정 잠금 확인 (메모리 상태 기준 즉시 판단)
+            LocalDateTime lockedUntil = loginAttemptTracker.getLockedUntil(user);
+            if (lockedUntil != null) {
+                log.warn("계정 잠금: username={}, lockedUntil={}", user.getUsername(), lockedUntil);
+                throw new LockedException("계정이 잠겨있습니다. " + lockedUntil + " 까지 로그인할 수 없습니다");
             }
 
             // 3. Spring Security 인증 처리
@@ -68,13 +71,15 @@ public class AuthService {
             // 4. SecurityContext에 인증 정보 저장
             SecurityContextHolder.getContext().setAuthentication(authentication);
 
-            // 5. 로그인 성공 처리
-            user.onLoginSuccess();
-            userRepository.save(user);
+            // 5. 로그인 성공 처리 (실패 횟수 초기화, 마지막 로그인 일시는 일괄 반영)
+            loginAttemptTracker.onLoginSuccess(user);
 
-            // 6. UserDetails에서 역할 정보 가져오기
+            // 6. UserDetails에서 역할 정보 가져오기 (인증 시 조회한 역할 재사용, 추가 조회 없음)
             CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
-            List<String> roles = customUserDetailsService.getUserRoles(user.getUserId());
+            List<String> roles = userDetails.getRoles();
+
+            // 메뉴 권한 비트 행렬을 역할 조합 기준으로 미리 OR 결합 (세션 중 권한 확인은 비트 연산)
+            menuPermissionMatrix.getEffectivePermissions(roles);
 
             // 7. 응답 생성
             log.info("로그인 성공: username={}, userId={}", user.getUsername(), user.getUserId());
@@ -99,12 +104,8 @@ public class AuthService {
         } catch (BadCredentialsException e) {
             log.warn("로그인 실패 - 잘못된 자격증명: username={}", loginRequest.getUsername());
 
-            // 로그인 실패 횟수 증가
-            userRepository.findByUsername(loginRequest.getUsername())
-                .ifPresent(user -> {
-                    user.incrementFailedLoginCount();
-                    userRepository.save(user);
-                });
+            // 로그인 실패 횟수 증가 (기준 횟수 도달 시 즉시 잠금)
+            loginAttemptTracker.onLoginFailure(loginRequest.getUsername());
 
             return LoginResponse.builder()
                 .success(false)
@@ -166,19 +167,18 @@ public class AuthService {
 
             if (authentication.getPrincipal() instanceof CustomUserDetails) {
                 CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
-                User user = userDetails.getUser();
 
                 return LoginResponse.UserInfoDto.builder()
-                    .userId(user.getUserId())
-                    .username(user.getUsername())
-                    .empNo(user.getEmpNo())
-                    .isAdmin("Y".equals(user.getIsAdmin()))
-                    .isExecutive("Y".equals(user.getIsExecutive()))
-                    .authLevel(user.getAuthLevel())
+                    .userId(userDetails.getUserId())
+                    .username(userDetails.getUsername())
+                    .empNo(userDetails.getEmpNo())
+                    .isAdmin(userDetails.isAdmin())
+                    .isExecutive(userDetails.isExecutive())
+                    .authLevel(userDetails.getAuthLevel())
                     .roles(userDetails.getRoles())
-                    .needsPasswordChange("Y".equals(user.getPasswordChangeRequired()))
-                    .timezone(user.getTimezone())
-                    .language(user.getLanguage())
+                    .needsPasswordChange(userDetails.needsPasswordChange())
+                    .timezone(userDetails.getTimezone())
+                    .language(userDetails.getLanguage())
                     .build();
             }
 
@@ -0,0 +1,305 @@
+package com.rsms.domain.auth.service;
+
+import com.rsms.domain.auth.repository.MenuPermissionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 역할 × 메뉴 권한 비트 행렬
+ * - menu_permissions 전체를 (역할 × 메뉴) → 5비트 마스크(byte)로 보관
+ *   (VIEW=1, CREATE=2, UPDATE=4, DELETE=8, SELECT=16)
+ * - 역할 조합별로 OR 결합한 유효 권한을 캐시 → 메뉴/액션 확인은 Map 조회 1회 + 비트 연산
+ * - 메뉴/메뉴권한/역할 변경 시 커밋 후 무효화, 다음 조회 시 1회 쿼리로 재구성
+ * - 재구성 도중 무효화되면 재구성 결과를 보관하지 않음 (다음 조회에서 다시 재구성)
+ * - 다른 노드에서 발생한 변경은 주기적 무효화로 반영 (rsms.cache.menu-permission.refresh-interval-ms)
+ *
+ * @author RSMS Development Team
+ * @since 1.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MenuPermissionMatrix {
+
+    private final MenuPermissionRepository menuPermissionRepository;
+
+    private final AtomicLong versionSequence = new AtomicLong();
+
+    /**
+     * 무효화 횟수 (재구성 시작 후 무효화 여부 확인용)
+     */
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /**
+     * 현재 행렬 (null이면 다음 조회 시 재구성)
+     */
+    private volatile Matrix matrix;
+
+    /**
+     * 메뉴 액션 비트
+     */
+    public enum MenuAction {
+        VIEW(1),
+        CREATE(1 << 1),
+        UPDATE(1 << 2),
+        DELETE(1 << 3),
+        SELECT(1 << 4);
+
+        private final int bit;
+
+        MenuAction(int bit) {
+            this.bit = bit;
+        }
+
+        public int bit() {
+            return bit;
+        }
+    }
+
+    /**
+     * 역할 조합의 유효 권한 (OR 결합 결과, 불변)
+     */
+    public static final class EffectivePermissions {
+        private final long version;
+        private final Map<Long, Integer> menuIndex;
+        private final byte[] masks;
+        private volatile String contentHash;
+
+        private EffectivePermissions(long version, Map<Long, Integer> menuIndex, byte[] masks) {
+            this.version = version;
+            this.menuIndex = menuIndex;
+            this.masks = masks;
+        }
+
+        /**
+         * 행렬 버전
+         */
+        public long version() {
+            return version;
+        }
+
+        /**
+         * 메뉴 권한 마스크 (권한 없으면 0)
+         */
+        public int mask(Long menuId) {
+            Integer index = menuIndex.get(menuId);
+            return index != null ? masks[index] : 0;
+        }
+
+        /**
+         * 메뉴 액션 허용 여부 (비트 확인 1회)
+         */
+        public boolean isAllowed(Long menuId, MenuAction action) {
+            return (mask(menuId) & action.bit()) != 0;
+        }
+
+        /**
+         * 권한 내용 해시 (ETag용)
+         * - 권한이 있는 (메뉴ID, 마스크)를 메뉴ID 순으로 해시 → 노드/재기동과 무관하게 같은 권한이면 같은 값
+         */
+        public String contentHash() {
+            String hash = contentHash;
+            if (hash == null) {
+                Map<Long, Integer> sorted = new TreeMap<>(toMaskMap());
+                ByteBuffer buffer = ByteBuffer.allocate(sorted.size() * (Long.BYTES + 1));
+                sorted.forEach((menuId, mask) -> buffer.putLong(menuId).put(mask.byteValue()));
+                hash = MenuTreeCache.contentHash(buffer.array());
+                contentHash = hash;
+            }
+            return hash;
+        }
+
+        /**
+         * 권한이 있는 메뉴만 (메뉴ID → 마스크) Map으로 변환
+         * - 프론트엔드 세션당 1회 전달용
+         */
+        public Map<Long, Integer> toMaskMap() {
+            Map<Long, Integer> result = new LinkedHashMap<>();
+            menuIndex.forEach((menuId, index) -> {
+                if (masks[index] != 0) {
+                    result.put(menuId, (int) masks[index]);
+                }
+            });
+            return result;
+        }
+    }
+
+    // ===============================
+    // 조회 API
+    // ===============================
+
+    /**
+     * 역할 조합의 유효 권한 조회 (OR 결합, 역할 조합별 캐시)
+     * - 로그인 시 호출하여 미리 계산해 둠
+     *
+     * @param roleCodes 역할 코드 목록
+     * @return 유효 권한
+     */
+    public EffectivePermissions getEffectivePermissions(Collection<String> roleCodes) {
+        Matrix current = current();
+        String roleKey = MenuTreeCache.roleKey(roleCodes != null ? roleCodes : List.of());
+        return current.folded.computeIfAbsent(roleKey, key -> current.fold(roleCodes));
+    }
+
+    /**
+     * 메뉴 액션 허용 여부
+     *
+     * @param roleCodes 역할 코드 목록
+     * @param menuId 메뉴 ID
+     * @param action 액션
+     * @return 허용 여부
+     */
+    public boolean isAllowed(Collection<String> roleCodes, Long menuId, MenuAction action) {
+        return getEffectivePermissions(roleCodes).isAllowed(menuId, action);
+    }
+
+    /**
+     * 현재 행렬 버전
+     */
+    public long getVersion() {
+        return current().version;
+    }
+
+    // ===============================
+    // 무효화
+    // ===============================
+
+    /**
+     * 커밋 후 무효화
+     * - 트랜잭션 내부면 커밋 이후, 아니면 즉시
+     */
+    public void invalidateAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate();
+                }
+            });
+        } else {
+            invalidate();
+        }
+    }
+
+    /**
+     * 주기적 무효화
+     * - 다른 노드에서 발생한 메뉴/권한 변경을 반영하기 위함 (다음 조회 시 재구성)
+     */
+    @Scheduled(fixedDelayString = "${rsms.cache.menu-permission.refresh-interval-ms:300000}",
+               initialDelayString = "${rsms.cache.menu-permission.refresh-interval-ms:300000}")
+    public void scheduledInvalidate() {
+        invalidate();
+    }
+
+    /**
+     * 즉시 무효화 (다음 조회 시 재구성)
+     * - 무효화 횟수를 먼저 올려 진행 중인 재구성 결과가 보관되지 않도록 함
+     */
+    public void invalidate() {
+        long count = invalidations.incrementAndGet();
+        this.matrix = null;
+        log.debug("메뉴 권한 행렬 무효화: invalidations={}", count);
+    }
+
+    /**
+     * 현재 행렬 (없으면 재구성)
+     * - 재구성 도중 무효화되었으면 결과를 이번 조회에만 사용하고 보관하지 않음
+     */
+    private Matrix current() {
+        Matrix current = this.matrix;
+        if (current == null) {
+            synchronized (this) {
+                current = this.matrix;
+                if (current == null) {
+                    long startInvalidations = invalidations.get();
+                    current = load();
+                    if (invalidations.get() == startInvalidations) {
+                        this.matrix = current;
+                    }
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * menu_permissions 전체 적재 (쿼리 1회)
+     */
+    private Matrix load() {
+        List<Object[]> rows = menuPermissionRepository.findAllActivePermissionFlags();
+
+        Map<String, Integer> roleIndex = new HashMap<>();
+        Map<Long, Integer> menuIndex = new HashMap<>();
+        for (Object[] row : rows) {
+            roleIndex.putIfAbsent((String) row[0], roleIndex.size());
+            menuIndex.putIfAbsent((Long) row[1], menuIndex.size());
+        }
+
+        byte[][] masks = new byte[roleIndex.size()][menuIndex.size()];
+        for (Object[] row : rows) {
+            int mask = 0;
+            if ("Y".equals(row[2])) mask |= MenuAction.VIEW.bit();
+            if ("Y".equals(row[3])) mask |= MenuAction.CREATE.bit();
+            if ("Y".equals(row[4])) mask |= MenuAction.UPDATE.bit();
+            if ("Y".equals(row[5])) mask |= MenuAction.DELETE.bit();
+            if ("Y".equals(row[6])) mask |= MenuAction.SELECT.bit();
+            masks[roleIndex.get((String) row[0])][menuIndex.get((Long) row[1])] |= (byte) mask;
+        }
+
+        Matrix loaded = new Matrix(versionSequence.incrementAndGet(),
+            Collections.unmodifiableMap(roleIndex), Collections.unmodifiableMap(menuIndex), masks);
+        log.info("메뉴 권한 행렬 적재 완료: version={}, roles={}, menus={}, rows={}",
+            loaded.version, roleIndex.size(), menuIndex.size(), rows.size());
+        return loaded;
+    }
+
+    /**
+     * 권한 행렬 스냅샷
+     */
+    private static final class Matrix {
+        private final long version;
+        private final Map<String, Integer> roleIndex;
+        private final Map<Long, Integer> menuIndex;
+        private final byte[][] masks;
+        private final Map<String, EffectivePermissions> folded = new ConcurrentHashMap<>();
+
+        private Matrix(long version, Map<String, Integer> roleIndex, Map<Long, Integer> menuIndex, byte[][] masks) {
+            this.version = version;
+            this.roleIndex = roleIndex;
+            this.menuIndex = menuIndex;
+            this.masks = masks;
+        }
+
+        EffectivePermissions fold(Collection<String> roleCodes) {
+            byte[] result = new byte[menuIndex.size()];
+            if (roleCodes != null) {
+                for (String roleCode : roleCodes) {
+                    Integer index = roleIndex.get(roleCode);
+                    if (index == null) {
+                        continue;
+                    }
+                    byte[] roleMasks = masks[index];
+                    for (int i = 0; i < result.length; i++) {
+                        result[i] |= roleMasks[i];
+                    }
+                }
+            }
+            return new EffectivePermissions(version, menuIndex, result);
+        }
+    }
+}
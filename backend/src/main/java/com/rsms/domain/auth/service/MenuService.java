@@ -15,9 +15,13 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -36,34 +40,98 @@ public class MenuService {
     private final MenuItemRepository menuItemRepository;
     private final MenuPermissionRepository menuPermissionRepository;
     private final RoleRepository roleRepository;
+    private final MenuTreeCache menuTreeCache;
+    private final MenuPermissionMatrix menuPermissionMatrix;
 
     /**
      * 메뉴 계층 구조 조회 (LeftMenu용)
      * - 활성화된 메뉴만 조회
      * - 계층 구조로 변환하여 반환
+     * - MenuTreeCache에 보관된 트리를 반환 (읽기 전용)
      *
      * @return 메뉴 계층 구조 목록
      */
-    @Transactional(readOnly = true)
     public List<MenuItemDto> getMenuHierarchy() {
-        log.debug("메뉴 계층 구조 조회 시작");
+        return getMenuHierarchyTree(null).menus();
+    }
+
+    /**
+     * 메뉴 계층 구조 조회 (캐시 + 버전 정보)
+     * - roleCodes가 null이면 전체 활성 메뉴 트리
+     * - roleCodes가 있으면 해당 역할들 중 하나라도 조회권한(can_view)이 있는 메뉴와 그 상위 메뉴만 포함
+     * - 역할 조합별로 완성된 트리를 캐시하며, 메뉴/메뉴권한 변경 시 무효화
+     * - 캐시 적중 시 DB 조회 및 트랜잭션 없음
+     *
+     * @param roleCodes 역할 코드 목록 (null이면 전체)
+     * @return 캐시된 메뉴 트리 (ETag 포함)
+     */
+    public MenuTreeCache.CachedMenuTree getMenuHierarchyTree(Collection<String> roleCodes) {
+        String roleKey = MenuTreeCache.roleKey(roleCodes);
+        return menuTreeCache.get(roleKey, () -> buildHierarchyForRoles(roleCodes));
+    }
+
+    /**
+     * 역할 조합에 대한 메뉴 계층 구조 생성 (캐시 미스 시)
+     *
+     * @param roleCodes 역할 코드 목록 (null이면 전체)
+     * @return 계층 구조화된 메뉴 목록
+     */
+    private List<MenuItemDto> buildHierarchyForRoles(Collection<String> roleCodes) {
+        log.debug("메뉴 계층 구조 생성 시작: roleCodes={}", roleCodes);
 
         // 1. 활성 메뉴 전체 조회
         List<MenuItem> allMenus = menuItemRepository.findAllActiveMenus();
         log.debug("활성 메뉴 조회 완료: {} 개", allMenus.size());
 
-        // 2. Entity -> DTO 변환
+        // 2. 역할별 조회권한 필터 (조회권한 메뉴 + 상위 메뉴)
+        if (roleCodes != null) {
+            allMenus = filterViewableMenus(allMenus, roleCodes);
+            log.debug("역할별 조회권한 필터 완료: {} 개", allMenus.size());
+        }
+
+        // 3. Entity -> DTO 변환
         List<MenuItemDto> menuDtos = allMenus.stream()
             .map(this::convertToDto)
             .collect(Collectors.toList());
 
-        // 3. 계층 구조 생성
+        // 4. 계층 구조 생성
         List<MenuItemDto> hierarchy = buildMenuHierarchy(menuDtos);
         log.debug("메뉴 계층 구조 생성 완료: 최상위 메뉴 {} 개", hierarchy.size());
 
         return hierarchy;
     }
 
+    /**
+     * 조회권한이 있는 메뉴와 그 상위 메뉴만 남김
+     *
+     * @param allMenus 활성 메뉴 전체
+     * @param roleCodes 역할 코드 목록
+     * @return 필터링된 메뉴 목록 (원래 순서 유지)
+     */
+    private List<MenuItem> filterViewableMenus(List<MenuItem> allMenus, Collection<String> roleCodes) {
+        if (roleCodes.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> visibleIds = new HashSet<>(menuPermissionRepository.findViewableMenuIdsByRoleCodes(roleCodes));
+
+        // 상위 메뉴 포함 (폴더가 보여야 하위 페이지에 접근 가능)
+        Map<Long, Long> parentMap = new HashMap<>();
+        for (MenuItem menu : allMenus) {
+            parentMap.put(menu.getMenuId(), menu.getParentId());
+        }
+        for (Long menuId : new ArrayList<>(visibleIds)) {
+            Long parentId = parentMap.get(menuId);
+            while (parentId != null && visibleIds.add(parentId)) {
+                parentId = parentMap.get(parentId);
+            }
+        }
+
+        return allMenus.stream()
+            .filter(menu -> visibleIds.contains(menu.getMenuId()))
+            .collect(Collectors.toList());
+    }
+
     /**
      * 메뉴 계층 구조 생성
      * - parentId를 기준으로 부모-자식 관계 구성
@@ -324,6 +392,8 @@ public class MenuService {
             .build();
 
         MenuItem savedMenu = menuItemRepository.save(menu);
+        menuTreeCache.invalidateAfterCommit();
+        menuPermissionMatrix.invalidateAfterCommit();
         log.info("메뉴 생성 완료: menuId={}", savedMenu.getMenuId());
 
         return convertToDto(savedMenu);
@@ -384,6 +454,8 @@ public class MenuService {
         menu.setUpdatedBy("system");
 
         MenuItem savedMenu = menuItemRepository.save(menu);
+        menuTreeCache.invalidateAfterCommit();
+        menuPermissionMatrix.invalidateAfterCommit();
         log.info("메뉴 수정 완료: menuId={}", savedMenu.getMenuId());
 
         return convertToDto(savedMenu);
@@ -415,6 +487,8 @@ public class MenuService {
         menu.setIsDeleted("Y");
         menu.setUpdatedBy("system");
         menuItemRepository.save(menu);
+        menuTreeCache.invalidateAfterCommit();
+        menuPermissionMatrix.invalidateAfterCommit();
 
         log.info("메뉴 삭제 완료: menuId={}", menuId);
     }
@@ -472,6 +546,8 @@ public class MenuService {
             .build();
 
         MenuPermission savedPermission = menuPermissionRepository.save(permission);
+        menuTreeCache.invalidateAfterCommit();
+        menuPermissionMatrix.invalidateAfterCommit();
         log.info("메뉴 권한 생성 완료: menuPermissionId={}", savedPermission.getMenuPermissionId());
 
         return convertToMenuPermissionDto(savedPermission);
@@ -502,6 +578,8 @@ public class MenuService {
         );
 
         MenuPermission savedPermission = menuPermissionRepository.save(permission);
+        menuTreeCache.invalidateAfterCommit();
+        menuPermissionMatrix.invalidateAfterCommit();
         log.info("메뉴 권한 수정 완료: menuPermissionId={}", savedPermission.getMenuPermissionId());
 
         return convertToMenuPermissionDto(savedPermission);
@@ -520,6 +598,8 @@ public class MenuService {
         if (deleted == 0) {
             throw new IllegalArgumentException("메뉴 권한을 찾을 수 없습니다: " + menuPermissionId);
         }
+        menuTreeCache.invalidateAfterCommit();
+        menuPermissionMatrix.invalidateAfterCommit();
 
         log.info("메뉴 권한 삭제 완료: menuPermissionId={}", menuPermissionId);
     }
@@ -536,6 +616,8 @@ public class MenuService {
         for (Long id : menuPermissionIds) {
             menuPermissionRepository.softDeleteById(id, "system");
         }
+        menuTreeCache.invalidateAfterCommit();
+        menuPermissionMatrix.invalidateAfterCommit();
 
         log.info("메뉴 권한 복수 삭제 완료: count={}", menuPermissionIds.size());
     }
@@ -0,0 +1,164 @@
+package com.rsms.domain.auth.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rsms.domain.auth.dto.MenuItemDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 메뉴 계층 구조 캐시
+ * - 역할 조합(role set)별로 완성된 메뉴 트리를 보관
+ * - 메뉴/메뉴권한 변경 시 커밋 후 버전을 올려 전체 무효화
+ * - 다른 노드에서 발생한 변경은 주기적 무효화로 반영 (rsms.cache.menu-tree.refresh-interval-ms)
+ * - ETag는 직렬화한 트리 내용의 해시 (MenuController 조건부 GET 304 응답용)
+ *   → 노드/재기동과 무관하게 같은 ETag는 같은 트리를 의미
+ *
+ * @author RSMS Development Team
+ * @since 1.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MenuTreeCache {
+
+    /**
+     * 전체 메뉴 트리 키 (역할 필터 없음)
+     */
+    public static final String ALL_ROLES_KEY = "*";
+
+    private final AtomicLong version = new AtomicLong(1L);
+    private final Map<String, CachedMenuTree> trees = new ConcurrentHashMap<>();
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 캐시된 메뉴 트리
+     * - menus는 읽기 전용으로 사용 (여러 요청이 같은 인스턴스를 공유)
+     */
+    public record CachedMenuTree(long version, String roleKey, String etag, List<MenuItemDto> menus) {
+    }
+
+    /**
+     * 역할 조합 키 생성
+     * - 정렬/중복제거하여 같은 역할 조합은 같은 키
+     *
+     * @param roleCodes 역할 코드 목록 (null이면 전체)
+     * @return 캐시 키
+     */
+    public static String roleKey(Collection<String> roleCodes) {
+        if (roleCodes == null) {
+            return ALL_ROLES_KEY;
+        }
+        return roleCodes.stream()
+            .filter(code -> code != null && !code.isBlank())
+            .distinct()
+            .sorted()
+            .collect(Collectors.joining(","));
+    }
+
+    /**
+     * 캐시된 트리 조회 (없거나 이전 버전이면 생성)
+     * - 생성 시작 시점의 버전으로 저장하여, 생성 중 변경이 커밋되면 다음 조회에서 다시 생성
+     *
+     * @param roleKey 역할 조합 키
+     * @param builder 트리 생성 함수
+     * @return 캐시된 트리
+     */
+    public CachedMenuTree get(String roleKey, Supplier<List<MenuItemDto>> builder) {
+        long currentVersion = version.get();
+        CachedMenuTree cached = trees.get(roleKey);
+        if (cached != null && cached.version() == currentVersion) {
+            return cached;
+        }
+
+        List<MenuItemDto> menus = List.copyOf(builder.get());
+        CachedMenuTree built = new CachedMenuTree(currentVersion, roleKey, buildEtag(menus), menus);
+        trees.put(roleKey, built);
+        log.debug("메뉴 트리 캐시 생성: roleKey={}, version={}, 최상위 메뉴 {} 개", roleKey, currentVersion, menus.size());
+        return built;
+    }
+
+    /**
+     * 현재 버전
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * 커밋 후 무효화
+     * - 트랜잭션 내부면 커밋 이후, 아니면 즉시 버전 증가
+     */
+    public void invalidateAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate();
+                }
+            });
+        } else {
+            invalidate();
+        }
+    }
+
+    /**
+     * 주기적 무효화
+     * - 다른 노드에서 발생한 메뉴/권한 변경을 반영하기 위함 (다음 조회 시 재생성)
+     * - ETag가 내용 기반이므로 트리가 바뀌지 않았으면 재생성 후에도 304 응답 유지
+     */
+    @Scheduled(fixedDelayString = "${rsms.cache.menu-tree.refresh-interval-ms:300000}",
+               initialDelayString = "${rsms.cache.menu-tree.refresh-interval-ms:300000}")
+    public void scheduledInvalidate() {
+        invalidate();
+    }
+
+    /**
+     * 즉시 무효화
+     */
+    public void invalidate() {
+        long newVersion = version.incrementAndGet();
+        trees.clear();
+        log.debug("메뉴 트리 캐시 무효화: version={}", newVersion);
+    }
+
+    /**
+     * ETag 생성 (weak)
+     * - 직렬화한 트리의 SHA-256 앞 16바이트 (프로세스 로컬 버전 미사용 → 재기동/다른 노드에서도 의미 동일)
+     */
+    private String buildEtag(List<MenuItemDto> menus) {
+        try {
+            return "W/\"menu-" + contentHash(objectMapper.writeValueAsBytes(menus)) + "\"";
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("메뉴 트리 직렬화에 실패했습니다", e);
+        }
+    }
+
+    /**
+     * 내용 해시 (SHA-256 앞 16바이트, 16진수)
+     */
+    static String contentHash(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return HexFormat.of().formatHex(Arrays.copyOf(digest, 16));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+}
@@ -7,6 +7,7 @@ import com.rsms.domain.auth.entity.RolePermission;
 import com.rsms.domain.auth.repository.RoleRepository;
 import com.rsms.domain.auth.repository.PermissionRepository;
 import com.rsms.domain.auth.repository.RolePermissionRepository;
+import com.rsms.domain.auth.security.UserDetailsCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -35,6 +36,9 @@ public class RoleService {
     private final RoleRepository roleRepository;
     private final PermissionRepository permissionRepository;
     private final RolePermissionRepository rolePermissionRepository;
+    private final MenuTreeCache menuTreeCache;
+    private final MenuPermissionMatrix menuPermissionMatrix;
+    private final UserDetailsCache userDetailsCache;
 
     // 기본 사용자 (추후 Security Context에서 가져오기)
     private static final String DEFAULT_USER = "system";
@@ -189,6 +193,9 @@ public class RoleService {
         Role savedRole = roleRepository.save(role);
         Long permissionCount = rolePermissionRepository.countByRoleId(roleId);
 
+        // 역할 상태 변경이 사용자 역할 코드에 반영되도록 인증 정보 캐시 무효화 (커밋 후)
+        userDetailsCache.invalidateAllAfterCommit();
+
         log.info("역할 수정 완료 - roleId: {}", roleId);
         return RoleDto.from(savedRole, permissionCount);
     }
@@ -219,6 +226,11 @@ public class RoleService {
         // 연관된 권한 매핑도 삭제
         rolePermissionRepository.softDeleteByRoleId(roleId, DEFAULT_USER);
 
+        // 삭제된 역할의 메뉴 권한 제외 (커밋 후 캐시 무효화)
+        menuTreeCache.invalidateAfterCommit();
+        menuPermissionMatrix.invalidateAfterCommit();
+        userDetailsCache.invalidateAllAfterCommit();
+
         log.info("역할 삭제 완료 - roleId: {}", roleId);
     }
 
@@ -9,6 +9,8 @@ import com.rsms.domain.auth.entity.UserRole;
 import com.rsms.domain.auth.repository.RoleRepository;
 import com.rsms.domain.auth.repository.UserRepository;
 import com.rsms.domain.auth.repository.UserRoleRepository;
+import com.rsms.domain.auth.security.LoginAttemptTracker;
+import com.rsms.domain.auth.security.UserDetailsCache;
 import com.rsms.domain.employee.entity.Employee;
 import com.rsms.domain.employee.repository.EmployeeRepository;
 import com.rsms.domain.organization.entity.Organization;
@@ -50,6 +52,8 @@ public class UserMgmtService {
     private final OrganizationRepository organizationRepository;
     private final PositionRepository positionRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserDetailsCache userDetailsCache;
+    private final LoginAttemptTracker loginAttemptTracker;
 
     /**
      * 전체 사용자 목록 조회
@@ -341,6 +345,10 @@ public class UserMgmtService {
         userRepository.save(user);
         log.info("사용자 수정 완료: userId={}", userId);
 
+        // 로그인 인증 정보 캐시 무효화 (비밀번호, 상태, 역할 변경 반영)
+        userDetailsCache.invalidateAfterCommit(user.getUsername());
+        loginAttemptTracker.resetAfterCommit(user.getUsername());
+
         // 역할 재할당 (요청된 경우)
         if (request.getRoleIds() != null) {
             // 기존 역할 비활성화
@@ -381,6 +389,9 @@ public class UserMgmtService {
         userRepository.save(user);
         log.info("사용자 삭제 완료: userId={}", userId);
 
+        userDetailsCache.invalidateAfterCommit(user.getUsername());
+        loginAttemptTracker.resetAfterCommit(user.getUsername());
+
         // 역할 매핑도 비활성화
         List<UserRole> userRoles = userRoleRepository.findActiveRolesByUserId(userId);
         for (UserRole ur : userRoles) {
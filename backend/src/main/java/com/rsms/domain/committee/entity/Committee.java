@@ -28,7 +28,8 @@ public class Committee {
      * 회의체ID (자동 생성)
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "committees_id_generator")
+    @SequenceGenerator(name = "committees_id_generator", sequenceName = "committees_committees_id_seq", schema = "rsms", allocationSize = 50)
     @Column(name = "committees_id")
     private Long committeesId;
 
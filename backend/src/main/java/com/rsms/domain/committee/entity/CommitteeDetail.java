@@ -31,7 +31,8 @@ public class CommitteeDetail {
      * 회의체상세ID (자동 생성)
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "committee_details_id_generator")
+    @SequenceGenerator(name = "committee_details_id_generator", sequenceName = "committee_details_committee_details_id_seq", schema = "rsms", allocationSize = 50)
     @Column(name = "committee_details_id")
     private Long committeeDetailsId;
 
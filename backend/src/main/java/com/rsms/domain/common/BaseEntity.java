@@ -23,8 +23,9 @@ import java.util.List;
 @EntityListeners(AuditingEntityListener.class)
 public abstract class BaseEntity {
 
+    // 엔티티별 시퀀스({엔티티명}_seq, allocationSize 50) 사용 - IDENTITY는 JDBC 배치 INSERT를 비활성화함
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     @Column(name = "id")
     private Long id;
 
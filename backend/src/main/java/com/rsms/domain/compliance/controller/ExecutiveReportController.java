@@ -50,4 +50,31 @@ public class ExecutiveReportController {
 
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * 임원이행점검보고서 집계 조회 (관리활동별 목록 제외)
+     * GET /api/reports/executive/summary?ledgerOrderId={ledgerOrderId}&implInspectionPlanId={planId}&orgCode={orgCode}
+     * - 집계현황/책무별/관리의무별 현황만 DB 집계로 조회 (대량 원장차수용)
+     *
+     * @param ledgerOrderId        원장차수ID (필수)
+     * @param implInspectionPlanId 이행점검계획ID (선택)
+     * @param orgCode              부서코드 (선택)
+     * @return 임원이행점검보고서 응답 DTO (activityInspections는 빈 목록)
+     */
+    @GetMapping("/summary")
+    public ResponseEntity<ExecutiveReportResponse> getExecutiveReportSummary(
+            @RequestParam String ledgerOrderId,
+            @RequestParam(required = false) String implInspectionPlanId,
+            @RequestParam(required = false) String orgCode) {
+
+        log.info("✅ [ExecutiveReportController] 임원이행점검보고서 집계 조회 - 원장차수ID: {}", ledgerOrderId);
+
+        ExecutiveReportResponse response = executiveReportService.getExecutiveReportSummary(
+                ledgerOrderId,
+                implInspectionPlanId,
+                orgCode
+        );
+
+        return ResponseEntity.ok(response);
+    }
 }
@@ -1,16 +1,27 @@
 package com.rsms.domain.compliance.controller;
 
+import com.rsms.domain.auth.security.CustomUserDetails;
 import com.rsms.domain.compliance.dto.AssignInspectorBatchRequest;
 import com.rsms.domain.compliance.dto.CreateImplInspectionPlanRequest;
 import com.rsms.domain.compliance.dto.ImplInspectionItemDto;
+import com.rsms.domain.compliance.dto.ImplInspectionItemSearchRequest;
 import com.rsms.domain.compliance.dto.ImplInspectionPlanDto;
 import com.rsms.domain.compliance.service.ImplInspectionPlanService;
+import com.rsms.global.excel.ExcelStreamWriter;
+import com.rsms.interfaces.common.PageResponse;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
@@ -29,6 +40,18 @@ public class ImplInspectionPlanController {
 
     private final ImplInspectionPlanService planService;
 
+    /**
+     * 현재 로그인한 사용자 ID(로그인 ID) 반환
+     * - 인증 정보가 없으면 "system" (배치/내부 호출)
+     */
+    private String getCurrentUserId() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return userDetails.getUsername();
+        }
+        return "system";
+    }
+
     /**
      * 이행점검계획 전체 목록 조회
      * GET /api/compliance/impl-inspection-plans
@@ -76,13 +99,30 @@ public class ImplInspectionPlanController {
         log.info("  - 점검명: {}", request.getImplInspectionName());
         log.info("  - 선택된 manualCd 수: {}", request.getManualCds().size());
 
-        // TODO: Spring Security에서 현재 사용자 ID 가져오기
-        String userId = "system";
+        String userId = getCurrentUserId();
 
         ImplInspectionPlanDto created = planService.create(request, userId);
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
 
+    /**
+     * 원장차수의 사용중인 부서장업무메뉴얼 전체로 이행점검계획 생성
+     * POST /api/compliance/impl-inspection-plans/ledger-order
+     * - manualCds는 사용하지 않음 (원장차수ID 기준으로 전체 대상)
+     */
+    @PostMapping("/ledger-order")
+    public ResponseEntity<ImplInspectionPlanDto> createForLedgerOrder(
+            @RequestBody CreateImplInspectionPlanRequest request) {
+        log.info("✅ [ImplInspectionPlanController] 원장차수 전체 이행점검계획 생성");
+        log.info("  - 원장차수ID: {}", request.getLedgerOrderId());
+        log.info("  - 점검명: {}", request.getImplInspectionName());
+
+        String userId = getCurrentUserId();
+
+        ImplInspectionPlanDto created = planService.createForLedgerOrder(request, userId);
+        return ResponseEntity.status(HttpStatus.CREATED).body(created);
+    }
+
     /**
      * 이행점검계획 수정
      * PUT /api/compliance/impl-inspection-plans/{implInspectionPlanId}
@@ -93,8 +133,7 @@ public class ImplInspectionPlanController {
             @RequestBody CreateImplInspectionPlanRequest request) {
         log.info("✅ [ImplInspectionPlanController] 이행점검계획 수정: {}", implInspectionPlanId);
 
-        // TODO: Spring Security에서 현재 사용자 ID 가져오기
-        String userId = "system";
+        String userId = getCurrentUserId();
 
         ImplInspectionPlanDto updated = planService.update(implInspectionPlanId, request, userId);
         return ResponseEntity.ok(updated);
@@ -108,8 +147,7 @@ public class ImplInspectionPlanController {
     public ResponseEntity<Void> delete(@PathVariable String implInspectionPlanId) {
         log.info("✅ [ImplInspectionPlanController] 이행점검계획 삭제: {}", implInspectionPlanId);
 
-        // TODO: Spring Security에서 현재 사용자 ID 가져오기
-        String userId = "system";
+        String userId = getCurrentUserId();
 
         planService.delete(implInspectionPlanId, userId);
         return ResponseEntity.noContent().build();
@@ -124,8 +162,7 @@ public class ImplInspectionPlanController {
         List<String> ids = request.get("ids");
         log.info("✅ [ImplInspectionPlanController] 이행점검계획 일괄 삭제: {}건", ids.size());
 
-        // TODO: Spring Security에서 현재 사용자 ID 가져오기
-        String userId = "system";
+        String userId = getCurrentUserId();
 
         planService.deleteAll(ids, userId);
         return ResponseEntity.noContent().build();
@@ -170,6 +207,63 @@ public class ImplInspectionPlanController {
         return ResponseEntity.ok(items);
     }
 
+    /**
+     * 이행점검항목 목록 페이지 조회 (점검자지정 페이지용, 서버 페이징)
+     * GET /api/compliance/impl-inspection-plans/items/page
+     * - 읽기 모델(impl_inspection_item_view) 조회, 점검자 미지정 항목 포함
+     * - 정렬 기본값: 등록일시 역순 (sort=속성,asc|desc), 마지막 정렬 키는 항상 이행점검항목ID
+     */
+    @GetMapping("/items/page")
+    public ResponseEntity<PageResponse<ImplInspectionItemDto>> findItemPage(
+            @RequestParam(required = false) String ledgerOrderId,
+            @RequestParam(required = false) String implInspectionPlanId,
+            @RequestParam(required = false) String orgCode,
+            @RequestParam(required = false) String inspectorId,
+            @RequestParam(required = false) String inspectionStatusCd,
+            @RequestParam(required = false) String improvementStatusCd,
+            @RequestParam(required = false) String keyword,
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        log.info("✅ [ImplInspectionPlanController] 이행점검항목 페이지 조회 (점검자지정용) - ledgerOrderId: {}, page: {}, size: {}",
+                ledgerOrderId, pageable.getPageNumber(), pageable.getPageSize());
+        ImplInspectionItemSearchRequest filter = ImplInspectionItemSearchRequest.builder()
+                .ledgerOrderId(ledgerOrderId)
+                .implInspectionPlanId(implInspectionPlanId)
+                .orgCode(orgCode)
+                .inspectorId(inspectorId)
+                .inspectionStatusCd(inspectionStatusCd)
+                .improvementStatusCd(improvementStatusCd)
+                .keyword(keyword)
+                .build();
+        return ResponseEntity.ok(planService.findAllItems(filter, pageable));
+    }
+
+    /**
+     * 원장차수ID별 이행점검항목 목록 페이지 조회 (점검자지정 페이지용, 서버 페이징)
+     * GET /api/compliance/impl-inspection-plans/items/ledger-order/{ledgerOrderId}/page
+     */
+    @GetMapping("/items/ledger-order/{ledgerOrderId}/page")
+    public ResponseEntity<PageResponse<ImplInspectionItemDto>> findItemPageByLedgerOrderId(
+            @PathVariable String ledgerOrderId,
+            @RequestParam(required = false) String implInspectionPlanId,
+            @RequestParam(required = false) String orgCode,
+            @RequestParam(required = false) String inspectorId,
+            @RequestParam(required = false) String inspectionStatusCd,
+            @RequestParam(required = false) String improvementStatusCd,
+            @RequestParam(required = false) String keyword,
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        log.info("✅ [ImplInspectionPlanController] 원장차수ID별 이행점검항목 페이지 조회 (점검자지정용): {}, page: {}, size: {}",
+                ledgerOrderId, pageable.getPageNumber(), pageable.getPageSize());
+        ImplInspectionItemSearchRequest filter = ImplInspectionItemSearchRequest.builder()
+                .implInspectionPlanId(implInspectionPlanId)
+                .orgCode(orgCode)
+                .inspectorId(inspectorId)
+                .inspectionStatusCd(inspectionStatusCd)
+                .improvementStatusCd(improvementStatusCd)
+                .keyword(keyword)
+                .build();
+        return ResponseEntity.ok(planService.findItemsByLedgerOrderId(ledgerOrderId, filter, pageable));
+    }
+
     /**
      * 점검자 일괄 지정
      * POST /api/compliance/impl-inspection-plans/items/assign-inspector
@@ -182,10 +276,9 @@ public class ImplInspectionPlanController {
         log.info("  - 대상 항목 수: {}", request.getItemIds().size());
         log.info("  - 점검자ID: {}", request.getInspectorId());
 
-        // TODO: Spring Security에서 현재 사용자 ID 가져오기
-        String userId = "system";
+        String userId = getCurrentUserId();
 
-        int updatedCount = planService.assignInspectorBatch(
+        List<ImplInspectionItemDto> updatedItems = planService.assignInspectorBatch(
                 request.getItemIds(),
                 request.getInspectorId(),
                 userId
@@ -193,8 +286,9 @@ public class ImplInspectionPlanController {
 
         Map<String, Object> response = Map.of(
                 "success", true,
-                "updatedCount", updatedCount,
-                "message", updatedCount + "건의 점검자가 지정되었습니다."
+                "updatedCount", updatedItems.size(),
+                "items", updatedItems,
+                "message", updatedItems.size() + "건의 점검자가 지정되었습니다."
         );
 
         return ResponseEntity.ok(response);
@@ -216,6 +310,49 @@ public class ImplInspectionPlanController {
         return ResponseEntity.ok(items);
     }
 
+    /**
+     * 이행점검항목 목록 페이지 조회 (이행점검수행 페이지용, 서버 페이징)
+     * GET /api/compliance/impl-inspection-plans/items/execution/page
+     * - 읽기 모델(impl_inspection_item_view) 조회, 점검자가 지정된 항목만
+     * - 정렬 기본값: 등록일시 역순 (sort=속성,asc|desc), 마지막 정렬 키는 항상 이행점검항목ID
+     */
+    @GetMapping("/items/execution/page")
+    public ResponseEntity<PageResponse<ImplInspectionItemDto>> findItemPageForExecution(
+            @RequestParam(required = false) String ledgerOrderId,
+            @RequestParam(required = false) String implInspectionPlanId,
+            @RequestParam(required = false) String orgCode,
+            @RequestParam(required = false) String inspectorId,
+            @RequestParam(required = false) String inspectionStatusCd,
+            @RequestParam(required = false) String improvementStatusCd,
+            @RequestParam(required = false) String keyword,
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        log.info("✅ [ImplInspectionPlanController] 이행점검항목 페이지 조회 (이행점검수행용) - ledgerOrderId: {}, page: {}, size: {}",
+                ledgerOrderId, pageable.getPageNumber(), pageable.getPageSize());
+        ImplInspectionItemSearchRequest filter = ImplInspectionItemSearchRequest.builder()
+                .ledgerOrderId(ledgerOrderId)
+                .implInspectionPlanId(implInspectionPlanId)
+                .orgCode(orgCode)
+                .inspectorId(inspectorId)
+                .inspectionStatusCd(inspectionStatusCd)
+                .improvementStatusCd(improvementStatusCd)
+                .keyword(keyword)
+                .assignedOnly(true)
+                .build();
+        return ResponseEntity.ok(planService.searchItems(filter, pageable));
+    }
+
+    /**
+     * 전체 이행점검항목 엑셀 내보내기 (이행점검수행 페이지용)
+     * GET /api/compliance/impl-inspection-plans/items/execution/all/excel
+     * - 서버에서 스트리밍으로 .xlsx 생성
+     */
+    @GetMapping("/items/execution/all/excel")
+    public void exportAllItemsForExecution(HttpServletResponse response) throws IOException {
+        log.info("✅ [ImplInspectionPlanController] 전체 이행점검항목 엑셀 내보내기 (이행점검수행용)");
+        ExcelStreamWriter.prepareDownload(response, "이행점검항목");
+        planService.exportAllItemsWithFullHierarchy(response.getOutputStream());
+    }
+
     /**
      * 원장차수ID별 이행점검항목 목록 조회 (이행점검수행 페이지용)
      * GET /api/compliance/impl-inspection-plans/items/execution/ledger-order/{ledgerOrderId}
@@ -289,8 +426,7 @@ public class ImplInspectionPlanController {
         log.info("  - 점검결과상태코드: {}", request.inspectionStatusCd());
         log.info("  - 수행자ID (개선담당자용): {}", request.executorId());
 
-        // TODO: Spring Security에서 현재 사용자 ID 가져오기
-        String userId = "system";
+        String userId = getCurrentUserId();
 
         ImplInspectionItemDto updated = planService.updateInspectionResult(
                 itemId,
@@ -317,8 +453,7 @@ public class ImplInspectionPlanController {
         log.info("  - 개선이행상태코드: {}", request.improvementStatusCd());
         log.info("  - 개선담당자ID: {}", request.improvementManagerId());
 
-        // TODO: Spring Security에서 현재 사용자 ID 가져오기
-        String userId = "system";
+        String userId = getCurrentUserId();
 
         ImplInspectionItemDto updated = planService.updateImprovement(
                 itemId,
@@ -1,6 +1,7 @@
 package com.rsms.domain.compliance.dto;
 
 import com.rsms.domain.compliance.entity.ImplInspectionItem;
+import com.rsms.domain.compliance.entity.ImplInspectionItemView;
 import lombok.*;
 
 import java.time.LocalDate;
@@ -249,4 +250,71 @@ public class ImplInspectionItemDto {
 
         return dto;
     }
+
+    /**
+     * 읽기 모델(impl_inspection_item_view) → DTO 변환
+     * - 응답 구조는 from(ImplInspectionItem)과 동일 (중첩 부서장업무메뉴얼/이행점검계획 정보 포함)
+     * - 직원명/수행상태명/수행결과명은 호출 측에서 설정
+     */
+    public static ImplInspectionItemDto from(ImplInspectionItemView view) {
+        return ImplInspectionItemDto.builder()
+                .implInspectionItemId(view.getImplInspectionItemId())
+                .implInspectionPlanId(view.getImplInspectionPlanId())
+                .manualCd(view.getManualCd())
+                .deptManagerManual(DeptManagerManualInfo.builder()
+                        .manualCd(view.getManualCd())
+                        .respItem(view.getRespItem())
+                        .activityName(view.getActivityName())
+                        .orgCode(view.getOrgCode())
+                        .orgName(view.getOrgName())
+                        .obligationCd(view.getObligationCd())
+                        .obligationInfo(view.getObligationInfo())
+                        .execCheckFrequencyCd(view.getExecCheckFrequencyCd())
+                        .execCheckMethod(view.getExecCheckMethod())
+                        .executorId(view.getExecutorId())
+                        .executionDate(view.getExecutionDate() != null ? view.getExecutionDate().toString() : null)
+                        .executionStatus(view.getExecutionStatus())
+                        .executionResultCd(view.getExecutionResultCd())
+                        .executionResultContent(view.getExecutionResultContent())
+                        .responsibilityDetailCd(view.getResponsibilityDetailCd())
+                        .responsibilityDetailInfo(view.getResponsibilityDetailInfo())
+                        .responsibilityCd(view.getResponsibilityCd())
+                        .responsibilityInfo(view.getResponsibilityInfo())
+                        .build())
+                .implInspectionPlan(ImplInspectionPlanInfo.builder()
+                        .implInspectionPlanId(view.getImplInspectionPlanId())
+                        .ledgerOrderId(view.getLedgerOrderId())
+                        .implInspectionName(view.getImplInspectionName())
+                        .inspectionTypeCd(view.getInspectionTypeCd())
+                        .implInspectionStartDate(view.getImplInspectionStartDate() != null
+                                ? view.getImplInspectionStartDate().toString() : null)
+                        .implInspectionEndDate(view.getImplInspectionEndDate() != null
+                                ? view.getImplInspectionEndDate().toString() : null)
+                        .build())
+                .inspectorId(view.getInspectorId())
+                .inspectionStatusCd(view.getInspectionStatusCd())
+                .inspectionStatusName(view.getInspectionStatusName())
+                .inspectionResultContent(view.getInspectionResultContent())
+                .inspectionDate(view.getInspectionDate())
+                .improvementStatusCd(view.getImprovementStatusCd())
+                .improvementStatusName(view.getImprovementStatusName())
+                .improvementManagerId(view.getImprovementManagerId())
+                .improvementPlanContent(view.getImprovementPlanContent())
+                .improvementPlanDate(view.getImprovementPlanDate())
+                .improvementPlanApprovedBy(view.getImprovementPlanApprovedBy())
+                .improvementPlanApprovedDate(view.getImprovementPlanApprovedDate())
+                .improvementDetailContent(view.getImprovementDetailContent())
+                .improvementCompletedDate(view.getImprovementCompletedDate())
+                .finalInspectionResultCd(view.getFinalInspectionResultCd())
+                .finalInspectionResultContent(view.getFinalInspectionResultContent())
+                .finalInspectionDate(view.getFinalInspectionDate())
+                .rejectionCount(view.getRejectionCount())
+                .isFinalCompleted(view.isFinalCompleted())
+                .isActive(view.getIsActive())
+                .createdAt(view.getCreatedAt())
+                .createdBy(view.getCreatedBy())
+                .updatedAt(view.getUpdatedAt())
+                .updatedBy(view.getUpdatedBy())
+                .build();
+    }
 }
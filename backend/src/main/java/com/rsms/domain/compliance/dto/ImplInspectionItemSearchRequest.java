@@ -0,0 +1,66 @@
+package com.rsms.domain.compliance.dto;
+
+import lombok.*;
+
+/**
+ * 이행점검항목 목록 검색 조건 DTO
+ * - 점검자지정 / 이행점검수행 목록 서버 페이징 조회용
+ * - 값이 비어 있으면 해당 조건 미적용
+ *
+ * @author Claude AI
+ * @since 2025-12-05
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImplInspectionItemSearchRequest {
+
+    /**
+     * 원장차수ID
+     */
+    private String ledgerOrderId;
+
+    /**
+     * 이행점검계획ID
+     */
+    private String implInspectionPlanId;
+
+    /**
+     * 조직코드 (부서장업무메뉴얼 부서)
+     */
+    private String orgCode;
+
+    /**
+     * 점검자ID
+     */
+    private String inspectorId;
+
+    /**
+     * 점검결과상태코드 (01:미점검, 02:적정, 03:부적정)
+     */
+    private String inspectionStatusCd;
+
+    /**
+     * 개선이행상태코드
+     */
+    private String improvementStatusCd;
+
+    /**
+     * 검색 키워드 (관리활동명, 책무관리항목, 관리의무내용, 부서명)
+     */
+    private String keyword;
+
+    /**
+     * 점검자 지정된 항목만 조회 (이행점검수행 페이지)
+     */
+    private boolean assignedOnly;
+
+    /**
+     * 빈 문자열 → null (조건 미적용)
+     */
+    public static String emptyToNull(String value) {
+        return value != null && !value.isBlank() ? value.trim() : null;
+    }
+}
@@ -352,20 +352,45 @@ public class ImplInspectionItem {
      * - 부적정 후 최종승인이면 완료
      */
     public boolean isFinalCompleted() {
-        if ("02".equals(this.inspectionStatusCd)) {
+        return isFinalCompleted(this.inspectionStatusCd, this.finalInspectionResultCd);
+    }
+
+    /**
+     * 점검상태명 반환
+     */
+    public String getInspectionStatusName() {
+        return inspectionStatusNameOf(this.inspectionStatusCd);
+    }
+
+    /**
+     * 개선이행상태명 반환
+     */
+    public String getImprovementStatusName() {
+        return improvementStatusNameOf(this.improvementStatusCd);
+    }
+
+    /**
+     * 최종 완료 여부 (점검결과상태코드 + 최종점검결과코드 기준)
+     * - ImplInspectionItemView(읽기 모델)와 공용
+     */
+    public static boolean isFinalCompleted(String inspectionStatusCd, String finalInspectionResultCd) {
+        if ("02".equals(inspectionStatusCd)) {
             return true; // 적정
         }
-        if ("03".equals(this.inspectionStatusCd) && "01".equals(this.finalInspectionResultCd)) {
+        if ("03".equals(inspectionStatusCd) && "01".equals(finalInspectionResultCd)) {
             return true; // 부적정 → 개선 → 승인
         }
         return false;
     }
 
     /**
-     * 점검상태명 반환
+     * 점검상태코드 → 점검상태명
      */
-    public String getInspectionStatusName() {
-        switch (this.inspectionStatusCd) {
+    public static String inspectionStatusNameOf(String inspectionStatusCd) {
+        if (inspectionStatusCd == null) {
+            return "";
+        }
+        switch (inspectionStatusCd) {
             case "01": return "미점검";
             case "02": return "적정";
             case "03": return "부적정";
@@ -374,10 +399,13 @@ public class ImplInspectionItem {
     }
 
     /**
-     * 개선이행상태명 반환
+     * 개선이행상태코드 → 개선이행상태명
      */
-    public String getImprovementStatusName() {
-        switch (this.improvementStatusCd) {
+    public static String improvementStatusNameOf(String improvementStatusCd) {
+        if (improvementStatusCd == null) {
+            return "";
+        }
+        switch (improvementStatusCd) {
             case "01": return "개선미이행";
             case "02": return "개선계획";
             case "03": return "개선완료";
@@ -0,0 +1,339 @@
+package com.rsms.domain.compliance.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 이행점검항목 목록 읽기 모델 엔티티
+ * - 점검항목 + 이행점검계획 + 부서장업무메뉴얼 + 조직 + 관리의무 + 책무세부 + 책무를 평탄화한 한 행
+ * - impl_inspection_item_view 테이블 매핑
+ * - 값은 원본 테이블 트리거(rsms.refresh_impl_inspection_item_view)로만 갱신 (엔티티로 수정하지 않음)
+ *
+ * @author Claude AI
+ * @since 2025-12-05
+ */
+@Entity
+@Immutable
+@Table(name = "impl_inspection_item_view", schema = "rsms")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ImplInspectionItemView {
+
+    /**
+     * 이행점검항목ID (PK, FK → impl_inspection_items)
+     */
+    @Id
+    @Column(name = "impl_inspection_item_id")
+    private String implInspectionItemId;
+
+    /**
+     * 이행점검계획ID
+     */
+    @Column(name = "impl_inspection_plan_id")
+    private String implInspectionPlanId;
+
+    /**
+     * 부서장업무메뉴얼CD
+     */
+    @Column(name = "manual_cd")
+    private String manualCd;
+
+    // 이행점검계획
+
+    /**
+     * 원장차수ID
+     */
+    @Column(name = "ledger_order_id")
+    private String ledgerOrderId;
+
+    /**
+     * 이행점검명
+     */
+    @Column(name = "impl_inspection_name")
+    private String implInspectionName;
+
+    /**
+     * 점검유형코드
+     */
+    @Column(name = "inspection_type_cd")
+    private String inspectionTypeCd;
+
+    /**
+     * 점검시작일
+     */
+    @Column(name = "impl_inspection_start_date")
+    private LocalDate implInspectionStartDate;
+
+    /**
+     * 점검종료일
+     */
+    @Column(name = "impl_inspection_end_date")
+    private LocalDate implInspectionEndDate;
+
+    // 부서장업무메뉴얼 / 조직
+
+    /**
+     * 책무관리항목
+     */
+    @Column(name = "resp_item")
+    private String respItem;
+
+    /**
+     * 관리활동명
+     */
+    @Column(name = "activity_name")
+    private String activityName;
+
+    /**
+     * 조직코드
+     */
+    @Column(name = "org_code")
+    private String orgCode;
+
+    /**
+     * 조직명 (조직 없으면 조직코드)
+     */
+    @Column(name = "org_name")
+    private String orgName;
+
+    /**
+     * 수행점검주기
+     */
+    @Column(name = "exec_check_frequency_cd")
+    private String execCheckFrequencyCd;
+
+    /**
+     * 수행점검항목
+     */
+    @Column(name = "exec_check_method")
+    private String execCheckMethod;
+
+    /**
+     * 수행자ID
+     */
+    @Column(name = "executor_id")
+    private String executorId;
+
+    /**
+     * 수행일자
+     */
+    @Column(name = "execution_date")
+    private LocalDate executionDate;
+
+    /**
+     * 수행상태코드
+     */
+    @Column(name = "execution_status")
+    private String executionStatus;
+
+    /**
+     * 수행결과코드
+     */
+    @Column(name = "execution_result_cd")
+    private String executionResultCd;
+
+    /**
+     * 수행결과내용
+     */
+    @Column(name = "execution_result_content", columnDefinition = "TEXT")
+    private String executionResultContent;
+
+    // 관리의무 / 책무세부 / 책무
+
+    /**
+     * 관리의무코드
+     */
+    @Column(name = "obligation_cd")
+    private String obligationCd;
+
+    /**
+     * 관리의무내용
+     */
+    @Column(name = "obligation_info")
+    private String obligationInfo;
+
+    /**
+     * 책무세부코드
+     */
+    @Column(name = "responsibility_detail_cd")
+    private String responsibilityDetailCd;
+
+    /**
+     * 책무세부내용
+     */
+    @Column(name = "responsibility_detail_info")
+    private String responsibilityDetailInfo;
+
+    /**
+     * 책무코드
+     */
+    @Column(name = "responsibility_cd")
+    private String responsibilityCd;
+
+    /**
+     * 책무내용
+     */
+    @Column(name = "responsibility_info")
+    private String responsibilityInfo;
+
+    // 점검 / 개선이행 / 최종점검
+
+    /**
+     * 점검자ID
+     */
+    @Column(name = "inspector_id")
+    private String inspectorId;
+
+    /**
+     * 점검결과상태코드
+     */
+    @Column(name = "inspection_status_cd")
+    private String inspectionStatusCd;
+
+    /**
+     * 점검결과내용
+     */
+    @Column(name = "inspection_result_content", columnDefinition = "TEXT")
+    private String inspectionResultContent;
+
+    /**
+     * 점검일자
+     */
+    @Column(name = "inspection_date")
+    private LocalDate inspectionDate;
+
+    /**
+     * 개선이행상태코드
+     */
+    @Column(name = "improvement_status_cd")
+    private String improvementStatusCd;
+
+    /**
+     * 개선담당자ID
+     */
+    @Column(name = "improvement_manager_id")
+    private String improvementManagerId;
+
+    /**
+     * 개선계획내용
+     */
+    @Column(name = "improvement_plan_content", columnDefinition = "TEXT")
+    private String improvementPlanContent;
+
+    /**
+     * 개선계획수립일자
+     */
+    @Column(name = "improvement_plan_date")
+    private LocalDate improvementPlanDate;
+
+    /**
+     * 개선계획 승인자ID
+     */
+    @Column(name = "improvement_plan_approved_by")
+    private String improvementPlanApprovedBy;
+
+    /**
+     * 개선계획 승인일자
+     */
+    @Column(name = "improvement_plan_approved_date")
+    private LocalDate improvementPlanApprovedDate;
+
+    /**
+     * 개선이행세부내용
+     */
+    @Column(name = "improvement_detail_content", columnDefinition = "TEXT")
+    private String improvementDetailContent;
+
+    /**
+     * 개선이행완료일자
+     */
+    @Column(name = "improvement_completed_date")
+    private LocalDate improvementCompletedDate;
+
+    /**
+     * 최종점검결과코드
+     */
+    @Column(name = "final_inspection_result_cd")
+    private String finalInspectionResultCd;
+
+    /**
+     * 최종점검결과내용
+     */
+    @Column(name = "final_inspection_result_content", columnDefinition = "TEXT")
+    private String finalInspectionResultContent;
+
+    /**
+     * 최종점검일자
+     */
+    @Column(name = "final_inspection_date")
+    private LocalDate finalInspectionDate;
+
+    /**
+     * 반려 횟수
+     */
+    @Column(name = "rejection_count")
+    private Integer rejectionCount;
+
+    /**
+     * 사용여부
+     */
+    @Column(name = "is_active")
+    private String isActive;
+
+    // 감사 정보 (점검항목)
+
+    /**
+     * 등록일시
+     */
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    /**
+     * 등록자
+     */
+    @Column(name = "created_by")
+    private String createdBy;
+
+    /**
+     * 수정일시
+     */
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    /**
+     * 수정자
+     */
+    @Column(name = "updated_by")
+    private String updatedBy;
+
+    /**
+     * 읽기 모델 마지막 갱신일시
+     */
+    @Column(name = "refreshed_at")
+    private LocalDateTime refreshedAt;
+
+    /**
+     * 점검상태명 반환
+     */
+    public String getInspectionStatusName() {
+        return ImplInspectionItem.inspectionStatusNameOf(this.inspectionStatusCd);
+    }
+
+    /**
+     * 개선이행상태명 반환
+     */
+    public String getImprovementStatusName() {
+        return ImplInspectionItem.improvementStatusNameOf(this.improvementStatusCd);
+    }
+
+    /**
+     * 최종 완료 여부
+     */
+    public boolean isFinalCompleted() {
+        return ImplInspectionItem.isFinalCompleted(this.inspectionStatusCd, this.finalInspectionResultCd);
+    }
+}
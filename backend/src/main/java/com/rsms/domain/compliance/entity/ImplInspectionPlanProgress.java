@@ -0,0 +1,55 @@
+package com.rsms.domain.compliance.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이행점검계획 진행 현황 엔티티 (읽기 모델)
+ * - 이행점검계획별 활성 점검항목 상태 건수
+ * - impl_inspection_plan_progress 테이블 매핑
+ * - 값은 ImplInspectionPlanProgressRepository.refresh로만 갱신 (엔티티로 수정하지 않음)
+ *
+ * @author Claude AI
+ * @since 2025-12-05
+ */
+@Entity
+@Immutable
+@Table(name = "impl_inspection_plan_progress", schema = "rsms")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ImplInspectionPlanProgress {
+
+    /**
+     * 이행점검계획ID (PK, FK → impl_inspection_plans)
+     */
+    @Id
+    @Column(name = "impl_inspection_plan_id", length = 13, nullable = false)
+    private String implInspectionPlanId;
+
+    /**
+     * 전체 점검항목 수 (활성)
+     */
+    @Column(name = "total_item_count", nullable = false)
+    private Long totalItemCount;
+
+    /**
+     * 적정(02) 점검항목 수
+     */
+    @Column(name = "completed_item_count", nullable = false)
+    private Long completedItemCount;
+
+    /**
+     * 부적정(03) 점검항목 수
+     */
+    @Column(name = "in_progress_item_count", nullable = false)
+    private Long inProgressItemCount;
+
+    /**
+     * 마지막 재집계일시
+     */
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
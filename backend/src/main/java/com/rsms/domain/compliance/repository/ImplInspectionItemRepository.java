@@ -1,13 +1,20 @@
 package com.rsms.domain.compliance.repository;
 
 import com.rsms.domain.compliance.entity.ImplInspectionItem;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 이행점검항목 Repository
@@ -17,7 +24,8 @@ import java.util.Optional;
  * @since 2025-11-27
  */
 @Repository
-public interface ImplInspectionItemRepository extends JpaRepository<ImplInspectionItem, String> {
+public interface ImplInspectionItemRepository extends JpaRepository<ImplInspectionItem, String>,
+        ImplInspectionItemRepositoryCustom {
 
     /**
      * 이행점검계획ID로 점검항목 목록 조회
@@ -77,6 +85,54 @@ public interface ImplInspectionItemRepository extends JpaRepository<ImplInspecti
            nativeQuery = true)
     String generateImplInspectionItemId(@Param("implInspectionPlanId") String implInspectionPlanId);
 
+    /**
+     * 점검항목 일괄 생성 INSERT ... SELECT 공통부
+     * - 이행점검항목ID: 계획ID + "I" + (계획의 현재 최대 순번 + 행 번호) → 문장 1회로 순번 범위 할당
+     * - 개선담당자: 부서장업무메뉴얼의 수행자ID(executor_id)
+     */
+    String INSERT_ITEMS_FROM_MANUALS =
+            "INSERT INTO rsms.impl_inspection_items (" +
+            "  impl_inspection_item_id, impl_inspection_plan_id, manual_cd, " +
+            "  inspection_status_cd, improvement_status_cd, improvement_manager_id, " +
+            "  is_active, created_at, created_by, updated_at, updated_by) " +
+            "SELECT :implInspectionPlanId || 'I' || " +
+            "       LPAD((base.max_seq + ROW_NUMBER() OVER (ORDER BY m.manual_cd))::TEXT, 6, '0'), " +
+            "       :implInspectionPlanId, m.manual_cd, " +
+            "       '01', '01', m.executor_id, " +
+            "       'Y', CURRENT_TIMESTAMP, :userId, CURRENT_TIMESTAMP, :userId " +
+            "FROM rsms.dept_manager_manuals m " +
+            "CROSS JOIN (" +
+            "  SELECT COALESCE(MAX(SUBSTRING(impl_inspection_item_id, 15, 6)::INTEGER), 0) AS max_seq " +
+            "  FROM rsms.impl_inspection_items " +
+            "  WHERE SUBSTRING(impl_inspection_item_id, 1, 13) = :implInspectionPlanId" +
+            ") base ";
+
+    /**
+     * 선택된 부서장업무메뉴얼로 점검항목 일괄 생성 (INSERT ... SELECT 1회)
+     *
+     * @return 생성된 항목 수
+     */
+    @Modifying
+    @Query(value = INSERT_ITEMS_FROM_MANUALS +
+                   "WHERE m.manual_cd IN (:manualCds)",
+           nativeQuery = true)
+    int insertItemsFromManuals(@Param("implInspectionPlanId") String implInspectionPlanId,
+                               @Param("manualCds") Collection<String> manualCds,
+                               @Param("userId") String userId);
+
+    /**
+     * 원장차수의 사용중인 부서장업무메뉴얼 전체로 점검항목 일괄 생성 (INSERT ... SELECT 1회)
+     *
+     * @return 생성된 항목 수
+     */
+    @Modifying
+    @Query(value = INSERT_ITEMS_FROM_MANUALS +
+                   "WHERE m.ledger_order_id = :ledgerOrderId AND m.is_active = 'Y'",
+           nativeQuery = true)
+    int insertItemsFromLedgerOrderManuals(@Param("implInspectionPlanId") String implInspectionPlanId,
+                                          @Param("ledgerOrderId") String ledgerOrderId,
+                                          @Param("userId") String userId);
+
     /**
      * 이행점검계획ID로 점검항목 수 조회
      */
@@ -88,11 +144,54 @@ public interface ImplInspectionItemRepository extends JpaRepository<ImplInspecti
     long countByImplInspectionPlanIdAndInspectionStatusCdAndIsActive(
             String implInspectionPlanId, String inspectionStatusCd, String isActive);
 
+    /**
+     * 여러 이행점검계획의 점검항목 상태별 건수 조회 (GROUP BY 1회)
+     * - 반환 컬럼: [0] impl_inspection_plan_id, [1] 전체 건수, [2] 적정(02) 건수, [3] 부적정(03) 건수
+     * - 점검항목이 없는 계획은 결과에 포함되지 않음
+     */
+    @Query(value = "SELECT impl_inspection_plan_id, " +
+                   "       COUNT(*), " +
+                   "       COUNT(*) FILTER (WHERE inspection_status_cd = '02'), " +
+                   "       COUNT(*) FILTER (WHERE inspection_status_cd = '03') " +
+                   "FROM rsms.impl_inspection_items " +
+                   "WHERE impl_inspection_plan_id IN (:planIds) AND is_active = 'Y' " +
+                   "GROUP BY impl_inspection_plan_id",
+           nativeQuery = true)
+    List<Object[]> countStatusByPlanIds(@Param("planIds") Collection<String> planIds);
+
     /**
      * 이행점검계획ID로 점검항목 일괄 삭제 (비활성화)
      */
+    @Modifying
     @Query("UPDATE ImplInspectionItem i SET i.isActive = 'N' WHERE i.implInspectionPlanId = :implInspectionPlanId")
-    void deactivateByImplInspectionPlanId(@Param("implInspectionPlanId") String implInspectionPlanId);
+    int deactivateByImplInspectionPlanId(@Param("implInspectionPlanId") String implInspectionPlanId);
+
+    /**
+     * 점검자 일괄 지정 (UPDATE 1회)
+     * - 엔티티 콜백(@PreUpdate)을 거치지 않으므로 수정일시를 파라미터로 전달
+     *
+     * @return 수정된 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ImplInspectionItem i " +
+           "SET i.inspectorId = :inspectorId, i.updatedBy = :updatedBy, i.updatedAt = :updatedAt " +
+           "WHERE i.implInspectionItemId IN :itemIds")
+    int updateInspectorByItemIds(@Param("itemIds") Collection<String> itemIds,
+                                 @Param("inspectorId") String inspectorId,
+                                 @Param("updatedBy") String updatedBy,
+                                 @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * 점검항목ID 목록으로 조회 (부서장업무메뉴얼, 조직, 이행점검계획 정보 포함)
+     * - 일괄 수정 후 변경된 행 재조회용 (쿼리 1회)
+     */
+    @Query("SELECT i FROM ImplInspectionItem i " +
+           "LEFT JOIN FETCH i.deptManagerManual m " +
+           "LEFT JOIN FETCH m.organization " +
+           "LEFT JOIN FETCH i.implInspectionPlan p " +
+           "WHERE i.implInspectionItemId IN :itemIds " +
+           "ORDER BY i.createdAt DESC")
+    List<ImplInspectionItem> findByItemIdsWithManualAndPlan(@Param("itemIds") Collection<String> itemIds);
 
     /**
      * 전체 점검항목 조회 (부서장업무메뉴얼, 조직, 이행점검계획 정보 포함)
@@ -139,6 +238,24 @@ public interface ImplInspectionItemRepository extends JpaRepository<ImplInspecti
            "ORDER BY i.createdAt DESC")
     List<ImplInspectionItem> findAllWithFullHierarchy(@Param("isActive") String isActive);
 
+    /**
+     * 전체 점검항목 조회 - 스트리밍 (엑셀 내보내기용)
+     * - 조건은 findAllWithFullHierarchy와 동일 (to-one JOIN FETCH만 사용하므로 DISTINCT 불필요)
+     * - 트랜잭션 안에서 사용하고 반드시 Stream을 닫아야 함
+     */
+    @Query("SELECT i FROM ImplInspectionItem i " +
+           "LEFT JOIN FETCH i.deptManagerManual m " +
+           "LEFT JOIN FETCH m.organization " +
+           "LEFT JOIN FETCH m.managementObligation o " +
+           "LEFT JOIN FETCH o.responsibilityDetail rd " +
+           "LEFT JOIN FETCH rd.responsibility r " +
+           "LEFT JOIN FETCH i.implInspectionPlan p " +
+           "WHERE i.isActive = :isActive " +
+           "AND i.inspectorId IS NOT NULL " +
+           "ORDER BY i.createdAt DESC")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<ImplInspectionItem> streamAllWithFullHierarchy(@Param("isActive") String isActive);
+
     /**
      * 원장차수ID로 점검항목 조회 (책무/책무상세/관리의무 정보 포함)
      * - 이행점검수행 페이지용
@@ -0,0 +1,24 @@
+package com.rsms.domain.compliance.repository;
+
+import java.util.List;
+
+/**
+ * 이행점검항목 Repository 확장 (동적 조건 집계)
+ *
+ * @author Claude AI
+ * @since 2025-12-05
+ */
+public interface ImplInspectionItemRepositoryCustom {
+
+    /**
+     * 임원이행점검보고서 집계 (DB 집계)
+     * - 엔티티 그래프를 적재하지 않고 GROUP BY ROLLUP(책무, 관리의무) 으로 집계 행만 반환
+     * - 이행점검계획ID가 있으면 계획 기준, 없으면 원장차수 기준 / 부서코드는 선택 (null이면 조건 미적용)
+     * - 반환 컬럼:
+     *   [0] grp_level (0: 관리의무별, 1: 책무별, 3: 전체 합계)
+     *   [1] responsibility_cd, [2] responsibility_info, [3] obligation_cd, [4] obligation_info
+     *   [5] 관리활동 수, [6] 관리의무 수(DISTINCT), [7] 책무 수(DISTINCT)
+     *   [8] 적정 건수, [9] 부적정 건수, [10] 개선완료 건수, [11] 개선진행중 건수
+     */
+    List<Object[]> aggregateExecutiveReport(String ledgerOrderId, String implInspectionPlanId, String orgCode);
+}
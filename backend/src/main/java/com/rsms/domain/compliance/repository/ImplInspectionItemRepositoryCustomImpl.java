@@ -0,0 +1,82 @@
+package com.rsms.domain.compliance.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이행점검항목 Repository 확장 구현
+ * - 값이 있는 조건만 WHERE에 추가한 네이티브 SQL로 집계
+ *   (CASE WHEN :x IS NULL ... / ":x IS NULL OR col = :x" 형태는 일반 실행계획에서
+ *    계획ID·원장차수·부서코드 인덱스를 쓰지 못함)
+ *
+ * @author Claude AI
+ * @since 2025-12-05
+ */
+@RequiredArgsConstructor
+public class ImplInspectionItemRepositoryCustomImpl implements ImplInspectionItemRepositoryCustom {
+
+    private static final String BASE_SQL = """
+        WITH base AS (
+            SELECT i.inspection_status_cd, i.improvement_status_cd,
+                   r.responsibility_cd, r.responsibility_info,
+                   mo.obligation_cd, mo.obligation_info
+            FROM rsms.impl_inspection_items i
+            JOIN rsms.impl_inspection_plans p ON p.impl_inspection_plan_id = i.impl_inspection_plan_id
+            LEFT JOIN rsms.dept_manager_manuals m ON m.manual_cd = i.manual_cd
+            LEFT JOIN rsms.management_obligations mo ON mo.obligation_cd = m.obligation_cd
+            LEFT JOIN rsms.responsibility_details rd ON rd.responsibility_detail_cd = mo.responsibility_detail_cd
+            LEFT JOIN rsms.responsibilities r ON r.responsibility_cd = rd.responsibility_cd
+            WHERE i.is_active = 'Y'
+        """;
+
+    private static final String AGGREGATE_SQL = """
+        )
+        SELECT GROUPING(responsibility_cd, obligation_cd) AS grp_level,
+               responsibility_cd,
+               MAX(responsibility_info) AS responsibility_info,
+               obligation_cd,
+               MAX(obligation_info) AS obligation_info,
+               COUNT(*) AS total_activities,
+               COUNT(DISTINCT obligation_cd) AS total_obligations,
+               COUNT(DISTINCT responsibility_cd) AS total_responsibilities,
+               COUNT(*) FILTER (WHERE inspection_status_cd = '02') AS appropriate_count,
+               COUNT(*) FILTER (WHERE inspection_status_cd = '03') AS inappropriate_count,
+               COUNT(*) FILTER (WHERE inspection_status_cd = '03' AND improvement_status_cd = '06') AS improvement_completed,
+               COUNT(*) FILTER (WHERE inspection_status_cd = '03' AND improvement_status_cd IS NOT NULL
+                                  AND improvement_status_cd NOT IN ('01', '06')) AS improvement_in_progress
+        FROM base
+        GROUP BY ROLLUP (responsibility_cd, obligation_cd)
+        ORDER BY grp_level DESC, responsibility_cd, obligation_cd
+        """;
+
+    private final EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Object[]> aggregateExecutiveReport(String ledgerOrderId, String implInspectionPlanId, String orgCode) {
+        StringBuilder sql = new StringBuilder(BASE_SQL);
+        Map<String, Object> params = new LinkedHashMap<>();
+
+        if (implInspectionPlanId != null) {
+            sql.append("      AND i.impl_inspection_plan_id = :implInspectionPlanId\n");
+            params.put("implInspectionPlanId", implInspectionPlanId);
+        } else {
+            sql.append("      AND p.ledger_order_id = :ledgerOrderId\n");
+            params.put("ledgerOrderId", ledgerOrderId);
+        }
+        if (orgCode != null) {
+            sql.append("      AND m.org_code = :orgCode\n");
+            params.put("orgCode", orgCode);
+        }
+        sql.append(AGGREGATE_SQL);
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        params.forEach(query::setParameter);
+        return query.getResultList();
+    }
+}
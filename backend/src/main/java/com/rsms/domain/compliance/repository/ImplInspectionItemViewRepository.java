@@ -0,0 +1,80 @@
+package com.rsms.domain.compliance.repository;
+
+import com.rsms.domain.compliance.entity.ImplInspectionItemView;
+import com.rsms.global.jpa.PageableSupport;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 이행점검항목 목록 읽기 모델 Repository
+ * - impl_inspection_item_view 단일 테이블 조회 (JOIN 없음)
+ * - 활성 항목 부분 인덱스(원장차수 / 이행점검계획 / 조직 / 점검자) 사용
+ * - 검색 조건은 값이 있는 조건만 WHERE에 추가 (":x IS NULL OR" 형태는 일반 실행계획에서 인덱스를 쓰지 못함)
+ *
+ * @author Claude AI
+ * @since 2025-12-05
+ */
+@Repository
+public interface ImplInspectionItemViewRepository extends JpaRepository<ImplInspectionItemView, String>,
+        JpaSpecificationExecutor<ImplInspectionItemView> {
+
+    /**
+     * 이행점검항목 목록 검색 (페이징/정렬)
+     * - 조건 파라미터가 null이면 해당 조건 미적용
+     * - 정렬 마지막에 이행점검항목ID를 추가하여 페이지 간 중복/누락 방지
+     */
+    default Page<ImplInspectionItemView> search(
+            String ledgerOrderId,
+            String implInspectionPlanId,
+            String orgCode,
+            String inspectorId,
+            boolean assignedOnly,
+            String inspectionStatusCd,
+            String improvementStatusCd,
+            String keyword,
+            Pageable pageable) {
+        Specification<ImplInspectionItemView> condition = (v, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.equal(v.get("isActive"), "Y"));
+            if (ledgerOrderId != null) {
+                predicates.add(cb.equal(v.get("ledgerOrderId"), ledgerOrderId));
+            }
+            if (implInspectionPlanId != null) {
+                predicates.add(cb.equal(v.get("implInspectionPlanId"), implInspectionPlanId));
+            }
+            if (orgCode != null) {
+                predicates.add(cb.equal(v.get("orgCode"), orgCode));
+            }
+            if (inspectorId != null) {
+                predicates.add(cb.equal(v.get("inspectorId"), inspectorId));
+            }
+            if (assignedOnly) {
+                predicates.add(cb.isNotNull(v.get("inspectorId")));
+            }
+            if (inspectionStatusCd != null) {
+                predicates.add(cb.equal(v.get("inspectionStatusCd"), inspectionStatusCd));
+            }
+            if (improvementStatusCd != null) {
+                predicates.add(cb.equal(v.get("improvementStatusCd"), improvementStatusCd));
+            }
+            if (keyword != null) {
+                String pattern = "%" + keyword + "%";
+                predicates.add(cb.or(
+                        cb.like(v.get("activityName"), pattern),
+                        cb.like(v.get("respItem"), pattern),
+                        cb.like(v.get("obligationInfo"), pattern),
+                        cb.like(v.get("orgName"), pattern)));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+        return findAll(condition, PageableSupport.withTieBreaker(pageable, "implInspectionItemId"));
+    }
+}
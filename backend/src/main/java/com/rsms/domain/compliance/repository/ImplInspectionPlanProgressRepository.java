@@ -0,0 +1,71 @@
+package com.rsms.domain.compliance.repository;
+
+import com.rsms.domain.compliance.entity.ImplInspectionPlanProgress;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 이행점검계획 진행 현황 Repository
+ * - impl_inspection_plan_progress 테이블 데이터 액세스
+ *
+ * @author Claude AI
+ * @since 2025-12-05
+ */
+@Repository
+public interface ImplInspectionPlanProgressRepository extends JpaRepository<ImplInspectionPlanProgress, String> {
+
+    /**
+     * 계획별 진행 현황 재집계 (계획 행 잠금 후 UPSERT 1회)
+     * - 활성 점검항목 기준으로 전체/적정(02)/부적정(03) 건수를 다시 계산하여 저장
+     * - 점검항목 변경과 같은 트랜잭션에서 호출 (flush 이후 상태 기준으로 집계)
+     * - 같은 계획을 동시에 재집계하면 나중 트랜잭션은 앞 트랜잭션 커밋까지 대기한 뒤 새 스냅샷으로 집계
+     *   (READ COMMITTED에서 잠금 없이 집계하면 앞 트랜잭션의 변경이 빠진 건수로 덮어씀)
+     *
+     * @return 갱신된 계획 수
+     */
+    default int refresh(Collection<String> planIds) {
+        lockPlans(planIds);
+        return recount(planIds);
+    }
+
+    /**
+     * 재집계 대상 계획 행 잠금 (계획ID 순서, 트랜잭션 종료까지 유지)
+     * - FOR NO KEY UPDATE: 점검항목 INSERT의 외래키 확인(FOR KEY SHARE)과는 충돌하지 않음
+     */
+    @Query(value = "SELECT impl_inspection_plan_id FROM rsms.impl_inspection_plans " +
+                   "WHERE impl_inspection_plan_id IN (:planIds) " +
+                   "ORDER BY impl_inspection_plan_id " +
+                   "FOR NO KEY UPDATE",
+           nativeQuery = true)
+    List<String> lockPlans(@Param("planIds") Collection<String> planIds);
+
+    /**
+     * 계획별 진행 현황 집계 UPSERT (refresh에서 잠금 후 호출)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO rsms.impl_inspection_plan_progress (" +
+                   "  impl_inspection_plan_id, total_item_count, completed_item_count, in_progress_item_count, updated_at) " +
+                   "SELECT p.impl_inspection_plan_id, " +
+                   "       COUNT(i.impl_inspection_item_id), " +
+                   "       COUNT(i.impl_inspection_item_id) FILTER (WHERE i.inspection_status_cd = '02'), " +
+                   "       COUNT(i.impl_inspection_item_id) FILTER (WHERE i.inspection_status_cd = '03'), " +
+                   "       CURRENT_TIMESTAMP " +
+                   "FROM rsms.impl_inspection_plans p " +
+                   "LEFT JOIN rsms.impl_inspection_items i " +
+                   "       ON i.impl_inspection_plan_id = p.impl_inspection_plan_id AND i.is_active = 'Y' " +
+                   "WHERE p.impl_inspection_plan_id IN (:planIds) " +
+                   "GROUP BY p.impl_inspection_plan_id " +
+                   "ON CONFLICT (impl_inspection_plan_id) DO UPDATE " +
+                   "SET total_item_count = EXCLUDED.total_item_count, " +
+                   "    completed_item_count = EXCLUDED.completed_item_count, " +
+                   "    in_progress_item_count = EXCLUDED.in_progress_item_count, " +
+                   "    updated_at = EXCLUDED.updated_at",
+           nativeQuery = true)
+    int recount(@Param("planIds") Collection<String> planIds);
+}
@@ -52,23 +52,95 @@ public class ExecutiveReportService {
         List<ImplInspectionItem> items = findItems(ledgerOrderId, implInspectionPlanId, orgCode);
         log.info("  - 조회된 항목 수: {}", items.size());
 
-        // 2. 집계 현황 생성
-        SummaryStats summary = buildSummaryStats(items);
+        // 2. 단일 패스 집계 (집계현황/책무별/관리의무별/관리활동별 동시 생성)
+        ReportAggregator aggregator = new ReportAggregator(items.size());
+        for (ImplInspectionItem item : items) {
+            aggregator.accept(ReportRow.of(item));
+        }
 
-        // 3. 책무별 점검 현황 생성
-        List<ResponsibilityInspection> responsibilityInspections = buildResponsibilityInspections(items);
+        return aggregator.toResponse();
+    }
 
-        // 4. 관리의무별 점검 현황 생성
-        List<ObligationInspection> obligationInspections = buildObligationInspections(items);
+    /**
+     * 임원이행점검보고서 집계 조회 (관리활동별 목록 제외)
+     * - 집계현황/책무별/관리의무별 현황을 DB에서 GROUP BY ROLLUP 으로 집계
+     * - 점검항목 엔티티 그래프를 적재하지 않으므로 항목 수와 무관하게 집계 행만 전송됨
+     *
+     * @param ledgerOrderId       원장차수ID (필수)
+     * @param implInspectionPlanId 이행점검계획ID (선택)
+     * @param orgCode             부서코드 (선택)
+     * @return 임원이행점검보고서 응답 DTO (activityInspections는 빈 목록)
+     */
+    public ExecutiveReportResponse getExecutiveReportSummary(
+            String ledgerOrderId,
+            String implInspectionPlanId,
+            String orgCode) {
+
+        log.info("✅ [ExecutiveReportService] 임원이행점검보고서 집계 조회 - 원장차수ID: {}, 이행점검계획ID: {}, 부서코드: {}",
+                ledgerOrderId, implInspectionPlanId, orgCode);
+
+        List<Object[]> rows = itemRepository.aggregateExecutiveReport(
+                ledgerOrderId,
+                (implInspectionPlanId != null && !implInspectionPlanId.isEmpty()) ? implInspectionPlanId : null,
+                (orgCode != null && !orgCode.isEmpty()) ? orgCode : null);
+
+        SummaryStats summary = SummaryStats.builder().build();
+        List<ResponsibilityInspection> responsibilityInspections = new ArrayList<>();
+        List<ObligationInspection> obligationInspections = new ArrayList<>();
+
+        for (Object[] row : rows) {
+            int level = toInt(row[0]);
+            String respCd = (String) row[1];
+            String respInfo = row[2] != null ? (String) row[2] : "";
+            String oblCd = (String) row[3];
+            String oblInfo = row[4] != null ? (String) row[4] : "";
+            int total = toInt(row[5]);
+            int appropriate = toInt(row[8]);
+            int inappropriate = toInt(row[9]);
+
+            if (level == GROUPING_TOTAL) {
+                summary = SummaryStats.builder()
+                        .totalResponsibilities(toInt(row[7]))
+                        .totalObligations(toInt(row[6]))
+                        .totalActivities(total)
+                        .appropriateCount(appropriate)
+                        .inappropriateCount(inappropriate)
+                        .improvementCompletedCount(toInt(row[10]))
+                        .improvementInProgressCount(toInt(row[11]))
+                        .build();
+            } else if (level == GROUPING_RESPONSIBILITY) {
+                if (respCd != null) {
+                    responsibilityInspections.add(ResponsibilityInspection.builder()
+                            .responsibilityCd(respCd)
+                            .responsibilityInfo(respInfo)
+                            .inspectionResult(judgeInspectionResult(total, appropriate, inappropriate))
+                            .totalObligations(toInt(row[6]))
+                            .totalActivities(total)
+                            .appropriateCount(appropriate)
+                            .inappropriateCount(inappropriate)
+                            .build());
+                }
+            } else if (oblCd != null) {
+                obligationInspections.add(ObligationInspection.builder()
+                        .obligationCd(oblCd)
+                        .obligationInfo(oblInfo)
+                        .responsibilityCd(respCd)
+                        .responsibilityInfo(respInfo)
+                        .inspectionResult(judgeInspectionResult(total, appropriate, inappropriate))
+                        .totalActivities(total)
+                        .appropriateCount(appropriate)
+                        .inappropriateCount(inappropriate)
+                        .build());
+            }
+        }
 
-        // 5. 관리활동별 점검 현황 생성
-        List<ActivityInspection> activityInspections = buildActivityInspections(items);
+        log.info("  - 집계 행 수: {}, 총 관리활동 수: {}", rows.size(), summary.getTotalActivities());
 
         return ExecutiveReportResponse.builder()
                 .summary(summary)
                 .responsibilityInspections(responsibilityInspections)
                 .obligationInspections(obligationInspections)
-                .activityInspections(activityInspections)
+                .activityInspections(List.of())
                 .build();
     }
 
@@ -97,274 +169,260 @@ public class ExecutiveReportService {
         return items;
     }
 
+    // ========================================
+    // 단일 패스 집계
+    // ========================================
+
     /**
-     * 집계 현황 생성
+     * 점검항목 1건을 평탄화한 행
+     * - DeptManagerManual → ManagementObligation → ResponsibilityDetail → Responsibility 탐색을 항목당 1회만 수행
+     * - 점검결과는 int 코드로 보관하여 집계 시 문자열 비교 제거
      */
-    private SummaryStats buildSummaryStats(List<ImplInspectionItem> items) {
-        // 책무 집계 (중복 제거)
-        Set<String> responsibilities = new HashSet<>();
-        Set<String> obligations = new HashSet<>();
-        int appropriateCount = 0;
-        int inappropriateCount = 0;
-        int improvementCompleted = 0;
-        int improvementInProgress = 0;
+    private static final class ReportRow {
+        private final ImplInspectionItem item;
+        private final String responsibilityCd;
+        private final String responsibilityInfo;
+        private final String obligationCd;
+        private final String obligationInfo;
+        private final String activityName;
+        private final String respItem;
+        private final String orgCode;
+        private final String orgName;
+        private final int inspectionResult;
+        private final int improvementResult;
+
+        private ReportRow(ImplInspectionItem item, DeptManagerManual manual,
+                          ManagementObligation obligation, Responsibility responsibility) {
+            this.item = item;
+            this.responsibilityCd = responsibility != null ? responsibility.getResponsibilityCd() : null;
+            this.responsibilityInfo = responsibility != null ? responsibility.getResponsibilityInfo() : "";
+            this.obligationCd = obligation != null ? obligation.getObligationCd() : null;
+            this.obligationInfo = obligation != null ? obligation.getObligationInfo() : "";
+            this.activityName = manual != null ? manual.getActivityName() : "";
+            this.respItem = manual != null ? manual.getRespItem() : "";
+            this.orgCode = manual != null ? manual.getOrgCode() : "";
+            this.orgName = (manual != null && manual.getOrganization() != null)
+                    ? manual.getOrganization().getOrgName() : this.orgCode;
+            this.inspectionResult = toInspectionResult(item.getInspectionStatusCd());
+            this.improvementResult = toImprovementResult(item.getImprovementStatusCd());
+        }
 
-        for (ImplInspectionItem item : items) {
+        static ReportRow of(ImplInspectionItem item) {
             DeptManagerManual manual = item.getDeptManagerManual();
-            if (manual != null && manual.getManagementObligation() != null) {
-                ManagementObligation obligation = manual.getManagementObligation();
-                obligations.add(obligation.getObligationCd());
-
-                if (obligation.getResponsibilityDetail() != null &&
-                        obligation.getResponsibilityDetail().getResponsibility() != null) {
-                    responsibilities.add(obligation.getResponsibilityDetail().getResponsibility().getResponsibilityCd());
-                }
-            }
-
-            // 점검결과 집계
-            String statusCd = item.getInspectionStatusCd();
-            if ("02".equals(statusCd)) {
-                appropriateCount++;
-            } else if ("03".equals(statusCd)) {
-                inappropriateCount++;
-
-                // 부적정인 경우 개선이행상태 집계
-                String improvementStatusCd = item.getImprovementStatusCd();
-                if ("06".equals(improvementStatusCd)) {
-                    improvementCompleted++;
-                } else if (improvementStatusCd != null && !"01".equals(improvementStatusCd)) {
-                    improvementInProgress++;
-                }
-            }
+            ManagementObligation obligation = manual != null ? manual.getManagementObligation() : null;
+            ResponsibilityDetail detail = obligation != null ? obligation.getResponsibilityDetail() : null;
+            Responsibility responsibility = detail != null ? detail.getResponsibility() : null;
+            return new ReportRow(item, manual, obligation, responsibility);
         }
+    }
 
-        return SummaryStats.builder()
-                .totalResponsibilities(responsibilities.size())
-                .totalObligations(obligations.size())
-                .totalActivities(items.size())
-                .appropriateCount(appropriateCount)
-                .inappropriateCount(inappropriateCount)
-                .improvementCompletedCount(improvementCompleted)
-                .improvementInProgressCount(improvementInProgress)
-                .build();
+    /** 점검결과: 적정(02) */
+    private static final int RESULT_APPROPRIATE = 1;
+    /** 점검결과: 부적정(03) */
+    private static final int RESULT_INAPPROPRIATE = 2;
+    /** 점검결과: 그 외 */
+    private static final int RESULT_OTHER = 0;
+
+    /** 개선이행: 완료(06) */
+    private static final int IMPROVEMENT_COMPLETED = 1;
+    /** 개선이행: 진행중(01, null 제외) */
+    private static final int IMPROVEMENT_IN_PROGRESS = 2;
+    /** 개선이행: 미이행(01) 또는 없음 */
+    private static final int IMPROVEMENT_NONE = 0;
+
+    private static int toInspectionResult(String statusCd) {
+        if ("02".equals(statusCd)) return RESULT_APPROPRIATE;
+        if ("03".equals(statusCd)) return RESULT_INAPPROPRIATE;
+        return RESULT_OTHER;
+    }
+
+    private static int toImprovementResult(String statusCd) {
+        if ("06".equals(statusCd)) return IMPROVEMENT_COMPLETED;
+        if (statusCd != null && !"01".equals(statusCd)) return IMPROVEMENT_IN_PROGRESS;
+        return IMPROVEMENT_NONE;
     }
 
     /**
-     * 책무별 점검 현황 생성
+     * 그룹별 누적 카운터 (책무별/관리의무별 공용)
+     * - 표시 정보는 그룹의 첫 항목 기준
      */
-    private List<ResponsibilityInspection> buildResponsibilityInspections(List<ImplInspectionItem> items) {
-        // 책무별 그룹핑
-        Map<String, List<ImplInspectionItem>> groupByResponsibility = new LinkedHashMap<>();
+    private static final class GroupCounter {
+        private final ReportRow first;
+        private final Set<String> obligations = new HashSet<>();
+        private int total;
+        private int appropriate;
+        private int inappropriate;
+
+        GroupCounter(ReportRow first) {
+            this.first = first;
+        }
 
-        for (ImplInspectionItem item : items) {
-            String respCd = getResponsibilityCd(item);
-            if (respCd != null) {
-                groupByResponsibility.computeIfAbsent(respCd, k -> new ArrayList<>()).add(item);
+        void add(ReportRow row) {
+            total++;
+            if (row.inspectionResult == RESULT_APPROPRIATE) {
+                appropriate++;
+            } else if (row.inspectionResult == RESULT_INAPPROPRIATE) {
+                inappropriate++;
             }
         }
 
-        List<ResponsibilityInspection> result = new ArrayList<>();
-        for (Map.Entry<String, List<ImplInspectionItem>> entry : groupByResponsibility.entrySet()) {
-            String respCd = entry.getKey();
-            List<ImplInspectionItem> groupItems = entry.getValue();
+        String verdict() {
+            return judgeInspectionResult(total, appropriate, inappropriate);
+        }
+    }
 
-            // 책무명 가져오기
-            String respInfo = getResponsibilityInfo(groupItems.get(0));
+    /**
+     * 보고서 4개 영역을 한 번의 순회로 생성하는 집계기
+     */
+    private static final class ReportAggregator {
+        private final Set<String> responsibilities = new HashSet<>();
+        private final Set<String> obligations = new HashSet<>();
+        private final Map<String, GroupCounter> byResponsibility = new LinkedHashMap<>();
+        private final Map<String, GroupCounter> byObligation = new LinkedHashMap<>();
+        private final List<ActivityInspection> activities;
+        private int appropriateCount;
+        private int inappropriateCount;
+        private int improvementCompleted;
+        private int improvementInProgress;
+
+        ReportAggregator(int expectedSize) {
+            this.activities = new ArrayList<>(expectedSize);
+        }
 
-            // 관리의무 중복 제거
-            Set<String> obligations = new HashSet<>();
-            int appropriate = 0;
-            int inappropriate = 0;
+        void accept(ReportRow row) {
+            // 집계 현황
+            if (row.obligationCd != null) {
+                obligations.add(row.obligationCd);
+            }
+            if (row.responsibilityCd != null) {
+                responsibilities.add(row.responsibilityCd);
+            }
+            if (row.inspectionResult == RESULT_APPROPRIATE) {
+                appropriateCount++;
+            } else if (row.inspectionResult == RESULT_INAPPROPRIATE) {
+                inappropriateCount++;
 
-            for (ImplInspectionItem item : groupItems) {
-                String oblCd = getObligationCd(item);
-                if (oblCd != null) {
-                    obligations.add(oblCd);
+                // 부적정인 경우 개선이행상태 집계
+                if (row.improvementResult == IMPROVEMENT_COMPLETED) {
+                    improvementCompleted++;
+                } else if (row.improvementResult == IMPROVEMENT_IN_PROGRESS) {
+                    improvementInProgress++;
                 }
+            }
 
-                if ("02".equals(item.getInspectionStatusCd())) {
-                    appropriate++;
-                } else if ("03".equals(item.getInspectionStatusCd())) {
-                    inappropriate++;
+            // 책무별
+            if (row.responsibilityCd != null) {
+                GroupCounter counter = byResponsibility.computeIfAbsent(row.responsibilityCd, k -> new GroupCounter(row));
+                counter.add(row);
+                if (row.obligationCd != null) {
+                    counter.obligations.add(row.obligationCd);
                 }
             }
 
-            // 점검결과 판정: 부적정이 하나라도 있으면 "부적정", 전부 적정이면 "적정", 그 외 "점검"
-            String inspectionResult;
-            if (inappropriate > 0) {
-                inspectionResult = "부적정";
-            } else if (appropriate == groupItems.size() && appropriate > 0) {
-                inspectionResult = "적정";
-            } else {
-                inspectionResult = "점검";
+            // 관리의무별
+            if (row.obligationCd != null) {
+                byObligation.computeIfAbsent(row.obligationCd, k -> new GroupCounter(row)).add(row);
             }
 
-            result.add(ResponsibilityInspection.builder()
-                    .responsibilityCd(respCd)
-                    .responsibilityInfo(respInfo)
-                    .inspectionResult(inspectionResult)
-                    .totalObligations(obligations.size())
-                    .totalActivities(groupItems.size())
-                    .appropriateCount(appropriate)
-                    .inappropriateCount(inappropriate)
-                    .build());
-        }
-
-        return result;
-    }
-
-    /**
-     * 관리의무별 점검 현황 생성
-     */
-    private List<ObligationInspection> buildObligationInspections(List<ImplInspectionItem> items) {
-        // 관리의무별 그룹핑
-        Map<String, List<ImplInspectionItem>> groupByObligation = new LinkedHashMap<>();
-
-        for (ImplInspectionItem item : items) {
-            String oblCd = getObligationCd(item);
-            if (oblCd != null) {
-                groupByObligation.computeIfAbsent(oblCd, k -> new ArrayList<>()).add(item);
-            }
+            // 관리활동별
+            activities.add(toActivity(row));
         }
 
-        List<ObligationInspection> result = new ArrayList<>();
-        for (Map.Entry<String, List<ImplInspectionItem>> entry : groupByObligation.entrySet()) {
-            String oblCd = entry.getKey();
-            List<ImplInspectionItem> groupItems = entry.getValue();
-
-            // 관리의무 정보 가져오기
-            String oblInfo = getObligationInfo(groupItems.get(0));
-            String respCd = getResponsibilityCd(groupItems.get(0));
-            String respInfo = getResponsibilityInfo(groupItems.get(0));
-
-            int appropriate = 0;
-            int inappropriate = 0;
-
-            for (ImplInspectionItem item : groupItems) {
-                if ("02".equals(item.getInspectionStatusCd())) {
-                    appropriate++;
-                } else if ("03".equals(item.getInspectionStatusCd())) {
-                    inappropriate++;
-                }
+        ExecutiveReportResponse toResponse() {
+            SummaryStats summary = SummaryStats.builder()
+                    .totalResponsibilities(responsibilities.size())
+                    .totalObligations(obligations.size())
+                    .totalActivities(activities.size())
+                    .appropriateCount(appropriateCount)
+                    .inappropriateCount(inappropriateCount)
+                    .improvementCompletedCount(improvementCompleted)
+                    .improvementInProgressCount(improvementInProgress)
+                    .build();
+
+            List<ResponsibilityInspection> responsibilityInspections = new ArrayList<>(byResponsibility.size());
+            for (Map.Entry<String, GroupCounter> entry : byResponsibility.entrySet()) {
+                GroupCounter counter = entry.getValue();
+                responsibilityInspections.add(ResponsibilityInspection.builder()
+                        .responsibilityCd(entry.getKey())
+                        .responsibilityInfo(counter.first.responsibilityInfo)
+                        .inspectionResult(counter.verdict())
+                        .totalObligations(counter.obligations.size())
+                        .totalActivities(counter.total)
+                        .appropriateCount(counter.appropriate)
+                        .inappropriateCount(counter.inappropriate)
+                        .build());
             }
 
-            // 점검결과 판정
-            String inspectionResult;
-            if (inappropriate > 0) {
-                inspectionResult = "부적정";
-            } else if (appropriate == groupItems.size() && appropriate > 0) {
-                inspectionResult = "적정";
-            } else {
-                inspectionResult = "점검";
+            List<ObligationInspection> obligationInspections = new ArrayList<>(byObligation.size());
+            for (Map.Entry<String, GroupCounter> entry : byObligation.entrySet()) {
+                GroupCounter counter = entry.getValue();
+                obligationInspections.add(ObligationInspection.builder()
+                        .obligationCd(entry.getKey())
+                        .obligationInfo(counter.first.obligationInfo)
+                        .responsibilityCd(counter.first.responsibilityCd)
+                        .responsibilityInfo(counter.first.responsibilityInfo)
+                        .inspectionResult(counter.verdict())
+                        .totalActivities(counter.total)
+                        .appropriateCount(counter.appropriate)
+                        .inappropriateCount(counter.inappropriate)
+                        .build());
             }
 
-            result.add(ObligationInspection.builder()
-                    .obligationCd(oblCd)
-                    .obligationInfo(oblInfo)
-                    .responsibilityCd(respCd)
-                    .responsibilityInfo(respInfo)
-                    .inspectionResult(inspectionResult)
-                    .totalActivities(groupItems.size())
-                    .appropriateCount(appropriate)
-                    .inappropriateCount(inappropriate)
-                    .build());
+            return ExecutiveReportResponse.builder()
+                    .summary(summary)
+                    .responsibilityInspections(responsibilityInspections)
+                    .obligationInspections(obligationInspections)
+                    .activityInspections(activities)
+                    .build();
         }
 
-        return result;
-    }
-
-    /**
-     * 관리활동별 점검 현황 생성
-     */
-    private List<ActivityInspection> buildActivityInspections(List<ImplInspectionItem> items) {
-        return items.stream()
-                .map(item -> {
-                    DeptManagerManual manual = item.getDeptManagerManual();
-                    String activityName = manual != null ? manual.getActivityName() : "";
-                    String respItem = manual != null ? manual.getRespItem() : "";
-                    String oblCd = getObligationCd(item);
-                    String oblInfo = getObligationInfo(item);
-                    String respCd = getResponsibilityCd(item);
-                    String respInfo = getResponsibilityInfo(item);
-                    String orgCode = manual != null ? manual.getOrgCode() : "";
-                    String orgName = (manual != null && manual.getOrganization() != null)
-                            ? manual.getOrganization().getOrgName() : orgCode;
-
-                    // 점검결과상태명
-                    String inspectionStatusName = getInspectionStatusName(item.getInspectionStatusCd());
-
-                    // 개선이행상태명
-                    String improvementStatusName = getImprovementStatusName(item.getImprovementStatusCd());
-
-                    return ActivityInspection.builder()
-                            .implInspectionItemId(item.getImplInspectionItemId())
-                            .manualCd(item.getManualCd())
-                            .activityName(activityName)
-                            .respItem(respItem)
-                            .obligationCd(oblCd)
-                            .obligationInfo(oblInfo)
-                            .responsibilityCd(respCd)
-                            .responsibilityInfo(respInfo)
-                            .inspectionStatusCd(item.getInspectionStatusCd())
-                            .inspectionStatusName(inspectionStatusName)
-                            .improvementStatusCd(item.getImprovementStatusCd())
-                            .improvementStatusName(improvementStatusName)
-                            .orgCode(orgCode)
-                            .orgName(orgName)
-                            .build();
-                })
-                .collect(Collectors.toList());
+        private ActivityInspection toActivity(ReportRow row) {
+            ImplInspectionItem item = row.item;
+            return ActivityInspection.builder()
+                    .implInspectionItemId(item.getImplInspectionItemId())
+                    .manualCd(item.getManualCd())
+                    .activityName(row.activityName)
+                    .respItem(row.respItem)
+                    .obligationCd(row.obligationCd)
+                    .obligationInfo(row.obligationInfo)
+                    .responsibilityCd(row.responsibilityCd)
+                    .responsibilityInfo(row.responsibilityInfo)
+                    .inspectionStatusCd(item.getInspectionStatusCd())
+                    .inspectionStatusName(getInspectionStatusName(item.getInspectionStatusCd()))
+                    .improvementStatusCd(item.getImprovementStatusCd())
+                    .improvementStatusName(getImprovementStatusName(item.getImprovementStatusCd()))
+                    .orgCode(row.orgCode)
+                    .orgName(row.orgName)
+                    .build();
+        }
     }
 
     // ========================================
     // 헬퍼 메서드들
     // ========================================
 
-    private String getResponsibilityCd(ImplInspectionItem item) {
-        try {
-            return item.getDeptManagerManual()
-                    .getManagementObligation()
-                    .getResponsibilityDetail()
-                    .getResponsibility()
-                    .getResponsibilityCd();
-        } catch (NullPointerException e) {
-            return null;
-        }
-    }
-
-    private String getResponsibilityInfo(ImplInspectionItem item) {
-        try {
-            return item.getDeptManagerManual()
-                    .getManagementObligation()
-                    .getResponsibilityDetail()
-                    .getResponsibility()
-                    .getResponsibilityInfo();
-        } catch (NullPointerException e) {
-            return "";
-        }
-    }
+    /** GROUPING(책무, 관리의무) - 책무별 소계 행 */
+    private static final int GROUPING_RESPONSIBILITY = 1;
+    /** GROUPING(책무, 관리의무) - 전체 합계 행 */
+    private static final int GROUPING_TOTAL = 3;
 
-    private String getObligationCd(ImplInspectionItem item) {
-        try {
-            return item.getDeptManagerManual()
-                    .getManagementObligation()
-                    .getObligationCd();
-        } catch (NullPointerException e) {
-            return null;
+    /**
+     * 점검결과 판정: 부적정이 하나라도 있으면 "부적정", 전부 적정이면 "적정", 그 외 "점검"
+     */
+    private static String judgeInspectionResult(int total, int appropriate, int inappropriate) {
+        if (inappropriate > 0) {
+            return "부적정";
+        } else if (appropriate == total && appropriate > 0) {
+            return "적정";
         }
+        return "점검";
     }
 
-    private String getObligationInfo(ImplInspectionItem item) {
-        try {
-            return item.getDeptManagerManual()
-                    .getManagementObligation()
-                    .getObligationInfo();
-        } catch (NullPointerException e) {
-            return "";
-        }
+    private static int toInt(Object value) {
+        return value != null ? ((Number) value).intValue() : 0;
     }
 
-    private String getInspectionStatusName(String statusCd) {
+    private static String getInspectionStatusName(String statusCd) {
         if (statusCd == null) return "";
         switch (statusCd) {
             case "01": return "미점검";
@@ -374,7 +432,7 @@ public class ExecutiveReportService {
         }
     }
 
-    private String getImprovementStatusName(String statusCd) {
+    private static String getImprovementStatusName(String statusCd) {
         if (statusCd == null) return "";
         switch (statusCd) {
             case "01": return "개선미이행";
@@ -2,25 +2,44 @@ package com.rsms.domain.compliance.service;
 
 import com.rsms.domain.compliance.dto.CreateImplInspectionPlanRequest;
 import com.rsms.domain.compliance.dto.ImplInspectionItemDto;
+import com.rsms.domain.compliance.dto.ImplInspectionItemSearchRequest;
 import com.rsms.domain.compliance.dto.ImplInspectionPlanDto;
 import com.rsms.domain.compliance.entity.ImplInspectionItem;
+import com.rsms.domain.compliance.entity.ImplInspectionItemView;
 import com.rsms.domain.compliance.entity.ImplInspectionPlan;
+import com.rsms.domain.compliance.entity.ImplInspectionPlanProgress;
 import com.rsms.domain.compliance.repository.ImplInspectionItemRepository;
+import com.rsms.domain.compliance.repository.ImplInspectionItemViewRepository;
+import com.rsms.domain.compliance.repository.ImplInspectionPlanProgressRepository;
 import com.rsms.domain.compliance.repository.ImplInspectionPlanRepository;
 import com.rsms.domain.employee.entity.Employee;
 import com.rsms.domain.employee.repository.EmployeeRepository;
 import com.rsms.domain.responsibility.entity.DeptManagerManual;
-import com.rsms.domain.responsibility.repository.DeptManagerManualRepository;
-import com.rsms.domain.system.code.entity.CommonCodeDetail;
-import com.rsms.domain.system.code.repository.CommonCodeDetailRepository;
+import com.rsms.domain.system.code.service.CommonCodeRegistry;
+import com.rsms.global.excel.ExcelColumn;
+import com.rsms.global.excel.ExcelStreamWriter;
+import com.rsms.interfaces.common.PageResponse;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * 이행점검계획 서비스
@@ -35,21 +54,52 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class ImplInspectionPlanService {
 
+    /**
+     * 엑셀 내보내기 시 Transient 필드 조회/영속성 컨텍스트 정리 단위
+     */
+    private static final int EXPORT_CHUNK_SIZE = 500;
+
+    /**
+     * 일괄 UPDATE / 재조회 시 IN 절 최대 건수
+     */
+    private static final int BULK_CHUNK_SIZE = 1000;
+
+    /**
+     * 이행점검항목(이행점검수행) 엑셀 컬럼
+     */
+    private static final List<ExcelColumn<ImplInspectionItemDto>> EXECUTION_ITEM_EXCEL_COLUMNS = List.of(
+        ExcelColumn.of("이행점검항목ID", ImplInspectionItemDto::getImplInspectionItemId, 22),
+        ExcelColumn.of("이행점검명", plan(ImplInspectionItemDto.ImplInspectionPlanInfo::getImplInspectionName), 30),
+        ExcelColumn.of("책무코드", manual(ImplInspectionItemDto.DeptManagerManualInfo::getResponsibilityCd), 16),
+        ExcelColumn.of("책무", manual(ImplInspectionItemDto.DeptManagerManualInfo::getResponsibilityInfo), 40),
+        ExcelColumn.of("책무상세", manual(ImplInspectionItemDto.DeptManagerManualInfo::getResponsibilityDetailInfo), 40),
+        ExcelColumn.of("관리의무", manual(ImplInspectionItemDto.DeptManagerManualInfo::getObligationInfo), 40),
+        ExcelColumn.of("관리활동명", manual(ImplInspectionItemDto.DeptManagerManualInfo::getActivityName), 30),
+        ExcelColumn.of("부서명", manual(ImplInspectionItemDto.DeptManagerManualInfo::getOrgName), 16),
+        ExcelColumn.of("수행자", manual(ImplInspectionItemDto.DeptManagerManualInfo::getExecutorName), 12),
+        ExcelColumn.of("수행상태", manual(ImplInspectionItemDto.DeptManagerManualInfo::getExecutionStatusName), 12),
+        ExcelColumn.of("점검자", ImplInspectionItemDto::getInspectorName, 12),
+        ExcelColumn.of("점검결과", ImplInspectionItemDto::getInspectionStatusName, 10),
+        ExcelColumn.of("점검결과내용", ImplInspectionItemDto::getInspectionResultContent, 40),
+        ExcelColumn.of("점검일자", ImplInspectionItemDto::getInspectionDate, 12),
+        ExcelColumn.of("개선이행상태", ImplInspectionItemDto::getImprovementStatusName, 12),
+        ExcelColumn.of("개선담당자", ImplInspectionItemDto::getImprovementManagerName, 12)
+    );
+
     private final ImplInspectionPlanRepository planRepository;
     private final ImplInspectionItemRepository itemRepository;
-    private final DeptManagerManualRepository manualRepository;
+    private final ImplInspectionItemViewRepository itemViewRepository;
+    private final ImplInspectionPlanProgressRepository progressRepository;
     private final EmployeeRepository employeeRepository;
-    private final CommonCodeDetailRepository codeDetailRepository;
+    private final CommonCodeRegistry commonCodeRegistry;
+    private final EntityManager entityManager;
 
     /**
      * 이행점검계획 전체 목록 조회
      */
     public List<ImplInspectionPlanDto> findAll() {
         log.info("✅ [ImplInspectionPlanService] 전체 이행점검계획 조회");
-        return planRepository.findByIsActiveOrderByCreatedAtDesc("Y")
-                .stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
+        return toDtos(planRepository.findByIsActiveOrderByCreatedAtDesc("Y"));
     }
 
     /**
@@ -57,10 +107,7 @@ public class ImplInspectionPlanService {
      */
     public List<ImplInspectionPlanDto> findByLedgerOrderId(String ledgerOrderId) {
         log.info("✅ [ImplInspectionPlanService] 원장차수ID별 이행점검계획 조회: {}", ledgerOrderId);
-        return planRepository.findByLedgerOrderIdAndIsActiveOrderByCreatedAtDesc(ledgerOrderId, "Y")
-                .stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
+        return toDtos(planRepository.findByLedgerOrderIdAndIsActiveOrderByCreatedAtDesc(ledgerOrderId, "Y"));
     }
 
     /**
@@ -76,7 +123,7 @@ public class ImplInspectionPlanService {
     /**
      * 이행점검계획 생성 (점검항목 일괄 생성 포함)
      * 1. impl_inspection_plans 테이블에 계획 저장
-     * 2. impl_inspection_items 테이블에 선택된 manualCd별로 항목 저장
+     * 2. impl_inspection_items 테이블에 선택된 manualCd별로 항목 저장 (INSERT ... SELECT 1회)
      */
     @Transactional
     public ImplInspectionPlanDto create(CreateImplInspectionPlanRequest request, String userId) {
@@ -85,6 +132,54 @@ public class ImplInspectionPlanService {
         log.info("  - 점검명: {}", request.getImplInspectionName());
         log.info("  - 선택된 manualCd 수: {}", request.getManualCds().size());
 
+        Set<String> manualCds = new LinkedHashSet<>(request.getManualCds());
+        ImplInspectionPlan savedPlan = savePlan(request, userId);
+
+        // 선택된 manualCd로 이행점검항목 일괄 생성
+        int createdCount = itemRepository.insertItemsFromManuals(savedPlan.getImplInspectionPlanId(), manualCds, userId);
+        if (createdCount != manualCds.size()) {
+            throw new IllegalArgumentException("부서장업무메뉴얼을 찾을 수 없습니다: 요청 " + manualCds.size()
+                    + "건 중 " + (manualCds.size() - createdCount) + "건");
+        }
+
+        log.info("✅ [ImplInspectionPlanService] 이행점검계획 및 항목 생성 완료");
+        log.info("  - 생성된 항목 수: {}", createdCount);
+
+        progressRepository.refresh(List.of(savedPlan.getImplInspectionPlanId()));
+        return toDto(savedPlan);
+    }
+
+    /**
+     * 원장차수의 사용중인 부서장업무메뉴얼 전체로 이행점검계획 생성
+     * - request.manualCds는 사용하지 않음
+     * - 점검항목은 INSERT ... SELECT 1회로 생성
+     */
+    @Transactional
+    public ImplInspectionPlanDto createForLedgerOrder(CreateImplInspectionPlanRequest request, String userId) {
+        log.info("✅ [ImplInspectionPlanService] 원장차수 전체 이행점검계획 생성 시작");
+        log.info("  - 원장차수ID: {}", request.getLedgerOrderId());
+        log.info("  - 점검명: {}", request.getImplInspectionName());
+
+        ImplInspectionPlan savedPlan = savePlan(request, userId);
+
+        int createdCount = itemRepository.insertItemsFromLedgerOrderManuals(
+                savedPlan.getImplInspectionPlanId(), request.getLedgerOrderId(), userId);
+        if (createdCount == 0) {
+            throw new IllegalArgumentException("원장차수에 사용중인 부서장업무메뉴얼이 없습니다: " + request.getLedgerOrderId());
+        }
+
+        log.info("✅ [ImplInspectionPlanService] 원장차수 전체 이행점검계획 생성 완료");
+        log.info("  - 생성된 항목 수: {}", createdCount);
+
+        progressRepository.refresh(List.of(savedPlan.getImplInspectionPlanId()));
+        return toDto(savedPlan);
+    }
+
+    /**
+     * 이행점검계획 저장
+     * - 점검항목을 SQL로 일괄 INSERT 하므로 FK 대상인 계획을 즉시 flush
+     */
+    private ImplInspectionPlan savePlan(CreateImplInspectionPlanRequest request, String userId) {
         // 1. 이행점검계획ID 생성
         String planId = planRepository.generateImplInspectionPlanId(request.getLedgerOrderId());
         log.info("  - 생성된 이행점검계획ID: {}", planId);
@@ -105,40 +200,9 @@ public class ImplInspectionPlanService {
                 .build();
 
         // 3. 이행점검계획 저장
-        ImplInspectionPlan savedPlan = planRepository.save(plan);
+        ImplInspectionPlan savedPlan = planRepository.saveAndFlush(plan);
         log.info("✅ [ImplInspectionPlanService] 이행점검계획 저장 완료: {}", savedPlan.getImplInspectionPlanId());
-
-        // 4. 선택된 manualCd로 이행점검항목 일괄 생성
-        for (String manualCd : request.getManualCds()) {
-            // 부서장업무메뉴얼 조회
-            DeptManagerManual manual = manualRepository.findById(manualCd)
-                    .orElseThrow(() -> new IllegalArgumentException("부서장업무메뉴얼을 찾을 수 없습니다: " + manualCd));
-
-            // 이행점검항목ID 생성
-            String itemId = itemRepository.generateImplInspectionItemId(planId);
-
-            // 이행점검항목 엔티티 생성
-            // - improvementManagerId: 부서장업무메뉴얼의 수행자ID(executor_id)를 개선담당자로 지정
-            ImplInspectionItem item = ImplInspectionItem.builder()
-                    .implInspectionItemId(itemId)
-                    .implInspectionPlan(savedPlan)
-                    .deptManagerManual(manual)
-                    .inspectionStatusCd("01") // 미점검
-                    .improvementStatusCd("01") // 개선미이행
-                    .improvementManagerId(manual.getExecutorId()) // 수행자ID를 개선담당자로 설정
-                    .isActive("Y")
-                    .createdBy(userId)
-                    .updatedBy(userId)
-                    .build();
-
-            itemRepository.save(item);
-            log.info("  - 이행점검항목 생성: {} (manualCd: {})", itemId, manualCd);
-        }
-
-        log.info("✅ [ImplInspectionPlanService] 이행점검계획 및 항목 생성 완료");
-        log.info("  - 생성된 항목 수: {}", request.getManualCds().size());
-
-        return toDto(savedPlan);
+        return savedPlan;
     }
 
     /**
@@ -180,6 +244,7 @@ public class ImplInspectionPlanService {
 
         // 관련 점검항목도 비활성화
         itemRepository.deactivateByImplInspectionPlanId(implInspectionPlanId);
+        progressRepository.refresh(List.of(implInspectionPlanId));
     }
 
     /**
@@ -242,6 +307,36 @@ public class ImplInspectionPlanService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 이행점검항목 페이지 조회 (점검자지정 페이지용, 서버 페이징)
+     * - 읽기 모델 조회 (searchItems), 점검자 미지정 항목 포함
+     *
+     * @param filter 검색 조건 (부서, 점검자, 점검결과상태, 개선이행상태, 키워드)
+     * @param pageable 페이지/정렬
+     * @return 이행점검항목 페이지
+     */
+    public PageResponse<ImplInspectionItemDto> findAllItems(ImplInspectionItemSearchRequest filter, Pageable pageable) {
+        ImplInspectionItemSearchRequest f = filter != null ? filter : new ImplInspectionItemSearchRequest();
+        f.setAssignedOnly(false);
+        return searchItems(f, pageable);
+    }
+
+    /**
+     * 원장차수ID별 이행점검항목 페이지 조회 (점검자지정 페이지용, 서버 페이징)
+     *
+     * @param ledgerOrderId 원장차수ID
+     * @param filter 검색 조건 (원장차수ID는 경로 값으로 대체)
+     * @param pageable 페이지/정렬
+     * @return 이행점검항목 페이지
+     */
+    public PageResponse<ImplInspectionItemDto> findItemsByLedgerOrderId(String ledgerOrderId,
+                                                                       ImplInspectionItemSearchRequest filter,
+                                                                       Pageable pageable) {
+        ImplInspectionItemSearchRequest f = filter != null ? filter : new ImplInspectionItemSearchRequest();
+        f.setLedgerOrderId(ledgerOrderId);
+        return findAllItems(f, pageable);
+    }
+
     /**
      * 전체 이행점검항목 조회 (이행점검수행 페이지용)
      * - 책무/책무상세/관리의무 정보 포함
@@ -260,6 +355,42 @@ public class ImplInspectionPlanService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 전체 이행점검항목 엑셀 내보내기 (이행점검수행 페이지용)
+     * - findAllItemsWithFullHierarchy와 동일 조건
+     * - DB 커서(Stream)로 읽으면서 EXPORT_CHUNK_SIZE 단위로 Transient 필드 설정 후 SXSSF로 작성
+     * - 청크마다 영속성 컨텍스트를 비워 행 수와 무관하게 메모리 사용량 일정
+     *
+     * @param outputStream 출력 스트림 (HTTP 응답)
+     * @return 내보낸 행 수
+     */
+    public long exportAllItemsWithFullHierarchy(OutputStream outputStream) throws IOException {
+        log.info("✅ [ImplInspectionPlanService] 전체 이행점검항목 엑셀 내보내기 (이행점검수행용)");
+
+        try (Stream<ImplInspectionItem> items = itemRepository.streamAllWithFullHierarchy("Y");
+             ExcelStreamWriter<ImplInspectionItemDto> writer =
+                 new ExcelStreamWriter<>("이행점검항목", EXECUTION_ITEM_EXCEL_COLUMNS)) {
+
+            List<ImplInspectionItem> chunk = new ArrayList<>(EXPORT_CHUNK_SIZE);
+            Iterator<ImplInspectionItem> iterator = items.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() >= EXPORT_CHUNK_SIZE || !iterator.hasNext()) {
+                    populateTransientFields(chunk);
+                    for (ImplInspectionItem item : chunk) {
+                        writer.writeRow(ImplInspectionItemDto.from(item));
+                    }
+                    chunk.clear();
+                    entityManager.clear();
+                }
+            }
+            writer.finish(outputStream);
+
+            log.info("  - 엑셀 내보내기 완료: {}건", writer.getRowCount());
+            return writer.getRowCount();
+        }
+    }
+
     /**
      * 원장차수ID로 이행점검항목 조회 (이행점검수행 페이지용)
      * - 책무/책무상세/관리의무 정보 포함
@@ -296,6 +427,89 @@ public class ImplInspectionPlanService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 이행점검항목 목록 페이지 조회 (읽기 모델)
+     * - impl_inspection_item_view 단일 테이블 조회 + 페이징/정렬/필터 (6단계 JOIN FETCH 없음)
+     * - 직원명은 페이지 항목만 1회 조회, 수행상태명/수행결과명은 CommonCodeRegistry 스냅샷에서 변환
+     * - 응답 항목 구조는 기존 목록 API(ImplInspectionItemDto)와 동일
+     *
+     * @param filter 검색 조건
+     * @param pageable 페이지/정렬 (정렬 속성은 ImplInspectionItemView 필드명)
+     * @return 이행점검항목 페이지
+     */
+    public PageResponse<ImplInspectionItemDto> searchItems(ImplInspectionItemSearchRequest filter, Pageable pageable) {
+        ImplInspectionItemSearchRequest f = filter != null ? filter : new ImplInspectionItemSearchRequest();
+        log.info("✅ [ImplInspectionPlanService] 이행점검항목 페이지 조회 (읽기 모델) - ledgerOrderId: {}, planId: {}, orgCode: {}, page: {}",
+                f.getLedgerOrderId(), f.getImplInspectionPlanId(), f.getOrgCode(), pageable.getPageNumber());
+
+        Page<ImplInspectionItemView> page = itemViewRepository.search(
+                ImplInspectionItemSearchRequest.emptyToNull(f.getLedgerOrderId()),
+                ImplInspectionItemSearchRequest.emptyToNull(f.getImplInspectionPlanId()),
+                ImplInspectionItemSearchRequest.emptyToNull(f.getOrgCode()),
+                ImplInspectionItemSearchRequest.emptyToNull(f.getInspectorId()),
+                f.isAssignedOnly(),
+                ImplInspectionItemSearchRequest.emptyToNull(f.getInspectionStatusCd()),
+                ImplInspectionItemSearchRequest.emptyToNull(f.getImprovementStatusCd()),
+                ImplInspectionItemSearchRequest.emptyToNull(f.getKeyword()),
+                pageable);
+
+        Page<ImplInspectionItemDto> dtos = page.map(ImplInspectionItemDto::from);
+        populateDisplayNames(dtos.getContent());
+        return PageResponse.of(dtos);
+    }
+
+    /**
+     * 읽기 모델 DTO 표시명 설정
+     * - 점검자명, 개선담당자명, 수행자명 (직원 1회 조회)
+     * - 수행상태명, 수행결과명 (공통코드 스냅샷)
+     * - 이름을 찾지 못하면 ID 그대로 표시 (populateTransientFields와 동일)
+     */
+    private void populateDisplayNames(List<ImplInspectionItemDto> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+
+        Set<String> employeeIds = new LinkedHashSet<>();
+        for (ImplInspectionItemDto item : items) {
+            addIfPresent(employeeIds, item.getInspectorId());
+            addIfPresent(employeeIds, item.getImprovementManagerId());
+            addIfPresent(employeeIds, item.getDeptManagerManual().getExecutorId());
+        }
+        Map<String, String> employeeNameMap = employeeIds.isEmpty() ?
+                Map.of() :
+                employeeRepository.findByEmpNoInAndNotDeleted(new ArrayList<>(employeeIds)).stream()
+                        .collect(Collectors.toMap(Employee::getEmpNo, Employee::getEmpName, (a, b) -> a));
+
+        Map<String, String> executionStatusMap = getCodeNameMap("EXEC_STTS_CD");  // 수행상태
+        Map<String, String> executionResultMap = getCodeNameMap("EXEC_RSLT_CD");  // 수행결과
+
+        for (ImplInspectionItemDto item : items) {
+            item.setInspectorName(nameOrId(employeeNameMap, item.getInspectorId()));
+            item.setImprovementManagerName(nameOrId(employeeNameMap, item.getImprovementManagerId()));
+
+            ImplInspectionItemDto.DeptManagerManualInfo manual = item.getDeptManagerManual();
+            manual.setExecutorName(nameOrId(employeeNameMap, manual.getExecutorId()));
+            manual.setExecutionStatusName(nameOrId(executionStatusMap, manual.getExecutionStatus()));
+            manual.setExecutionResultName(nameOrId(executionResultMap, manual.getExecutionResultCd()));
+        }
+    }
+
+    private static void addIfPresent(Set<String> ids, String id) {
+        if (id != null && !id.isEmpty()) {
+            ids.add(id);
+        }
+    }
+
+    /**
+     * 코드/ID → 이름 (없으면 코드/ID, 값이 비어 있으면 null)
+     */
+    private static String nameOrId(Map<String, String> names, String id) {
+        if (id == null || id.isEmpty()) {
+            return null;
+        }
+        return names.getOrDefault(id, id);
+    }
+
     /**
      * Transient 필드 설정
      * - 수행자명 (executorName), 점검자명 (inspectorName)
@@ -394,20 +608,29 @@ public class ImplInspectionPlanService {
         log.debug("  - Transient 필드 설정 완료: {}건", items.size());
     }
 
+    /**
+     * 엑셀 컬럼용 - 부서장업무메뉴얼 정보 추출 (없으면 null)
+     */
+    private static <R> Function<ImplInspectionItemDto, R> manual(Function<ImplInspectionItemDto.DeptManagerManualInfo, R> getter) {
+        return dto -> dto.getDeptManagerManual() != null ? getter.apply(dto.getDeptManagerManual()) : null;
+    }
+
+    /**
+     * 엑셀 컬럼용 - 이행점검계획 정보 추출 (없으면 null)
+     */
+    private static <R> Function<ImplInspectionItemDto, R> plan(Function<ImplInspectionItemDto.ImplInspectionPlanInfo, R> getter) {
+        return dto -> dto.getImplInspectionPlan() != null ? getter.apply(dto.getImplInspectionPlan()) : null;
+    }
+
     /**
      * 공통코드 그룹에서 코드명 맵 조회
+     * - CommonCodeRegistry 스냅샷에서 조회 (DB 조회 없음)
      * @param groupCode 공통코드 그룹코드
      * @return 코드 -> 코드명 맵
      */
     private Map<String, String> getCodeNameMap(String groupCode) {
         try {
-            return codeDetailRepository.findByGroupCodeAndIsActiveOrderBySortOrderAsc(groupCode, "Y")
-                    .stream()
-                    .collect(Collectors.toMap(
-                            CommonCodeDetail::getDetailCode,
-                            CommonCodeDetail::getDetailName,
-                            (existing, replacement) -> existing  // 중복 시 기존 값 유지
-                    ));
+            return commonCodeRegistry.getCodeNameMap(groupCode);
         } catch (Exception e) {
             log.warn("공통코드 조회 실패 - groupCode: {}, error: {}", groupCode, e.getMessage());
             return Map.of();
@@ -452,6 +675,8 @@ public class ImplInspectionPlanService {
         }
 
         itemRepository.save(item);
+        // 점검결과가 바뀌면 계획 진행 현황 재집계 (개선이행 업데이트는 점검결과를 바꾸지 않으므로 불필요)
+        progressRepository.refresh(List.of(item.getImplInspectionPlanId()));
         log.info("✅ [ImplInspectionPlanService] 점검결과 업데이트 완료: {}", itemId);
 
         // 저장 후 전체 연관관계를 포함하여 다시 조회 (Lazy Loading 문제 방지)
@@ -604,51 +829,95 @@ public class ImplInspectionPlanService {
 
     /**
      * 점검자 일괄 지정
-     * - impl_inspection_items 테이블의 inspector_id 업데이트
+     * - impl_inspection_items 테이블의 inspector_id를 UPDATE ... WHERE id IN (...)로 일괄 업데이트 (BULK_CHUNK_SIZE 단위)
+     * - 존재하지 않는 항목ID는 건너뜀
+     * - 변경된 항목은 JOIN FETCH 쿼리로 일괄 재조회 후 직원명/공통코드명 설정
      * @param itemIds 점검항목ID 목록
      * @param inspectorId 점검자ID (employees.emp_no)
      * @param userId 수정자ID
-     * @return 업데이트된 항목 수
+     * @return 업데이트된 항목 DTO 목록 (건수 = 목록 크기)
      */
     @Transactional
-    public int assignInspectorBatch(List<String> itemIds, String inspectorId, String userId) {
+    public List<ImplInspectionItemDto> assignInspectorBatch(List<String> itemIds, String inspectorId, String userId) {
         log.info("✅ [ImplInspectionPlanService] 점검자 일괄 지정 시작");
         log.info("  - 대상 항목 수: {}", itemIds.size());
         log.info("  - 점검자ID: {}", inspectorId);
 
+        List<String> targetIds = new ArrayList<>(new LinkedHashSet<>(itemIds));
+        LocalDateTime now = LocalDateTime.now();
+
         int updatedCount = 0;
+        for (int from = 0; from < targetIds.size(); from += BULK_CHUNK_SIZE) {
+            List<String> chunk = targetIds.subList(from, Math.min(from + BULK_CHUNK_SIZE, targetIds.size()));
+            updatedCount += itemRepository.updateInspectorByItemIds(chunk, inspectorId, userId, now);
+        }
 
-        for (String itemId : itemIds) {
-            ImplInspectionItem item = itemRepository.findById(itemId)
-                    .orElse(null);
-
-            if (item != null) {
-                item.setInspectorId(inspectorId);
-                item.setUpdatedBy(userId);
-                itemRepository.save(item);
-                updatedCount++;
-                log.info("  - 점검자 지정 완료: {} -> {}", itemId, inspectorId);
-            } else {
-                log.warn("  - 점검항목을 찾을 수 없습니다: {}", itemId);
-            }
+        // UPDATE가 영속성 컨텍스트를 비우므로 모든 UPDATE 이후에 재조회
+        List<ImplInspectionItem> updatedItems = new ArrayList<>(updatedCount);
+        for (int from = 0; from < targetIds.size(); from += BULK_CHUNK_SIZE) {
+            List<String> chunk = targetIds.subList(from, Math.min(from + BULK_CHUNK_SIZE, targetIds.size()));
+            updatedItems.addAll(itemRepository.findByItemIdsWithManualAndPlan(chunk));
         }
 
+        if (updatedCount < targetIds.size()) {
+            log.warn("  - 점검항목을 찾을 수 없습니다: {}건", targetIds.size() - updatedCount);
+        }
+
+        populateTransientFields(updatedItems);
+
         log.info("✅ [ImplInspectionPlanService] 점검자 일괄 지정 완료: {}건", updatedCount);
-        return updatedCount;
+        return updatedItems.stream()
+                .map(ImplInspectionItemDto::from)
+                .collect(Collectors.toList());
     }
 
     /**
      * Entity → DTO 변환 (통계 정보 포함)
      */
     private ImplInspectionPlanDto toDto(ImplInspectionPlan entity) {
-        ImplInspectionPlanDto dto = ImplInspectionPlanDto.from(entity);
+        return toDtos(List.of(entity)).get(0);
+    }
+
+    /**
+     * Entity 목록 → DTO 목록 변환 (통계 정보 포함)
+     * - 통계는 진행 현황 읽기 모델(impl_inspection_plan_progress)을 PK로 한 번에 조회
+     * - 읽기 모델이 없는 계획만 점검항목 상태별 건수를 GROUP BY 1회로 집계
+     */
+    private List<ImplInspectionPlanDto> toDtos(List<ImplInspectionPlan> entities) {
+        if (entities.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> planIds = entities.stream()
+                .map(ImplInspectionPlan::getImplInspectionPlanId)
+                .collect(Collectors.toList());
 
-        // 통계 정보 추가
-        String planId = entity.getImplInspectionPlanId();
-        dto.setTotalItemCount(itemRepository.countByImplInspectionPlanIdAndIsActive(planId, "Y"));
-        dto.setCompletedItemCount(itemRepository.countByImplInspectionPlanIdAndInspectionStatusCdAndIsActive(planId, "02", "Y"));
-        dto.setInProgressItemCount(itemRepository.countByImplInspectionPlanIdAndInspectionStatusCdAndIsActive(planId, "03", "Y"));
+        // 계획ID → [전체, 적정(02), 부적정(03)]
+        Map<String, long[]> counts = new HashMap<>();
+        for (ImplInspectionPlanProgress progress : progressRepository.findAllById(planIds)) {
+            counts.put(progress.getImplInspectionPlanId(), new long[]{
+                    progress.getTotalItemCount(), progress.getCompletedItemCount(), progress.getInProgressItemCount()});
+        }
 
-        return dto;
+        List<String> missingPlanIds = planIds.stream()
+                .filter(planId -> !counts.containsKey(planId))
+                .collect(Collectors.toList());
+        if (!missingPlanIds.isEmpty()) {
+            for (Object[] row : itemRepository.countStatusByPlanIds(missingPlanIds)) {
+                counts.put((String) row[0], new long[]{
+                        ((Number) row[1]).longValue(), ((Number) row[2]).longValue(), ((Number) row[3]).longValue()});
+            }
+        }
+
+        List<ImplInspectionPlanDto> dtos = new ArrayList<>(entities.size());
+        for (ImplInspectionPlan entity : entities) {
+            ImplInspectionPlanDto dto = ImplInspectionPlanDto.from(entity);
+            long[] planCounts = counts.getOrDefault(entity.getImplInspectionPlanId(), new long[3]);
+            dto.setTotalItemCount(planCounts[0]);
+            dto.setCompletedItemCount(planCounts[1]);
+            dto.setInProgressItemCount(planCounts[2]);
+            dtos.add(dto);
+        }
+        return dtos;
     }
 }
@@ -26,7 +26,8 @@ public class Position {
      * 직책ID (자동 생성)
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "positions_id_generator")
+    @SequenceGenerator(name = "positions_id_generator", sequenceName = "positions_positions_id_seq", schema = "rsms", allocationSize = 50)
     @Column(name = "positions_id")
     private Long positionsId;
 
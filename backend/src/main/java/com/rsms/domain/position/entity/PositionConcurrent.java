@@ -28,7 +28,8 @@ public class PositionConcurrent {
      * 겸직ID (Primary Key, 자동 증가)
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "position_concurrents_id_generator")
+    @SequenceGenerator(name = "position_concurrents_id_generator", sequenceName = "position_concurrents_position_concurrent_id_seq", schema = "rsms", allocationSize = 50)
     @Column(name = "position_concurrent_id")
     private Long positionConcurrentId;
 
@@ -28,7 +28,8 @@ public class PositionDetail {
      * 직책상세ID (자동 생성)
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "positions_details_id_generator")
+    @SequenceGenerator(name = "positions_details_id_generator", sequenceName = "positions_details_positions_details_id_seq", schema = "rsms", allocationSize = 50)
     @Column(name = "positions_details_id")
     private Long positionsDetailsId;
 
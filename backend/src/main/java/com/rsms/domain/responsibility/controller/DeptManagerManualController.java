@@ -2,14 +2,22 @@ package com.rsms.domain.responsibility.controller;
 
 import com.rsms.domain.responsibility.dto.CreateDeptManagerManualRequest;
 import com.rsms.domain.responsibility.dto.DeptManagerManualDto;
+import com.rsms.domain.responsibility.dto.DeptManagerManualSearchRequest;
 import com.rsms.domain.responsibility.dto.UpdateDeptManagerManualRequest;
 import com.rsms.domain.responsibility.service.DeptManagerManualService;
+import com.rsms.global.excel.ExcelStreamWriter;
+import com.rsms.interfaces.common.PageResponse;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.security.Principal;
 import java.util.List;
 
@@ -67,6 +75,53 @@ public class DeptManagerManualController {
         return ResponseEntity.ok(manuals);
     }
 
+    /**
+     * 메뉴얼 목록 페이지 조회 API (서버 페이징)
+     * GET /api/resps/dept-manager-manuals/page
+     * - 조건 미지정 시 전체 메뉴얼 대상
+     * - 정렬 기본값: 등록일시 역순 (sort=속성,asc|desc), 마지막 정렬 키는 항상 메뉴얼코드
+     *
+     * @return 메뉴얼 페이지 (수행자명, 조직명 포함)
+     */
+    @GetMapping("/page")
+    public ResponseEntity<PageResponse<DeptManagerManualDto>> getManualPage(
+            @RequestParam(required = false) String ledgerOrderId,
+            @RequestParam(required = false) String orgCode,
+            @RequestParam(required = false) String executorId,
+            @RequestParam(required = false) String executionStatus,
+            @RequestParam(required = false) String isActive,
+            @RequestParam(required = false) String keyword,
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        log.info("GET /api/resps/dept-manager-manuals/page - 메뉴얼 페이지 조회: ledgerOrderId={}, orgCode={}, page={}, size={}",
+            ledgerOrderId, orgCode, pageable.getPageNumber(), pageable.getPageSize());
+
+        DeptManagerManualSearchRequest filter = DeptManagerManualSearchRequest.builder()
+            .ledgerOrderId(ledgerOrderId)
+            .orgCode(orgCode)
+            .executorId(executorId)
+            .executionStatus(executionStatus)
+            .isActive(isActive)
+            .keyword(keyword)
+            .build();
+
+        return ResponseEntity.ok(deptManagerManualService.findAll(filter, pageable));
+    }
+
+    /**
+     * 전체 메뉴얼 목록 엑셀 내보내기 API
+     * GET /api/resps/dept-manager-manuals/excel
+     * - 서버에서 스트리밍으로 .xlsx 생성
+     *
+     * @param response HTTP 응답 (엑셀 파일 스트림)
+     */
+    @GetMapping("/excel")
+    public void exportAllManuals(HttpServletResponse response) throws IOException {
+        log.info("GET /api/resps/dept-manager-manuals/excel - 전체 메뉴얼 엑셀 내보내기");
+
+        ExcelStreamWriter.prepareDownload(response, "부서장업무메뉴얼");
+        deptManagerManualService.exportAllWithEmployees(response.getOutputStream());
+    }
+
     /**
      * 원장차수ID로 메뉴얼 목록 조회 API
      * GET /api/resps/dept-manager-manuals/ledger-order/{ledgerOrderId}
@@ -84,6 +139,36 @@ public class DeptManagerManualController {
         return ResponseEntity.ok(manuals);
     }
 
+    /**
+     * 원장차수ID로 메뉴얼 목록 페이지 조회 API (서버 페이징)
+     * GET /api/resps/dept-manager-manuals/ledger-order/{ledgerOrderId}/page
+     *
+     * @param ledgerOrderId 원장차수ID
+     * @return 메뉴얼 페이지
+     */
+    @GetMapping("/ledger-order/{ledgerOrderId}/page")
+    public ResponseEntity<PageResponse<DeptManagerManualDto>> getManualPageByLedgerOrderId(
+            @PathVariable String ledgerOrderId,
+            @RequestParam(required = false) String orgCode,
+            @RequestParam(required = false) String executorId,
+            @RequestParam(required = false) String executionStatus,
+            @RequestParam(required = false) String isActive,
+            @RequestParam(required = false) String keyword,
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        log.info("GET /api/resps/dept-manager-manuals/ledger-order/{}/page - 메뉴얼 페이지 조회: orgCode={}, page={}, size={}",
+            ledgerOrderId, orgCode, pageable.getPageNumber(), pageable.getPageSize());
+
+        DeptManagerManualSearchRequest filter = DeptManagerManualSearchRequest.builder()
+            .orgCode(orgCode)
+            .executorId(executorId)
+            .executionStatus(executionStatus)
+            .isActive(isActive)
+            .keyword(keyword)
+            .build();
+
+        return ResponseEntity.ok(deptManagerManualService.findByLedgerOrderId(ledgerOrderId, filter, pageable));
+    }
+
     /**
      * 조직코드로 메뉴얼 목록 조회 API
      * GET /api/resps/dept-manager-manuals/organization/{orgCode}
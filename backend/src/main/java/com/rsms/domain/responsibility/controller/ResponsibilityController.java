@@ -2,6 +2,10 @@ package com.rsms.domain.responsibility.controller;
 
 import com.rsms.domain.responsibility.dto.*;
 import com.rsms.domain.responsibility.service.ResponsibilityService;
+import com.rsms.domain.responsibility.service.ResponsibilityTreeBulkService;
+import com.rsms.global.excel.ExcelStreamWriter;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -9,6 +13,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.security.Principal;
 import java.util.List;
 
@@ -27,6 +32,7 @@ import java.util.List;
 public class ResponsibilityController {
 
     private final ResponsibilityService responsibilityService;
+    private final ResponsibilityTreeBulkService responsibilityTreeBulkService;
 
     /**
      * 2개 테이블 조인 책무 목록 조회
@@ -50,6 +56,28 @@ public class ResponsibilityController {
         return ResponseEntity.ok(responsibilities);
     }
 
+    /**
+     * 2개 테이블 조인 책무 목록 엑셀 내보내기
+     * - GET /api/resps/responsibilities/list-with-join/excel
+     * - 조회 조건은 list-with-join과 동일, 서버에서 스트리밍으로 .xlsx 생성
+     *
+     * @param ledgerOrderId 원장차수ID (선택적)
+     * @param responsibilityInfo 책무정보 (선택적, LIKE 검색)
+     * @param responsibilityCd 책무코드 (선택적)
+     * @param response HTTP 응답 (엑셀 파일 스트림)
+     */
+    @GetMapping("/list-with-join/excel")
+    public void exportResponsibilitiesWithJoin(
+            @RequestParam(required = false) String ledgerOrderId,
+            @RequestParam(required = false) String responsibilityInfo,
+            @RequestParam(required = false) String responsibilityCd,
+            HttpServletResponse response) throws IOException {
+        log.info("GET /api/resps/responsibilities/list-with-join/excel - ledgerOrderId: {}", ledgerOrderId);
+        ExcelStreamWriter.prepareDownload(response, "책무목록");
+        responsibilityService.exportResponsibilitiesWithJoin(
+            ledgerOrderId, responsibilityInfo, responsibilityCd, response.getOutputStream());
+    }
+
     /**
      * 원장차수ID와 직책ID로 책무 목록 조회
      * - GET /api/resps/responsibilities?ledgerOrderId={ledgerOrderId}&positionsId={positionsId}
@@ -177,6 +205,26 @@ public class ResponsibilityController {
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
 
+    /**
+     * 여러 직책의 책무 트리(책무, 책무세부, 관리의무) 일괄 생성
+     * - POST /api/resps/responsibilities/bulk-tree
+     * - 레벨별 코드 일괄 채번 후 JDBC 배치 INSERT, 하나의 트랜잭션으로 처리
+     *
+     * @param request 책무 트리 목록 (각 항목은 with-details 요청과 동일한 형식)
+     * @param principal 현재 로그인 사용자
+     * @return 레벨별 저장 건수
+     */
+    @PostMapping("/bulk-tree")
+    public ResponseEntity<BulkCreateResponsibilityTreeResponse> createResponsibilityTrees(
+            @Valid @RequestBody BulkCreateResponsibilityTreeRequest request,
+            Principal principal) {
+        log.info("POST /api/resps/responsibilities/bulk-tree - 책무 트리 일괄 생성: {} 건",
+                request.getResponsibilities() != null ? request.getResponsibilities().size() : 0);
+        String username = principal != null ? principal.getName() : "system";
+        BulkCreateResponsibilityTreeResponse result = responsibilityTreeBulkService.createTrees(request, username);
+        return ResponseEntity.status(HttpStatus.CREATED).body(result);
+    }
+
     /**
      * 책무 엑셀 업로드
      * - POST /api/resps/responsibilities/excel/upload
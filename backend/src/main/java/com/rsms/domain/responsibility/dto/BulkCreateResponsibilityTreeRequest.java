@@ -0,0 +1,31 @@
+package com.rsms.domain.responsibility.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 책무 트리 일괄 생성 요청 DTO
+ * - 여러 직책의 책무 → 책무세부 → 관리의무 트리를 한 번에 등록
+ * - 각 트리는 책무 전체 생성 요청(CreateResponsibilityWithDetailsRequest)과 동일한 형식
+ *   (ledgerOrderId, positionsId, responsibilityCat, responsibilityInfo, responsibilityLegal 필수,
+ *    책무세부는 responsibilityDetailInfo, 관리의무는 obligationMajorCatCd, obligationInfo, orgCode 필수)
+ *
+ * @author Claude AI
+ * @since 2025-12-05
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkCreateResponsibilityTreeRequest {
+
+    /**
+     * 책무 트리 목록
+     */
+    @NotEmpty(message = "등록할 책무가 없습니다")
+    private List<@Valid CreateResponsibilityWithDetailsRequest> responsibilities;
+}
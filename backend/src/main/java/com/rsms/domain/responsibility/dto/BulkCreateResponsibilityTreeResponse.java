@@ -0,0 +1,54 @@
+package com.rsms.domain.responsibility.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 책무 트리 일괄 생성 응답 DTO
+ * - 레벨별 저장 건수와 처리 시간 반환
+ *
+ * @author Claude AI
+ * @since 2025-12-05
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCreateResponsibilityTreeResponse {
+
+    /**
+     * 처리한 직책 수
+     */
+    private int positionCount;
+
+    /**
+     * 저장된 책무 건수
+     */
+    private int responsibilityCount;
+
+    /**
+     * 저장된 책무세부 건수
+     */
+    private int detailCount;
+
+    /**
+     * 저장된 관리의무 건수
+     */
+    private int obligationCount;
+
+    /**
+     * 처리 시간 (ms)
+     */
+    private long elapsedMillis;
+
+    /**
+     * 생성된 책무코드 목록 (요청 순서)
+     */
+    @Builder.Default
+    private List<String> responsibilityCds = new ArrayList<>();
+}
@@ -1,5 +1,9 @@
 package com.rsms.domain.responsibility.dto;
 
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.*;
 import java.util.List;
 
@@ -22,16 +26,21 @@ public class CreateResponsibilityWithDetailsRequest {
     /**
      * 원장차수ID
      */
+    @NotBlank(message = "원장차수는 필수입니다")
+    @Size(max = 8, message = "원장차수ID는 8자 이내로 입력해주세요")
     private String ledgerOrderId;
 
     /**
      * 직책ID
      */
+    @NotNull(message = "직책ID는 필수입니다")
     private Long positionsId;
 
     /**
      * 책무카테고리 (RSBT_OBLG_CLCD)
      */
+    @NotBlank(message = "책무카테고리는 필수입니다")
+    @Size(max = 20, message = "책무카테고리는 20자 이내로 입력해주세요")
     private String responsibilityCat;
 
     /**
@@ -42,11 +51,15 @@ public class CreateResponsibilityWithDetailsRequest {
     /**
      * 책무정보
      */
+    @NotBlank(message = "책무정보는 필수입니다")
+    @Size(max = 1000, message = "책무정보는 1000자 이내로 입력해주세요")
     private String responsibilityInfo;
 
     /**
      * 관련근거
      */
+    @NotBlank(message = "관련근거는 필수입니다")
+    @Size(max = 1000, message = "관련근거는 1000자 이내로 입력해주세요")
     private String responsibilityLegal;
 
     /**
@@ -58,7 +71,7 @@ public class CreateResponsibilityWithDetailsRequest {
     /**
      * 책무 세부내용 리스트
      */
-    private List<ResponsibilityDetailDto> details;
+    private List<@Valid ResponsibilityDetailDto> details;
 
     /**
      * 책무 세부내용 DTO
@@ -72,6 +85,8 @@ public class CreateResponsibilityWithDetailsRequest {
         /**
          * 책무세부내용
          */
+        @NotBlank(message = "책무세부내용은 필수입니다")
+        @Size(max = 2000, message = "책무세부내용은 2000자 이내로 입력해주세요")
         private String responsibilityDetailInfo;
 
         /**
@@ -82,7 +97,7 @@ public class CreateResponsibilityWithDetailsRequest {
         /**
          * 관리의무 리스트
          */
-        private List<ManagementObligationDto> obligations;
+        private List<@Valid ManagementObligationDto> obligations;
     }
 
     /**
@@ -97,6 +112,8 @@ public class CreateResponsibilityWithDetailsRequest {
         /**
          * 관리의무 대분류 구분코드
          */
+        @NotBlank(message = "관리의무 대분류는 필수입니다")
+        @Size(max = 20, message = "관리의무 대분류는 20자 이내로 입력해주세요")
         private String obligationMajorCatCd;
 
         /**
@@ -107,11 +124,15 @@ public class CreateResponsibilityWithDetailsRequest {
         /**
          * 관리의무내용
          */
+        @NotBlank(message = "관리의무내용은 필수입니다")
+        @Size(max = 1000, message = "관리의무내용은 1000자 이내로 입력해주세요")
         private String obligationInfo;
 
         /**
          * 조직코드
          */
+        @NotBlank(message = "조직코드는 필수입니다")
+        @Size(max = 20, message = "조직코드는 20자 이내로 입력해주세요")
         private String orgCode;
 
         /**
@@ -0,0 +1,56 @@
+package com.rsms.domain.responsibility.dto;
+
+import lombok.*;
+
+/**
+ * 부서장업무메뉴얼 목록 검색 조건 DTO
+ * - 부서장업무메뉴얼 목록 서버 페이징 조회용
+ * - 값이 비어 있으면 해당 조건 미적용
+ *
+ * @author Claude AI
+ * @since 2025-12-05
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DeptManagerManualSearchRequest {
+
+    /**
+     * 원장차수ID
+     */
+    private String ledgerOrderId;
+
+    /**
+     * 조직코드
+     */
+    private String orgCode;
+
+    /**
+     * 수행자ID
+     */
+    private String executorId;
+
+    /**
+     * 수행상태코드
+     */
+    private String executionStatus;
+
+    /**
+     * 사용여부 (Y/N)
+     */
+    private String isActive;
+
+    /**
+     * 검색 키워드 (관리활동명, 책무관리항목, 관리의무내용, 부서명)
+     */
+    private String keyword;
+
+    /**
+     * 빈 문자열 → null (조건 미적용)
+     */
+    public static String emptyToNull(String value) {
+        return value != null && !value.isBlank() ? value.trim() : null;
+    }
+}
@@ -36,7 +36,8 @@ public class RespStatementExec {
      * 책무기술서_임원_정보ID (PK, 자동증가)
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "resp_statement_execs_id_generator")
+    @SequenceGenerator(name = "resp_statement_execs_id_generator", sequenceName = "resp_statement_execs_resp_stmt_exec_id_seq", schema = "rsms", allocationSize = 50)
     @Column(name = "resp_stmt_exec_id")
     private Long respStmtExecId;
 
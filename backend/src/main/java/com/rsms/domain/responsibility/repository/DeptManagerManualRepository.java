@@ -1,12 +1,19 @@
 package com.rsms.domain.responsibility.repository;
 
 import com.rsms.domain.responsibility.entity.DeptManagerManual;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * 부서장업무메뉴얼 Repository
@@ -16,7 +23,56 @@ import java.util.List;
  * @since 2025-01-18
  */
 @Repository
-public interface DeptManagerManualRepository extends JpaRepository<DeptManagerManual, String> {
+public interface DeptManagerManualRepository extends JpaRepository<DeptManagerManual, String>,
+        DeptManagerManualRepositoryCustom {
+
+    /**
+     * 조인 조회 SELECT 공통부 (employees, organizations, 책무구조 테이블 조인) - 목록 조회 / 엑셀 내보내기 / 일괄 재조회 공용
+     */
+    String MANUALS_WITH_EMPLOYEES_SELECT = """
+        SELECT dmm.manual_cd as manualCd,
+               dmm.ledger_order_id as ledgerOrderId,
+               dmm.obligation_cd as obligationCd,
+               dmm.org_code as orgCode,
+               o.org_name as orgName,
+               dmm.resp_item as respItem,
+               dmm.activity_name as activityName,
+               dmm.executor_id as executorId,
+               e.emp_name as executorName,
+               dmm.execution_date as executionDate,
+               dmm.execution_status as executionStatus,
+               dmm.execution_result_cd as executionResultCd,
+               dmm.execution_result_content as executionResultContent,
+               dmm.exec_check_method as execCheckMethod,
+               dmm.exec_check_detail as execCheckDetail,
+               dmm.exec_check_frequency_cd as execCheckFrequencyCd,
+               dmm.is_active as isActive,
+               dmm.status as status,
+               dmm.created_at as createdAt,
+               dmm.created_by as createdBy,
+               dmm.updated_at as updatedAt,
+               dmm.updated_by as updatedBy,
+               dmm.approved_at as approvedAt,
+               dmm.approved_by as approvedBy,
+               dmm.remarks as remarks,
+               r.responsibility_cat as responsibilityCat,
+               r.responsibility_info as responsibilityInfo,
+               rd.responsibility_detail_info as responsibilityDetailInfo,
+               mo.obligation_info as obligationInfo
+        FROM rsms.dept_manager_manuals dmm
+        LEFT JOIN rsms.employees e ON dmm.executor_id = e.emp_no
+        LEFT JOIN rsms.organizations o ON dmm.org_code = o.org_code
+        LEFT JOIN rsms.management_obligations mo ON dmm.obligation_cd = mo.obligation_cd
+        LEFT JOIN rsms.responsibility_details rd ON mo.responsibility_detail_cd = rd.responsibility_detail_cd
+        LEFT JOIN rsms.responsibilities r ON rd.responsibility_cd = r.responsibility_cd
+        """;
+
+    /**
+     * 전체 조회 쿼리
+     */
+    String MANUALS_WITH_EMPLOYEES_QUERY = MANUALS_WITH_EMPLOYEES_SELECT + """
+        ORDER BY dmm.created_at DESC
+        """;
 
     /**
      * 원장차수ID로 조회
@@ -67,17 +123,6 @@ public interface DeptManagerManualRepository extends JpaRepository<DeptManagerMa
         @Param("orgCode") String orgCode
     );
 
-    /**
-     * 관리의무코드의 마지막 순번 조회
-     * manual_cd 생성을 위한 메서드
-     */
-    @Query("""
-        SELECT MAX(CAST(SUBSTRING(dmm.manualCd, LENGTH(:obligationCd) + 2) AS integer))
-        FROM DeptManagerManual dmm
-        WHERE dmm.manualCd LIKE CONCAT(:obligationCd, 'A%')
-        """)
-    Integer findMaxSequenceByObligationCd(@Param("obligationCd") String obligationCd);
-
     /**
      * 원장차수ID 존재 여부 확인
      */
@@ -97,43 +142,43 @@ public interface DeptManagerManualRepository extends JpaRepository<DeptManagerMa
      * - responsibility_cd로 responsibilities 테이블 조인하여 책무구분(responsibility_cat), 책무(responsibility_info) 조회
      * - LEFT JOIN으로 데이터가 없는 경우에도 조회 가능
      */
-    @Query(value = """
-        SELECT dmm.manual_cd as manualCd,
-               dmm.ledger_order_id as ledgerOrderId,
-               dmm.obligation_cd as obligationCd,
-               dmm.org_code as orgCode,
-               o.org_name as orgName,
-               dmm.resp_item as respItem,
-               dmm.activity_name as activityName,
-               dmm.executor_id as executorId,
-               e.emp_name as executorName,
-               dmm.execution_date as executionDate,
-               dmm.execution_status as executionStatus,
-               dmm.execution_result_cd as executionResultCd,
-               dmm.execution_result_content as executionResultContent,
-               dmm.exec_check_method as execCheckMethod,
-               dmm.exec_check_detail as execCheckDetail,
-               dmm.exec_check_frequency_cd as execCheckFrequencyCd,
-               dmm.is_active as isActive,
-               dmm.status as status,
-               dmm.created_at as createdAt,
-               dmm.created_by as createdBy,
-               dmm.updated_at as updatedAt,
-               dmm.updated_by as updatedBy,
-               dmm.approved_at as approvedAt,
-               dmm.approved_by as approvedBy,
-               dmm.remarks as remarks,
-               r.responsibility_cat as responsibilityCat,
-               r.responsibility_info as responsibilityInfo,
-               rd.responsibility_detail_info as responsibilityDetailInfo,
-               mo.obligation_info as obligationInfo
-        FROM rsms.dept_manager_manuals dmm
-        LEFT JOIN rsms.employees e ON dmm.executor_id = e.emp_no
-        LEFT JOIN rsms.organizations o ON dmm.org_code = o.org_code
-        LEFT JOIN rsms.management_obligations mo ON dmm.obligation_cd = mo.obligation_cd
-        LEFT JOIN rsms.responsibility_details rd ON mo.responsibility_detail_cd = rd.responsibility_detail_cd
-        LEFT JOIN rsms.responsibilities r ON rd.responsibility_cd = r.responsibility_cd
+    @Query(value = MANUALS_WITH_EMPLOYEES_QUERY, nativeQuery = true)
+    List<Object[]> findAllWithEmployeesNative();
+
+    /**
+     * 전체 조회 - 스트리밍 (엑셀 내보내기용)
+     * - 컬럼 순서는 findAllWithEmployeesNative와 동일
+     * - 트랜잭션 안에서 사용하고 반드시 Stream을 닫아야 함
+     */
+    @Query(value = MANUALS_WITH_EMPLOYEES_QUERY, nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<Object[]> streamAllWithEmployeesNative();
+
+    /**
+     * 메뉴얼코드 목록으로 조회 (employees, organizations, 책무구조 테이블 조인 포함)
+     * - 컬럼 순서는 findAllWithEmployeesNative와 동일
+     * - 일괄 수정 후 변경된 행 재조회용 (쿼리 1회)
+     */
+    @Query(value = MANUALS_WITH_EMPLOYEES_SELECT + """
+        WHERE dmm.manual_cd IN (:manualCds)
         ORDER BY dmm.created_at DESC
         """, nativeQuery = true)
-    List<Object[]> findAllWithEmployeesNative();
+    List<Object[]> findByManualCdsWithEmployeesNative(@Param("manualCds") Collection<String> manualCds);
+
+    /**
+     * 수행자 일괄 지정 (UPDATE 1회)
+     * - 엔티티 콜백(@PreUpdate)을 거치지 않으므로 수정일시를 파라미터로 전달
+     *
+     * @return 수정된 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE DeptManagerManual m " +
+           "SET m.executorId = :executorId, m.updatedBy = :updatedBy, m.updatedAt = :updatedAt " +
+           "WHERE m.manualCd IN :manualCds")
+    int updateExecutorByManualCds(
+        @Param("manualCds") Collection<String> manualCds,
+        @Param("executorId") String executorId,
+        @Param("updatedBy") String updatedBy,
+        @Param("updatedAt") LocalDateTime updatedAt
+    );
 }
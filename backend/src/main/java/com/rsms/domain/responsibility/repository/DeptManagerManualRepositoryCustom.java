@@ -0,0 +1,29 @@
+package com.rsms.domain.responsibility.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 부서장업무메뉴얼 Repository 확장 (동적 조건 조회)
+ *
+ * @author Claude AI
+ * @since 2025-12-05
+ */
+public interface DeptManagerManualRepositoryCustom {
+
+    /**
+     * 목록 페이지 조회 - 메뉴얼코드만 조회 (페이징/정렬)
+     * - 조건 파라미터가 null이면 해당 조건 미적용 (값이 있는 조건만 WHERE에 추가)
+     * - 정렬 속성은 DeptManagerManual 필드명, 마지막 정렬 키는 항상 메뉴얼코드
+     * - 페이지 행은 findByManualCdsWithEmployeesNative로 재조회 (쿼리 1회)
+     */
+    Page<String> searchManualCds(
+        String ledgerOrderId,
+        String orgCode,
+        String executorId,
+        String executionStatus,
+        String isActive,
+        String keyword,
+        Pageable pageable
+    );
+}
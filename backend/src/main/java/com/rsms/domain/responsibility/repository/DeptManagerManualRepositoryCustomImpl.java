@@ -0,0 +1,93 @@
+package com.rsms.domain.responsibility.repository;
+
+import com.rsms.domain.responsibility.entity.DeptManagerManual;
+import com.rsms.global.jpa.PageableSupport;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 부서장업무메뉴얼 Repository 확장 구현
+ * - Criteria API로 값이 있는 조건만 WHERE에 추가
+ *   (":x IS NULL OR col = :x" 형태는 일반 실행계획에서 (조건, created_at, manual_cd) 복합 인덱스를 쓰지 못함)
+ * - 관리의무/조직 조인은 키워드 검색 시에만 추가
+ *
+ * @author Claude AI
+ * @since 2025-12-05
+ */
+@RequiredArgsConstructor
+public class DeptManagerManualRepositoryCustomImpl implements DeptManagerManualRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Page<String> searchManualCds(String ledgerOrderId, String orgCode, String executorId,
+                                        String executionStatus, String isActive, String keyword,
+                                        Pageable pageable) {
+        Pageable sorted = PageableSupport.withTieBreaker(pageable, "manualCd");
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<String> query = cb.createQuery(String.class);
+        Root<DeptManagerManual> dmm = query.from(DeptManagerManual.class);
+        query.select(dmm.get("manualCd"))
+            .where(conditions(cb, dmm, ledgerOrderId, orgCode, executorId, executionStatus, isActive, keyword))
+            .orderBy(QueryUtils.toOrders(sorted.getSort(), dmm, cb));
+
+        TypedQuery<String> typedQuery = entityManager.createQuery(query);
+        if (sorted.isPaged()) {
+            typedQuery.setFirstResult((int) sorted.getOffset());
+            typedQuery.setMaxResults(sorted.getPageSize());
+        }
+        List<String> manualCds = typedQuery.getResultList();
+
+        return PageableExecutionUtils.getPage(manualCds, sorted, () -> {
+            CriteriaQuery<Long> countQuery = cb.createQuery(Long.class);
+            Root<DeptManagerManual> countRoot = countQuery.from(DeptManagerManual.class);
+            countQuery.select(cb.count(countRoot))
+                .where(conditions(cb, countRoot, ledgerOrderId, orgCode, executorId, executionStatus, isActive, keyword));
+            return entityManager.createQuery(countQuery).getSingleResult();
+        });
+    }
+
+    private Predicate[] conditions(CriteriaBuilder cb, Root<DeptManagerManual> dmm,
+                                   String ledgerOrderId, String orgCode, String executorId,
+                                   String executionStatus, String isActive, String keyword) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (ledgerOrderId != null) {
+            predicates.add(cb.equal(dmm.get("ledgerOrderId"), ledgerOrderId));
+        }
+        if (orgCode != null) {
+            predicates.add(cb.equal(dmm.get("orgCode"), orgCode));
+        }
+        if (executorId != null) {
+            predicates.add(cb.equal(dmm.get("executorId"), executorId));
+        }
+        if (executionStatus != null) {
+            predicates.add(cb.equal(dmm.get("executionStatus"), executionStatus));
+        }
+        if (isActive != null) {
+            predicates.add(cb.equal(dmm.get("isActive"), isActive));
+        }
+        if (keyword != null) {
+            String pattern = "%" + keyword + "%";
+            predicates.add(cb.or(
+                cb.like(dmm.get("activityName"), pattern),
+                cb.like(dmm.get("respItem"), pattern),
+                cb.like(dmm.join("managementObligation", JoinType.LEFT).get("obligationInfo"), pattern),
+                cb.like(dmm.join("organization", JoinType.LEFT).get("orgName"), pattern)));
+        }
+        return predicates.toArray(new Predicate[0]);
+    }
+}
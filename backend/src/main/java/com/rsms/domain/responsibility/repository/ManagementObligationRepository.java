@@ -64,29 +64,6 @@ public interface ManagementObligationRepository extends JpaRepository<Management
     // 코드 생성용 쿼리 메서드
     // ===============================
 
-    /**
-     * 특정 책무세부코드의 최대 순번 조회 (코드 생성용)
-     *
-     * @param responsibilityDetailCd 책무세부코드 (예: "RM0001D0001")
-     * @return 최대 순번 (없으면 0)
-     *
-     * 사용 예시:
-     * - responsibilityDetailCd = "RM0001D0001"
-     * - 기존 코드: "RM0001D0001MO0001", "RM0001D0001MO0002"
-     * - 코드에서 "MO" 다음 4자리 추출: "0001", "0002"
-     * - 반환값: 2
-     * - 다음 코드: "RM0001D0001MO0003"
-     */
-    @Query("""
-        SELECT COALESCE(MAX(CAST(SUBSTRING(mo.obligationCd, :prefixLength + 1, 4) AS integer)), 0)
-        FROM ManagementObligation mo
-        WHERE mo.responsibilityDetailCd = :responsibilityDetailCd
-        """)
-    Integer findMaxSequenceByResponsibilityDetailCd(
-        @Param("responsibilityDetailCd") String responsibilityDetailCd,
-        @Param("prefixLength") Integer prefixLength
-    );
-
     /**
      * 관리의무코드 존재 여부 확인
      */
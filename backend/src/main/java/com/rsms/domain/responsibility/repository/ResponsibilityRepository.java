@@ -1,14 +1,18 @@
 package com.rsms.domain.responsibility.repository;
 
 import com.rsms.domain.responsibility.entity.Responsibility;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 책무 Repository
@@ -21,6 +25,37 @@ import java.util.Optional;
 @Repository
 public interface ResponsibilityRepository extends JpaRepository<Responsibility, String> {
 
+    /**
+     * 책무 + 직책 조인 조회 쿼리 (목록 조회 / 엑셀 내보내기 공용)
+     */
+    String RESPONSIBILITIES_WITH_JOIN_QUERY = """
+        SELECT
+            r.responsibility_cd,
+            r.ledger_order_id,
+            r.positions_id,
+            r.responsibility_cat,
+            r.responsibility_info,
+            r.responsibility_legal,
+            r.expiration_date,
+            r.responsibility_status,
+            r.is_active as responsibility_is_active,
+            r.created_by,
+            r.created_at,
+            r.updated_by,
+            r.updated_at,
+            p.positions_cd,
+            p.positions_name,
+            p.hq_code,
+            p.hq_name
+        FROM rsms.responsibilities r
+        LEFT JOIN rsms.positions p ON r.positions_id = p.positions_id
+        WHERE 1=1
+            AND (:ledgerOrderId IS NULL OR r.ledger_order_id = :ledgerOrderId)
+            AND (:responsibilityInfo IS NULL OR r.responsibility_info LIKE CONCAT('%', :responsibilityInfo, '%'))
+            AND (:responsibilityCd IS NULL OR r.responsibility_cd = :responsibilityCd)
+        ORDER BY r.responsibility_cd
+        """;
+
     /**
      * 원장차수ID와 직책ID로 책무 목록 조회
      */
@@ -45,32 +80,6 @@ public interface ResponsibilityRepository extends JpaRepository<Responsibility,
     // 코드 생성용 쿼리 메서드
     // ===============================
 
-    /**
-     * 특정 원장차수 + 책무카테고리의 최대 순번 조회 (코드 생성용)
-     *
-     * @param ledgerOrderId 원장차수ID (8자리)
-     * @param responsibilityCat 책무카테고리 (1자리: M, I, C, B, R 등)
-     * @return 최대 순번 (없으면 0)
-     *
-     * 사용 예시:
-     * - ledgerOrderId = "20250001", responsibilityCat = "C"
-     * - 기존 코드: "20250001C0001", "20250001C0002"
-     * - 코드 형식: ledgerOrderId(8자리) + responsibilityCat(1자리) + 순번(4자리) = 13자리
-     * - SUBSTRING(responsibility_cd, 10, 4): 10번째부터 4자리 추출 (순번 부분)
-     * - 반환값: 2
-     * - 다음 코드: "20250001C0003"
-     */
-    @Query("""
-        SELECT COALESCE(MAX(CAST(SUBSTRING(r.responsibilityCd, 10, 4) AS integer)), 0)
-        FROM Responsibility r
-        WHERE r.ledgerOrderId = :ledgerOrderId
-          AND r.responsibilityCat = :responsibilityCat
-        """)
-    Integer findMaxSequenceByLedgerOrderIdAndCategory(
-        @Param("ledgerOrderId") String ledgerOrderId,
-        @Param("responsibilityCat") String responsibilityCat
-    );
-
     /**
      * 책무코드 존재 여부 확인
      */
@@ -90,39 +99,26 @@ public interface ResponsibilityRepository extends JpaRepository<Responsibility,
      * @param responsibilityCd 책무코드 (선택적)
      * @return 조인된 책무 목록
      */
-    @Query(value = """
-        SELECT
-            r.responsibility_cd,
-            r.ledger_order_id,
-            r.positions_id,
-            r.responsibility_cat,
-            r.responsibility_info,
-            r.responsibility_legal,
-            r.expiration_date,
-            r.responsibility_status,
-            r.is_active as responsibility_is_active,
-            r.created_by,
-            r.created_at,
-            r.updated_by,
-            r.updated_at,
-            p.positions_cd,
-            p.positions_name,
-            p.hq_code,
-            p.hq_name
-        FROM rsms.responsibilities r
-        LEFT JOIN rsms.positions p ON r.positions_id = p.positions_id
-        WHERE 1=1
-            AND (:ledgerOrderId IS NULL OR r.ledger_order_id = :ledgerOrderId)
-            AND (:responsibilityInfo IS NULL OR r.responsibility_info LIKE CONCAT('%', :responsibilityInfo, '%'))
-            AND (:responsibilityCd IS NULL OR r.responsibility_cd = :responsibilityCd)
-        ORDER BY r.responsibility_cd
-        """, nativeQuery = true)
+    @Query(value = RESPONSIBILITIES_WITH_JOIN_QUERY, nativeQuery = true)
     List<Map<String, Object>> findAllResponsibilitiesWithJoin(
         @Param("ledgerOrderId") String ledgerOrderId,
         @Param("responsibilityInfo") String responsibilityInfo,
         @Param("responsibilityCd") String responsibilityCd
     );
 
+    /**
+     * 2개 테이블 조인 조회 - 스트리밍 (엑셀 내보내기용)
+     * - 조건은 findAllResponsibilitiesWithJoin과 동일
+     * - 트랜잭션 안에서 사용하고 반드시 Stream을 닫아야 함
+     */
+    @Query(value = RESPONSIBILITIES_WITH_JOIN_QUERY, nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<Map<String, Object>> streamAllResponsibilitiesWithJoin(
+        @Param("ledgerOrderId") String ledgerOrderId,
+        @Param("responsibilityInfo") String responsibilityInfo,
+        @Param("responsibilityCd") String responsibilityCd
+    );
+
     /**
      * 직책ID로 책무 목록 조회 (positions 엔티티와 함께)
      * - 책무기술서 데이터 조회용
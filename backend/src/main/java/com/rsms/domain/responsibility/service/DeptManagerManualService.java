@@ -2,22 +2,39 @@ package com.rsms.domain.responsibility.service;
 
 import com.rsms.domain.responsibility.dto.CreateDeptManagerManualRequest;
 import com.rsms.domain.responsibility.dto.DeptManagerManualDto;
+import com.rsms.domain.responsibility.dto.DeptManagerManualSearchRequest;
 import com.rsms.domain.responsibility.dto.UpdateDeptManagerManualRequest;
 import com.rsms.domain.responsibility.entity.DeptManagerManual;
 import com.rsms.domain.responsibility.entity.ManagementObligation;
 import com.rsms.domain.responsibility.repository.DeptManagerManualRepository;
 import com.rsms.domain.responsibility.repository.ManagementObligationRepository;
+import com.rsms.domain.responsibility.service.ResponsibilityCodeSequencer.CodeLevel;
 import com.rsms.domain.organization.repository.OrganizationRepository;
 import com.rsms.domain.organization.entity.Organization;
-import com.rsms.domain.system.code.service.CommonCodeService;
-import com.rsms.domain.system.code.dto.CommonCodeDetailDto;
+import com.rsms.domain.system.code.service.CommonCodeRegistry;
+import com.rsms.global.excel.ExcelColumn;
+import com.rsms.global.excel.ExcelStreamWriter;
+import com.rsms.interfaces.common.PageResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * 부서장업무메뉴얼 서비스
@@ -33,10 +50,36 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class DeptManagerManualService {
 
+    /**
+     * 부서장업무메뉴얼 목록 엑셀 컬럼
+     */
+    private static final List<ExcelColumn<DeptManagerManualDto>> MANUAL_EXCEL_COLUMNS = List.of(
+        ExcelColumn.of("관리활동코드", DeptManagerManualDto::getManualCd, 30),
+        ExcelColumn.of("원장차수", DeptManagerManualDto::getLedgerOrderId, 10),
+        ExcelColumn.of("책무구분", DeptManagerManualDto::getResponsibilityCat, 10),
+        ExcelColumn.of("책무", DeptManagerManualDto::getResponsibilityInfo, 40),
+        ExcelColumn.of("책무상세", DeptManagerManualDto::getResponsibilityDetailInfo, 40),
+        ExcelColumn.of("관리의무", DeptManagerManualDto::getObligationInfo, 40),
+        ExcelColumn.of("부서명", DeptManagerManualDto::getOrgName, 16),
+        ExcelColumn.of("책무관리항목", DeptManagerManualDto::getRespItem, 40),
+        ExcelColumn.of("관리활동명", DeptManagerManualDto::getActivityName, 30),
+        ExcelColumn.of("수행자", DeptManagerManualDto::getExecutorName, 12),
+        ExcelColumn.of("수행일자", DeptManagerManualDto::getExecutionDate, 12),
+        ExcelColumn.of("수행상태", DeptManagerManualDto::getExecutionStatus, 10),
+        ExcelColumn.of("사용여부", DeptManagerManualDto::getIsActive, 8),
+        ExcelColumn.of("등록일시", DeptManagerManualDto::getCreatedAt, 20)
+    );
+
+    /**
+     * 일괄 UPDATE / 재조회 시 IN 절 최대 건수
+     */
+    private static final int BULK_CHUNK_SIZE = 1000;
+
     private final DeptManagerManualRepository deptManagerManualRepository;
     private final ManagementObligationRepository managementObligationRepository;
     private final OrganizationRepository organizationRepository;
-    private final CommonCodeService commonCodeService;
+    private final CommonCodeRegistry commonCodeRegistry;
+    private final ResponsibilityCodeSequencer responsibilityCodeSequencer;
 
     // ===============================
     // 코드 자동 생성 로직
@@ -53,20 +96,11 @@ public class DeptManagerManualService {
     private String generateManualCode(String obligationCd) {
         log.debug("[DeptManagerManualService] 메뉴얼코드 생성 시작 - obligationCd: {}", obligationCd);
 
-        // 1. 최대 순번 조회
-        Integer maxSeq = deptManagerManualRepository.findMaxSequenceByObligationCd(obligationCd);
+        // 접두어(관리의무코드 + "A") 카운터에서 다음 순번 채번
+        String code = responsibilityCodeSequencer.next(CodeLevel.DEPT_MANAGER_MANUAL, obligationCd + "A");
 
-        // 2. 다음 순번 계산
-        int nextSeq = (maxSeq != null ? maxSeq : 0) + 1;
-
-        // 3. 4자리 순번으로 포맷팅
-        String formattedSeq = String.format("%04d", nextSeq);
-
-        // 4. 코드 조합: obligationCd + "A" + 순번
-        String code = obligationCd + "A" + formattedSeq;
-
-        log.debug("[DeptManagerManualService] 메뉴얼코드 생성 완료 - obligationCd: {}, seq: {} -> code: {}",
-                  obligationCd, nextSeq, code);
+        log.debug("[DeptManagerManualService] 메뉴얼코드 생성 완료 - obligationCd: {} -> code: {}",
+                  obligationCd, code);
 
         return code;
     }
@@ -158,6 +192,28 @@ public class DeptManagerManualService {
             .collect(Collectors.toList());
     }
 
+    /**
+     * 전체 메뉴얼 목록 엑셀 내보내기 (employees 조인)
+     * - findAllWithEmployees와 동일 조건
+     * - DB 커서(Stream)로 읽으면서 SXSSF로 작성하여 목록 전체를 메모리에 올리지 않음
+     *
+     * @param outputStream 출력 스트림 (HTTP 응답)
+     * @return 내보낸 행 수
+     */
+    public long exportAllWithEmployees(OutputStream outputStream) throws IOException {
+        log.debug("[DeptManagerManualService] 전체 메뉴얼 엑셀 내보내기 (employees 조인)");
+
+        try (Stream<Object[]> rows = deptManagerManualRepository.streamAllWithEmployeesNative();
+             ExcelStreamWriter<DeptManagerManualDto> writer =
+                 new ExcelStreamWriter<>("부서장업무메뉴얼", MANUAL_EXCEL_COLUMNS)) {
+            writer.writeAll(rows.map(this::convertFromNativeQuery));
+            writer.finish(outputStream);
+
+            log.info("[DeptManagerManualService] 엑셀 내보내기 완료 - {} 건", writer.getRowCount());
+            return writer.getRowCount();
+        }
+    }
+
     /**
      * 원장차수ID로 메뉴얼 목록 조회
      *
@@ -174,6 +230,73 @@ public class DeptManagerManualService {
             .collect(Collectors.toList());
     }
 
+    /**
+     * 전체 메뉴얼 목록 페이지 조회
+     *
+     * @param filter 검색 조건
+     * @param pageable 페이지/정렬 (정렬 속성은 DeptManagerManual 필드명)
+     * @return 메뉴얼 페이지 (수행자명, 조직명, 책무구조 정보 포함)
+     */
+    public PageResponse<DeptManagerManualDto> findAll(DeptManagerManualSearchRequest filter, Pageable pageable) {
+        return searchManuals(filter, pageable);
+    }
+
+    /**
+     * 원장차수ID로 메뉴얼 목록 페이지 조회
+     *
+     * @param ledgerOrderId 원장차수ID
+     * @param filter 검색 조건 (원장차수ID는 경로 값으로 대체)
+     * @param pageable 페이지/정렬
+     * @return 메뉴얼 페이지
+     */
+    public PageResponse<DeptManagerManualDto> findByLedgerOrderId(String ledgerOrderId,
+                                                                  DeptManagerManualSearchRequest filter,
+                                                                  Pageable pageable) {
+        DeptManagerManualSearchRequest f = filter != null ? filter : new DeptManagerManualSearchRequest();
+        f.setLedgerOrderId(ledgerOrderId);
+        return searchManuals(f, pageable);
+    }
+
+    /**
+     * 메뉴얼 목록 페이지 조회
+     * - 1단계: 조건/정렬/페이징을 메뉴얼코드만 조회 (인덱스 조회 + COUNT)
+     * - 2단계: 페이지 메뉴얼코드로 employees, organizations, 책무구조 조인 행 재조회 (쿼리 1회)
+     * - 페이지 순서는 1단계 정렬 순서 유지
+     *
+     * @param filter 검색 조건
+     * @param pageable 페이지/정렬
+     * @return 메뉴얼 페이지
+     */
+    public PageResponse<DeptManagerManualDto> searchManuals(DeptManagerManualSearchRequest filter, Pageable pageable) {
+        DeptManagerManualSearchRequest f = filter != null ? filter : new DeptManagerManualSearchRequest();
+        log.debug("[DeptManagerManualService] 메뉴얼 페이지 조회 - ledgerOrderId: {}, orgCode: {}, page: {}, size: {}",
+            f.getLedgerOrderId(), f.getOrgCode(), pageable.getPageNumber(), pageable.getPageSize());
+
+        Page<String> manualCds = deptManagerManualRepository.searchManualCds(
+            DeptManagerManualSearchRequest.emptyToNull(f.getLedgerOrderId()),
+            DeptManagerManualSearchRequest.emptyToNull(f.getOrgCode()),
+            DeptManagerManualSearchRequest.emptyToNull(f.getExecutorId()),
+            DeptManagerManualSearchRequest.emptyToNull(f.getExecutionStatus()),
+            DeptManagerManualSearchRequest.emptyToNull(f.getIsActive()),
+            DeptManagerManualSearchRequest.emptyToNull(f.getKeyword()),
+            pageable);
+
+        List<DeptManagerManualDto> content = List.of();
+        if (manualCds.hasContent()) {
+            Map<String, DeptManagerManualDto> rows = deptManagerManualRepository
+                .findByManualCdsWithEmployeesNative(manualCds.getContent()).stream()
+                .map(this::convertFromNativeQuery)
+                .collect(Collectors.toMap(DeptManagerManualDto::getManualCd, Function.identity(), (a, b) -> a));
+            content = manualCds.getContent().stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
+                .map(this::applyCodeNames)
+                .collect(Collectors.toList());
+        }
+
+        return PageResponse.of(new PageImpl<>(content, manualCds.getPageable(), manualCds.getTotalElements()));
+    }
+
     /**
      * 조직코드로 메뉴얼 목록 조회
      *
@@ -305,7 +428,9 @@ public class DeptManagerManualService {
 
     /**
      * 수행자 일괄 지정
-     * - 여러 메뉴얼에 수행자(executor_id)를 일괄 업데이트
+     * - 여러 메뉴얼에 수행자(executor_id)를 UPDATE ... WHERE manual_cd IN (...)로 일괄 업데이트 (BULK_CHUNK_SIZE 단위)
+     * - 요청한 메뉴얼 중 하나라도 없으면 전체 롤백
+     * - 변경된 메뉴얼은 조인 쿼리 1회로 재조회 (행마다 조직/공통코드 조회하지 않음)
      *
      * @param manualCds 메뉴얼코드 리스트
      * @param executorId 수행자 ID (emp_no)
@@ -317,23 +442,37 @@ public class DeptManagerManualService {
         log.info("[DeptManagerManualService] 수행자 일괄 지정 요청 - count: {}, executorId: {}, username: {}",
             manualCds.size(), executorId, username);
 
-        List<DeptManagerManualDto> updatedManuals = new java.util.ArrayList<>();
-
-        for (String manualCd : manualCds) {
-            DeptManagerManual manual = deptManagerManualRepository.findById(manualCd)
-                .orElseThrow(() -> new IllegalArgumentException("메뉴얼을 찾을 수 없습니다. CODE: " + manualCd));
+        List<String> targetCds = new ArrayList<>(new LinkedHashSet<>(manualCds));
+        if (targetCds.isEmpty()) {
+            return List.of();
+        }
 
-            // 수행자 ID만 업데이트
-            manual.setExecutorId(executorId);
-            manual.setUpdatedBy(username);
+        LocalDateTime now = LocalDateTime.now();
+        int updatedCount = 0;
+        for (int from = 0; from < targetCds.size(); from += BULK_CHUNK_SIZE) {
+            List<String> chunk = targetCds.subList(from, Math.min(from + BULK_CHUNK_SIZE, targetCds.size()));
+            updatedCount += deptManagerManualRepository.updateExecutorByManualCds(chunk, executorId, username, now);
+        }
 
-            DeptManagerManual saved = deptManagerManualRepository.save(manual);
-            updatedManuals.add(convertToDto(saved));
+        List<DeptManagerManualDto> updatedManuals = new ArrayList<>(updatedCount);
+        for (int from = 0; from < targetCds.size(); from += BULK_CHUNK_SIZE) {
+            List<String> chunk = targetCds.subList(from, Math.min(from + BULK_CHUNK_SIZE, targetCds.size()));
+            deptManagerManualRepository.findByManualCdsWithEmployeesNative(chunk).stream()
+                .map(this::convertFromNativeQuery)
+                .forEach(dto -> updatedManuals.add(applyCodeNames(dto)));
+        }
 
-            log.debug("[DeptManagerManualService] 수행자 지정 완료 - manualCd: {}, executorId: {}", manualCd, executorId);
+        if (updatedCount != targetCds.size()) {
+            Set<String> found = updatedManuals.stream()
+                .map(DeptManagerManualDto::getManualCd)
+                .collect(Collectors.toSet());
+            String missing = targetCds.stream()
+                .filter(manualCd -> !found.contains(manualCd))
+                .collect(Collectors.joining(", "));
+            throw new IllegalArgumentException("메뉴얼을 찾을 수 없습니다. CODE: " + missing);
         }
 
-        log.info("[DeptManagerManualService] 수행자 일괄 지정 완료 - count: {}", updatedManuals.size());
+        log.info("[DeptManagerManualService] 수행자 일괄 지정 완료 - count: {}", updatedCount);
         return updatedManuals;
     }
 
@@ -461,40 +600,55 @@ public class DeptManagerManualService {
                 .ifPresent(org -> builder.orgName(org.getOrgName()));
         }
 
+        return applyCodeNames(builder.build());
+    }
+
+    /**
+     * 공통코드명 설정 (점검주기, 수행상태, 수행결과)
+     *
+     * @param dto 메뉴얼 DTO
+     * @return 코드명이 설정된 DTO
+     */
+    private DeptManagerManualDto applyCodeNames(DeptManagerManualDto dto) {
         // 공통코드명 조회 (점검주기, 수행상태, 수행결과)
         try {
-            // 점검주기명 조회
-            if (manual.getExecCheckFrequencyCd() != null && !manual.getExecCheckFrequencyCd().isEmpty()) {
-                CommonCodeDetailDto frequencyCode = commonCodeService.getCodeDetail(
-                    "FLFL_ISPC_FRCD", manual.getExecCheckFrequencyCd());
-                builder.execCheckFrequencyName(frequencyCode.getDetailName());
+            // 점검주기명 조회 (CommonCodeRegistry 스냅샷, 행마다 DB 조회하지 않음)
+            if (dto.getExecCheckFrequencyCd() != null && !dto.getExecCheckFrequencyCd().isEmpty()) {
+                String frequencyName = commonCodeRegistry.getCodeName(
+                    "FLFL_ISPC_FRCD", dto.getExecCheckFrequencyCd());
+                if (frequencyName != null) {
+                    dto.setExecCheckFrequencyName(frequencyName);
+                } else {
+                    log.warn("공통코드명 조회 실패 - manualCd: {}, FLFL_ISPC_FRCD: {}",
+                        dto.getManualCd(), dto.getExecCheckFrequencyCd());
+                }
             }
 
             // 수행상태명 조회 (예: 01=미수행, 02=수행완료)
-            if (manual.getExecutionStatus() != null && !manual.getExecutionStatus().isEmpty()) {
+            if (dto.getExecutionStatus() != null && !dto.getExecutionStatus().isEmpty()) {
                 // 수행상태 코드그룹이 있다면 조회
                 // 없다면 하드코딩으로 처리 가능
-                String executionStatusName = switch (manual.getExecutionStatus()) {
+                String executionStatusName = switch (dto.getExecutionStatus()) {
                     case "01" -> "미수행";
                     case "02" -> "수행완료";
-                    default -> manual.getExecutionStatus();
+                    default -> dto.getExecutionStatus();
                 };
-                builder.executionStatusName(executionStatusName);
+                dto.setExecutionStatusName(executionStatusName);
             }
 
             // 수행결과명 조회 (예: 01=적정, 02=부적정)
-            if (manual.getExecutionResultCd() != null && !manual.getExecutionResultCd().isEmpty()) {
-                String executionResultName = switch (manual.getExecutionResultCd()) {
+            if (dto.getExecutionResultCd() != null && !dto.getExecutionResultCd().isEmpty()) {
+                String executionResultName = switch (dto.getExecutionResultCd()) {
                     case "01" -> "적정";
                     case "02" -> "부적정";
-                    default -> manual.getExecutionResultCd();
+                    default -> dto.getExecutionResultCd();
                 };
-                builder.executionResultName(executionResultName);
+                dto.setExecutionResultName(executionResultName);
             }
         } catch (Exception e) {
-            log.warn("공통코드명 조회 실패 - manualCd: {}", manual.getManualCd(), e);
+            log.warn("공통코드명 조회 실패 - manualCd: {}", dto.getManualCd(), e);
         }
 
-        return builder.build();
+        return dto;
     }
 }
@@ -7,10 +7,10 @@ import com.rsms.domain.responsibility.entity.ManagementObligation;
 import com.rsms.domain.responsibility.entity.ResponsibilityDetail;
 import com.rsms.domain.responsibility.repository.ManagementObligationRepository;
 import com.rsms.domain.responsibility.repository.ResponsibilityDetailRepository;
+import com.rsms.domain.responsibility.service.ResponsibilityCodeSequencer.CodeLevel;
 import com.rsms.domain.organization.repository.OrganizationRepository;
 import com.rsms.domain.organization.entity.Organization;
-import com.rsms.domain.system.code.service.CommonCodeService;
-import com.rsms.domain.system.code.dto.CommonCodeDetailDto;
+import com.rsms.domain.system.code.service.CommonCodeRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -32,7 +32,8 @@ public class ManagementObligationService {
     private final ManagementObligationRepository managementObligationRepository;
     private final ResponsibilityDetailRepository responsibilityDetailRepository;
     private final OrganizationRepository organizationRepository;
-    private final CommonCodeService commonCodeService;
+    private final CommonCodeRegistry commonCodeRegistry;
+    private final ResponsibilityCodeSequencer responsibilityCodeSequencer;
 
     // ===============================
     // 코드 자동 생성 로직
@@ -49,24 +50,11 @@ public class ManagementObligationService {
     private String generateObligationCode(String responsibilityDetailCd) {
         log.debug("[ManagementObligationService] 관리의무코드 생성 시작 - responsibilityDetailCd: {}", responsibilityDetailCd);
 
-        // 1. prefix 길이 계산 (책무세부코드 + "O" = prefixLength)
-        int prefixLength = responsibilityDetailCd.length() + 1;  // "20250001M0002D0001O"의 길이
+        // 접두어(책무세부코드 + "O") 카운터에서 다음 순번 채번
+        String code = responsibilityCodeSequencer.next(CodeLevel.MANAGEMENT_OBLIGATION, responsibilityDetailCd + "O");
 
-        // 2. 최대 순번 조회
-        Integer maxSeq = managementObligationRepository.findMaxSequenceByResponsibilityDetailCd(
-            responsibilityDetailCd, prefixLength);
-
-        // 3. 다음 순번 계산
-        int nextSeq = (maxSeq != null ? maxSeq : 0) + 1;
-
-        // 4. 4자리 순번으로 포맷팅
-        String formattedSeq = String.format("%04d", nextSeq);
-
-        // 5. 코드 조합: responsibilityDetailCd + "O" + 순번
-        String code = responsibilityDetailCd + "O" + formattedSeq;
-
-        log.debug("[ManagementObligationService] 관리의무코드 생성 완료 - responsibilityDetailCd: {}, seq: {} -> code: {}",
-                  responsibilityDetailCd, nextSeq, code);
+        log.debug("[ManagementObligationService] 관리의무코드 생성 완료 - responsibilityDetailCd: {} -> code: {}",
+                  responsibilityDetailCd, code);
 
         return code;
     }
@@ -268,13 +256,11 @@ public class ManagementObligationService {
      */
     private ManagementObligationDto convertToDtoWithOrgName(ManagementObligation obligation, String orgName) {
         // 관리의무 대분류 코드명 조회
-        String obligationMajorCatName = "";
-        try {
-            CommonCodeDetailDto majorCatCode = commonCodeService.getCodeDetail(
-                "MGMT_OBLG_LCCD", obligation.getObligationMajorCatCd());
-            obligationMajorCatName = majorCatCode.getDetailName();
-        } catch (Exception e) {
+        String obligationMajorCatName = commonCodeRegistry.getCodeName(
+            "MGMT_OBLG_LCCD", obligation.getObligationMajorCatCd());
+        if (obligationMajorCatName == null) {
             log.warn("관리의무 대분류 코드명 조회 실패 - code: {}", obligation.getObligationMajorCatCd());
+            obligationMajorCatName = "";
         }
 
         // 책무세부내용 조회
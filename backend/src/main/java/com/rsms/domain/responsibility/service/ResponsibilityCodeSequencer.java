@@ -0,0 +1,211 @@
+package com.rsms.domain.responsibility.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 책무 계층 업무코드 채번기
+ * - 책무 / 책무세부 / 관리의무 / 부서장업무메뉴얼 코드를 "상위 접두어 + 순번(4자리)"으로 채번
+ *   예: 20250001C + 0001, 20250001C0001D + 0001, ...O + 0001, ...A + 0001
+ * - 접두어별 카운터(rsms.id_counters, 키: 레벨:접두어)를 호출 측 트랜잭션 안에서 필요한 건수만큼 한 번에 올림
+ *   → 접두어 개수와 무관하게 레벨당 쿼리 2회 (카운터 잠금 1회 + 범위 예약 1회, 모두 PK 조회)
+ *   → 카운터 행 잠금은 커밋까지 유지되므로 같은 접두어의 동시 채번은 순차 처리되고 결번 없음
+ * - 카운터 행이 없는 접두어만 테이블의 기존 최대 순번 + 1로 1회 시드 (업무 테이블 스캔은 접두어당 최초 1회)
+ * - 순번은 접두어당 최대 9999: 초과 시 예외 (삭제 후 재저장은 호출 측에서 기존 코드를 재사용하여 소진 방지)
+ *
+ * @author Claude AI
+ * @since 2025-12-05
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ResponsibilityCodeSequencer {
+
+    /**
+     * 순번 자릿수 최대값 (4자리)
+     */
+    private static final int MAX_SEQUENCE = 9999;
+
+    /**
+     * 접두어별 카운터 행 잠금 (정렬 순서로 잠가 동시 채번 간 교착 방지)
+     * - 반환값: 이미 존재하는 카운터 키
+     */
+    private static final String LOCK_SQL =
+        "SELECT counter_key FROM rsms.id_counters " +
+        "WHERE counter_key = ANY(?::varchar[]) " +
+        "ORDER BY counter_key FOR UPDATE";
+
+    /**
+     * 접두어별 카운터 범위 예약
+     * - 잠금/시드 단계에서 잠근 카운터 행을 건수만큼 증가
+     * - 반환값: 증가 후 next_value (예약 범위: [next_value - 건수, next_value - 1])
+     */
+    private static final String RESERVE_SQL =
+        "UPDATE rsms.id_counters AS c " +
+        "SET next_value = c.next_value + r.cnt, updated_at = CURRENT_TIMESTAMP " +
+        "FROM unnest(?::varchar[], ?::integer[]) AS r(counter_key, cnt) " +
+        "WHERE c.counter_key = r.counter_key " +
+        "RETURNING c.counter_key, c.next_value";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 코드 레벨
+     */
+    public enum CodeLevel {
+        RESPONSIBILITY("rsms.responsibilities", "responsibility_cd"),
+        RESPONSIBILITY_DETAIL("rsms.responsibility_details", "responsibility_detail_cd"),
+        MANAGEMENT_OBLIGATION("rsms.management_obligations", "obligation_cd"),
+        DEPT_MANAGER_MANUAL("rsms.dept_manager_manuals", "manual_cd");
+
+        /**
+         * 접두어별 카운터 생성 (카운터 행이 없는 접두어만)
+         * - 기존 데이터의 최대 순번 + 1로 생성하고 행 잠금 획득
+         * - 접두어는 LIKE 패턴이 아닌 문자열 그대로 비교 (접두어의 '_', '%'가 와일드카드로 해석되지 않도록)
+         * - 동시에 생성된 경우 현재 카운터와 비교하여 큰 값 유지
+         * - 접두어 정렬 순서로 잠가 동시 채번 간 교착 방지
+         */
+        private final String seedSql;
+
+        CodeLevel(String table, String column) {
+            this.seedSql =
+                "INSERT INTO rsms.id_counters AS c (counter_key, next_value) " +
+                "SELECT '" + name() + ":' || p.prefix, " +
+                "COALESCE(MAX(CAST(SUBSTRING(t." + column + " FROM LENGTH(p.prefix) + 1) AS INTEGER)), 0) + 1 " +
+                "FROM unnest(?::varchar[]) AS p(prefix) " +
+                "LEFT JOIN " + table + " t ON LEFT(t." + column + ", LENGTH(p.prefix)) = p.prefix " +
+                "AND SUBSTRING(t." + column + " FROM LENGTH(p.prefix) + 1) ~ '^[0-9]{4}$' " +
+                "GROUP BY p.prefix " +
+                "ORDER BY p.prefix " +
+                "ON CONFLICT (counter_key) DO UPDATE " +
+                "SET next_value = GREATEST(c.next_value, EXCLUDED.next_value), updated_at = CURRENT_TIMESTAMP";
+        }
+
+        private String counterKey(String prefix) {
+            return name() + ":" + prefix;
+        }
+    }
+
+    /**
+     * 예약된 코드 (접두어별로 순서대로 할당)
+     */
+    public static final class ReservedCodes {
+        private final Map<String, Deque<String>> codes;
+
+        private ReservedCodes(Map<String, Deque<String>> codes) {
+            this.codes = codes;
+        }
+
+        /**
+         * 접두어의 다음 코드
+         *
+         * @param prefix 상위 접두어
+         * @return 코드 (접두어 + 순번 4자리)
+         */
+        public String next(String prefix) {
+            Deque<String> queue = codes.get(prefix);
+            if (queue == null || queue.isEmpty()) {
+                throw new IllegalStateException("예약된 코드가 없습니다. 접두어: " + prefix);
+            }
+            return queue.poll();
+        }
+    }
+
+    /**
+     * 코드 1건 채번
+     *
+     * @param level 코드 레벨
+     * @param prefix 상위 접두어 (예: "20250001C", "20250001C0001D")
+     * @return 생성된 코드
+     */
+    public String next(CodeLevel level, String prefix) {
+        return reserve(level, Map.of(prefix, 1)).next(prefix);
+    }
+
+    /**
+     * 여러 접두어의 코드를 한 번에 예약
+     * - 접두어 개수와 무관하게 쿼리 2회 (카운터가 없는 접두어가 있으면 시드 1회 추가)
+     * - 호출 측 트랜잭션 안에서 호출해야 함 (커밋 시 확정, 롤백 시 카운터도 롤백)
+     *
+     * @param level 코드 레벨
+     * @param countsByPrefix 접두어 → 필요한 코드 건수
+     * @return 예약된 코드
+     */
+    public ReservedCodes reserve(CodeLevel level, Map<String, Integer> countsByPrefix) {
+        Map<String, Integer> counts = new TreeMap<>();
+        countsByPrefix.forEach((prefix, count) -> {
+            if (count != null && count > 0) {
+                counts.put(prefix, count);
+            }
+        });
+        if (counts.isEmpty()) {
+            return new ReservedCodes(Map.of());
+        }
+
+        String[] prefixes = counts.keySet().toArray(new String[0]);
+        String[] counterKeys = new String[prefixes.length];
+        Integer[] sizes = new Integer[prefixes.length];
+        Map<String, String> prefixByKey = new HashMap<>();
+        for (int i = 0; i < prefixes.length; i++) {
+            counterKeys[i] = level.counterKey(prefixes[i]);
+            sizes[i] = counts.get(prefixes[i]);
+            prefixByKey.put(counterKeys[i], prefixes[i]);
+        }
+
+        // 1. 기존 카운터 잠금
+        Set<String> lockedKeys = new HashSet<>(jdbcTemplate.query(LOCK_SQL,
+            ps -> ps.setArray(1, ps.getConnection().createArrayOf("varchar", counterKeys)),
+            (rs, rowNum) -> rs.getString(1)));
+
+        // 2. 카운터가 없는 접두어만 생성 및 잠금
+        String[] missingPrefixes = Arrays.stream(prefixes)
+            .filter(prefix -> !lockedKeys.contains(level.counterKey(prefix)))
+            .toArray(String[]::new);
+        if (missingPrefixes.length > 0) {
+            jdbcTemplate.update(level.seedSql,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("varchar", missingPrefixes)));
+            log.info("업무코드 카운터 생성 - level: {}, 접두어: {}", level, Arrays.toString(missingPrefixes));
+        }
+
+        // 3. 범위 예약
+        List<Object[]> reserved = jdbcTemplate.query(RESERVE_SQL,
+            ps -> {
+                ps.setArray(1, ps.getConnection().createArrayOf("varchar", counterKeys));
+                ps.setArray(2, ps.getConnection().createArrayOf("integer", sizes));
+            },
+            (rs, rowNum) -> new Object[]{rs.getString(1), rs.getLong(2)});
+
+        Map<String, Deque<String>> codes = new HashMap<>();
+        for (Object[] row : reserved) {
+            String prefix = prefixByKey.get((String) row[0]);
+            int count = counts.get(prefix);
+            long end = (Long) row[1];
+            if (end - 1 > MAX_SEQUENCE) {
+                throw new IllegalArgumentException("코드 순번이 최대값(" + MAX_SEQUENCE + ")을 초과했습니다. 접두어: " + prefix
+                    + " (현재 " + (end - 1 - count) + "건 사용, 요청 " + count + "건)");
+            }
+
+            Deque<String> queue = new ArrayDeque<>(count);
+            for (long seq = end - count; seq < end; seq++) {
+                queue.add(prefix + String.format("%04d", seq));
+            }
+            codes.put(prefix, queue);
+        }
+
+        log.debug("업무코드 예약 - level: {}, 접두어: {} 개, 코드: {} 건",
+            level, counts.size(), counts.values().stream().mapToInt(Integer::intValue).sum());
+        return new ReservedCodes(codes);
+    }
+}
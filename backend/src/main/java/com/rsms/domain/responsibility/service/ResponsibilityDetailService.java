@@ -5,6 +5,7 @@ import com.rsms.domain.responsibility.dto.ResponsibilityDetailDto;
 import com.rsms.domain.responsibility.dto.UpdateResponsibilityDetailRequest;
 import com.rsms.domain.responsibility.entity.ResponsibilityDetail;
 import com.rsms.domain.responsibility.repository.ResponsibilityDetailRepository;
+import com.rsms.domain.responsibility.service.ResponsibilityCodeSequencer.CodeLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -25,6 +26,7 @@ public class ResponsibilityDetailService {
 
     private final ResponsibilityDetailRepository responsibilityDetailRepository;
     private final com.rsms.domain.responsibility.repository.ResponsibilityRepository responsibilityRepository;
+    private final ResponsibilityCodeSequencer responsibilityCodeSequencer;
 
     // ===============================
     // 코드 자동 생성 로직
@@ -41,24 +43,11 @@ public class ResponsibilityDetailService {
     private String generateDetailCode(String responsibilityCd) {
         log.debug("[ResponsibilityDetailService] 책무세부코드 생성 시작 - responsibilityCd: {}", responsibilityCd);
 
-        // 1. prefix 길이 계산 (책무코드 전체 + "D" = prefixLength)
-        int prefixLength = responsibilityCd.length() + 1;  // "20250001M0001D"의 길이 = 14
+        // 접두어(책무코드 전체 + "D") 카운터에서 다음 순번 채번
+        String code = responsibilityCodeSequencer.next(CodeLevel.RESPONSIBILITY_DETAIL, responsibilityCd + "D");
 
-        // 2. 최대 순번 조회
-        Integer maxSeq = responsibilityDetailRepository.findMaxSequenceByResponsibilityCd(
-            responsibilityCd, prefixLength);
-
-        // 3. 다음 순번 계산
-        int nextSeq = (maxSeq != null ? maxSeq : 0) + 1;
-
-        // 4. 4자리 순번으로 포맷팅
-        String formattedSeq = String.format("%04d", nextSeq);
-
-        // 5. 코드 조합: 책무코드 전체 + "D" + 순번
-        String code = responsibilityCd + "D" + formattedSeq;
-
-        log.debug("[ResponsibilityDetailService] 책무세부코드 생성 완료 - responsibilityCd: {}, seq: {} -> code: {}",
-                  responsibilityCd, nextSeq, code);
+        log.debug("[ResponsibilityDetailService] 책무세부코드 생성 완료 - responsibilityCd: {} -> code: {}",
+                  responsibilityCd, code);
 
         return code;
     }
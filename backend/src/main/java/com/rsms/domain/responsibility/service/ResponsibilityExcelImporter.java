@@ -0,0 +1,328 @@
+package com.rsms.domain.responsibility.service;
+
+import com.rsms.domain.ledger.repository.LedgerOrderRepository;
+import com.rsms.domain.position.entity.Position;
+import com.rsms.domain.position.repository.PositionRepository;
+import com.rsms.domain.responsibility.dto.ExcelUploadResponse;
+import com.rsms.domain.responsibility.service.ResponsibilityCodeSequencer.CodeLevel;
+import com.rsms.domain.responsibility.service.ResponsibilityCodeSequencer.ReservedCodes;
+import com.rsms.global.excel.ExcelStreamReader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 책무 엑셀 업로드 처리기
+ * - ExcelStreamReader(SAX)로 행 단위 스트리밍 처리 (워크북 전체를 메모리에 올리지 않음)
+ * - 원장차수 존재여부/직책코드는 원장차수별 1회 조회 후 메모리에서 조회
+ * - 책무코드는 배치 INSERT 직전에 (원장차수 + 책무카테고리) 접두어별로 한 번에 예약 (배치당 쿼리 2회)
+ * - 검증을 통과한 행은 JDBC 배치 INSERT (BATCH_SIZE 단위)
+ * - 행별 검증 오류는 ExcelUploadResponse에 기존과 동일한 형식으로 기록
+ * - 컬럼 길이도 행 단위로 검증하여 배치 INSERT 실패(전체 롤백)는 실제 DB 오류에서만 발생
+ *
+ * @author Claude AI
+ * @since 2025-12-05
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ResponsibilityExcelImporter {
+
+    /**
+     * 엑셀 양식 헤더
+     */
+    private static final String[] EXPECTED_HEADERS = {"원장차수", "직책코드", "책무카테고리코드", "책무내용", "책무관련근거", "사용여부"};
+
+    /**
+     * JDBC 배치 INSERT 단위
+     */
+    private static final int BATCH_SIZE = 500;
+
+    /**
+     * 책무 만료일 기본값 (Responsibility.onCreate와 동일)
+     */
+    private static final LocalDate DEFAULT_EXPIRATION_DATE = LocalDate.of(9999, 12, 31);
+
+    /**
+     * 컬럼 최대 길이 (rsms.responsibilities)
+     */
+    private static final int MAX_RESPONSIBILITY_CD_LENGTH = 20;
+    private static final int MAX_RESPONSIBILITY_CAT_LENGTH = 20;
+    private static final int MAX_RESPONSIBILITY_INFO_LENGTH = 1000;
+    private static final int MAX_RESPONSIBILITY_LEGAL_LENGTH = 1000;
+
+    /**
+     * 책무코드 순번 자릿수 (ResponsibilityCodeSequencer)
+     */
+    private static final int SEQUENCE_DIGITS = 4;
+
+    private static final String INSERT_SQL =
+        "INSERT INTO rsms.responsibilities (" +
+        "responsibility_cd, ledger_order_id, positions_id, responsibility_cat, responsibility_info, " +
+        "responsibility_legal, expiration_date, is_active, created_by, created_at, updated_by, updated_at" +
+        ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final PositionRepository positionRepository;
+    private final LedgerOrderRepository ledgerOrderRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ResponsibilityCodeSequencer responsibilityCodeSequencer;
+
+    /**
+     * 엑셀 업로드 실행
+     * - 호출 측 트랜잭션 안에서 실행 (배치 INSERT 실패 시 전체 롤백)
+     *
+     * @param inputStream 엑셀 파일 스트림
+     * @param username 등록자 ID
+     * @return 업로드 결과
+     */
+    public ExcelUploadResponse importExcel(InputStream inputStream, String username) {
+        ExcelUploadResponse response = ExcelUploadResponse.builder()
+            .successCount(0)
+            .failCount(0)
+            .totalCount(0)
+            .errors(new ArrayList<>())
+            .build();
+
+        ImportContext context = new ImportContext(response, username);
+
+        try {
+            ExcelStreamReader.readFirstSheet(inputStream, context::handleRow);
+
+            if (!context.aborted) {
+                if (!context.headerChecked) {
+                    response.addError("엑셀 파일에 헤더가 없습니다.");
+                } else {
+                    context.flush();
+                }
+            }
+
+            log.info("엑셀 업로드 완료 - 총: {}, 성공: {}, 실패: {}",
+                response.getTotalCount(), response.getSuccessCount(), response.getFailCount());
+
+        } catch (IOException e) {
+            log.error("엑셀 파일 읽기 실패", e);
+            response.addError("엑셀 파일 읽기에 실패했습니다: " + e.getMessage());
+        }
+
+        return response;
+    }
+
+    /**
+     * 업로드 1회 처리 상태
+     */
+    private final class ImportContext {
+        private final ExcelUploadResponse response;
+        private final String username;
+        private final LocalDateTime now = LocalDateTime.now();
+
+        /** 원장차수ID → 존재 여부 */
+        private final Map<String, Boolean> ledgerOrderExists = new HashMap<>();
+        /** 원장차수ID → (직책코드 → 직책ID) */
+        private final Map<String, Map<String, Long>> positionIds = new HashMap<>();
+        /** 배치 대기 행 (INSERT 파라미터, 책무코드는 flush 시 할당) */
+        private final List<Object[]> pending = new ArrayList<>(BATCH_SIZE);
+        /** 배치 대기 행의 책무코드 접두어 (원장차수ID + 책무카테고리) */
+        private final List<String> pendingPrefixes = new ArrayList<>(BATCH_SIZE);
+
+        private boolean headerChecked;
+        private boolean aborted;
+
+        ImportContext(ExcelUploadResponse response, String username) {
+            this.response = response;
+            this.username = username;
+        }
+
+        boolean handleRow(int rowNum, List<String> values) {
+            // 헤더 행 검증 (첫 번째 행)
+            if (!headerChecked) {
+                if (rowNum != 1) {
+                    response.addError("엑셀 파일에 헤더가 없습니다.");
+                    aborted = true;
+                    return false;
+                }
+                for (int i = 0; i < EXPECTED_HEADERS.length; i++) {
+                    String headerValue = value(values, i);
+                    if (!EXPECTED_HEADERS[i].equals(headerValue)) {
+                        response.addError("헤더가 올바르지 않습니다. 예상: " + EXPECTED_HEADERS[i] + ", 실제: "
+                            + (headerValue != null ? headerValue : ""));
+                        aborted = true;
+                        return false;
+                    }
+                }
+                headerChecked = true;
+                return true;
+            }
+
+            response.setTotalCount(response.getTotalCount() + 1);
+
+            String ledgerOrderId = value(values, 0);
+            String positionsCd = value(values, 1);
+            String responsibilityCat = value(values, 2);
+            String responsibilityInfo = value(values, 3);
+            String responsibilityLegal = value(values, 4);
+            String isActive = value(values, 5);
+
+            // 필수 필드 검증
+            if (ledgerOrderId == null) {
+                return fail(rowNum, "원장차수는 필수입니다.");
+            }
+            if (positionsCd == null) {
+                return fail(rowNum, "직책코드는 필수입니다.");
+            }
+            if (responsibilityCat == null) {
+                return fail(rowNum, "책무카테고리코드는 필수입니다.");
+            }
+            if (responsibilityInfo == null) {
+                return fail(rowNum, "책무내용은 필수입니다.");
+            }
+            if (responsibilityLegal == null) {
+                return fail(rowNum, "책무관련근거는 필수입니다.");
+            }
+
+            // 컬럼 길이 검증 (초과 시 배치 INSERT 전체가 실패하므로 행 단위로 걸러냄)
+            if (responsibilityCat.length() > MAX_RESPONSIBILITY_CAT_LENGTH) {
+                return fail(rowNum, "책무카테고리코드는 " + MAX_RESPONSIBILITY_CAT_LENGTH + "자 이하여야 합니다.");
+            }
+            if (ledgerOrderId.length() + responsibilityCat.length() + SEQUENCE_DIGITS > MAX_RESPONSIBILITY_CD_LENGTH) {
+                return fail(rowNum, "원장차수와 책무카테고리코드로 만든 책무코드가 " + MAX_RESPONSIBILITY_CD_LENGTH + "자를 초과합니다.");
+            }
+            if (responsibilityInfo.length() > MAX_RESPONSIBILITY_INFO_LENGTH) {
+                return fail(rowNum, "책무내용은 " + MAX_RESPONSIBILITY_INFO_LENGTH + "자 이하여야 합니다. (현재 "
+                    + responsibilityInfo.length() + "자)");
+            }
+            if (responsibilityLegal.length() > MAX_RESPONSIBILITY_LEGAL_LENGTH) {
+                return fail(rowNum, "책무관련근거는 " + MAX_RESPONSIBILITY_LEGAL_LENGTH + "자 이하여야 합니다. (현재 "
+                    + responsibilityLegal.length() + "자)");
+            }
+
+            // 사용여부 검증 (Y 또는 N)
+            if (isActive != null && !isActive.equals("Y") && !isActive.equals("N")) {
+                return fail(rowNum, "사용여부는 Y 또는 N만 가능합니다.");
+            }
+
+            // 원장차수 존재 여부 검증
+            if (!ledgerOrderExists.computeIfAbsent(ledgerOrderId, ledgerOrderRepository::existsById)) {
+                return fail(rowNum, "원장차수 '" + ledgerOrderId + "'가 존재하지 않습니다.");
+            }
+
+            // 원장차수ID + 직책코드로 직책ID 조회
+            // - 동일한 직책코드가 여러 원장차수에 존재할 수 있으므로 원장차수별로 적재
+            Long positionsId = positionIds.computeIfAbsent(ledgerOrderId, this::loadPositionIds).get(positionsCd);
+            if (positionsId == null) {
+                return fail(rowNum, "원장차수 '" + ledgerOrderId + "', 직책코드 '" + positionsCd
+                    + "'에 해당하는 직책을 찾을 수 없습니다.");
+            }
+
+            pendingPrefixes.add(ledgerOrderId + responsibilityCat);
+            pending.add(new Object[]{
+                null,  // 책무코드 (flush 시 할당)
+                ledgerOrderId,
+                positionsId,
+                responsibilityCat,
+                responsibilityInfo,
+                responsibilityLegal,
+                Date.valueOf(DEFAULT_EXPIRATION_DATE),
+                isActive != null ? isActive : "Y",
+                username,
+                Timestamp.valueOf(now),
+                username,
+                Timestamp.valueOf(now)
+            });
+
+            if (pending.size() >= BATCH_SIZE) {
+                return flush();
+            }
+            return true;
+        }
+
+        /**
+         * 대기 중인 행 일괄 INSERT
+         *
+         * @return 계속 진행 여부 (코드 채번 또는 INSERT 실패 시 false)
+         */
+        boolean flush() {
+            if (pending.isEmpty()) {
+                return true;
+            }
+            int size = pending.size();
+            try {
+                assignResponsibilityCodes();
+                jdbcTemplate.batchUpdate(INSERT_SQL, pending);
+                response.setSuccessCount(response.getSuccessCount() + size);
+                log.debug("책무 배치 INSERT 완료 - {} 건", size);
+                pending.clear();
+                pendingPrefixes.clear();
+                return true;
+            } catch (DataAccessException e) {
+                // 배치 일부가 실패하면 트랜잭션이 중단되므로 전체 롤백 후 결과에 반영
+                log.error("책무 배치 INSERT 실패: {}", e.getMessage(), e);
+                return abort("저장 중 오류가 발생하여 업로드가 취소되었습니다: " + e.getMostSpecificCause().getMessage(), size);
+            } catch (IllegalArgumentException e) {
+                // 코드 순번 소진(접두어별 최대값 초과) - 이미 저장된 배치까지 롤백
+                log.error("책무코드 채번 실패: {}", e.getMessage());
+                return abort("책무코드를 발급할 수 없어 업로드가 취소되었습니다: " + e.getMessage(), size);
+            }
+        }
+
+        /**
+         * 업로드 중단 - 트랜잭션 롤백 표시 후 저장 완료 건까지 실패로 집계
+         */
+        private boolean abort(String message, int size) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            response.addError(message);
+            response.setFailCount(response.getFailCount() + response.getSuccessCount() + size);
+            response.setSuccessCount(0);
+            pending.clear();
+            pendingPrefixes.clear();
+            aborted = true;
+            return false;
+        }
+
+        private boolean fail(int rowNum, String message) {
+            response.addError(rowNum + "행: " + message);
+            response.setFailCount(response.getFailCount() + 1);
+            return true;
+        }
+
+        private Map<String, Long> loadPositionIds(String ledgerOrderId) {
+            Map<String, Long> result = new HashMap<>();
+            for (Position position : positionRepository.findByLedgerOrderId(ledgerOrderId)) {
+                result.putIfAbsent(position.getPositionsCd(), position.getPositionsId());
+            }
+            log.debug("직책코드 적재 - ledgerOrderId: {}, {} 건", ledgerOrderId, result.size());
+            return result;
+        }
+
+        /**
+         * 배치 대기 행에 책무코드 할당: ledgerOrderId + responsibilityCat + 순번(4자리)
+         * - 배치 내 접두어 전체를 한 번에 예약
+         */
+        private void assignResponsibilityCodes() {
+            Map<String, Integer> countsByPrefix = new LinkedHashMap<>();
+            pendingPrefixes.forEach(prefix -> countsByPrefix.merge(prefix, 1, Integer::sum));
+            ReservedCodes codes = responsibilityCodeSequencer.reserve(CodeLevel.RESPONSIBILITY, countsByPrefix);
+            for (int i = 0; i < pending.size(); i++) {
+                pending.get(i)[0] = codes.next(pendingPrefixes.get(i));
+            }
+        }
+
+        private String value(List<String> values, int index) {
+            return index < values.size() ? values.get(index) : null;
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package com.rsms.domain.responsibility.service;
 
-import com.rsms.domain.ledger.repository.LedgerOrderRepository;
 import com.rsms.domain.position.entity.Position;
 import com.rsms.domain.position.repository.PositionRepository;
 import com.rsms.domain.responsibility.dto.*;
@@ -10,21 +9,30 @@ import com.rsms.domain.responsibility.entity.ResponsibilityDetail;
 import com.rsms.domain.responsibility.repository.ManagementObligationRepository;
 import com.rsms.domain.responsibility.repository.ResponsibilityDetailRepository;
 import com.rsms.domain.responsibility.repository.ResponsibilityRepository;
-import com.rsms.domain.system.code.entity.CommonCodeDetail;
-import com.rsms.domain.system.code.repository.CommonCodeDetailRepository;
+import com.rsms.domain.responsibility.service.ResponsibilityCodeSequencer.CodeLevel;
+import com.rsms.domain.responsibility.service.ResponsibilityCodeSequencer.ReservedCodes;
+import com.rsms.domain.system.code.service.CommonCodeRegistry;
+import com.rsms.global.excel.ExcelColumn;
+import com.rsms.global.excel.ExcelStreamWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * 책무 Service
@@ -40,12 +48,30 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class ResponsibilityService {
 
+    /**
+     * 책무 목록 엑셀 컬럼
+     */
+    private static final List<ExcelColumn<ResponsibilityListDto>> RESPONSIBILITY_EXCEL_COLUMNS = List.of(
+        ExcelColumn.of("원장차수", ResponsibilityListDto::getLedgerOrderId, 10),
+        ExcelColumn.of("책무코드", ResponsibilityListDto::getResponsibilityCd, 16),
+        ExcelColumn.of("책무구분", ResponsibilityListDto::getResponsibilityCatName, 12),
+        ExcelColumn.of("책무내용", ResponsibilityListDto::getResponsibilityInfo, 60),
+        ExcelColumn.of("책무관련근거", ResponsibilityListDto::getResponsibilityLegal, 40),
+        ExcelColumn.of("직책코드", ResponsibilityListDto::getPositionsCd, 12),
+        ExcelColumn.of("직책명", ResponsibilityListDto::getPositionsName, 20),
+        ExcelColumn.of("본부명", ResponsibilityListDto::getHqName, 20),
+        ExcelColumn.of("사용여부", ResponsibilityListDto::getResponsibilityIsActive, 8),
+        ExcelColumn.of("등록자", ResponsibilityListDto::getCreatedBy, 12),
+        ExcelColumn.of("등록일시", ResponsibilityListDto::getCreatedAt, 20)
+    );
+
     private final ResponsibilityRepository responsibilityRepository;
     private final ResponsibilityDetailRepository responsibilityDetailRepository;
     private final ManagementObligationRepository managementObligationRepository;
-    private final CommonCodeDetailRepository commonCodeDetailRepository;
+    private final CommonCodeRegistry commonCodeRegistry;
     private final PositionRepository positionRepository;
-    private final LedgerOrderRepository ledgerOrderRepository;
+    private final ResponsibilityExcelImporter responsibilityExcelImporter;
+    private final ResponsibilityCodeSequencer responsibilityCodeSequencer;
 
     /**
      * 원장차수ID와 직책ID로 책무 목록 조회
@@ -89,6 +115,33 @@ public class ResponsibilityService {
         return dtoList;
     }
 
+    /**
+     * 2개 테이블 조인 책무 목록 엑셀 내보내기
+     * - getAllResponsibilitiesWithJoin과 동일 조건
+     * - DB 커서(Stream)로 읽으면서 SXSSF로 작성하여 목록 전체를 메모리에 올리지 않음
+     *
+     * @param outputStream 출력 스트림 (HTTP 응답)
+     * @return 내보낸 행 수
+     */
+    public long exportResponsibilitiesWithJoin(String ledgerOrderId, String responsibilityInfo, String responsibilityCd,
+                                               OutputStream outputStream) throws IOException {
+        log.debug("책무 목록 엑셀 내보내기 - ledgerOrderId: {}, responsibilityInfo: {}, responsibilityCd: {}",
+                  ledgerOrderId, responsibilityInfo, responsibilityCd);
+
+        Map<String, String> responsibilityCatMap = getCommonCodeMap("RSBT_OBLG_CLCD");
+
+        try (Stream<Map<String, Object>> rows = responsibilityRepository.streamAllResponsibilitiesWithJoin(
+                 ledgerOrderId, responsibilityInfo, responsibilityCd);
+             ExcelStreamWriter<ResponsibilityListDto> writer =
+                 new ExcelStreamWriter<>("책무목록", RESPONSIBILITY_EXCEL_COLUMNS)) {
+            writer.writeAll(rows.map(row -> convertMapToListDto(row, responsibilityCatMap)));
+            writer.finish(outputStream);
+
+            log.info("책무 목록 엑셀 내보내기 완료 - {} 건", writer.getRowCount());
+            return writer.getRowCount();
+        }
+    }
+
     /**
      * 책무 단건 조회
      * - 책무코드로 조회
@@ -122,21 +175,11 @@ public class ResponsibilityService {
     private String generateResponsibilityCode(String ledgerOrderId, String responsibilityCat) {
         log.debug("책무코드 생성 시작 - ledgerOrderId: {}, responsibilityCat: {}", ledgerOrderId, responsibilityCat);
 
-        // 1. 최대 순번 조회 (SUBSTRING으로 9번째 자리부터 4자리 추출)
-        Integer maxSeq = responsibilityRepository.findMaxSequenceByLedgerOrderIdAndCategory(
-            ledgerOrderId, responsibilityCat);
-
-        // 2. 다음 순번 계산
-        int nextSeq = (maxSeq != null ? maxSeq : 0) + 1;
-
-        // 3. 4자리 순번으로 포맷팅 (0001, 0002, ...)
-        String formattedSeq = String.format("%04d", nextSeq);
+        // 접두어(ledgerOrderId + responsibilityCat) 카운터에서 다음 순번 채번
+        String code = responsibilityCodeSequencer.next(CodeLevel.RESPONSIBILITY, ledgerOrderId + responsibilityCat);
 
-        // 4. 코드 조합: ledgerOrderId + responsibilityCat + 순번
-        String code = ledgerOrderId + responsibilityCat + formattedSeq;
-
-        log.debug("책무코드 생성 완료 - ledgerOrderId: {}, cat: {}, seq: {} -> code: {}",
-                  ledgerOrderId, responsibilityCat, nextSeq, code);
+        log.debug("책무코드 생성 완료 - ledgerOrderId: {}, cat: {} -> code: {}",
+                  ledgerOrderId, responsibilityCat, code);
 
         return code;
     }
@@ -228,6 +271,7 @@ public class ResponsibilityService {
     /**
      * 원장차수ID와 직책ID로 모든 책무 삭제 후 새로 저장
      * - 각 책무의 코드는 자동 생성됨
+     * - 삭제한 책무의 코드는 같은 책무구분의 새 책무에 순서대로 재사용 (재저장마다 순번이 소진되지 않도록)
      * - positions_id는 insertable=false이므로 positions 엔티티를 설정해야 함
      */
     @Transactional
@@ -239,18 +283,38 @@ public class ResponsibilityService {
         Position position = positionRepository.findById(positionsId)
             .orElseThrow(() -> new RuntimeException("직책을 찾을 수 없습니다. ID: " + positionsId));
 
-        // 기존 책무 전체 삭제
-        responsibilityRepository.deleteByLedgerOrderIdAndPositionsId(ledgerOrderId, positionsId);
-        log.debug("기존 책무 전체 삭제 완료");
+        // 기존 책무 전체 삭제 (재사용할 코드는 접두어별 오름차순으로 보관)
+        List<Responsibility> existing = responsibilityRepository.findByLedgerOrderIdAndPositionsId(ledgerOrderId, positionsId);
+        Map<String, Deque<String>> reusableCodes = new HashMap<>();
+        existing.stream()
+            .filter(r -> r.getResponsibilityCat() != null)
+            .sorted(Comparator.comparing(Responsibility::getResponsibilityCd))
+            .forEach(r -> {
+                String prefix = ledgerOrderId + r.getResponsibilityCat();
+                if (r.getResponsibilityCd().startsWith(prefix)) {
+                    reusableCodes.computeIfAbsent(prefix, key -> new ArrayDeque<>()).add(r.getResponsibilityCd());
+                }
+            });
+        responsibilityRepository.deleteAll(existing);
+        responsibilityRepository.flush();
+        log.debug("기존 책무 전체 삭제 완료 - count: {}", existing.size());
+
+        // 책무코드 일괄 예약 (재사용 코드로 부족한 건수만 카테고리별 접두어 단위로 한 번에 채번)
+        Map<String, Integer> countsByPrefix = new LinkedHashMap<>();
+        requests.forEach(req -> countsByPrefix.merge(ledgerOrderId + req.getResponsibilityCat(), 1, Integer::sum));
+        countsByPrefix.replaceAll((prefix, count) ->
+            count - Math.min(count, reusableCodes.getOrDefault(prefix, new ArrayDeque<>()).size()));
+        ReservedCodes reservedCodes = responsibilityCodeSequencer.reserve(CodeLevel.RESPONSIBILITY, countsByPrefix);
 
         // 새로운 책무 저장 (코드 자동 생성)
         List<Responsibility> responsibilities = requests.stream()
             .map(req -> {
-                // 책무코드 자동 생성
-                String generatedCode = generateResponsibilityCode(
-                    ledgerOrderId,
-                    req.getResponsibilityCat()
-                );
+                // 삭제한 책무코드 재사용, 없으면 예약된 책무코드 할당
+                String prefix = ledgerOrderId + req.getResponsibilityCat();
+                Deque<String> reusable = reusableCodes.get(prefix);
+                String generatedCode = reusable != null && !reusable.isEmpty()
+                    ? reusable.poll()
+                    : reservedCodes.next(prefix);
 
                 return Responsibility.builder()
                     .responsibilityCd(generatedCode)  // 자동 생성된 코드 사용
@@ -315,18 +379,32 @@ public class ResponsibilityService {
 
         // 2. 책무세부(responsibility_details) 저장 - 코드 자동 생성
         if (request.getDetails() != null && !request.getDetails().isEmpty()) {
+            // 책무세부 코드 접두어: 책무코드 뒤 9자리 + "D"
+            String suffix = savedResponsibility.getResponsibilityCd().length() >= 9
+                ? savedResponsibility.getResponsibilityCd().substring(savedResponsibility.getResponsibilityCd().length() - 9)
+                : savedResponsibility.getResponsibilityCd();
+            String detailPrefix = suffix + "D";
+
+            // 책무세부 코드 일괄 예약 (쿼리 2회)
+            ReservedCodes detailCodes = responsibilityCodeSequencer.reserve(
+                CodeLevel.RESPONSIBILITY_DETAIL, Map.of(detailPrefix, request.getDetails().size()));
+
+            // 관리의무 코드 일괄 예약 (책무세부 코드 접두어별, 쿼리 2회)
+            List<String> generatedDetailCodes = new ArrayList<>();
+            Map<String, Integer> obligationCounts = new LinkedHashMap<>();
             for (CreateResponsibilityWithDetailsRequest.ResponsibilityDetailDto detailDto : request.getDetails()) {
-                // 책무세부 코드 자동 생성 (ResponsibilityDetailService 로직 복사)
-                String suffix = savedResponsibility.getResponsibilityCd().length() >= 9
-                    ? savedResponsibility.getResponsibilityCd().substring(savedResponsibility.getResponsibilityCd().length() - 9)
-                    : savedResponsibility.getResponsibilityCd();
-
-                int prefixLength = suffix.length() + 1;
-                Integer maxSeq = responsibilityDetailRepository.findMaxSequenceByResponsibilityCd(
-                    savedResponsibility.getResponsibilityCd(), prefixLength);
-                int nextSeq = (maxSeq != null ? maxSeq : 0) + 1;
-                String formattedSeq = String.format("%04d", nextSeq);
-                String generatedDetailCode = suffix + "D" + formattedSeq;
+                String detailCode = detailCodes.next(detailPrefix);
+                generatedDetailCodes.add(detailCode);
+                if (detailDto.getObligations() != null && !detailDto.getObligations().isEmpty()) {
+                    obligationCounts.put(detailCode + "MO", detailDto.getObligations().size());
+                }
+            }
+            ReservedCodes obligationCodes = responsibilityCodeSequencer.reserve(
+                CodeLevel.MANAGEMENT_OBLIGATION, obligationCounts);
+
+            for (int i = 0; i < request.getDetails().size(); i++) {
+                CreateResponsibilityWithDetailsRequest.ResponsibilityDetailDto detailDto = request.getDetails().get(i);
+                String generatedDetailCode = generatedDetailCodes.get(i);
 
                 ResponsibilityDetail detail = ResponsibilityDetail.builder()
                     .responsibilityDetailCd(generatedDetailCode)  // 자동 생성된 코드 사용
@@ -343,13 +421,8 @@ public class ResponsibilityService {
                 // 3. 관리의무(management_obligations) 저장 - 코드 자동 생성
                 if (detailDto.getObligations() != null && !detailDto.getObligations().isEmpty()) {
                     for (CreateResponsibilityWithDetailsRequest.ManagementObligationDto obligationDto : detailDto.getObligations()) {
-                        // 관리의무 코드 자동 생성 (ManagementObligationService 로직 복사)
-                        int obligPrefixLength = savedDetail.getResponsibilityDetailCd().length() + 2;
-                        Integer maxObligSeq = managementObligationRepository.findMaxSequenceByResponsibilityDetailCd(
-                            savedDetail.getResponsibilityDetailCd(), obligPrefixLength);
-                        int nextObligSeq = (maxObligSeq != null ? maxObligSeq : 0) + 1;
-                        String formattedObligSeq = String.format("%04d", nextObligSeq);
-                        String generatedObligationCode = savedDetail.getResponsibilityDetailCd() + "MO" + formattedObligSeq;
+                        // 예약된 관리의무 코드 할당 (책무세부코드 + "MO" + 순번)
+                        String generatedObligationCode = obligationCodes.next(savedDetail.getResponsibilityDetailCd() + "MO");
 
                         ManagementObligation obligation = ManagementObligation.builder()
                             .obligationCd(generatedObligationCode)  // 자동 생성된 코드 사용
@@ -382,17 +455,10 @@ public class ResponsibilityService {
 
     /**
      * 공통코드 맵 조회 (코드 -> 명칭)
+     * - CommonCodeRegistry 스냅샷에서 조회 (DB 조회 없음)
      */
     private Map<String, String> getCommonCodeMap(String groupCode) {
-        List<CommonCodeDetail> codes = commonCodeDetailRepository
-            .findByGroupCodeAndIsActive(groupCode, "Y");
-
-        return codes.stream()
-            .collect(Collectors.toMap(
-                CommonCodeDetail::getDetailCode,
-                CommonCodeDetail::getDetailName,
-                (existing, replacement) -> existing
-            ));
+        return commonCodeRegistry.getCodeNameMap(groupCode);
     }
 
     /**
@@ -475,6 +541,7 @@ public class ResponsibilityService {
      * - 엑셀 파일을 파싱하여 책무 데이터를 일괄 등록
      * - 엑셀 양식: 원장차수, 직책코드, 책무카테고리코드, 책무내용, 책무관련근거, 사용여부
      * - 직책코드로 positions_id 조회 후 책무 생성
+     * - 스트리밍 읽기 + 배치 INSERT (ResponsibilityExcelImporter)
      *
      * @param file 업로드할 엑셀 파일
      * @param username 등록자 ID
@@ -484,172 +551,18 @@ public class ResponsibilityService {
     public ExcelUploadResponse uploadExcel(MultipartFile file, String username) {
         log.info("엑셀 업로드 시작 - 파일명: {}, 사용자: {}", file.getOriginalFilename(), username);
 
-        ExcelUploadResponse response = ExcelUploadResponse.builder()
-            .successCount(0)
-            .failCount(0)
-            .totalCount(0)
-            .errors(new ArrayList<>())
-            .build();
-
-        try (Workbook workbook = new XSSFWorkbook(file.getInputStream())) {
-            Sheet sheet = workbook.getSheetAt(0);
-
-            // 헤더 행 검증 (첫 번째 행)
-            Row headerRow = sheet.getRow(0);
-            if (headerRow == null) {
-                response.addError("엑셀 파일에 헤더가 없습니다.");
-                return response;
-            }
-
-            // 헤더 컬럼 검증
-            String[] expectedHeaders = {"원장차수", "직책코드", "책무카테고리코드", "책무내용", "책무관련근거", "사용여부"};
-            for (int i = 0; i < expectedHeaders.length; i++) {
-                Cell cell = headerRow.getCell(i);
-                String headerValue = cell != null ? cell.getStringCellValue() : "";
-                if (!expectedHeaders[i].equals(headerValue)) {
-                    response.addError("헤더가 올바르지 않습니다. 예상: " + expectedHeaders[i] + ", 실제: " + headerValue);
-                    return response;
-                }
-            }
-
-            // 데이터 행 처리 (2번째 행부터)
-            int totalRows = sheet.getPhysicalNumberOfRows();
-            response.setTotalCount(totalRows - 1); // 헤더 제외
-
-            for (int rowIndex = 1; rowIndex < totalRows; rowIndex++) {
-                Row row = sheet.getRow(rowIndex);
-                if (row == null || isEmptyRow(row)) {
-                    continue; // 빈 행 건너뛰기
-                }
-
-                try {
-                    // 엑셀 데이터 읽기
-                    String ledgerOrderId = getCellValue(row.getCell(0));
-                    String positionsCd = getCellValue(row.getCell(1));
-                    String responsibilityCat = getCellValue(row.getCell(2));
-                    String responsibilityInfo = getCellValue(row.getCell(3));
-                    String responsibilityLegal = getCellValue(row.getCell(4));
-                    String isActive = getCellValue(row.getCell(5));
-
-                    // 필수 필드 검증
-                    if (ledgerOrderId == null || ledgerOrderId.isEmpty()) {
-                        response.addError((rowIndex + 1) + "행: 원장차수는 필수입니다.");
-                        response.setFailCount(response.getFailCount() + 1);
-                        continue;
-                    }
-                    if (positionsCd == null || positionsCd.isEmpty()) {
-                        response.addError((rowIndex + 1) + "행: 직책코드는 필수입니다.");
-                        response.setFailCount(response.getFailCount() + 1);
-                        continue;
-                    }
-                    if (responsibilityInfo == null || responsibilityInfo.isEmpty()) {
-                        response.addError((rowIndex + 1) + "행: 책무내용은 필수입니다.");
-                        response.setFailCount(response.getFailCount() + 1);
-                        continue;
-                    }
-
-                    // 사용여부 검증 (Y 또는 N)
-                    if (isActive != null && !isActive.isEmpty() && !isActive.equals("Y") && !isActive.equals("N")) {
-                        response.addError((rowIndex + 1) + "행: 사용여부는 Y 또는 N만 가능합니다.");
-                        response.setFailCount(response.getFailCount() + 1);
-                        continue;
-                    }
-
-                    // 원장차수 존재 여부 검증
-                    if (!ledgerOrderRepository.existsById(ledgerOrderId)) {
-                        response.addError((rowIndex + 1) + "행: 원장차수 '" + ledgerOrderId + "'가 존재하지 않습니다.");
-                        response.setFailCount(response.getFailCount() + 1);
-                        continue;
-                    }
-
-                    // 원장차수ID + 직책코드로 Position 조회
-                    // - 동일한 직책코드가 여러 원장차수에 존재할 수 있으므로 두 조건으로 조회
-                    final int currentRow = rowIndex + 1;
-                    final String currentLedgerOrderId = ledgerOrderId;
-                    final String currentPositionsCd = positionsCd;
-                    Position position = positionRepository.findByLedgerOrderIdAndPositionsCd(ledgerOrderId, positionsCd)
-                        .orElseThrow(() -> new IllegalArgumentException(
-                            currentRow + "행: 원장차수 '" + currentLedgerOrderId + "', 직책코드 '" + currentPositionsCd + "'에 해당하는 직책을 찾을 수 없습니다."
-                        ));
-
-                    // 책무 생성 요청 DTO 구성
-                    CreateResponsibilityRequest request = CreateResponsibilityRequest.builder()
-                        .ledgerOrderId(ledgerOrderId)
-                        .positionsId(position.getPositionsId())
-                        .responsibilityCat(responsibilityCat)
-                        .responsibilityInfo(responsibilityInfo)
-                        .responsibilityLegal(responsibilityLegal)
-                        .isActive(isActive != null && !isActive.isEmpty() ? isActive : "Y")
-                        .build();
-
-                    // 책무 생성
-                    createResponsibility(request, username);
-                    response.setSuccessCount(response.getSuccessCount() + 1);
-
-                } catch (Exception e) {
-                    log.error("{}행 처리 실패: {}", rowIndex + 1, e.getMessage(), e);
-                    response.addError((rowIndex + 1) + "행: " + e.getMessage());
-                    response.setFailCount(response.getFailCount() + 1);
-                }
-            }
-
-            log.info("엑셀 업로드 완료 - 총: {}, 성공: {}, 실패: {}",
-                response.getTotalCount(), response.getSuccessCount(), response.getFailCount());
-
+        try (InputStream inputStream = file.getInputStream()) {
+            return responsibilityExcelImporter.importExcel(inputStream, username);
         } catch (IOException e) {
             log.error("엑셀 파일 읽기 실패", e);
+            ExcelUploadResponse response = ExcelUploadResponse.builder()
+                .successCount(0)
+                .failCount(0)
+                .totalCount(0)
+                .errors(new ArrayList<>())
+                .build();
             response.addError("엑셀 파일 읽기에 실패했습니다: " + e.getMessage());
+            return response;
         }
-
-        return response;
-    }
-
-    /**
-     * 셀 값 추출 (문자열)
-     */
-    private String getCellValue(Cell cell) {
-        if (cell == null) {
-            return null;
-        }
-
-        switch (cell.getCellType()) {
-            case STRING:
-                return cell.getStringCellValue().trim();
-            case NUMERIC:
-                // 숫자를 문자열로 변환 (소수점 제거)
-                double numericValue = cell.getNumericCellValue();
-                if (numericValue == (long) numericValue) {
-                    return String.valueOf((long) numericValue);
-                }
-                return String.valueOf(numericValue);
-            case BOOLEAN:
-                return String.valueOf(cell.getBooleanCellValue());
-            case FORMULA:
-                return cell.getCellFormula();
-            case BLANK:
-                return null;
-            default:
-                return null;
-        }
-    }
-
-    /**
-     * 빈 행 체크
-     */
-    private boolean isEmptyRow(Row row) {
-        if (row == null) {
-            return true;
-        }
-
-        for (int cellNum = 0; cellNum < row.getLastCellNum(); cellNum++) {
-            Cell cell = row.getCell(cellNum);
-            if (cell != null && cell.getCellType() != CellType.BLANK) {
-                String value = getCellValue(cell);
-                if (value != null && !value.isEmpty()) {
-                    return false;
-                }
-            }
-        }
-        return true;
     }
 }
@@ -0,0 +1,300 @@
+package com.rsms.domain.responsibility.service;
+
+import com.rsms.domain.position.entity.Position;
+import com.rsms.domain.position.repository.PositionRepository;
+import com.rsms.domain.responsibility.dto.BulkCreateResponsibilityTreeRequest;
+import com.rsms.domain.responsibility.dto.BulkCreateResponsibilityTreeResponse;
+import com.rsms.domain.responsibility.dto.CreateResponsibilityWithDetailsRequest;
+import com.rsms.domain.responsibility.dto.CreateResponsibilityWithDetailsRequest.ManagementObligationDto;
+import com.rsms.domain.responsibility.dto.CreateResponsibilityWithDetailsRequest.ResponsibilityDetailDto;
+import com.rsms.domain.responsibility.service.ResponsibilityCodeSequencer.CodeLevel;
+import com.rsms.domain.responsibility.service.ResponsibilityCodeSequencer.ReservedCodes;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 책무 트리 일괄 생성 서비스
+ * - 여러 직책의 책무 → 책무세부 → 관리의무 트리를 하나의 트랜잭션으로 등록
+ * - 레벨별로 코드를 한 번에 예약한 뒤 (ResponsibilityCodeSequencer, 레벨당 쿼리 2회)
+ *   JDBC 배치 INSERT로 저장 (노드 수와 무관하게 일정한 채번 쿼리 수)
+ * - 코드 규칙은 책무 전체 생성(createResponsibilityWithDetails)과 동일
+ *   책무: 원장차수ID + 책무카테고리 + 순번 / 책무세부: 책무코드 뒤 9자리 + "D" + 순번 / 관리의무: 책무세부코드 + "MO" + 순번
+ *
+ * @author Claude AI
+ * @since 2025-12-05
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ResponsibilityTreeBulkService {
+
+    /**
+     * JDBC 배치 INSERT 단위
+     */
+    private static final int BATCH_SIZE = 500;
+
+    /**
+     * 책무 만료일 기본값 (Responsibility.onCreate와 동일)
+     */
+    private static final LocalDate DEFAULT_EXPIRATION_DATE = LocalDate.of(9999, 12, 31);
+
+    private static final String INSERT_RESPONSIBILITY_SQL =
+        "INSERT INTO rsms.responsibilities (" +
+        "responsibility_cd, ledger_order_id, positions_id, responsibility_cat, responsibility_info, " +
+        "responsibility_legal, expiration_date, is_active, created_by, created_at, updated_by, updated_at" +
+        ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_DETAIL_SQL =
+        "INSERT INTO rsms.responsibility_details (" +
+        "responsibility_detail_cd, responsibility_cd, responsibility_detail_info, is_active, " +
+        "created_by, created_at, updated_by, updated_at" +
+        ") VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_OBLIGATION_SQL =
+        "INSERT INTO rsms.management_obligations (" +
+        "obligation_cd, responsibility_detail_cd, obligation_major_cat_cd, obligation_info, org_code, is_active, " +
+        "created_by, created_at, updated_by, updated_at" +
+        ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final PositionRepository positionRepository;
+    private final ResponsibilityCodeSequencer responsibilityCodeSequencer;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 책무 트리 일괄 생성
+     * - 전체 성공 또는 전체 실패
+     *
+     * @param request 책무 트리 목록
+     * @param username 생성자 사용자명
+     * @return 레벨별 저장 건수
+     */
+    @Transactional
+    public BulkCreateResponsibilityTreeResponse createTrees(BulkCreateResponsibilityTreeRequest request, String username) {
+        long startedAt = System.currentTimeMillis();
+        List<CreateResponsibilityWithDetailsRequest> trees =
+            request != null && request.getResponsibilities() != null ? request.getResponsibilities() : List.of();
+        if (trees.isEmpty()) {
+            throw new IllegalArgumentException("등록할 책무가 없습니다.");
+        }
+
+        Set<Long> positionIds = validate(trees);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        // 1. 책무코드 예약 (원장차수ID + 책무카테고리 접두어별)
+        Map<String, Integer> responsibilityCounts = new LinkedHashMap<>();
+        trees.forEach(tree -> responsibilityCounts.merge(responsibilityPrefix(tree), 1, Integer::sum));
+        ReservedCodes responsibilityCodes = responsibilityCodeSequencer.reserve(CodeLevel.RESPONSIBILITY, responsibilityCounts);
+
+        List<String> responsibilityCds = new ArrayList<>(trees.size());
+        List<Object[]> responsibilityRows = new ArrayList<>(trees.size());
+        Map<String, Integer> detailCounts = new LinkedHashMap<>();
+        for (CreateResponsibilityWithDetailsRequest tree : trees) {
+            String responsibilityCd = responsibilityCodes.next(responsibilityPrefix(tree));
+            responsibilityCds.add(responsibilityCd);
+            responsibilityRows.add(new Object[]{
+                responsibilityCd,
+                tree.getLedgerOrderId(),
+                tree.getPositionsId(),
+                tree.getResponsibilityCat(),
+                tree.getResponsibilityInfo(),
+                tree.getResponsibilityLegal(),
+                Date.valueOf(DEFAULT_EXPIRATION_DATE),
+                activeFlag(tree.getIsActive()),
+                username,
+                now,
+                username,
+                now
+            });
+            if (tree.getDetails() != null && !tree.getDetails().isEmpty()) {
+                detailCounts.merge(detailPrefix(responsibilityCd), tree.getDetails().size(), Integer::sum);
+            }
+        }
+
+        // 2. 책무세부코드 예약 (책무코드 접두어별)
+        ReservedCodes detailCodes = responsibilityCodeSequencer.reserve(CodeLevel.RESPONSIBILITY_DETAIL, detailCounts);
+
+        List<Object[]> detailRows = new ArrayList<>();
+        List<String> detailCds = new ArrayList<>();
+        List<ResponsibilityDetailDto> detailNodes = new ArrayList<>();
+        Map<String, Integer> obligationCounts = new LinkedHashMap<>();
+        for (int i = 0; i < trees.size(); i++) {
+            List<ResponsibilityDetailDto> details = trees.get(i).getDetails();
+            if (details == null) {
+                continue;
+            }
+            String responsibilityCd = responsibilityCds.get(i);
+            for (ResponsibilityDetailDto detail : details) {
+                String detailCd = detailCodes.next(detailPrefix(responsibilityCd));
+                detailCds.add(detailCd);
+                detailNodes.add(detail);
+                detailRows.add(new Object[]{
+                    detailCd,
+                    responsibilityCd,
+                    detail.getResponsibilityDetailInfo(),
+                    activeFlag(detail.getIsActive()),
+                    username,
+                    now,
+                    username,
+                    now
+                });
+                if (detail.getObligations() != null && !detail.getObligations().isEmpty()) {
+                    obligationCounts.put(obligationPrefix(detailCd), detail.getObligations().size());
+                }
+            }
+        }
+
+        // 3. 관리의무코드 예약 (책무세부코드 접두어별)
+        ReservedCodes obligationCodes = responsibilityCodeSequencer.reserve(CodeLevel.MANAGEMENT_OBLIGATION, obligationCounts);
+
+        List<Object[]> obligationRows = new ArrayList<>();
+        for (int i = 0; i < detailNodes.size(); i++) {
+            List<ManagementObligationDto> obligations = detailNodes.get(i).getObligations();
+            if (obligations == null) {
+                continue;
+            }
+            String detailCd = detailCds.get(i);
+            for (ManagementObligationDto obligation : obligations) {
+                obligationRows.add(new Object[]{
+                    obligationCodes.next(obligationPrefix(detailCd)),
+                    detailCd,
+                    obligation.getObligationMajorCatCd(),
+                    obligation.getObligationInfo(),
+                    obligation.getOrgCode(),
+                    activeFlag(obligation.getIsActive()),
+                    username,
+                    now,
+                    username,
+                    now
+                });
+            }
+        }
+
+        // 4. 레벨 순서대로 배치 INSERT (FK 순서 보장)
+        batchInsert(INSERT_RESPONSIBILITY_SQL, responsibilityRows);
+        batchInsert(INSERT_DETAIL_SQL, detailRows);
+        batchInsert(INSERT_OBLIGATION_SQL, obligationRows);
+
+        long elapsed = System.currentTimeMillis() - startedAt;
+        log.info("책무 트리 일괄 생성 완료 - 직책: {}, 책무: {}, 책무세부: {}, 관리의무: {}, {}ms",
+            positionIds.size(), responsibilityRows.size(), detailRows.size(), obligationRows.size(), elapsed);
+
+        return BulkCreateResponsibilityTreeResponse.builder()
+            .positionCount(positionIds.size())
+            .responsibilityCount(responsibilityRows.size())
+            .detailCount(detailRows.size())
+            .obligationCount(obligationRows.size())
+            .elapsedMillis(elapsed)
+            .responsibilityCds(responsibilityCds)
+            .build();
+    }
+
+    /**
+     * 필수값(NOT NULL 컬럼) 및 직책 검증 (직책은 1회 조회)
+     * - 직책은 존재해야 하고 책무의 원장차수에 속해야 함
+     *
+     * @return 요청에 포함된 직책ID 목록
+     */
+    private Set<Long> validate(List<CreateResponsibilityWithDetailsRequest> trees) {
+        Set<Long> positionIds = new LinkedHashSet<>();
+        for (int i = 0; i < trees.size(); i++) {
+            CreateResponsibilityWithDetailsRequest tree = trees.get(i);
+            String location = (i + 1) + "번째 책무: ";
+            requireText(tree.getLedgerOrderId(), location + "원장차수는 필수입니다.");
+            if (tree.getPositionsId() == null) {
+                throw new IllegalArgumentException(location + "직책ID는 필수입니다.");
+            }
+            requireText(tree.getResponsibilityCat(), location + "책무카테고리는 필수입니다.");
+            requireText(tree.getResponsibilityInfo(), location + "책무정보는 필수입니다.");
+            requireText(tree.getResponsibilityLegal(), location + "관련근거는 필수입니다.");
+
+            List<ResponsibilityDetailDto> details = tree.getDetails() != null ? tree.getDetails() : List.of();
+            for (int j = 0; j < details.size(); j++) {
+                ResponsibilityDetailDto detail = details.get(j);
+                String detailLocation = location + (j + 1) + "번째 책무세부: ";
+                requireText(detail.getResponsibilityDetailInfo(), detailLocation + "책무세부내용은 필수입니다.");
+
+                List<ManagementObligationDto> obligations =
+                    detail.getObligations() != null ? detail.getObligations() : List.of();
+                for (int k = 0; k < obligations.size(); k++) {
+                    ManagementObligationDto obligation = obligations.get(k);
+                    String obligationLocation = detailLocation + (k + 1) + "번째 관리의무: ";
+                    requireText(obligation.getObligationMajorCatCd(), obligationLocation + "관리의무 대분류는 필수입니다.");
+                    requireText(obligation.getObligationInfo(), obligationLocation + "관리의무내용은 필수입니다.");
+                    requireText(obligation.getOrgCode(), obligationLocation + "조직코드는 필수입니다.");
+                }
+            }
+            positionIds.add(tree.getPositionsId());
+        }
+
+        Map<Long, String> positionLedgerOrders = positionRepository.findAllById(positionIds).stream()
+            .collect(Collectors.toMap(Position::getPositionsId, Position::getLedgerOrderId));
+        for (Long positionId : positionIds) {
+            if (!positionLedgerOrders.containsKey(positionId)) {
+                throw new IllegalArgumentException("직책을 찾을 수 없습니다. ID: " + positionId);
+            }
+        }
+        for (int i = 0; i < trees.size(); i++) {
+            CreateResponsibilityWithDetailsRequest tree = trees.get(i);
+            String positionLedgerOrderId = positionLedgerOrders.get(tree.getPositionsId());
+            if (!tree.getLedgerOrderId().equals(positionLedgerOrderId)) {
+                throw new IllegalArgumentException((i + 1) + "번째 책무: 직책(ID: " + tree.getPositionsId()
+                    + ")이 원장차수(" + tree.getLedgerOrderId() + ")에 속하지 않습니다.");
+            }
+        }
+        return positionIds;
+    }
+
+    private void requireText(String value, String message) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    private void batchInsert(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            List<Object[]> chunk = rows.subList(from, Math.min(from + BATCH_SIZE, rows.size()));
+            jdbcTemplate.batchUpdate(sql, chunk);
+        }
+    }
+
+    private String responsibilityPrefix(CreateResponsibilityWithDetailsRequest tree) {
+        return tree.getLedgerOrderId() + tree.getResponsibilityCat();
+    }
+
+    /**
+     * 책무세부코드 접두어: 책무코드 뒤 9자리 + "D"
+     */
+    private String detailPrefix(String responsibilityCd) {
+        String suffix = responsibilityCd.length() >= 9
+            ? responsibilityCd.substring(responsibilityCd.length() - 9)
+            : responsibilityCd;
+        return suffix + "D";
+    }
+
+    /**
+     * 관리의무코드 접두어: 책무세부코드 + "MO"
+     */
+    private String obligationPrefix(String responsibilityDetailCd) {
+        return responsibilityDetailCd + "MO";
+    }
+
+    private String activeFlag(String isActive) {
+        return isActive != null ? isActive : "Y";
+    }
+}
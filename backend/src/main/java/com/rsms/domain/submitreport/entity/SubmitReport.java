@@ -27,7 +27,8 @@ public class SubmitReport {
      * 보고서ID (PK, 자동증가)
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "submit_reports_id_generator")
+    @SequenceGenerator(name = "submit_reports_id_generator", sequenceName = "submit_reports_report_id_seq", schema = "rsms", allocationSize = 50)
     @Column(name = "report_id")
     private Long reportId;
 
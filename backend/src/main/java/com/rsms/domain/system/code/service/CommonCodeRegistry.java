@@ -0,0 +1,269 @@
+package com.rsms.domain.system.code.service;
+
+import com.rsms.domain.system.code.entity.CommonCodeDetail;
+import com.rsms.domain.system.code.entity.CommonCodeGroup;
+import com.rsms.domain.system.code.repository.CommonCodeDetailRepository;
+import com.rsms.domain.system.code.repository.CommonCodeGroupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 공통코드 인메모리 레지스트리
+ * - common_code_groups / common_code_details 전체를 불변 스냅샷으로 보관
+ * - 조회는 DB 접근 없이 미리 만들어 둔 Map에서 처리 (목록 화면 반복 조회 제거)
+ * - CommonCodeService 변경 시 트랜잭션 커밋 후 스냅샷을 통째로 교체 (버전 증가)
+ * - 유효기간(validFrom/validUntil)은 일 단위이므로 날짜가 바뀌면 보관된 행으로 Map만 재구성
+ * - 다중 노드 환경을 고려하여 주기적으로 재적재 (기본 5분)
+ *
+ * @author Claude AI
+ * @since 2025-12-01
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommonCodeRegistry {
+
+    private final CommonCodeGroupRepository codeGroupRepository;
+    private final CommonCodeDetailRepository codeDetailRepository;
+
+    private final AtomicLong versionSequence = new AtomicLong();
+
+    /**
+     * 현재 스냅샷 (교체는 reload()에서만 수행)
+     */
+    private volatile Snapshot snapshot;
+
+    // ===============================
+    // 조회 API
+    // ===============================
+
+    /**
+     * 그룹별 현재 유효한 코드명 맵 조회 (코드 -> 코드명)
+     * - 사용여부 'Y' 이면서 오늘 날짜 기준 유효기간 내인 코드만 포함
+     * - 정렬순서(sortOrder) 유지
+     *
+     * @param groupCode 공통코드 그룹코드
+     * @return 불변 Map (그룹이 없으면 빈 Map)
+     */
+    public Map<String, String> getCodeNameMap(String groupCode) {
+        return current().validNameMap(groupCode);
+    }
+
+    /**
+     * 상세코드명 단건 조회
+     * - 사용여부/유효기간과 무관하게 등록된 코드의 명칭 반환 (CommonCodeService.getCodeDetail과 동일 범위)
+     *
+     * @param groupCode 그룹코드
+     * @param detailCode 상세코드
+     * @return 코드명 (없으면 null)
+     */
+    public String getCodeName(String groupCode, String detailCode) {
+        if (groupCode == null || detailCode == null) {
+            return null;
+        }
+        Map<String, CodeEntry> codes = current().allCodes.get(groupCode);
+        if (codes == null) {
+            return null;
+        }
+        CodeEntry entry = codes.get(detailCode);
+        return entry != null ? entry.detailName() : null;
+    }
+
+    /**
+     * 그룹코드명 조회
+     *
+     * @param groupCode 그룹코드
+     * @return 그룹코드명 (없으면 null)
+     */
+    public String getGroupName(String groupCode) {
+        return current().groupNames.get(groupCode);
+    }
+
+    /**
+     * 현재 스냅샷 버전
+     * - 스냅샷이 교체될 때마다 증가
+     */
+    public long getVersion() {
+        return current().version;
+    }
+
+    // ===============================
+    // 갱신 API
+    // ===============================
+
+    /**
+     * 커밋 후 스냅샷 재적재
+     * - 트랜잭션 내부에서 호출되면 커밋 이후에 재적재 (롤백 시 재적재하지 않음)
+     * - 트랜잭션 밖에서 호출되면 즉시 재적재
+     */
+    public void reloadAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reload();
+                }
+            });
+        } else {
+            reload();
+        }
+    }
+
+    /**
+     * 주기적 재적재
+     * - 다른 노드에서 발생한 변경을 반영하기 위함
+     */
+    @Scheduled(fixedDelayString = "${rsms.cache.common-code.refresh-interval-ms:300000}",
+               initialDelayString = "${rsms.cache.common-code.refresh-interval-ms:300000}")
+    public void scheduledReload() {
+        reload();
+    }
+
+    /**
+     * 전체 공통코드를 DB에서 다시 읽어 스냅샷 교체
+     * - 그룹/상세 각 1회 조회
+     */
+    public synchronized void reload() {
+        List<CommonCodeGroup> groups = codeGroupRepository.findAll();
+        List<CommonCodeDetail> details = codeDetailRepository.findAll();
+
+        Map<String, String> groupNames = new HashMap<>();
+        for (CommonCodeGroup group : groups) {
+            groupNames.put(group.getGroupCode(), group.getGroupName());
+        }
+
+        List<CodeEntry> entries = new ArrayList<>(details.size());
+        for (CommonCodeDetail detail : details) {
+            entries.add(new CodeEntry(
+                detail.getGroupCode(),
+                detail.getDetailCode(),
+                detail.getDetailName(),
+                detail.getSortOrder() != null ? detail.getSortOrder() : 0,
+                detail.isActive(),
+                detail.getValidFrom(),
+                detail.getValidUntil()
+            ));
+        }
+        entries.sort(Comparator.comparing(CodeEntry::groupCode).thenComparingInt(CodeEntry::sortOrder));
+
+        Snapshot loaded = Snapshot.build(versionSequence.incrementAndGet(), Map.copyOf(groupNames),
+            List.copyOf(entries), LocalDate.now());
+        this.snapshot = loaded;
+
+        log.info("[CommonCodeRegistry] 공통코드 스냅샷 적재 완료 - version: {}, groups: {}, details: {}",
+            loaded.version, groups.size(), details.size());
+    }
+
+    /**
+     * 현재 스냅샷 조회
+     * - 최초 호출 시 적재
+     * - 날짜가 바뀌었으면 보관 중인 행으로 유효코드 Map만 재구성 (DB 조회 없음)
+     */
+    private Snapshot current() {
+        Snapshot current = this.snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (this.snapshot == null) {
+                    reload();
+                }
+                current = this.snapshot;
+            }
+        }
+
+        LocalDate today = LocalDate.now();
+        if (!today.equals(current.baseDate)) {
+            synchronized (this) {
+                current = this.snapshot;
+                if (!today.equals(current.baseDate)) {
+                    current = Snapshot.build(current.version, current.groupNames, current.entries, today);
+                    this.snapshot = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    // ===============================
+    // 내부 구조
+    // ===============================
+
+    /**
+     * 상세코드 1건 (불변)
+     */
+    private record CodeEntry(String groupCode, String detailCode, String detailName, int sortOrder,
+                             boolean active, LocalDate validFrom, LocalDate validUntil) {
+
+        boolean isValidAt(LocalDate date) {
+            boolean afterFrom = validFrom == null || !date.isBefore(validFrom);
+            boolean beforeUntil = validUntil == null || !date.isAfter(validUntil);
+            return afterFrom && beforeUntil;
+        }
+    }
+
+    /**
+     * 공통코드 불변 스냅샷
+     * - allCodes: 그룹 -> (상세코드 -> 행), 사용여부/유효기간 무관
+     * - validNames: 그룹 -> (상세코드 -> 코드명), baseDate 기준 사용중이며 유효한 코드만
+     */
+    private static final class Snapshot {
+        private final long version;
+        private final LocalDate baseDate;
+        private final Map<String, String> groupNames;
+        private final List<CodeEntry> entries;
+        private final Map<String, Map<String, CodeEntry>> allCodes;
+        private final Map<String, Map<String, String>> validNames;
+
+        private Snapshot(long version, LocalDate baseDate, Map<String, String> groupNames, List<CodeEntry> entries,
+                         Map<String, Map<String, CodeEntry>> allCodes, Map<String, Map<String, String>> validNames) {
+            this.version = version;
+            this.baseDate = baseDate;
+            this.groupNames = groupNames;
+            this.entries = entries;
+            this.allCodes = allCodes;
+            this.validNames = validNames;
+        }
+
+        static Snapshot build(long version, Map<String, String> groupNames, List<CodeEntry> entries, LocalDate baseDate) {
+            Map<String, Map<String, CodeEntry>> allCodes = new HashMap<>();
+            Map<String, Map<String, String>> validNames = new HashMap<>();
+
+            for (CodeEntry entry : entries) {
+                allCodes.computeIfAbsent(entry.groupCode(), k -> new LinkedHashMap<>())
+                    .putIfAbsent(entry.detailCode(), entry);
+                if (entry.active() && entry.isValidAt(baseDate)) {
+                    validNames.computeIfAbsent(entry.groupCode(), k -> new LinkedHashMap<>())
+                        .putIfAbsent(entry.detailCode(), entry.detailName());
+                }
+            }
+
+            // LinkedHashMap을 불변 래퍼로 감싸 정렬순서를 유지
+            Map<String, Map<String, CodeEntry>> frozenAll = new HashMap<>();
+            allCodes.forEach((group, codes) -> frozenAll.put(group, Collections.unmodifiableMap(codes)));
+            Map<String, Map<String, String>> frozenValid = new HashMap<>();
+            validNames.forEach((group, names) -> frozenValid.put(group, Collections.unmodifiableMap(names)));
+
+            return new Snapshot(version, baseDate, groupNames, entries, Map.copyOf(frozenAll), Map.copyOf(frozenValid));
+        }
+
+        Map<String, String> validNameMap(String groupCode) {
+            if (groupCode == null) {
+                return Map.of();
+            }
+            return validNames.getOrDefault(groupCode, Map.of());
+        }
+    }
+}
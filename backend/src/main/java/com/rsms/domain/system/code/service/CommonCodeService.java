@@ -31,6 +31,7 @@ public class CommonCodeService {
 
     private final CommonCodeGroupRepository codeGroupRepository;
     private final CommonCodeDetailRepository codeDetailRepository;
+    private final CommonCodeRegistry commonCodeRegistry;
 
     // ===============================
     // 코드 그룹 관련
@@ -124,6 +125,7 @@ public class CommonCodeService {
             .build();
 
         CommonCodeGroup savedGroup = codeGroupRepository.save(codeGroup);
+        commonCodeRegistry.reloadAfterCommit();
         return CommonCodeGroupDto.from(savedGroup);
     }
 
@@ -149,6 +151,7 @@ public class CommonCodeService {
         codeGroup.setUpdatedBy(username);
         codeGroup.setUpdatedAt(LocalDateTime.now());
 
+        commonCodeRegistry.reloadAfterCommit();
         return CommonCodeGroupDto.from(codeGroup);
     }
 
@@ -167,6 +170,7 @@ public class CommonCodeService {
         }
 
         codeGroupRepository.delete(codeGroup);
+        commonCodeRegistry.reloadAfterCommit();
     }
 
     /**
@@ -187,6 +191,7 @@ public class CommonCodeService {
 
         codeGroup.setUpdatedBy(username);
         codeGroup.setUpdatedAt(LocalDateTime.now());
+        commonCodeRegistry.reloadAfterCommit();
     }
 
     // ===============================
@@ -278,6 +283,7 @@ public class CommonCodeService {
             .build();
 
         CommonCodeDetail savedDetail = codeDetailRepository.save(codeDetail);
+        commonCodeRegistry.reloadAfterCommit();
         return CommonCodeDetailDto.from(savedDetail);
     }
 
@@ -313,6 +319,7 @@ public class CommonCodeService {
         codeDetail.setUpdatedBy(username);
         codeDetail.setUpdatedAt(LocalDateTime.now());
 
+        commonCodeRegistry.reloadAfterCommit();
         return CommonCodeDetailDto.from(codeDetail);
     }
 
@@ -331,6 +338,7 @@ public class CommonCodeService {
         }
 
         codeDetailRepository.deleteById(id);
+        commonCodeRegistry.reloadAfterCommit();
     }
 
     /**
@@ -354,5 +362,6 @@ public class CommonCodeService {
 
         codeDetail.setUpdatedBy(username);
         codeDetail.setUpdatedAt(LocalDateTime.now());
+        commonCodeRegistry.reloadAfterCommit();
     }
 }
@@ -0,0 +1,36 @@
+package com.rsms.global.excel;
+
+import java.util.function.Function;
+
+/**
+ * 엑셀 내보내기 컬럼 정의
+ * - 헤더명, 행 객체에서 셀 값을 꺼내는 함수, 컬럼 너비(문자 수)
+ *
+ * @param header 헤더명
+ * @param extractor 셀 값 추출 함수 (null 반환 시 빈 셀)
+ * @param width 컬럼 너비 (문자 수)
+ * @param <T> 행 타입
+ * @author Claude AI
+ * @since 2025-12-05
+ */
+public record ExcelColumn<T>(String header, Function<T, ?> extractor, int width) {
+
+    /**
+     * 기본 컬럼 너비 (문자 수)
+     */
+    public static final int DEFAULT_WIDTH = 15;
+
+    /**
+     * 기본 너비 컬럼 생성
+     */
+    public static <T> ExcelColumn<T> of(String header, Function<T, ?> extractor) {
+        return new ExcelColumn<>(header, extractor, DEFAULT_WIDTH);
+    }
+
+    /**
+     * 너비 지정 컬럼 생성
+     */
+    public static <T> ExcelColumn<T> of(String header, Function<T, ?> extractor, int width) {
+        return new ExcelColumn<>(header, extractor, width);
+    }
+}
@@ -0,0 +1,158 @@
+package com.rsms.global.excel;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 엑셀(.xlsx) 스트리밍 리더
+ * - XSSF 이벤트(SAX) 모델로 시트를 읽어 행 단위로 콜백 (워크북 DOM을 만들지 않음)
+ * - 셀 값은 DataFormatter로 화면 표시 형식의 문자열로 변환 (수식은 계산된 결과값)
+ * - 메모리 사용량이 행 수와 무관하게 일정하므로 대량 업로드에 사용
+ *
+ * @author Claude AI
+ * @since 2025-12-05
+ */
+public final class ExcelStreamReader {
+
+    private ExcelStreamReader() {
+    }
+
+    /**
+     * 행 처리 콜백
+     */
+    @FunctionalInterface
+    public interface RowHandler {
+
+        /**
+         * 행 1건 처리
+         *
+         * @param rowNum 행 번호 (1부터 시작, 엑셀 화면 기준)
+         * @param values 셀 값 목록 (빈 셀은 null, 앞뒤 공백 제거)
+         * @return 계속 읽을지 여부 (false면 읽기 중단)
+         */
+        boolean handle(int rowNum, List<String> values);
+    }
+
+    /**
+     * 첫 번째 시트를 스트리밍으로 읽기
+     * - 완전히 빈 행은 전달하지 않음
+     *
+     * @param inputStream 엑셀 파일 스트림
+     * @param handler 행 처리 콜백
+     * @throws IOException 파일 읽기 실패 또는 형식 오류
+     */
+    public static void readFirstSheet(InputStream inputStream, RowHandler handler) throws IOException {
+        OPCPackage pkg;
+        try {
+            pkg = OPCPackage.open(inputStream);
+        } catch (OpenXML4JException e) {
+            throw new IOException("엑셀 파일 형식이 올바르지 않습니다: " + e.getMessage(), e);
+        }
+
+        try {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(pkg);
+            StylesTable styles = reader.getStylesTable();
+
+            Iterator<InputStream> sheets = reader.getSheetsData();
+            if (!sheets.hasNext()) {
+                return;
+            }
+
+            try (InputStream sheet = sheets.next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new XSSFSheetXMLHandler(
+                    styles, null, sharedStrings, new RowCollector(handler), new DataFormatter(), false));
+                parser.parse(new InputSource(sheet));
+            } catch (StopReadingException e) {
+                // 콜백에서 중단 요청
+            }
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IOException("엑셀 파일 형식이 올바르지 않습니다: " + e.getMessage(), e);
+        } finally {
+            // 읽기 전용으로 닫기 (패키지 저장 없음)
+            pkg.revert();
+        }
+    }
+
+    /**
+     * 셀 이벤트를 행 단위 값 목록으로 모아 콜백에 전달
+     */
+    private static final class RowCollector implements XSSFSheetXMLHandler.SheetContentsHandler {
+        private final RowHandler handler;
+        private final List<String> values = new ArrayList<>();
+        private int currentColumn;
+        private boolean hasValue;
+
+        RowCollector(RowHandler handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            values.clear();
+            currentColumn = -1;
+            hasValue = false;
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (!hasValue) {
+                return;
+            }
+            if (!handler.handle(rowNum + 1, Collections.unmodifiableList(new ArrayList<>(values)))) {
+                throw new StopReadingException();
+            }
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int column = cellReference != null
+                ? new CellReference(cellReference).getCol()
+                : currentColumn + 1;
+            currentColumn = column;
+
+            // 중간에 비어 있는 셀은 null로 채움
+            while (values.size() < column) {
+                values.add(null);
+            }
+
+            String value = formattedValue != null ? formattedValue.trim() : null;
+            if (value != null && value.isEmpty()) {
+                value = null;
+            }
+            values.add(value);
+            if (value != null) {
+                hasValue = true;
+            }
+        }
+    }
+
+    /**
+     * 읽기 중단 신호 (SAX 파싱을 빠져나오기 위한 내부 예외)
+     */
+    private static final class StopReadingException extends RuntimeException {
+        StopReadingException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.rsms.global.excel;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.FillPatternType;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.IndexedColors;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 엑셀(.xlsx) 스트리밍 작성기
+ * - SXSSFWorkbook으로 최근 windowSize 행만 메모리에 두고 나머지는 임시파일로 내려씀
+ * - Repository Stream 또는 키셋 페이지 단위로 행을 밀어넣고 마지막에 응답 스트림으로 바로 출력
+ * - 행 수와 무관하게 메모리 사용량 일정
+ *
+ * 사용 예:
+ * <pre>
+ * try (ExcelStreamWriter&lt;Dto&gt; writer = new ExcelStreamWriter&lt;&gt;("책무목록", columns)) {
+ *     writer.writeAll(stream);
+ *     writer.finish(outputStream);
+ * }
+ * </pre>
+ *
+ * @param <T> 행 타입
+ * @author Claude AI
+ * @since 2025-12-05
+ */
+public class ExcelStreamWriter<T> implements Closeable {
+
+    /**
+     * 메모리에 유지하는 기본 행 수
+     */
+    public static final int DEFAULT_WINDOW_SIZE = 100;
+
+    /**
+     * xlsx 한 시트 최대 행 수 (헤더 포함)
+     */
+    private static final int MAX_ROWS_PER_SHEET = 1_048_576;
+
+    private static final String CONTENT_TYPE =
+        "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final SXSSFWorkbook workbook;
+    private final String sheetName;
+    private final List<ExcelColumn<T>> columns;
+    private final CellStyle headerStyle;
+
+    private SXSSFSheet sheet;
+    private int sheetCount;
+    private int nextRowIndex;
+    private long rowCount;
+
+    public ExcelStreamWriter(String sheetName, List<ExcelColumn<T>> columns) {
+        this(sheetName, columns, DEFAULT_WINDOW_SIZE);
+    }
+
+    public ExcelStreamWriter(String sheetName, List<ExcelColumn<T>> columns, int windowSize) {
+        this.workbook = new SXSSFWorkbook(windowSize);
+        this.workbook.setCompressTempFiles(true);
+        this.sheetName = sheetName;
+        this.columns = List.copyOf(columns);
+        this.headerStyle = createHeaderStyle(workbook);
+        newSheet();
+    }
+
+    /**
+     * 다운로드 응답 헤더 설정
+     * - 파일명은 RFC 5987 형식으로 인코딩 (한글 파일명 지원)
+     *
+     * @param response HTTP 응답
+     * @param fileName 파일명 (확장자 제외)
+     */
+    public static void prepareDownload(HttpServletResponse response, String fileName) {
+        String encoded = URLEncoder.encode(fileName + ".xlsx", StandardCharsets.UTF_8).replace("+", "%20");
+        response.setContentType(CONTENT_TYPE);
+        response.setHeader("Content-Disposition", "attachment; filename*=UTF-8''" + encoded);
+        response.setHeader("Cache-Control", "no-store");
+    }
+
+    /**
+     * 행 1건 작성
+     * - 시트 최대 행 수를 넘으면 다음 시트로 이어서 작성
+     */
+    public void writeRow(T item) {
+        if (nextRowIndex >= MAX_ROWS_PER_SHEET) {
+            newSheet();
+        }
+        Row row = sheet.createRow(nextRowIndex++);
+        for (int i = 0; i < columns.size(); i++) {
+            setCellValue(row.createCell(i), columns.get(i).extractor().apply(item));
+        }
+        rowCount++;
+    }
+
+    /**
+     * Stream 전체 작성
+     * - 호출 측에서 Stream을 닫아야 함 (try-with-resources)
+     */
+    public void writeAll(Stream<? extends T> items) {
+        items.forEachOrdered(this::writeRow);
+    }
+
+    /**
+     * 목록 전체 작성 (키셋 페이지 단위 작성용)
+     */
+    public void writeAll(List<? extends T> items) {
+        for (T item : items) {
+            writeRow(item);
+        }
+    }
+
+    /**
+     * 작성된 데이터 행 수 (헤더 제외)
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * 워크북을 출력 스트림으로 내보내기
+     */
+    public void finish(OutputStream outputStream) throws IOException {
+        workbook.write(outputStream);
+        outputStream.flush();
+    }
+
+    /**
+     * 임시파일 정리
+     */
+    @Override
+    public void close() throws IOException {
+        workbook.dispose();
+        workbook.close();
+    }
+
+    private void newSheet() {
+        sheetCount++;
+        sheet = workbook.createSheet(sheetCount == 1 ? sheetName : sheetName + "_" + sheetCount);
+        Row header = sheet.createRow(0);
+        for (int i = 0; i < columns.size(); i++) {
+            ExcelColumn<T> column = columns.get(i);
+            Cell cell = header.createCell(i);
+            cell.setCellValue(column.header());
+            cell.setCellStyle(headerStyle);
+            sheet.setColumnWidth(i, Math.min(column.width(), 255) * 256);
+        }
+        sheet.createFreezePane(0, 1);
+        nextRowIndex = 1;
+    }
+
+    private static void setCellValue(Cell cell, Object value) {
+        if (value == null) {
+            return;
+        }
+        if (value instanceof Number number) {
+            cell.setCellValue(number.doubleValue());
+        } else if (value instanceof Boolean bool) {
+            cell.setCellValue(bool ? "Y" : "N");
+        } else if (value instanceof LocalDateTime dateTime) {
+            cell.setCellValue(DATE_TIME_FORMAT.format(dateTime));
+        } else if (value instanceof LocalDate date) {
+            cell.setCellValue(DATE_FORMAT.format(date));
+        } else if (value instanceof TemporalAccessor temporal) {
+            cell.setCellValue(temporal.toString());
+        } else {
+            cell.setCellValue(value.toString());
+        }
+    }
+
+    private static CellStyle createHeaderStyle(SXSSFWorkbook workbook) {
+        Font font = workbook.createFont();
+        font.setBold(true);
+        CellStyle style = workbook.createCellStyle();
+        style.setFont(font);
+        style.setFillForegroundColor(IndexedColors.GREY_25_PERCENT.getIndex());
+        style.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+        return style;
+    }
+}
@@ -0,0 +1,139 @@
+package com.rsms.global.id;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Year;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 업무 ID 채번기
+ * - rsms.id_counters 테이블의 카운터 행 1건으로 채번 (테이블 COUNT/MAX 조회 없음)
+ * - 블록(hi-lo) 예약: 카운터를 blockSize만큼 한 번에 올리고 노드 메모리에서 순차 할당
+ *   → 블록당 DB 1회, 카운터 행 잠금은 짧은 별도 트랜잭션에서만 유지
+ * - 블록 할당과 교체는 잠금 없이(CAS) 처리: 별도 트랜잭션(추가 커넥션)으로 예약하는 동안 다른 호출자가
+ *   커넥션을 쥔 채 모니터에서 대기하지 않으므로 리필이 몰려도 커넥션 풀이 고갈되지 않음
+ * - 블록 크기 1인 채번은 호출 측 트랜잭션에서 카운터를 올림 (커밋 시 확정, 롤백 시 함께 롤백)
+ * - 카운터 행이 없으면 기존 데이터의 최대 순번으로 1회 시드
+ *
+ * @author Claude AI
+ * @since 2025-12-05
+ */
+@Slf4j
+@Component
+public class IdAllocator {
+
+    private static final String RESERVE_SQL =
+        "UPDATE rsms.id_counters SET next_value = next_value + ?, updated_at = CURRENT_TIMESTAMP " +
+        "WHERE counter_key = ? RETURNING next_value";
+
+    private static final String SEED_SQL =
+        "INSERT INTO rsms.id_counters (counter_key, next_value) VALUES (?, ?) " +
+        "ON CONFLICT (counter_key) DO NOTHING";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNew;
+
+    /**
+     * 카운터 키 → 노드에서 예약해 둔 블록
+     */
+    private final Map<String, Block> blocks = new ConcurrentHashMap<>();
+
+    public IdAllocator(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 다음 ID 채번
+     *
+     * @param sequence 채번 정의
+     * @return 형식이 적용된 ID (예: APR00000001, APR-2025-00001)
+     */
+    public String next(IdSequence sequence) {
+        String year = sequence.isYearly() ? Year.now().toString() : null;
+        return sequence.format(year, nextValue(sequence, year));
+    }
+
+    private long nextValue(IdSequence sequence, String year) {
+        String counterKey = sequence.counterKey(year);
+
+        if (sequence.getBlockSize() <= 1) {
+            // 결번 없는 채번: 호출 측 트랜잭션 안에서 카운터 증가
+            long end = reserve(sequence, counterKey, year, 1);
+            return end - 1;
+        }
+
+        Block current = blocks.get(counterKey);
+        if (current != null) {
+            long value = current.take();
+            if (value >= 0) {
+                return value;
+            }
+        }
+
+        // 블록 소진: 잠금 없이 새 블록 예약 후 교체 (동시에 교체한 호출자가 있으면 이 블록의 잔여분은 결번)
+        int size = sequence.getBlockSize();
+        Long end = requiresNew.execute(status -> reserve(sequence, counterKey, year, size));
+        Block fresh = new Block(end - size, end);
+        long value = fresh.take();
+        boolean installed = current == null
+            ? blocks.putIfAbsent(counterKey, fresh) == null
+            : blocks.replace(counterKey, current, fresh);
+        log.debug("ID 블록 예약 - key: {}, 범위: {} ~ {}, 교체: {}", counterKey, end - size, end - 1, installed);
+        return value;
+    }
+
+    /**
+     * 카운터를 size만큼 증가
+     *
+     * @return 증가 후 next_value (예약 범위: [반환값 - size, 반환값 - 1])
+     */
+    private long reserve(IdSequence sequence, String counterKey, String year, int size) {
+        List<Long> updated = jdbcTemplate.queryForList(RESERVE_SQL, Long.class, size, counterKey);
+        if (updated.isEmpty()) {
+            // 최초 사용: 기존 데이터 최대 순번 + 1로 카운터 생성 (동시 생성은 ON CONFLICT로 1건만 반영)
+            Long maxValue = jdbcTemplate.queryForObject(sequence.getSeedSql(), Long.class, sequence.seedArgs(year));
+            long seed = (maxValue != null ? maxValue : 0L) + 1;
+            jdbcTemplate.update(SEED_SQL, counterKey, seed);
+            log.info("ID 카운터 생성 - key: {}, 시작값: {}", counterKey, seed);
+
+            updated = jdbcTemplate.queryForList(RESERVE_SQL, Long.class, size, counterKey);
+            if (updated.isEmpty()) {
+                throw new IllegalStateException("ID 카운터를 생성할 수 없습니다: " + counterKey);
+            }
+        }
+        return updated.get(0);
+    }
+
+    /**
+     * 노드 메모리 예약 블록 [start, end)
+     */
+    private static final class Block {
+        private final AtomicLong next;
+        private final long end;
+
+        private Block(long start, long end) {
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
+
+        /**
+         * 블록에서 순번 1개 할당
+         *
+         * @return 할당한 순번, 소진 시 -1
+         */
+        private long take() {
+            long value = next.getAndIncrement();
+            return value < end ? value : -1L;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.rsms.global.id;
+
+/**
+ * 업무 ID 채번 정의
+ * - 카운터 키, 출력 형식, 블록 크기, 최초 시드 조회 SQL
+ * - 블록 크기 1: 호출 측 트랜잭션 안에서 1건씩 채번 (롤백 시 함께 롤백 → 결번 없음)
+ * - 블록 크기 N: 별도 트랜잭션으로 N건을 예약 후 노드 메모리에서 할당 (재기동 시 미사용분은 결번)
+ * - 연도별(yearly) 채번은 카운터 키에 연도를 붙여 매년 1부터 다시 시작
+ *
+ * @author Claude AI
+ * @since 2025-12-05
+ */
+public enum IdSequence {
+
+    /**
+     * 결재ID (APR00000001)
+     */
+    APPROVAL_ID("APPROVAL_ID", "APR%08d", false, 20,
+        "SELECT COALESCE(MAX(CAST(SUBSTRING(approval_id FROM 4) AS BIGINT)), 0) " +
+        "FROM rsms.approvals WHERE approval_id ~ '^APR[0-9]+$'"),
+
+    /**
+     * 결재번호 (APR-2025-00001, 연도별 순번)
+     * - 사용자에게 노출되는 문서번호이므로 결번 없이 트랜잭션 내 채번
+     */
+    APPROVAL_NO("APPROVAL_NO", "APR-%s-%05d", true, 1,
+        "SELECT COALESCE(MAX(CAST(SUBSTRING(approval_no FROM 10) AS BIGINT)), 0) " +
+        "FROM rsms.approvals WHERE approval_no ~ ('^APR-' || ? || '-[0-9]+$')"),
+
+    /**
+     * 결재이력ID (AH00000001)
+     */
+    APPROVAL_HISTORY_ID("APPROVAL_HISTORY_ID", "AH%08d", false, 50,
+        "SELECT COALESCE(MAX(CAST(SUBSTRING(approval_history_id FROM 3) AS BIGINT)), 0) " +
+        "FROM rsms.approval_histories WHERE approval_history_id ~ '^AH[0-9]+$'"),
+
+    /**
+     * 결재선ID (AL00001)
+     */
+    APPROVAL_LINE_ID("APPROVAL_LINE_ID", "AL%05d", false, 10,
+        "SELECT COALESCE(MAX(CAST(SUBSTRING(approval_line_id FROM 3) AS BIGINT)), 0) " +
+        "FROM rsms.approval_lines WHERE approval_line_id ~ '^AL[0-9]+$'"),
+
+    /**
+     * 결재선 단계ID (ALS00000001)
+     */
+    APPROVAL_LINE_STEP_ID("APPROVAL_LINE_STEP_ID", "ALS%08d", false, 50,
+        "SELECT COALESCE(MAX(CAST(SUBSTRING(approval_line_step_id FROM 4) AS BIGINT)), 0) " +
+        "FROM rsms.approval_line_steps WHERE approval_line_step_id ~ '^ALS[0-9]+$'");
+
+    private final String key;
+    private final String format;
+    private final boolean yearly;
+    private final int blockSize;
+    private final String seedSql;
+
+    IdSequence(String key, String format, boolean yearly, int blockSize, String seedSql) {
+        this.key = key;
+        this.format = format;
+        this.yearly = yearly;
+        this.blockSize = blockSize;
+        this.seedSql = seedSql;
+    }
+
+    /**
+     * 카운터 키 (연도별이면 KEY:YYYY)
+     */
+    String counterKey(String year) {
+        return yearly ? key + ":" + year : key;
+    }
+
+    /**
+     * 순번을 ID 문자열로 변환
+     */
+    String format(String year, long value) {
+        return yearly ? String.format(format, year, value) : String.format(format, value);
+    }
+
+    /**
+     * 카운터 최초 생성 시 기존 데이터의 최대 순번 조회 파라미터
+     */
+    Object[] seedArgs(String year) {
+        return yearly ? new Object[]{year} : new Object[0];
+    }
+
+    boolean isYearly() {
+        return yearly;
+    }
+
+    int getBlockSize() {
+        return blockSize;
+    }
+
+    String getSeedSql() {
+        return seedSql;
+    }
+}
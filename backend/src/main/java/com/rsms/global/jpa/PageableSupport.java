@@ -0,0 +1,41 @@
+package com.rsms.global.jpa;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * 페이징 정렬 보조
+ * - OFFSET 페이징은 정렬 키가 유일해야 페이지 간 중복/누락이 없음
+ *   (예: INSERT ... SELECT로 일괄 생성된 행은 created_at이 모두 같음)
+ * - 요청 정렬 뒤에 PK를 마지막 정렬 키로 추가 (방향은 첫 정렬 키와 동일 → (정렬 키, PK) 복합 인덱스 사용)
+ *
+ * @author Claude AI
+ * @since 2025-12-05
+ */
+public final class PageableSupport {
+
+    private PageableSupport() {
+    }
+
+    /**
+     * PK를 마지막 정렬 키로 추가
+     * - 이미 PK로 정렬하거나 페이징이 없으면 그대로 반환
+     *
+     * @param pageable 요청 페이지/정렬
+     * @param idProperty PK 속성명
+     * @return PK가 마지막 정렬 키로 포함된 페이지 요청
+     */
+    public static Pageable withTieBreaker(Pageable pageable, String idProperty) {
+        if (pageable.isUnpaged() || pageable.getSort().getOrderFor(idProperty) != null) {
+            return pageable;
+        }
+        Sort sort = pageable.getSort();
+        Sort.Direction direction = sort.stream()
+            .findFirst()
+            .map(Sort.Order::getDirection)
+            .orElse(Sort.Direction.DESC);
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+            sort.and(Sort.by(direction, idProperty)));
+    }
+}
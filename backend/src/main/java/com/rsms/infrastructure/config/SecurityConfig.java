@@ -1,7 +1,9 @@
 package com.rsms.infrastructure.config;
 
+import com.rsms.domain.auth.security.AdaptivePasswordEncoder;
 import com.rsms.domain.auth.security.CustomUserDetailsService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -11,7 +13,6 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.session.web.http.CookieSerializer;
@@ -20,6 +21,7 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.time.Duration;
 import java.util.List;
 
 /**
@@ -91,10 +93,27 @@ public class SecurityConfig {
 
     /**
      * 비밀번호 암호화
+     * - BCrypt 강도: rsms.security.password.strength 고정값 (다중 노드에서 노드별 강도 차이로 인한 반복 재해시 방지)
+     * - rsms.security.password.calibrate=true이면 기동 시 목표 해시 시간으로 측정 (로컬 개발 환경 전용)
+     * - 동시 해시 계산 수: rsms.security.password.max-concurrent 지정값, 0이면 CPU 코어 수
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(12);
+    public PasswordEncoder passwordEncoder(
+            @Value("${rsms.security.password.strength:12}") int strength,
+            @Value("${rsms.security.password.calibrate:false}") boolean calibrate,
+            @Value("${rsms.security.password.target-hash-ms:100}") long targetHashMillis,
+            @Value("${rsms.security.password.min-strength:10}") int minStrength,
+            @Value("${rsms.security.password.max-strength:14}") int maxStrength,
+            @Value("${rsms.security.password.max-concurrent:0}") int maxConcurrent,
+            @Value("${rsms.security.password.acquire-timeout-ms:5000}") long acquireTimeoutMillis) {
+        if (!calibrate && strength <= 0) {
+            throw new IllegalStateException("rsms.security.password.strength는 1 이상이어야 합니다 (자동 측정은 calibrate=true): " + strength);
+        }
+        int resolvedStrength = calibrate
+            ? AdaptivePasswordEncoder.calibrate(targetHashMillis, minStrength, maxStrength)
+            : strength;
+        int resolvedConcurrent = maxConcurrent > 0 ? maxConcurrent : Runtime.getRuntime().availableProcessors();
+        return new AdaptivePasswordEncoder(resolvedStrength, resolvedConcurrent, Duration.ofMillis(acquireTimeoutMillis));
     }
 
     /**
@@ -143,12 +162,14 @@ public class SecurityConfig {
     /**
      * AuthenticationProvider 설정
      * - CustomUserDetailsService와 PasswordEncoder 연동
+     * - 로그인 성공 시 강도가 바뀐 비밀번호 해시 재작성 (UserDetailsPasswordService)
      */
     @Bean
-    public DaoAuthenticationProvider authenticationProvider() {
+    public DaoAuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(customUserDetailsService);
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setUserDetailsPasswordService(customUserDetailsService);
+        authProvider.setPasswordEncoder(passwordEncoder);
         return authProvider;
     }
 
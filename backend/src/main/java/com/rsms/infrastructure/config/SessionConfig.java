@@ -0,0 +1,82 @@
+package com.rsms.infrastructure.config;
+
+import com.rsms.domain.auth.security.SessionAttributeSerializer;
+import com.rsms.infrastructure.session.TieredSessionRepository;
+import org.springframework.beans.factory.BeanClassLoaderAware;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.GenericConversionService;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.session.config.SessionRepositoryCustomizer;
+import org.springframework.session.jdbc.JdbcIndexedSessionRepository;
+import org.springframework.session.jdbc.config.annotation.web.http.EnableJdbcHttpSession;
+
+import java.time.Duration;
+
+/**
+ * Spring Session JDBC 설정
+ * - spring_session_attributes 직렬화 방식 지정 (springSessionConversionService)
+ * - SecurityContext는 SessionAttributeSerializer의 압축 바이너리 형식, 그 외 속성은 Java 직렬화
+ * - 세션 저장소: 메모리 계층 + write-behind (rsms.session.write-behind.enabled=false이면 JDBC 저장소 직접 사용)
+ * - 세션 저장소 빈을 직접 등록하므로 Spring Boot 세션 자동 설정 대신 @EnableJdbcHttpSession 사용
+ *   (spring.session.timeout / jdbc.table-name / jdbc.cleanup-cron은 jdbcSessionRepositoryCustomizer에서 적용)
+ */
+@Configuration
+@EnableJdbcHttpSession
+public class SessionConfig implements BeanClassLoaderAware {
+
+    private ClassLoader classLoader;
+
+    @Override
+    public void setBeanClassLoader(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * 세션 속성 변환 서비스
+     * - 빈 이름으로 JdbcIndexedSessionRepository에 주입됨
+     */
+    @Bean("springSessionConversionService")
+    public ConversionService springSessionConversionService() {
+        SessionAttributeSerializer serializer = new SessionAttributeSerializer(classLoader);
+        GenericConversionService conversionService = new GenericConversionService();
+        conversionService.addConverter(Object.class, byte[].class, serializer::serialize);
+        conversionService.addConverter(byte[].class, Object.class, serializer::deserialize);
+        return conversionService;
+    }
+
+    /**
+     * JDBC 세션 저장소 설정 (application.yml spring.session.* 값 적용)
+     */
+    @Bean
+    public SessionRepositoryCustomizer<JdbcIndexedSessionRepository> jdbcSessionRepositoryCustomizer(
+            @Value("${spring.session.timeout:30m}") Duration timeout,
+            @Value("${spring.session.jdbc.table-name:SPRING_SESSION}") String tableName,
+            @Value("${spring.session.jdbc.cleanup-cron:0 * * * * *}") String cleanupCron) {
+        return repository -> {
+            repository.setDefaultMaxInactiveInterval(timeout);
+            repository.setTableName(tableName);
+            repository.setCleanupCron(cleanupCron);
+        };
+    }
+
+    /**
+     * 세션 저장소 (메모리 계층 + 마지막 접근 시간 write-behind)
+     * - @Primary로 SessionRepositoryFilter에 주입되어 JdbcIndexedSessionRepository 앞단에서 동작
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(prefix = "rsms.session.write-behind", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public TieredSessionRepository tieredSessionRepository(
+            JdbcIndexedSessionRepository jdbcIndexedSessionRepository,
+            JdbcTemplate jdbcTemplate,
+            @Value("${spring.session.jdbc.table-name:SPRING_SESSION}") String tableName,
+            @Value("${rsms.session.write-behind.hot-ttl-ms:15000}") long hotTtlMillis) {
+        return new TieredSessionRepository(jdbcIndexedSessionRepository, jdbcTemplate, tableName,
+            Duration.ofMillis(hotTtlMillis));
+    }
+}
@@ -0,0 +1,345 @@
+package com.rsms.infrastructure.session;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.MapSession;
+import org.springframework.session.Session;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 세션 저장소 (메모리 계층 + JDBC write-behind)
+ * - JdbcIndexedSessionRepository 앞단에 세션 스냅샷 메모리 계층을 두어 요청마다 발생하던 spring_session 조회/갱신을 줄임
+ * - 마지막 접근 시간만 바뀐 요청은 메모리에서 병합하고 주기적으로 일괄 UPDATE (세션당 flush 주기마다 최대 1회)
+ * - 속성 변경/세션ID 변경/비활성 시간 변경/생성/삭제는 JDBC 저장소에 즉시 반영 (write-through)
+ *   → 로그인, 로그아웃, maximumSessions(1)에 의한 만료 처리 시점은 기존과 동일
+ * - 만료 판단은 메모리 스냅샷의 마지막 접근 시간 기준 (기존 JDBC 저장소와 같은 규칙)
+ * - 메모리 스냅샷 사용 시에도 세션 행 존재 여부를 매번 확인 (SESSION_ID 인덱스 조회 1회, 속성 조회/역직렬화 없음)
+ *   → 다른 노드의 로그아웃/삭제/만료 정리가 즉시 반영되어 폐기된 세션이 hotTtl 동안 유효하지 않음
+ * - 메모리 스냅샷은 hotTtl 동안만 사용하고 이후 DB에서 다시 읽어 다른 노드의 속성 변경을 반영
+ * - flush 주기는 세션 타임아웃보다 충분히 짧아야 함 (DB 만료시간 기준 정리 작업이 활성 세션을 지우지 않도록)
+ *
+ * @author RSMS Development Team
+ * @since 1.0
+ */
+@Slf4j
+public class TieredSessionRepository
+        implements FindByIndexNameSessionRepository<TieredSessionRepository.TieredSession>, DisposableBean {
+
+    private final FindByIndexNameSessionRepository<Session> delegate;
+    private final JdbcTemplate jdbcTemplate;
+    private final long hotTtlMillis;
+    private final String touchSql;
+    private final String existsSql;
+
+    private final Map<String, HotEntry> hot = new ConcurrentHashMap<>();
+    private final Map<String, Instant> pendingTouches = new ConcurrentHashMap<>();
+
+    private final AtomicLong saveCount = new AtomicLong();
+    private final AtomicLong writeThroughCount = new AtomicLong();
+    private final AtomicLong flushedTouchCount = new AtomicLong();
+    private final AtomicLong revokedHitCount = new AtomicLong();
+
+    /**
+     * 메모리 스냅샷 (읽기 전용, 요청마다 복사해서 사용)
+     */
+    private record HotEntry(MapSession snapshot, long loadedAt) {
+    }
+
+    /**
+     * @param delegate JDBC 세션 저장소 (JdbcIndexedSessionRepository)
+     * @param jdbcTemplate 마지막 접근 시간 일괄 UPDATE, 세션 존재 확인용
+     * @param tableName 세션 테이블명 (spring.session.jdbc.table-name)
+     * @param hotTtl 메모리 스냅샷 유효 시간
+     */
+    @SuppressWarnings("unchecked")
+    public TieredSessionRepository(FindByIndexNameSessionRepository<? extends Session> delegate,
+                                   JdbcTemplate jdbcTemplate, String tableName, Duration hotTtl) {
+        this.delegate = (FindByIndexNameSessionRepository<Session>) delegate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.hotTtlMillis = hotTtl.toMillis();
+        // 다른 노드가 더 최신 값을 기록했으면 덮어쓰지 않음, 만료 없음(음수) 세션은 만료시간 유지
+        this.touchSql = "UPDATE " + tableName + " SET LAST_ACCESS_TIME = ?, " +
+            "EXPIRY_TIME = CASE WHEN MAX_INACTIVE_INTERVAL < 0 THEN EXPIRY_TIME ELSE ? + MAX_INACTIVE_INTERVAL * 1000 END " +
+            "WHERE SESSION_ID = ? AND LAST_ACCESS_TIME < ?";
+        this.existsSql = "SELECT 1 FROM " + tableName + " WHERE SESSION_ID = ?";
+    }
+
+    @Override
+    public TieredSession createSession() {
+        return new TieredSession(delegate.createSession());
+    }
+
+    @Override
+    public void save(TieredSession session) {
+        saveCount.incrementAndGet();
+        if (session.detached) {
+            return;
+        }
+
+        if (session.delegateSession != null) {
+            // write-through: 생성/속성 변경/세션ID 변경
+            delegate.save(session.delegateSession);
+            writeThroughCount.incrementAndGet();
+
+            String id = session.delegateSession.getId();
+            if (!id.equals(session.originalId)) {
+                evict(session.originalId);
+            }
+            pendingTouches.remove(id);
+            hot.put(id, new HotEntry(new MapSession(session.delegateSession), System.currentTimeMillis()));
+            return;
+        }
+
+        if (session.touched) {
+            // 마지막 접근 시간만 변경: 메모리 스냅샷 갱신 + flush 대기열에 병합
+            String id = session.local.getId();
+            Instant lastAccessedTime = session.local.getLastAccessedTime();
+            hot.computeIfPresent(id, (key, entry) -> {
+                if (!lastAccessedTime.isAfter(entry.snapshot().getLastAccessedTime())) {
+                    return entry;
+                }
+                MapSession updated = new MapSession(entry.snapshot());
+                updated.setLastAccessedTime(lastAccessedTime);
+                return new HotEntry(updated, entry.loadedAt());
+            });
+            pendingTouches.merge(id, lastAccessedTime, (a, b) -> a.isAfter(b) ? a : b);
+        }
+    }
+
+    @Override
+    public TieredSession findById(String id) {
+        long now = System.currentTimeMillis();
+        HotEntry entry = hot.get(id);
+        if (entry != null && now - entry.loadedAt() < hotTtlMillis) {
+            if (entry.snapshot().isExpired()) {
+                deleteById(id);
+                return null;
+            }
+            if (!existsInStore(id)) {
+                // 다른 노드에서 로그아웃/삭제된 세션
+                evict(id);
+                revokedHitCount.incrementAndGet();
+                log.debug("저장소에서 삭제된 세션의 메모리 스냅샷 폐기: id={}", id);
+                return null;
+            }
+            return new TieredSession(new MapSession(entry.snapshot()));
+        }
+
+        // 스냅샷 없음/만료: DB에서 다시 읽음 (만료된 세션은 JDBC 저장소가 삭제 후 null 반환)
+        Session loaded = delegate.findById(id);
+        if (loaded == null) {
+            evict(id);
+            return null;
+        }
+        MapSession snapshot = new MapSession(loaded);
+        Instant pending = pendingTouches.get(id);
+        if (pending != null && pending.isAfter(snapshot.getLastAccessedTime())) {
+            snapshot.setLastAccessedTime(pending);
+        }
+        hot.put(id, new HotEntry(snapshot, now));
+        return new TieredSession(new MapSession(snapshot));
+    }
+
+    @Override
+    public void deleteById(String id) {
+        evict(id);
+        delegate.deleteById(id);
+    }
+
+    @Override
+    public Map<String, TieredSession> findByIndexNameAndIndexValue(String indexName, String indexValue) {
+        Map<String, ? extends Session> sessions = delegate.findByIndexNameAndIndexValue(indexName, indexValue);
+        Map<String, TieredSession> result = new LinkedHashMap<>(sessions.size());
+        sessions.forEach((id, session) -> result.put(id, new TieredSession(session)));
+        return result;
+    }
+
+    /**
+     * 마지막 접근 시간 일괄 반영
+     * - 대기열을 비우며 세션별 최신 접근 시간 1건씩 batch UPDATE
+     * - 오래된 메모리 스냅샷 정리 (메모리 계층 크기를 최근 활성 세션 수로 제한)
+     */
+    @Scheduled(fixedDelayString = "${rsms.session.write-behind.flush-interval-ms:5000}",
+               initialDelayString = "${rsms.session.write-behind.flush-interval-ms:5000}")
+    public void flush() {
+        long now = System.currentTimeMillis();
+        hot.entrySet().removeIf(e -> now - e.getValue().loadedAt() >= hotTtlMillis);
+
+        List<Object[]> rows = new ArrayList<>();
+        for (String id : Set.copyOf(pendingTouches.keySet())) {
+            Instant lastAccessedTime = pendingTouches.remove(id);
+            if (lastAccessedTime != null) {
+                long millis = lastAccessedTime.toEpochMilli();
+                rows.add(new Object[]{millis, millis, id, millis});
+            }
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(touchSql, rows);
+            flushedTouchCount.addAndGet(rows.size());
+            log.debug("세션 마지막 접근 시간 일괄 반영: {}건 (누적 저장 요청 {}, 즉시 반영 {}, 일괄 반영 {}, 삭제 세션 폐기 {})",
+                rows.size(), saveCount.get(), writeThroughCount.get(), flushedTouchCount.get(), revokedHitCount.get());
+        } catch (RuntimeException e) {
+            // 다음 주기에 재시도 (이미 더 최신 값이 들어왔으면 그 값 유지)
+            for (Object[] row : rows) {
+                pendingTouches.merge((String) row[2], Instant.ofEpochMilli((Long) row[0]),
+                    (a, b) -> a.isAfter(b) ? a : b);
+            }
+            log.warn("세션 마지막 접근 시간 일괄 반영 실패 - {}건 재시도 예정: {}", rows.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 종료 시 대기 중인 접근 시간 반영
+     */
+    @Override
+    public void destroy() {
+        flush();
+    }
+
+    /**
+     * 세션 행 존재 여부 (SESSION_ID 인덱스 조회)
+     */
+    private boolean existsInStore(String id) {
+        return !jdbcTemplate.queryForList(existsSql, Integer.class, id).isEmpty();
+    }
+
+    private void evict(String id) {
+        hot.remove(id);
+        pendingTouches.remove(id);
+    }
+
+    /**
+     * 요청 단위 세션
+     * - 읽기와 마지막 접근 시간 갱신은 메모리 스냅샷 복사본(local)으로 처리
+     * - 속성/세션ID/비활성 시간 변경 시 JDBC 세션을 읽어와(materialize) 이후 작업을 위임하고 저장 시 즉시 반영
+     */
+    public final class TieredSession implements Session {
+
+        private final String originalId;
+        private final MapSession local;
+        private Session delegateSession;
+        private boolean touched;
+        private boolean detached;
+
+        private TieredSession(MapSession local) {
+            this.originalId = local.getId();
+            this.local = local;
+        }
+
+        private TieredSession(Session delegateSession) {
+            this.originalId = delegateSession.getId();
+            this.local = null;
+            this.delegateSession = delegateSession;
+        }
+
+        private Session current() {
+            return delegateSession != null ? delegateSession : local;
+        }
+
+        /**
+         * JDBC 세션 적재
+         * - 다른 노드에서 삭제(로그아웃, 만료)된 세션이면 분리 상태로 두고 저장하지 않음
+         */
+        private void materialize() {
+            if (delegateSession != null || detached) {
+                return;
+            }
+            Session loaded = delegate.findById(local.getId());
+            if (loaded == null) {
+                detached = true;
+                evict(local.getId());
+                log.debug("세션이 저장소에 없어 변경을 반영하지 않음: id={}", local.getId());
+                return;
+            }
+            if (local.getLastAccessedTime().isAfter(loaded.getLastAccessedTime())) {
+                loaded.setLastAccessedTime(local.getLastAccessedTime());
+            }
+            delegateSession = loaded;
+        }
+
+        @Override
+        public String getId() {
+            return current().getId();
+        }
+
+        @Override
+        public String changeSessionId() {
+            materialize();
+            return current().changeSessionId();
+        }
+
+        @Override
+        public <T> T getAttribute(String attributeName) {
+            return current().getAttribute(attributeName);
+        }
+
+        @Override
+        public Set<String> getAttributeNames() {
+            return current().getAttributeNames();
+        }
+
+        @Override
+        public void setAttribute(String attributeName, Object attributeValue) {
+            materialize();
+            current().setAttribute(attributeName, attributeValue);
+        }
+
+        @Override
+        public void removeAttribute(String attributeName) {
+            materialize();
+            current().removeAttribute(attributeName);
+        }
+
+        @Override
+        public Instant getCreationTime() {
+            return current().getCreationTime();
+        }
+
+        @Override
+        public void setLastAccessedTime(Instant lastAccessedTime) {
+            if (delegateSession != null) {
+                delegateSession.setLastAccessedTime(lastAccessedTime);
+            } else {
+                local.setLastAccessedTime(lastAccessedTime);
+                touched = true;
+            }
+        }
+
+        @Override
+        public Instant getLastAccessedTime() {
+            return current().getLastAccessedTime();
+        }
+
+        @Override
+        public void setMaxInactiveInterval(Duration interval) {
+            materialize();
+            current().setMaxInactiveInterval(interval);
+        }
+
+        @Override
+        public Duration getMaxInactiveInterval() {
+            return current().getMaxInactiveInterval();
+        }
+
+        @Override
+        public boolean isExpired() {
+            return current().isExpired();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+-- ============================================
+-- V017: id_counters 테이블 생성
+-- - 업무 ID 채번용 카운터 (IdAllocator)
+-- - COUNT(*)+1 / MAX(순번) 조회 방식 대체
+-- - 카운터 키별 1행, next_value = 다음에 예약할 순번
+-- - 연도별 채번은 키에 연도 포함 (예: APPROVAL_NO:2025)
+-- - 카운터 행은 최초 채번 시 기존 데이터의 최대 순번으로 자동 생성
+-- ============================================
+
+CREATE TABLE IF NOT EXISTS rsms.id_counters (
+    counter_key VARCHAR(100) PRIMARY KEY,         -- 카운터 키
+    next_value BIGINT NOT NULL DEFAULT 1,         -- 다음 예약 순번
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT chk_id_counters_next_value CHECK (next_value >= 1)
+);
+
+-- 테이블 코멘트
+COMMENT ON TABLE rsms.id_counters IS '업무 ID 채번 카운터 - 블록 단위 예약(hi-lo)';
+
+-- 컬럼 코멘트
+COMMENT ON COLUMN rsms.id_counters.counter_key IS '카운터 키 (예: APPROVAL_ID, APPROVAL_NO:2025)';
+COMMENT ON COLUMN rsms.id_counters.next_value IS '다음 예약 순번 (예약 시 블록 크기만큼 증가)';
+COMMENT ON COLUMN rsms.id_counters.created_at IS '생성일시';
+COMMENT ON COLUMN rsms.id_counters.updated_at IS '마지막 예약일시';
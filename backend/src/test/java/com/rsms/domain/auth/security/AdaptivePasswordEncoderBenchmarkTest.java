@@ -0,0 +1,118 @@
+package com.rsms.domain.auth.security;
+
+import com.rsms.support.MicroBenchmark;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * AdaptivePasswordEncoder 테스트 / 로그인 처리량 벤치마크
+ * - 기능 검증은 최소 강도(4)로 항상 실행
+ * - 강도별 코어당 초당 로그인(matches) 수 측정은 RSMS_BENCHMARK=true 일 때만 실행
+ */
+class AdaptivePasswordEncoderBenchmarkTest {
+
+    private static final String PASSWORD = "P@ssw0rd!2025";
+
+    @Test
+    @DisplayName("접두어 없는 기존 해시도 검증하고 강도가 다르면 재해시 대상으로 판단한다")
+    void matchesLegacyHashAndRequestsUpgrade() {
+        AdaptivePasswordEncoder encoder = new AdaptivePasswordEncoder(4, 2, Duration.ofSeconds(1));
+        String legacy = new BCryptPasswordEncoder(5).encode(PASSWORD);
+        String current = encoder.encode(PASSWORD);
+
+        assertThat(current).startsWith("{bcrypt}$2a$04$");
+        assertThat(encoder.matches(PASSWORD, legacy)).isTrue();
+        assertThat(encoder.matches(PASSWORD, current)).isTrue();
+        assertThat(encoder.matches("wrong", current)).isFalse();
+        assertThat(encoder.upgradeEncoding(legacy)).isTrue();
+        assertThat(encoder.upgradeEncoding(current)).isFalse();
+    }
+
+    @Test
+    @DisplayName("동시 해시 계산 수를 넘는 요청은 대기 시간 초과 시 실패한다")
+    void rejectsWhenPermitsAreExhausted() throws Exception {
+        AdaptivePasswordEncoder slow = new AdaptivePasswordEncoder(12, 1, Duration.ofMillis(10));
+        String hash = new BCryptPasswordEncoder(12).encode(PASSWORD);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CountDownLatch started = new CountDownLatch(1);
+            Future<Boolean> running = executor.submit(() -> {
+                started.countDown();
+                return slow.matches(PASSWORD, hash);
+            });
+            started.await();
+            Thread.sleep(50);
+
+            assertThatThrownBy(() -> slow.matches(PASSWORD, hash))
+                .isInstanceOf(IllegalStateException.class);
+            assertThat(running.get(30, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @EnabledIfEnvironmentVariable(named = MicroBenchmark.ENABLED_ENV, matches = "true")
+    @DisplayName("BCrypt 강도별 코어당 초당 로그인 수")
+    void benchmarkLoginsPerSecondPerCore() throws Exception {
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (int strength = 10; strength <= 13; strength++) {
+            AdaptivePasswordEncoder encoder = new AdaptivePasswordEncoder(strength, cores, Duration.ofMinutes(1));
+            String hash = encoder.encode(PASSWORD);
+
+            // 단일 스레드: 로그인 1회 해시 시간 = 코어 1개 처리량
+            double singleThread = MicroBenchmark.nanosPerOp(2, 10, () -> encoder.matches(PASSWORD, hash));
+            MicroBenchmark.report("bcrypt strength " + strength + " single thread", singleThread);
+
+            // 동시 로그인: 코어 수의 2배 스레드로 3초간 matches 호출 (세마포어가 코어 수로 제한)
+            double perSecond = concurrentLoginsPerSecond(encoder, hash, cores * 2, Duration.ofSeconds(3));
+            System.out.printf("[benchmark] bcrypt strength %d: %.1f logins/s on %d cores = %.1f logins/s/core%n",
+                strength, perSecond, cores, perSecond / cores);
+        }
+    }
+
+    private static double concurrentLoginsPerSecond(AdaptivePasswordEncoder encoder, String hash,
+                                                    int threads, Duration duration) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        AtomicInteger logins = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            long deadline = System.nanoTime() + duration.toNanos();
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    while (System.nanoTime() < deadline) {
+                        if (encoder.matches(PASSWORD, hash)) {
+                            logins.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            long started = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            return logins.get() / ((System.nanoTime() - started) / 1_000_000_000d);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.rsms.domain.auth.security;
+
+import com.rsms.domain.auth.entity.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * LoginAttemptTracker 테스트
+ * - users 테이블 UPDATE는 실행된 파라미터만 기록하는 JdbcTemplate으로 대체
+ */
+class LoginAttemptTrackerTest {
+
+    private final RecordingJdbcTemplate jdbcTemplate = new RecordingJdbcTemplate();
+    private final LoginAttemptTracker tracker = new LoginAttemptTracker(jdbcTemplate, new UserDetailsCache());
+
+    @Test
+    @DisplayName("다른 노드가 users 행에 기록한 잠금은 메모리 상태가 있어도 적용된다")
+    void lockWrittenByAnotherNodeIsHonoured() {
+        User user = user(1L, "alice", 0, null);
+        assertThat(tracker.getLockedUntil(user)).isNull();
+
+        // 다른 노드에서 잠금 (이 노드의 메모리 상태는 잠기지 않은 상태로 남아 있음)
+        LocalDateTime lockedElsewhere = LocalDateTime.now().plusMinutes(User.LOCK_DURATION_MINUTES);
+        User reloaded = user(1L, "alice", User.MAX_FAILED_LOGIN_COUNT, lockedElsewhere);
+
+        assertThat(tracker.getLockedUntil(reloaded)).isEqualTo(lockedElsewhere);
+        // 이후 로그인에서 행이 다시 잠금 없이 읽혀도 메모리 잠금 유지
+        assertThat(tracker.getLockedUntil(user)).isEqualTo(lockedElsewhere);
+    }
+
+    @Test
+    @DisplayName("지난 잠금 일시는 적용하지 않는다")
+    void expiredRowLockIsIgnored() {
+        User user = user(2L, "bob", 0, LocalDateTime.now().minusMinutes(1));
+
+        assertThat(tracker.getLockedUntil(user)).isNull();
+    }
+
+    @Test
+    @DisplayName("실패 횟수는 절대값이 아닌 증분으로 반영된다")
+    void failedCountIsFlushedAsDelta() {
+        User user = user(3L, "carol", 2, null);
+        tracker.getLockedUntil(user);
+        tracker.onLoginFailure("carol");
+        tracker.onLoginFailure("carol");
+
+        tracker.flush();
+
+        assertThat(jdbcTemplate.batches).hasSize(1);
+        Object[] row = jdbcTemplate.batches.get(0).get(0);
+        assertThat(row[0]).isEqualTo(false);
+        assertThat(row[1]).isEqualTo(2);
+        assertThat(row[3]).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("로그인 성공 후 실패는 초기화 + 성공 이후 증분으로 반영된다")
+    void successResetsBeforeDelta() {
+        User user = user(4L, "dave", 3, null);
+        tracker.getLockedUntil(user);
+        tracker.onLoginFailure("dave");
+        tracker.onLoginSuccess(user);
+        tracker.onLoginFailure("dave");
+
+        tracker.flush();
+
+        Object[] row = jdbcTemplate.batches.get(0).get(0);
+        assertThat(row[0]).isEqualTo(true);
+        assertThat(row[1]).isEqualTo(1);
+        assertThat(row[2]).isNotNull();
+    }
+
+    @Test
+    @DisplayName("기준 횟수에 도달하면 잠금 UPDATE로 대기 중인 증분까지 즉시 반영한다")
+    void lockWritesPendingDelta() {
+        User user = user(5L, "erin", User.MAX_FAILED_LOGIN_COUNT - 2, null);
+        tracker.getLockedUntil(user);
+        tracker.onLoginFailure("erin");
+
+        assertThat(tracker.onLoginFailure("erin")).isTrue();
+
+        assertThat(jdbcTemplate.updates).hasSize(1);
+        Object[] args = jdbcTemplate.updates.get(0);
+        assertThat(args[0]).isEqualTo(false);
+        assertThat(args[1]).isEqualTo(2);
+        tracker.flush();
+        assertThat(jdbcTemplate.batches).isEmpty();
+    }
+
+    private static User user(Long userId, String username, int failedCount, LocalDateTime lockedUntil) {
+        User user = new User();
+        user.setUserId(userId);
+        user.setUsername(username);
+        user.setFailedLoginCount(failedCount);
+        user.setLockedUntil(lockedUntil);
+        return user;
+    }
+
+    /**
+     * 실행된 UPDATE 파라미터 기록
+     */
+    private static final class RecordingJdbcTemplate extends JdbcTemplate {
+        private final List<Object[]> updates = new ArrayList<>();
+        private final List<List<Object[]>> batches = new ArrayList<>();
+
+        @Override
+        public int update(String sql, Object... args) {
+            updates.add(args);
+            return 1;
+        }
+
+        @Override
+        public int[] batchUpdate(String sql, List<Object[]> batchArgs, int[] argTypes) {
+            batches.add(new ArrayList<>(batchArgs));
+            return new int[batchArgs.size()];
+        }
+    }
+}
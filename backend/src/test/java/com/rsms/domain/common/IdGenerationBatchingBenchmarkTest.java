@@ -0,0 +1,154 @@
+package com.rsms.domain.common;
+
+import com.rsms.support.MicroBenchmark;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 식별자 생성 방식별 INSERT 배치 벤치마크
+ * - IDENTITY(기존 직책/회의체 상세 등) 와 pooled SEQUENCE(allocationSize 50, 현재 방식) 엔티티를
+ *   같은 건수로 저장하여 실행 문장 수와 저장 시간을 비교 (H2 메모리 DB, application.yml과 같은 batch_size 20)
+ * - IDENTITY는 키를 읽기 위해 행마다 즉시 INSERT하므로 JDBC 배치가 적용되지 않음
+ * - 문장 수 검증은 항상 실행, 시간 측정은 RSMS_BENCHMARK=true 일 때만 실행
+ *   (메모리 DB는 왕복 비용이 거의 없으므로 실제 DB에서는 차이가 더 큼)
+ */
+class IdGenerationBatchingBenchmarkTest {
+
+    private static final int BATCH_SIZE = 20;
+
+    private static SessionFactory sessionFactory;
+
+    @BeforeAll
+    static void setUp() {
+        sessionFactory = new Configuration()
+            .addAnnotatedClass(IdentityDetail.class)
+            .addAnnotatedClass(PooledSequenceDetail.class)
+            .setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:id_batching;DB_CLOSE_DELAY=-1")
+            .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+            .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+            .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf(BATCH_SIZE))
+            .setProperty(AvailableSettings.ORDER_INSERTS, "true")
+            .setProperty(AvailableSettings.GENERATE_STATISTICS, "true")
+            .buildSessionFactory();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (sessionFactory != null) {
+            sessionFactory.close();
+        }
+    }
+
+    @Test
+    @DisplayName("pooled 시퀀스 엔티티는 배치 INSERT로 저장되어 IDENTITY보다 실행 문장 수가 적다")
+    void pooledSequenceBatchesInserts() {
+        int rows = 1_000;
+
+        long identityStatements = statementsFor(rows, IdentityDetail::new);
+        long pooledStatements = statementsFor(rows, PooledSequenceDetail::new);
+
+        // IDENTITY: 행마다 INSERT 1회 / pooled: 시퀀스 약 rows/50회 + 배치 rows/20회
+        assertThat(identityStatements).isGreaterThanOrEqualTo(rows);
+        assertThat(pooledStatements * 10).isLessThan(identityStatements);
+    }
+
+    @Test
+    @EnabledIfEnvironmentVariable(named = MicroBenchmark.ENABLED_ENV, matches = "true")
+    @DisplayName("IDENTITY 행 단위 INSERT 대비 pooled 시퀀스 배치 INSERT 저장 시간 비교")
+    void benchmarkInserts() throws Exception {
+        for (int rows : new int[]{100, 1_000, 5_000}) {
+            double perRow = MicroBenchmark.nanosPerOp(5, 20, () -> persist(rows, IdentityDetail::new));
+            double batched = MicroBenchmark.nanosPerOp(5, 20, () -> persist(rows, PooledSequenceDetail::new));
+
+            MicroBenchmark.report("IDENTITY per-row insert (" + rows + " rows)", perRow);
+            MicroBenchmark.report("pooled sequence batched insert (" + rows + " rows)", batched);
+            System.out.printf("[benchmark] statements %d -> %d, speedup x%.2f%n",
+                statementsFor(rows, IdentityDetail::new), statementsFor(rows, PooledSequenceDetail::new),
+                perRow / batched);
+        }
+    }
+
+    private long statementsFor(int rows, IntFunction<Object> factory) {
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.clear();
+        persist(rows, factory);
+        return statistics.getPrepareStatementCount();
+    }
+
+    /**
+     * 한 트랜잭션에서 rows건 저장 (서비스의 saveAll과 같은 흐름)
+     */
+    private static int persist(int rows, IntFunction<Object> factory) {
+        try (Session session = sessionFactory.openSession()) {
+            session.beginTransaction();
+            for (int i = 0; i < rows; i++) {
+                session.persist(factory.apply(i));
+            }
+            session.getTransaction().commit();
+        }
+        return rows;
+    }
+
+    /**
+     * 기존 매핑: IDENTITY (BIGSERIAL 기본값으로 키 생성)
+     */
+    @Entity
+    @Table(name = "identity_details")
+    static class IdentityDetail {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+
+        @Column(name = "detail_name", length = 100)
+        private String detailName;
+
+        protected IdentityDetail() {
+        }
+
+        IdentityDetail(int index) {
+            this.detailName = "detail-" + index;
+        }
+    }
+
+    /**
+     * 현재 매핑: pooled SEQUENCE (allocationSize 50)
+     */
+    @Entity
+    @Table(name = "pooled_sequence_details")
+    static class PooledSequenceDetail {
+        @Id
+        @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pooled_sequence_details_id_generator")
+        @SequenceGenerator(name = "pooled_sequence_details_id_generator",
+            sequenceName = "pooled_sequence_details_id_seq", allocationSize = 50)
+        private Long id;
+
+        @Column(name = "detail_name", length = 100)
+        private String detailName;
+
+        protected PooledSequenceDetail() {
+        }
+
+        PooledSequenceDetail(int index) {
+            this.detailName = "detail-" + index;
+        }
+    }
+}
@@ -0,0 +1,349 @@
+package com.rsms.domain.compliance.service;
+
+import com.rsms.domain.compliance.dto.ExecutiveReportDto.*;
+import com.rsms.domain.compliance.entity.ImplInspectionItem;
+import com.rsms.domain.compliance.repository.ImplInspectionItemRepository;
+import com.rsms.domain.organization.entity.Organization;
+import com.rsms.domain.responsibility.entity.DeptManagerManual;
+import com.rsms.domain.responsibility.entity.ManagementObligation;
+import com.rsms.domain.responsibility.entity.Responsibility;
+import com.rsms.domain.responsibility.entity.ResponsibilityDetail;
+import com.rsms.support.MicroBenchmark;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 임원이행점검보고서 집계 벤치마크
+ * - 기존 4회 순회 집계(집계현황/책무별/관리의무별/관리활동별 각각 순회, 엔티티 탐색 NPE 처리)와
+ *   현재 단일 순회 집계(ExecutiveReportService.getExecutiveReport)를 같은 항목으로 비교
+ * - 결과 동일성 검증은 항상 실행, 시간 측정은 RSMS_BENCHMARK=true 일 때만 실행
+ */
+class ExecutiveReportAggregationBenchmarkTest {
+
+    private static final String PLAN_ID = "PLAN0001";
+
+    @Test
+    @DisplayName("단일 순회 집계 결과는 기존 4회 순회 집계 결과와 같다")
+    void singlePassMatchesFourPass() {
+        List<ImplInspectionItem> items = createItems(2_000);
+        ExecutiveReportService service = serviceReturning(items);
+
+        ExecutiveReportResponse expected = LegacyFourPassAggregation.aggregate(items);
+        ExecutiveReportResponse actual = service.getExecutiveReport("20250001", PLAN_ID, null);
+
+        assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
+    }
+
+    @Test
+    @EnabledIfEnvironmentVariable(named = MicroBenchmark.ENABLED_ENV, matches = "true")
+    @DisplayName("4회 순회 대비 단일 순회 집계 시간 비교")
+    void benchmarkAggregation() throws Exception {
+        for (int size : new int[]{1_000, 10_000, 50_000}) {
+            List<ImplInspectionItem> items = createItems(size);
+            ExecutiveReportService service = serviceReturning(items);
+
+            double fourPass = MicroBenchmark.nanosPerOp(20, 50, () -> LegacyFourPassAggregation.aggregate(items));
+            double singlePass = MicroBenchmark.nanosPerOp(20, 50,
+                () -> service.getExecutiveReport("20250001", PLAN_ID, null));
+
+            MicroBenchmark.report("executive report 4-pass (" + size + " items)", fourPass);
+            MicroBenchmark.report("executive report single pass (" + size + " items)", singlePass);
+            System.out.printf("[benchmark] speedup x%.2f%n", fourPass / singlePass);
+        }
+    }
+
+    private static ExecutiveReportService serviceReturning(List<ImplInspectionItem> items) {
+        ImplInspectionItemRepository repository = mock(ImplInspectionItemRepository.class);
+        when(repository.findByImplInspectionPlanIdAndIsActive(anyString(), eq("Y"))).thenReturn(items);
+        return new ExecutiveReportService(repository);
+    }
+
+    /**
+     * 점검항목 생성 (책무 → 책무세부 → 관리의무 → 부서장업무메뉴얼 계층)
+     * - 관리의무 3개당 책무 1개, 메뉴얼 4개당 관리의무 1개
+     * - 일부 항목은 메뉴얼 또는 관리의무가 없음 (기존 집계의 NPE 처리 경로 포함)
+     */
+    private static List<ImplInspectionItem> createItems(int size) {
+        String[] inspectionStatuses = {"01", "02", "02", "03"};
+        String[] improvementStatuses = {"01", "02", "04", "06", null};
+        Organization organization = new Organization();
+        organization.setOrgName("준법감시팀");
+
+        List<DeptManagerManual> manuals = new ArrayList<>();
+        int manualCount = Math.max(1, size / 5);
+        for (int m = 0; m < manualCount; m++) {
+            int o = m / 4;
+            int r = o / 3;
+            Responsibility responsibility = new Responsibility();
+            responsibility.setResponsibilityCd(String.format("R%05d", r));
+            responsibility.setResponsibilityInfo("책무 " + r);
+            ResponsibilityDetail detail = new ResponsibilityDetail();
+            detail.setResponsibility(responsibility);
+            ManagementObligation obligation = new ManagementObligation();
+            obligation.setObligationCd(String.format("O%05d", o));
+            obligation.setObligationInfo("관리의무 " + o);
+            obligation.setResponsibilityDetail(detail);
+
+            DeptManagerManual manual = new DeptManagerManual();
+            manual.setManualCd(String.format("M%05d", m));
+            manual.setOrgCode("ORG" + (m % 10));
+            manual.setOrganization(m % 7 == 0 ? null : organization);
+            manual.setActivityName("관리활동 " + m);
+            manual.setRespItem("점검항목 " + m);
+            manual.setManagementObligation(m % 50 == 49 ? null : obligation);
+            manuals.add(manual);
+        }
+
+        List<ImplInspectionItem> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ImplInspectionItem item = new ImplInspectionItem();
+            item.setImplInspectionItemId(String.format("I%07d", i));
+            DeptManagerManual manual = i % 100 == 99 ? null : manuals.get(i % manuals.size());
+            item.setDeptManagerManual(manual);
+            item.setManualCd(manual != null ? manual.getManualCd() : null);
+            item.setInspectionStatusCd(inspectionStatuses[i % inspectionStatuses.length]);
+            item.setImprovementStatusCd(improvementStatuses[i % improvementStatuses.length]);
+            items.add(item);
+        }
+        return items;
+    }
+
+    /**
+     * 단일 순회 도입 전 집계 (비교 기준, 원래 구현 그대로)
+     */
+    private static final class LegacyFourPassAggregation {
+
+        static ExecutiveReportResponse aggregate(List<ImplInspectionItem> items) {
+            return ExecutiveReportResponse.builder()
+                    .summary(buildSummaryStats(items))
+                    .responsibilityInspections(buildResponsibilityInspections(items))
+                    .obligationInspections(buildObligationInspections(items))
+                    .activityInspections(buildActivityInspections(items))
+                    .build();
+        }
+
+        private static SummaryStats buildSummaryStats(List<ImplInspectionItem> items) {
+            Set<String> responsibilities = new HashSet<>();
+            Set<String> obligations = new HashSet<>();
+            int appropriateCount = 0;
+            int inappropriateCount = 0;
+            int improvementCompleted = 0;
+            int improvementInProgress = 0;
+
+            for (ImplInspectionItem item : items) {
+                DeptManagerManual manual = item.getDeptManagerManual();
+                if (manual != null && manual.getManagementObligation() != null) {
+                    ManagementObligation obligation = manual.getManagementObligation();
+                    obligations.add(obligation.getObligationCd());
+
+                    if (obligation.getResponsibilityDetail() != null &&
+                            obligation.getResponsibilityDetail().getResponsibility() != null) {
+                        responsibilities.add(obligation.getResponsibilityDetail().getResponsibility().getResponsibilityCd());
+                    }
+                }
+
+                String statusCd = item.getInspectionStatusCd();
+                if ("02".equals(statusCd)) {
+                    appropriateCount++;
+                } else if ("03".equals(statusCd)) {
+                    inappropriateCount++;
+
+                    String improvementStatusCd = item.getImprovementStatusCd();
+                    if ("06".equals(improvementStatusCd)) {
+                        improvementCompleted++;
+                    } else if (improvementStatusCd != null && !"01".equals(improvementStatusCd)) {
+                        improvementInProgress++;
+                    }
+                }
+            }
+
+            return SummaryStats.builder()
+                    .totalResponsibilities(responsibilities.size())
+                    .totalObligations(obligations.size())
+                    .totalActivities(items.size())
+                    .appropriateCount(appropriateCount)
+                    .inappropriateCount(inappropriateCount)
+                    .improvementCompletedCount(improvementCompleted)
+                    .improvementInProgressCount(improvementInProgress)
+                    .build();
+        }
+
+        private static List<ResponsibilityInspection> buildResponsibilityInspections(List<ImplInspectionItem> items) {
+            Map<String, List<ImplInspectionItem>> groupByResponsibility = new LinkedHashMap<>();
+            for (ImplInspectionItem item : items) {
+                String respCd = getResponsibilityCd(item);
+                if (respCd != null) {
+                    groupByResponsibility.computeIfAbsent(respCd, k -> new ArrayList<>()).add(item);
+                }
+            }
+
+            List<ResponsibilityInspection> result = new ArrayList<>();
+            for (Map.Entry<String, List<ImplInspectionItem>> entry : groupByResponsibility.entrySet()) {
+                List<ImplInspectionItem> groupItems = entry.getValue();
+                Set<String> obligations = new HashSet<>();
+                int appropriate = 0;
+                int inappropriate = 0;
+                for (ImplInspectionItem item : groupItems) {
+                    String oblCd = getObligationCd(item);
+                    if (oblCd != null) {
+                        obligations.add(oblCd);
+                    }
+                    if ("02".equals(item.getInspectionStatusCd())) {
+                        appropriate++;
+                    } else if ("03".equals(item.getInspectionStatusCd())) {
+                        inappropriate++;
+                    }
+                }
+
+                result.add(ResponsibilityInspection.builder()
+                        .responsibilityCd(entry.getKey())
+                        .responsibilityInfo(getResponsibilityInfo(groupItems.get(0)))
+                        .inspectionResult(judge(groupItems.size(), appropriate, inappropriate))
+                        .totalObligations(obligations.size())
+                        .totalActivities(groupItems.size())
+                        .appropriateCount(appropriate)
+                        .inappropriateCount(inappropriate)
+                        .build());
+            }
+            return result;
+        }
+
+        private static List<ObligationInspection> buildObligationInspections(List<ImplInspectionItem> items) {
+            Map<String, List<ImplInspectionItem>> groupByObligation = new LinkedHashMap<>();
+            for (ImplInspectionItem item : items) {
+                String oblCd = getObligationCd(item);
+                if (oblCd != null) {
+                    groupByObligation.computeIfAbsent(oblCd, k -> new ArrayList<>()).add(item);
+                }
+            }
+
+            List<ObligationInspection> result = new ArrayList<>();
+            for (Map.Entry<String, List<ImplInspectionItem>> entry : groupByObligation.entrySet()) {
+                List<ImplInspectionItem> groupItems = entry.getValue();
+                int appropriate = 0;
+                int inappropriate = 0;
+                for (ImplInspectionItem item : groupItems) {
+                    if ("02".equals(item.getInspectionStatusCd())) {
+                        appropriate++;
+                    } else if ("03".equals(item.getInspectionStatusCd())) {
+                        inappropriate++;
+                    }
+                }
+
+                result.add(ObligationInspection.builder()
+                        .obligationCd(entry.getKey())
+                        .obligationInfo(getObligationInfo(groupItems.get(0)))
+                        .responsibilityCd(getResponsibilityCd(groupItems.get(0)))
+                        .responsibilityInfo(getResponsibilityInfo(groupItems.get(0)))
+                        .inspectionResult(judge(groupItems.size(), appropriate, inappropriate))
+                        .totalActivities(groupItems.size())
+                        .appropriateCount(appropriate)
+                        .inappropriateCount(inappropriate)
+                        .build());
+            }
+            return result;
+        }
+
+        private static List<ActivityInspection> buildActivityInspections(List<ImplInspectionItem> items) {
+            return items.stream()
+                    .map(item -> {
+                        DeptManagerManual manual = item.getDeptManagerManual();
+                        String orgCode = manual != null ? manual.getOrgCode() : "";
+                        return ActivityInspection.builder()
+                                .implInspectionItemId(item.getImplInspectionItemId())
+                                .manualCd(item.getManualCd())
+                                .activityName(manual != null ? manual.getActivityName() : "")
+                                .respItem(manual != null ? manual.getRespItem() : "")
+                                .obligationCd(getObligationCd(item))
+                                .obligationInfo(getObligationInfo(item))
+                                .responsibilityCd(getResponsibilityCd(item))
+                                .responsibilityInfo(getResponsibilityInfo(item))
+                                .inspectionStatusCd(item.getInspectionStatusCd())
+                                .inspectionStatusName(getInspectionStatusName(item.getInspectionStatusCd()))
+                                .improvementStatusCd(item.getImprovementStatusCd())
+                                .improvementStatusName(getImprovementStatusName(item.getImprovementStatusCd()))
+                                .orgCode(orgCode)
+                                .orgName((manual != null && manual.getOrganization() != null)
+                                        ? manual.getOrganization().getOrgName() : orgCode)
+                                .build();
+                    })
+                    .collect(Collectors.toList());
+        }
+
+        private static String judge(int total, int appropriate, int inappropriate) {
+            if (inappropriate > 0) {
+                return "부적정";
+            } else if (appropriate == total && appropriate > 0) {
+                return "적정";
+            }
+            return "점검";
+        }
+
+        private static String getResponsibilityCd(ImplInspectionItem item) {
+            try {
+                return item.getDeptManagerManual().getManagementObligation()
+                        .getResponsibilityDetail().getResponsibility().getResponsibilityCd();
+            } catch (NullPointerException e) {
+                return null;
+            }
+        }
+
+        private static String getResponsibilityInfo(ImplInspectionItem item) {
+            try {
+                return item.getDeptManagerManual().getManagementObligation()
+                        .getResponsibilityDetail().getResponsibility().getResponsibilityInfo();
+            } catch (NullPointerException e) {
+                return "";
+            }
+        }
+
+        private static String getObligationCd(ImplInspectionItem item) {
+            try {
+                return item.getDeptManagerManual().getManagementObligation().getObligationCd();
+            } catch (NullPointerException e) {
+                return null;
+            }
+        }
+
+        private static String getObligationInfo(ImplInspectionItem item) {
+            try {
+                return item.getDeptManagerManual().getManagementObligation().getObligationInfo();
+            } catch (NullPointerException e) {
+                return "";
+            }
+        }
+
+        private static String getInspectionStatusName(String statusCd) {
+            if (statusCd == null) return "";
+            switch (statusCd) {
+                case "01": return "미점검";
+                case "02": return "적정";
+                case "03": return "부적정";
+                default: return "";
+            }
+        }
+
+        private static String getImprovementStatusName(String statusCd) {
+            if (statusCd == null) return "";
+            switch (statusCd) {
+                case "01": return "개선미이행";
+                case "02": return "개선계획";
+                case "03": return "승인요청";
+                case "04": return "개선이행";
+                case "05": return "완료승인요청";
+                case "06": return "개선완료";
+                default: return "";
+            }
+        }
+    }
+}
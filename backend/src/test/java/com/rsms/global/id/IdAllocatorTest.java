@@ -0,0 +1,137 @@
+package com.rsms.global.id;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * IdAllocator 동시성 테스트
+ * - 카운터 테이블은 메모리 카운터로 대체 (UPDATE ... RETURNING 의미만 재현)
+ */
+class IdAllocatorTest {
+
+    private final CounterJdbcTemplate jdbcTemplate = new CounterJdbcTemplate();
+    private final IdAllocator idAllocator = new IdAllocator(jdbcTemplate, new NoOpTransactionManager());
+    private final ExecutorService executor = Executors.newFixedThreadPool(16);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 채번해도 ID가 중복되지 않는다")
+    void concurrentNextReturnsUniqueIds() throws Exception {
+        int threads = 16;
+        int perThread = 1000;
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    ids.add(idAllocator.next(IdSequence.APPROVAL_ID));
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+
+        int total = threads * perThread;
+        int blockSize = IdSequence.APPROVAL_ID.getBlockSize();
+        assertThat(ids).hasSize(total);
+        // 블록 교체 경합으로 버려지는 블록은 교체 시점마다 스레드 수 이내
+        assertThat(jdbcTemplate.reservations.get()).isBetween(total / blockSize, total / blockSize * threads);
+    }
+
+    @Test
+    @DisplayName("블록 예약 중인 호출자가 다른 호출자를 막지 않는다")
+    void refillDoesNotBlockOtherCallers() throws Exception {
+        CountDownLatch reserving = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        jdbcTemplate.blockFirstReservation(reserving, release);
+
+        Future<String> slow = executor.submit(() -> idAllocator.next(IdSequence.APPROVAL_ID));
+        assertThat(reserving.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 첫 호출자가 별도 트랜잭션에서 대기 중이어도 두 번째 호출자는 자체 예약으로 즉시 진행
+        String fast = executor.submit(() -> idAllocator.next(IdSequence.APPROVAL_ID)).get(5, TimeUnit.SECONDS);
+
+        release.countDown();
+        assertThat(slow.get(5, TimeUnit.SECONDS)).isNotEqualTo(fast);
+    }
+
+    /**
+     * rsms.id_counters 대체: 키별 next_value를 메모리에서 원자적으로 증가
+     */
+    private static final class CounterJdbcTemplate extends JdbcTemplate {
+
+        private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+        private final AtomicInteger reservations = new AtomicInteger();
+        private volatile CountDownLatch reserving;
+        private volatile CountDownLatch release;
+
+        void blockFirstReservation(CountDownLatch reserving, CountDownLatch release) {
+            this.reserving = reserving;
+            this.release = release;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> List<T> queryForList(String sql, Class<T> elementType, Object... args) {
+            if (reservations.incrementAndGet() == 1 && release != null) {
+                reserving.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            int size = (Integer) args[0];
+            String counterKey = (String) args[1];
+            long next = counters.computeIfAbsent(counterKey, key -> new AtomicLong(1)).addAndGet(size);
+            return (List<T>) List.of(next);
+        }
+    }
+
+    private static final class NoOpTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.rsms.infrastructure.session;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.MapSession;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TieredSessionRepository 테스트
+ * - JDBC 세션 저장소/세션 테이블은 메모리 Map으로 대체
+ */
+class TieredSessionRepositoryTest {
+
+    private final Map<String, MapSession> store = new ConcurrentHashMap<>();
+    private final InMemorySessionRepository delegate = new InMemorySessionRepository(store);
+    private final SessionTableJdbcTemplate jdbcTemplate = new SessionTableJdbcTemplate(store);
+    private final TieredSessionRepository repository =
+        new TieredSessionRepository(delegate, jdbcTemplate, "SPRING_SESSION", Duration.ofSeconds(15));
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 삭제된 세션은 메모리 스냅샷 유효 시간 안에서도 조회되지 않는다")
+    void sessionDeletedElsewhereIsNotServedFromMemory() {
+        TieredSessionRepository.TieredSession session = repository.createSession();
+        session.setAttribute("user", "admin");
+        repository.save(session);
+        String id = session.getId();
+        assertThat(repository.findById(id)).isNotNull();
+
+        // 다른 노드의 로그아웃: 세션 행만 삭제 (이 노드의 메모리 스냅샷은 그대로)
+        store.remove(id);
+
+        assertThat(repository.findById(id)).isNull();
+    }
+
+    @Test
+    @DisplayName("동시 요청의 마지막 접근 시간은 메모리에서 병합되어 세션당 1건씩 일괄 반영된다")
+    void concurrentTouchesAreFlushedOncePerSession() throws Exception {
+        int sessions = 50;
+        int requestsPerSession = 200;
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < sessions; i++) {
+            TieredSessionRepository.TieredSession session = repository.createSession();
+            session.setAttribute("user", "user" + i);
+            repository.save(session);
+            ids.add(session.getId());
+        }
+        int savesAfterLogin = delegate.saves.get();
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (String id : ids) {
+            futures.add(executor.submit(() -> {
+                for (int r = 0; r < requestsPerSession; r++) {
+                    TieredSessionRepository.TieredSession session = repository.findById(id);
+                    assertThat(session).isNotNull();
+                    assertThat((String) session.getAttribute("user")).startsWith("user");
+                    session.setLastAccessedTime(Instant.now());
+                    repository.save(session);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        repository.flush();
+
+        // 요청마다 세션 행 존재 확인만 수행, JDBC 저장소 조회/저장 없음
+        assertThat(delegate.finds.get()).isZero();
+        assertThat(delegate.saves.get()).isEqualTo(savesAfterLogin);
+        assertThat(jdbcTemplate.existsChecks.get()).isEqualTo(sessions * requestsPerSession);
+        assertThat(jdbcTemplate.touchedRows.get()).isEqualTo(sessions);
+    }
+
+    /**
+     * JdbcIndexedSessionRepository 대체
+     */
+    private static final class InMemorySessionRepository implements FindByIndexNameSessionRepository<MapSession> {
+
+        private final Map<String, MapSession> store;
+        private final AtomicInteger finds = new AtomicInteger();
+        private final AtomicInteger saves = new AtomicInteger();
+
+        private InMemorySessionRepository(Map<String, MapSession> store) {
+            this.store = store;
+        }
+
+        @Override
+        public MapSession createSession() {
+            return new MapSession();
+        }
+
+        @Override
+        public void save(MapSession session) {
+            saves.incrementAndGet();
+            if (!session.getId().equals(session.getOriginalId())) {
+                store.remove(session.getOriginalId());
+            }
+            store.put(session.getId(), new MapSession(session));
+        }
+
+        @Override
+        public MapSession findById(String id) {
+            finds.incrementAndGet();
+            MapSession session = store.get(id);
+            return session != null ? new MapSession(session) : null;
+        }
+
+        @Override
+        public void deleteById(String id) {
+            store.remove(id);
+        }
+
+        @Override
+        public Map<String, MapSession> findByIndexNameAndIndexValue(String indexName, String indexValue) {
+            return Map.of();
+        }
+    }
+
+    /**
+     * 세션 테이블 대체: 존재 확인 조회와 마지막 접근 시간 일괄 UPDATE 건수만 기록
+     */
+    private static final class SessionTableJdbcTemplate extends JdbcTemplate {
+
+        private final Map<String, MapSession> store;
+        private final AtomicInteger existsChecks = new AtomicInteger();
+        private final AtomicInteger touchedRows = new AtomicInteger();
+
+        private SessionTableJdbcTemplate(Map<String, MapSession> store) {
+            this.store = store;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> List<T> queryForList(String sql, Class<T> elementType, Object... args) {
+            existsChecks.incrementAndGet();
+            return store.containsKey((String) args[0]) ? (List<T>) List.of(1) : List.of();
+        }
+
+        @Override
+        public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+            touchedRows.addAndGet(batchArgs.size());
+            return new int[batchArgs.size()];
+        }
+    }
+}
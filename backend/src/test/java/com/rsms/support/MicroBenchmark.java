@@ -0,0 +1,49 @@
+package com.rsms.support;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 테스트용 마이크로 벤치마크 도우미
+ * - 워밍업 후 측정 구간의 평균 실행 시간을 나노초 단위로 반환
+ * - 결과는 sink에 보관하여 JIT가 측정 대상 호출을 제거하지 못하게 함
+ * - 벤치마크 테스트는 RSMS_BENCHMARK=true 환경변수가 있을 때만 실행
+ *   (예: RSMS_BENCHMARK=true ./gradlew test --tests '*BenchmarkTest')
+ */
+public final class MicroBenchmark {
+
+    /**
+     * 벤치마크 실행 여부 환경변수
+     */
+    public static final String ENABLED_ENV = "RSMS_BENCHMARK";
+
+    private static volatile Object sink;
+
+    private MicroBenchmark() {
+    }
+
+    /**
+     * 1회 실행 평균 시간 (나노초)
+     *
+     * @param warmups 워밍업 횟수 (측정 제외)
+     * @param iterations 측정 횟수
+     * @param operation 측정 대상
+     */
+    public static double nanosPerOp(int warmups, int iterations, Callable<?> operation) throws Exception {
+        for (int i = 0; i < warmups; i++) {
+            sink = operation.call();
+        }
+        long started = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink = operation.call();
+        }
+        return (double) (System.nanoTime() - started) / iterations;
+    }
+
+    /**
+     * 결과 한 줄 출력 (1회 평균 시간, 초당 처리 횟수)
+     */
+    public static void report(String name, double nanosPerOp) {
+        System.out.printf("[benchmark] %-48s %12.3f ms/op %14.1f ops/s%n",
+            name, nanosPerOp / 1_000_000d, 1_000_000_000d / nanosPerOp);
+    }
+}
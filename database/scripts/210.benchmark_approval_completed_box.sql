@@ -0,0 +1,128 @@
+
+-- =====================================================
+-- 결재완료함 조회 벤치마크 (approval_histories JOIN vs approval_participants)
+-- =====================================================
+-- 설명: 합성 데이터(결재 100,000건 / 결재이력 1,000,000건)로 결재완료함 쿼리 실행계획 비교
+-- 작성자: Claude AI
+-- 작성일: 2025-12-05
+-- 실행: psql -d rsms_db -f 210.benchmark_approval_completed_box.sql
+-- 참고:
+--   - rsms_bench 스키마에 테이블을 복제하여 실행 (rsms 스키마 데이터는 변경하지 않음)
+--   - 결재자 1,000명, 결재당 이력 10건 (기안 1 + 승인 9), 결재자 'E00001'은 장기 재직 임원으로 가정하여 승인 이력 집중
+--   - 결과 비교 항목: Execution Time, Buffers (shared hit/read)
+--   - 실행 후 STEP 5에서 rsms_bench 스키마 삭제
+-- =====================================================
+
+-- =====================================================
+-- STEP 1: 벤치마크 스키마 준비
+-- =====================================================
+
+DROP SCHEMA IF EXISTS rsms_bench CASCADE;
+CREATE SCHEMA rsms_bench;
+
+CREATE TABLE rsms_bench.approvals (LIKE rsms.approvals INCLUDING DEFAULTS INCLUDING INDEXES);
+CREATE TABLE rsms_bench.approval_histories (LIKE rsms.approval_histories INCLUDING DEFAULTS INCLUDING INDEXES);
+CREATE TABLE rsms_bench.approval_participants (LIKE rsms.approval_participants INCLUDING DEFAULTS INCLUDING INDEXES);
+
+-- =====================================================
+-- STEP 2: 합성 데이터 생성
+-- =====================================================
+
+INSERT INTO rsms_bench.approvals (
+    approval_id, approval_no, title, work_type_cd, approval_type_cd, reference_type, reference_id,
+    drafter_id, draft_date, approval_status_cd, current_step, total_steps, completed_date, created_by, created_at)
+SELECT 'APR' || LPAD(g::TEXT, 8, '0'),
+       'APR-BENCH-' || LPAD(g::TEXT, 8, '0'),
+       '벤치마크 결재 ' || g,
+       'IMPROVE', 'PLAN_APPROVAL', 'IMPL_INSPECTION_ITEM', 'ITEM' || g,
+       'E' || LPAD((g % 1000 + 1)::TEXT, 5, '0'),
+       TIMESTAMP '2020-01-01' + (g || ' minutes')::INTERVAL,
+       '03', 10, 10,
+       TIMESTAMP '2020-01-01' + (g || ' minutes')::INTERVAL + INTERVAL '3 days',
+       'bench', CURRENT_TIMESTAMP
+FROM generate_series(1, 100000) AS g;
+
+INSERT INTO rsms_bench.approval_histories (
+    approval_history_id, approval_id, step_sequence, approver_id, approver_name,
+    action_cd, action_date, created_by, created_at)
+SELECT 'AH' || LPAD(((a - 1) * 10 + s)::TEXT, 8, '0'),
+       'APR' || LPAD(a::TEXT, 8, '0'),
+       s,
+       CASE WHEN s = 10 AND a % 4 = 0 THEN 'E00001'
+            ELSE 'E' || LPAD(((a * 7 + s * 13) % 1000 + 1)::TEXT, 5, '0') END,
+       '결재자',
+       CASE WHEN s = 1 THEN 'DRAFT' ELSE 'APPROVE' END,
+       TIMESTAMP '2020-01-01' + (a || ' minutes')::INTERVAL + (s || ' hours')::INTERVAL,
+       'bench', CURRENT_TIMESTAMP
+FROM generate_series(1, 100000) AS a
+CROSS JOIN generate_series(1, 10) AS s;
+
+INSERT INTO rsms_bench.approval_participants (approver_id, approval_id, draft_date, approved_at, completed_date)
+SELECT h.approver_id, h.approval_id, a.draft_date, MIN(h.action_date), a.completed_date
+FROM rsms_bench.approval_histories h
+JOIN rsms_bench.approvals a ON a.approval_id = h.approval_id
+WHERE h.action_cd = 'APPROVE'
+GROUP BY h.approver_id, h.approval_id, a.draft_date, a.completed_date;
+
+ANALYZE rsms_bench.approvals;
+ANALYZE rsms_bench.approval_histories;
+ANALYZE rsms_bench.approval_participants;
+
+-- =====================================================
+-- STEP 3: 기존 방식 (approval_histories JOIN + DISTINCT)
+-- =====================================================
+
+-- 건수
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT COUNT(DISTINCT a.approval_id)
+FROM rsms_bench.approvals a
+JOIN rsms_bench.approval_histories h ON h.approval_id = a.approval_id
+WHERE h.approver_id = 'E00001' AND h.action_cd = 'APPROVE';
+
+-- 첫 페이지 (20건)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT DISTINCT a.*
+FROM rsms_bench.approvals a
+JOIN rsms_bench.approval_histories h ON h.approval_id = a.approval_id
+WHERE h.approver_id = 'E00001' AND h.action_cd = 'APPROVE'
+ORDER BY a.draft_date DESC, a.approval_id DESC
+LIMIT 21;
+
+-- =====================================================
+-- STEP 4: 참여자 테이블 (approval_participants)
+-- =====================================================
+
+-- 건수 (인덱스 전용 스캔)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT COUNT(*)
+FROM rsms_bench.approval_participants p
+WHERE p.approver_id = 'E00001';
+
+-- 첫 페이지 (20건)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT a.*
+FROM rsms_bench.approval_participants p
+JOIN rsms_bench.approvals a ON a.approval_id = p.approval_id
+WHERE p.approver_id = 'E00001'
+ORDER BY p.draft_date DESC, p.approval_id DESC
+LIMIT 21;
+
+-- 중간 페이지 (커서 이후 20건)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT a.*
+FROM rsms_bench.approval_participants p
+JOIN rsms_bench.approvals a ON a.approval_id = p.approval_id
+WHERE p.approver_id = 'E00001'
+  AND (p.draft_date < TIMESTAMP '2020-02-01' OR (p.draft_date = TIMESTAMP '2020-02-01' AND p.approval_id < 'APR00044640'))
+ORDER BY p.draft_date DESC, p.approval_id DESC
+LIMIT 21;
+
+-- =====================================================
+-- STEP 5: 정리
+-- =====================================================
+
+DROP SCHEMA IF EXISTS rsms_bench CASCADE;
+
+-- =====================================================
+-- 스크립트 완료
+-- =====================================================
@@ -0,0 +1,45 @@
+
+-- =====================================================
+-- 업무 ID 채번 카운터 테이블 (id_counters) 생성
+-- =====================================================
+-- 설명: IdAllocator가 사용하는 채번 카운터 테이블
+-- 작성자: Claude AI
+-- 작성일: 2025-12-05
+-- 참고:
+--   - 카운터 키별 1행, next_value = 다음에 예약할 순번
+--   - 애플리케이션은 블록 크기만큼 next_value를 올려 예약 후 메모리에서 할당
+--     예: UPDATE ... SET next_value = next_value + 20 RETURNING next_value
+--   - 연도별 채번은 키에 연도 포함 (예: APPROVAL_NO:2025 → 매년 1부터)
+--   - 카운터 행은 최초 채번 시 기존 데이터의 최대 순번으로 자동 생성
+--   - 기존 seq_approval_* 시퀀스/생성 함수는 애플리케이션에서 사용하지 않음
+-- =====================================================
+
+-- DROP TABLE IF EXISTS rsms.id_counters CASCADE;
+
+CREATE TABLE IF NOT EXISTS rsms.id_counters (
+    counter_key             VARCHAR(100)    PRIMARY KEY,            -- 카운터 키
+    next_value              BIGINT          NOT NULL DEFAULT 1,     -- 다음 예약 순번
+    created_at              TIMESTAMP       NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at              TIMESTAMP       NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT chk_id_counters_next_value CHECK (next_value >= 1)
+);
+
+-- =====================================================
+-- 코멘트
+-- =====================================================
+
+COMMENT ON TABLE rsms.id_counters IS '업무 ID 채번 카운터 - 블록 단위 예약(hi-lo)';
+COMMENT ON COLUMN rsms.id_counters.counter_key IS '카운터 키 (예: APPROVAL_ID, APPROVAL_NO:2025)';
+COMMENT ON COLUMN rsms.id_counters.next_value IS '다음 예약 순번 (예약 시 블록 크기만큼 증가)';
+COMMENT ON COLUMN rsms.id_counters.created_at IS '생성일시';
+COMMENT ON COLUMN rsms.id_counters.updated_at IS '마지막 예약일시';
+
+-- =====================================================
+-- 권한 설정
+-- =====================================================
+-- GRANT SELECT, INSERT, UPDATE ON rsms.id_counters TO rsms_app;
+
+-- =====================================================
+-- 스크립트 완료
+-- =====================================================
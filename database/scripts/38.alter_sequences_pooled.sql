@@ -0,0 +1,74 @@
+
+-- =====================================================
+-- BIGSERIAL 시퀀스 pooled 전환 (allocationSize 50)
+-- =====================================================
+-- 설명: 엔티티 ID 생성 방식 IDENTITY → SEQUENCE(pooled) 전환에 맞춰 시퀀스 증가값 변경
+-- 작성자: Claude AI
+-- 작성일: 2025-12-05
+-- 참고:
+--   - 엔티티의 @SequenceGenerator(allocationSize = 50)와 시퀀스 INCREMENT BY 값이 같아야 함
+--   - pooled optimizer는 nextval 값 v에 대해 (v-49 ~ v) 범위를 메모리에서 할당
+--     → 컬럼 DEFAULT nextval로 직접 INSERT하는 SQL과도 ID가 겹치지 않음
+--   - 다음 nextval이 (현재 최대 ID + 50)이 되도록 시드
+--   - 테이블 생성 스크립트(05~20, 29) 실행 후 실행
+-- =====================================================
+
+-- 직책 (positions)
+ALTER SEQUENCE rsms.positions_positions_id_seq INCREMENT BY 50;
+SELECT setval('rsms.positions_positions_id_seq', COALESCE((SELECT MAX(positions_id) FROM rsms.positions), 0) + 50, false);
+
+-- 직책상세 (positions_details)
+ALTER SEQUENCE rsms.positions_details_positions_details_id_seq INCREMENT BY 50;
+SELECT setval('rsms.positions_details_positions_details_id_seq', COALESCE((SELECT MAX(positions_details_id) FROM rsms.positions_details), 0) + 50, false);
+
+-- 직책겸직 (position_concurrents)
+ALTER SEQUENCE rsms.position_concurrents_position_concurrent_id_seq INCREMENT BY 50;
+SELECT setval('rsms.position_concurrents_position_concurrent_id_seq', COALESCE((SELECT MAX(position_concurrent_id) FROM rsms.position_concurrents), 0) + 50, false);
+
+-- 회의체 (committees)
+ALTER SEQUENCE rsms.committees_committees_id_seq INCREMENT BY 50;
+SELECT setval('rsms.committees_committees_id_seq', COALESCE((SELECT MAX(committees_id) FROM rsms.committees), 0) + 50, false);
+
+-- 회의체상세 (committee_details)
+ALTER SEQUENCE rsms.committee_details_committee_details_id_seq INCREMENT BY 50;
+SELECT setval('rsms.committee_details_committee_details_id_seq', COALESCE((SELECT MAX(committee_details_id) FROM rsms.committee_details), 0) + 50, false);
+
+-- 책무기술서 임원정보 (resp_statement_execs)
+ALTER SEQUENCE rsms.resp_statement_execs_resp_stmt_exec_id_seq INCREMENT BY 50;
+SELECT setval('rsms.resp_statement_execs_resp_stmt_exec_id_seq', COALESCE((SELECT MAX(resp_stmt_exec_id) FROM rsms.resp_statement_execs), 0) + 50, false);
+
+-- 제출보고서 (submit_reports)
+ALTER SEQUENCE rsms.submit_reports_report_id_seq INCREMENT BY 50;
+SELECT setval('rsms.submit_reports_report_id_seq', COALESCE((SELECT MAX(report_id) FROM rsms.submit_reports), 0) + 50, false);
+
+-- 사용자 (users)
+ALTER SEQUENCE rsms.users_user_id_seq INCREMENT BY 50;
+SELECT setval('rsms.users_user_id_seq', COALESCE((SELECT MAX(user_id) FROM rsms.users), 0) + 50, false);
+
+-- 역할 (roles)
+ALTER SEQUENCE rsms.roles_role_id_seq INCREMENT BY 50;
+SELECT setval('rsms.roles_role_id_seq', COALESCE((SELECT MAX(role_id) FROM rsms.roles), 0) + 50, false);
+
+-- 권한 (permissions)
+ALTER SEQUENCE rsms.permissions_permission_id_seq INCREMENT BY 50;
+SELECT setval('rsms.permissions_permission_id_seq', COALESCE((SELECT MAX(permission_id) FROM rsms.permissions), 0) + 50, false);
+
+-- 역할권한 (role_permissions)
+ALTER SEQUENCE rsms.role_permissions_role_permission_id_seq INCREMENT BY 50;
+SELECT setval('rsms.role_permissions_role_permission_id_seq', COALESCE((SELECT MAX(role_permission_id) FROM rsms.role_permissions), 0) + 50, false);
+
+-- 사용자역할 (user_roles)
+ALTER SEQUENCE rsms.user_roles_user_role_id_seq INCREMENT BY 50;
+SELECT setval('rsms.user_roles_user_role_id_seq', COALESCE((SELECT MAX(user_role_id) FROM rsms.user_roles), 0) + 50, false);
+
+-- 메뉴 (menu_items)
+ALTER SEQUENCE rsms.menu_items_menu_id_seq INCREMENT BY 50;
+SELECT setval('rsms.menu_items_menu_id_seq', COALESCE((SELECT MAX(menu_id) FROM rsms.menu_items), 0) + 50, false);
+
+-- 메뉴권한 (menu_permissions)
+ALTER SEQUENCE rsms.menu_permissions_menu_permission_id_seq INCREMENT BY 50;
+SELECT setval('rsms.menu_permissions_menu_permission_id_seq', COALESCE((SELECT MAX(menu_permission_id) FROM rsms.menu_permissions), 0) + 50, false);
+
+-- =====================================================
+-- 스크립트 완료
+-- =====================================================
@@ -0,0 +1,70 @@
+
+-- =====================================================
+-- 이행점검계획 진행 현황 테이블 (impl_inspection_plan_progress) 생성
+-- =====================================================
+-- 설명: 이행점검계획별 점검항목 상태 건수 읽기 모델
+-- 작성자: Claude AI
+-- 작성일: 2025-12-05
+-- 참고:
+--   - 계획 목록 조회 시 계획마다 COUNT 3회 대신 PK 조회로 건수 제공
+--   - 점검항목 생성 / 점검결과 변경 / 계획 삭제 시 애플리케이션이 같은 트랜잭션에서 재집계
+--   - completed_item_count: 적정(02), in_progress_item_count: 부적정(03)
+--   - 생성 후 기존 계획을 한 번 집계 (아래 백필)
+-- =====================================================
+
+-- DROP TABLE IF EXISTS rsms.impl_inspection_plan_progress CASCADE;
+
+CREATE TABLE IF NOT EXISTS rsms.impl_inspection_plan_progress (
+    impl_inspection_plan_id VARCHAR(13)     PRIMARY KEY,            -- 이행점검계획ID
+    total_item_count        BIGINT          NOT NULL DEFAULT 0,     -- 전체 항목 수
+    completed_item_count    BIGINT          NOT NULL DEFAULT 0,     -- 적정(02) 항목 수
+    in_progress_item_count  BIGINT          NOT NULL DEFAULT 0,     -- 부적정(03) 항목 수
+    updated_at              TIMESTAMP       NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT fk_impl_inspection_plan_progress_plan
+        FOREIGN KEY (impl_inspection_plan_id)
+        REFERENCES rsms.impl_inspection_plans(impl_inspection_plan_id)
+        ON DELETE CASCADE
+);
+
+-- =====================================================
+-- 백필 (활성 점검항목 기준, 재실행 시 값 갱신)
+-- =====================================================
+
+INSERT INTO rsms.impl_inspection_plan_progress (
+    impl_inspection_plan_id, total_item_count, completed_item_count, in_progress_item_count, updated_at)
+SELECT p.impl_inspection_plan_id,
+       COUNT(i.impl_inspection_item_id),
+       COUNT(i.impl_inspection_item_id) FILTER (WHERE i.inspection_status_cd = '02'),
+       COUNT(i.impl_inspection_item_id) FILTER (WHERE i.inspection_status_cd = '03'),
+       CURRENT_TIMESTAMP
+FROM rsms.impl_inspection_plans p
+LEFT JOIN rsms.impl_inspection_items i
+       ON i.impl_inspection_plan_id = p.impl_inspection_plan_id
+      AND i.is_active = 'Y'
+GROUP BY p.impl_inspection_plan_id
+ON CONFLICT (impl_inspection_plan_id) DO UPDATE
+SET total_item_count = EXCLUDED.total_item_count,
+    completed_item_count = EXCLUDED.completed_item_count,
+    in_progress_item_count = EXCLUDED.in_progress_item_count,
+    updated_at = EXCLUDED.updated_at;
+
+-- =====================================================
+-- 코멘트
+-- =====================================================
+
+COMMENT ON TABLE rsms.impl_inspection_plan_progress IS '이행점검계획 진행 현황 - 점검항목 상태별 건수 읽기 모델';
+COMMENT ON COLUMN rsms.impl_inspection_plan_progress.impl_inspection_plan_id IS '이행점검계획ID';
+COMMENT ON COLUMN rsms.impl_inspection_plan_progress.total_item_count IS '전체 점검항목 수 (활성)';
+COMMENT ON COLUMN rsms.impl_inspection_plan_progress.completed_item_count IS '적정(02) 점검항목 수';
+COMMENT ON COLUMN rsms.impl_inspection_plan_progress.in_progress_item_count IS '부적정(03) 점검항목 수';
+COMMENT ON COLUMN rsms.impl_inspection_plan_progress.updated_at IS '마지막 재집계일시';
+
+-- =====================================================
+-- 권한 설정
+-- =====================================================
+-- GRANT SELECT, INSERT, UPDATE ON rsms.impl_inspection_plan_progress TO rsms_app;
+
+-- =====================================================
+-- 스크립트 완료
+-- =====================================================
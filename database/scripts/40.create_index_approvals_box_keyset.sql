@@ -0,0 +1,33 @@
+
+-- =====================================================
+-- 결재함 keyset 페이지네이션 인덱스 생성
+-- =====================================================
+-- 설명: 기안함 / 결재대기함 커서 페이지 조회용 복합 인덱스
+-- 작성자: Claude AI
+-- 작성일: 2025-12-05
+-- 참고:
+--   - 정렬/커서: (draft_date DESC, approval_id DESC)
+--   - 커서 조건: draft_date < ? OR (draft_date = ? AND approval_id < ?)
+--   - 결재대기함은 기안(01)/진행중(02) 문서만 대상이므로 부분 인덱스 사용
+--   - 결재완료함은 approval_histories(approver_id, action_cd) 기존 인덱스로 EXISTS 조회
+-- =====================================================
+
+-- 기안함: 기안자 + 기안일시 + 결재ID
+CREATE INDEX IF NOT EXISTS idx_approvals_drafter_keyset
+    ON rsms.approvals(drafter_id, draft_date DESC, approval_id DESC);
+
+-- 결재대기함: 현결재자 + 기안일시 + 결재ID (진행 중 문서만)
+CREATE INDEX IF NOT EXISTS idx_approvals_pending_keyset
+    ON rsms.approvals(current_approver_id, draft_date DESC, approval_id DESC)
+    WHERE approval_status_cd IN ('01', '02');
+
+-- =====================================================
+-- 코멘트
+-- =====================================================
+
+COMMENT ON INDEX rsms.idx_approvals_drafter_keyset IS '기안함 keyset 페이지 조회 (기안자, 기안일시 DESC, 결재ID DESC)';
+COMMENT ON INDEX rsms.idx_approvals_pending_keyset IS '결재대기함 keyset 페이지 조회 (현결재자, 기안일시 DESC, 결재ID DESC, 진행 중 문서)';
+
+-- =====================================================
+-- 스크립트 완료
+-- =====================================================
@@ -0,0 +1,88 @@
+
+-- =====================================================
+-- 결재 참여자 테이블 (approval_participants) 생성
+-- =====================================================
+-- 설명: 결재완료함 조회용 결재자 참여 인덱스 테이블
+-- 작성자: Claude AI
+-- 작성일: 2025-12-05
+-- 참고:
+--   - 결재자가 승인(APPROVE)한 결재 문서를 (결재자, 결재ID) 1행으로 보관
+--   - approval_histories JOIN + DISTINCT 없이 결재완료함 목록/건수 조회
+--   - ApprovalService.processApproval에서 승인 시 추가, 결재 완료 시 completed_date 갱신
+--   - draft_date는 결재함 keyset 정렬(draft_date DESC, approval_id DESC)용 복제 컬럼
+--   - 생성 후 기존 결재 이력으로 한 번 백필 (아래 STEP 3)
+-- =====================================================
+
+-- DROP TABLE IF EXISTS rsms.approval_participants CASCADE;
+
+-- =====================================================
+-- STEP 1: 테이블 생성
+-- =====================================================
+
+CREATE TABLE IF NOT EXISTS rsms.approval_participants (
+    approver_id             VARCHAR(50)     NOT NULL,               -- 결재자ID (사번)
+    approval_id             VARCHAR(20)     NOT NULL,               -- 결재ID (FK → approvals)
+    draft_date              TIMESTAMP       NOT NULL,               -- 기안일시 (approvals.draft_date 복제)
+    approved_at             TIMESTAMP       NOT NULL DEFAULT CURRENT_TIMESTAMP, -- 최초 승인일시
+    completed_date          TIMESTAMP,                              -- 결재 완료일시 (approvals.completed_date 복제)
+    created_at              TIMESTAMP       NOT NULL DEFAULT CURRENT_TIMESTAMP, -- 생성일시
+
+    CONSTRAINT pk_approval_participants PRIMARY KEY (approver_id, approval_id),
+    CONSTRAINT fk_approval_participants_approval
+        FOREIGN KEY (approval_id)
+        REFERENCES rsms.approvals(approval_id)
+        ON DELETE CASCADE
+        ON UPDATE CASCADE
+);
+
+-- =====================================================
+-- STEP 2: 인덱스 생성
+-- =====================================================
+
+-- 결재완료함 keyset 조회: 결재자 + 기안일시 + 결재ID
+CREATE INDEX IF NOT EXISTS idx_approval_participants_keyset
+    ON rsms.approval_participants(approver_id, draft_date DESC, approval_id DESC);
+
+-- 결재 완료 시 completed_date 갱신용
+CREATE INDEX IF NOT EXISTS idx_approval_participants_approval
+    ON rsms.approval_participants(approval_id);
+
+-- =====================================================
+-- STEP 3: 백필 (기존 승인 이력 기준, 재실행 가능)
+-- =====================================================
+
+INSERT INTO rsms.approval_participants (
+    approver_id, approval_id, draft_date, approved_at, completed_date, created_at)
+SELECT h.approver_id,
+       h.approval_id,
+       a.draft_date,
+       MIN(COALESCE(h.action_date, h.created_at)),
+       a.completed_date,
+       CURRENT_TIMESTAMP
+FROM rsms.approval_histories h
+JOIN rsms.approvals a ON a.approval_id = h.approval_id
+WHERE h.action_cd = 'APPROVE'
+GROUP BY h.approver_id, h.approval_id, a.draft_date, a.completed_date
+ON CONFLICT (approver_id, approval_id) DO UPDATE
+SET completed_date = EXCLUDED.completed_date;
+
+-- =====================================================
+-- STEP 4: 코멘트
+-- =====================================================
+
+COMMENT ON TABLE rsms.approval_participants IS '결재 참여자 - 결재자별 승인한 결재 문서 (결재완료함 조회용)';
+COMMENT ON COLUMN rsms.approval_participants.approver_id IS '결재자ID (사번)';
+COMMENT ON COLUMN rsms.approval_participants.approval_id IS '결재ID';
+COMMENT ON COLUMN rsms.approval_participants.draft_date IS '기안일시 (결재함 정렬용 복제)';
+COMMENT ON COLUMN rsms.approval_participants.approved_at IS '최초 승인일시';
+COMMENT ON COLUMN rsms.approval_participants.completed_date IS '결재 완료일시 (완료 전 NULL)';
+COMMENT ON COLUMN rsms.approval_participants.created_at IS '생성일시';
+
+-- =====================================================
+-- 권한 설정
+-- =====================================================
+-- GRANT SELECT, INSERT, UPDATE, DELETE ON rsms.approval_participants TO rsms_app;
+
+-- =====================================================
+-- 스크립트 완료
+-- =====================================================
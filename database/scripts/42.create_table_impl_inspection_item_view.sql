@@ -0,0 +1,375 @@
+
+-- =====================================================
+-- 이행점검항목 목록 읽기 모델 (impl_inspection_item_view) 생성
+-- =====================================================
+-- 설명: 점검항목 + 이행점검계획 + 부서장업무메뉴얼 + 조직 + 관리의무 + 책무세부 + 책무 평탄화 테이블
+-- 작성자: Claude AI
+-- 작성일: 2025-12-05
+-- 참고:
+--   - 점검자지정/이행점검수행 목록을 6단계 JOIN FETCH 대신 단일 테이블 페이징 조회로 제공
+--   - 원본 테이블 INSERT/UPDATE 시 문장 단위 트리거가 영향받는 점검항목 행만 재작성 (PostgreSQL 10 이상)
+--   - 점검항목 삭제는 FK ON DELETE CASCADE로 반영
+--   - 직원명/공통코드명은 저장하지 않음 (애플리케이션이 페이지 단위로 변환)
+--   - Flyway: V020__Create_impl_inspection_item_view_table.sql 과 동일
+-- =====================================================
+
+-- DROP TABLE IF EXISTS rsms.impl_inspection_item_view CASCADE;
+
+CREATE TABLE IF NOT EXISTS rsms.impl_inspection_item_view (
+    -- 점검항목
+    impl_inspection_item_id VARCHAR(20) PRIMARY KEY,       -- 이행점검항목ID
+    impl_inspection_plan_id VARCHAR(13) NOT NULL,          -- 이행점검계획ID
+    manual_cd VARCHAR(50) NOT NULL,                        -- 부서장업무메뉴얼CD
+
+    -- 이행점검계획
+    ledger_order_id VARCHAR(8),                            -- 원장차수ID
+    impl_inspection_name VARCHAR(200),                     -- 이행점검명
+    inspection_type_cd VARCHAR(20),                        -- 점검유형코드
+    impl_inspection_start_date DATE,                       -- 점검시작일
+    impl_inspection_end_date DATE,                         -- 점검종료일
+
+    -- 부서장업무메뉴얼 / 조직
+    resp_item VARCHAR(500),                                -- 책무관리항목
+    activity_name VARCHAR(200),                            -- 관리활동명
+    org_code VARCHAR(20),                                  -- 조직코드
+    org_name VARCHAR(100),                                 -- 조직명
+    exec_check_frequency_cd VARCHAR(20),                   -- 수행점검주기
+    exec_check_method VARCHAR(500),                        -- 수행점검항목
+    executor_id VARCHAR(50),                               -- 수행자ID
+    execution_date DATE,                                   -- 수행일자
+    execution_status VARCHAR(20),                          -- 수행상태코드
+    execution_result_cd VARCHAR(20),                       -- 수행결과코드
+    execution_result_content TEXT,                         -- 수행결과내용
+
+    -- 관리의무 / 책무세부 / 책무
+    obligation_cd VARCHAR(50),                             -- 관리의무코드
+    obligation_info VARCHAR(1000),                         -- 관리의무내용
+    responsibility_detail_cd VARCHAR(30),                  -- 책무세부코드
+    responsibility_detail_info VARCHAR(2000),              -- 책무세부내용
+    responsibility_cd VARCHAR(20),                         -- 책무코드
+    responsibility_info VARCHAR(1000),                     -- 책무내용
+
+    -- 점검 / 개선이행 / 최종점검
+    inspector_id VARCHAR(50),                              -- 점검자ID
+    inspection_status_cd VARCHAR(20),                      -- 점검결과상태코드
+    inspection_result_content TEXT,                        -- 점검결과내용
+    inspection_date DATE,                                  -- 점검일자
+    improvement_status_cd VARCHAR(20),                     -- 개선이행상태코드
+    improvement_manager_id VARCHAR(50),                    -- 개선담당자ID
+    improvement_plan_content TEXT,                         -- 개선계획내용
+    improvement_plan_date DATE,                            -- 개선계획수립일자
+    improvement_plan_approved_by VARCHAR(50),              -- 개선계획 승인자ID
+    improvement_plan_approved_date DATE,                   -- 개선계획 승인일자
+    improvement_detail_content TEXT,                       -- 개선이행세부내용
+    improvement_completed_date DATE,                       -- 개선이행완료일자
+    final_inspection_result_cd VARCHAR(20),                -- 최종점검결과코드
+    final_inspection_result_content TEXT,                  -- 최종점검결과내용
+    final_inspection_date DATE,                            -- 최종점검일자
+    rejection_count INTEGER,                               -- 반려 횟수
+    is_active VARCHAR(1) NOT NULL,                         -- 사용여부
+
+    -- 감사 정보 (점검항목)
+    created_at TIMESTAMP,
+    created_by VARCHAR(50),
+    updated_at TIMESTAMP,
+    updated_by VARCHAR(50),
+
+    refreshed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP, -- 마지막 갱신일시
+
+    CONSTRAINT fk_impl_inspection_item_view_item
+        FOREIGN KEY (impl_inspection_item_id)
+        REFERENCES rsms.impl_inspection_items(impl_inspection_item_id)
+        ON DELETE CASCADE
+);
+
+-- 목록 조회 인덱스 (활성 항목, 등록일시 역순 페이징)
+CREATE INDEX IF NOT EXISTS idx_impl_inspection_item_view_ledger
+    ON rsms.impl_inspection_item_view (ledger_order_id, created_at DESC, impl_inspection_item_id DESC)
+    WHERE is_active = 'Y';
+CREATE INDEX IF NOT EXISTS idx_impl_inspection_item_view_plan
+    ON rsms.impl_inspection_item_view (impl_inspection_plan_id, created_at)
+    WHERE is_active = 'Y';
+CREATE INDEX IF NOT EXISTS idx_impl_inspection_item_view_active
+    ON rsms.impl_inspection_item_view (created_at DESC, impl_inspection_item_id DESC)
+    WHERE is_active = 'Y';
+CREATE INDEX IF NOT EXISTS idx_impl_inspection_item_view_org
+    ON rsms.impl_inspection_item_view (org_code)
+    WHERE is_active = 'Y';
+CREATE INDEX IF NOT EXISTS idx_impl_inspection_item_view_inspector
+    ON rsms.impl_inspection_item_view (inspector_id)
+    WHERE is_active = 'Y';
+
+-- ============================================
+-- 갱신 함수: 지정한 점검항목 행을 원본 테이블에서 다시 작성
+-- ============================================
+CREATE OR REPLACE FUNCTION rsms.refresh_impl_inspection_item_view(p_item_ids VARCHAR[])
+RETURNS INTEGER AS $$
+DECLARE
+  v_count INTEGER;
+BEGIN
+  IF p_item_ids IS NULL OR cardinality(p_item_ids) = 0 THEN
+    RETURN 0;
+  END IF;
+
+  INSERT INTO rsms.impl_inspection_item_view (
+    impl_inspection_item_id, impl_inspection_plan_id, manual_cd,
+    ledger_order_id, impl_inspection_name, inspection_type_cd, impl_inspection_start_date, impl_inspection_end_date,
+    resp_item, activity_name, org_code, org_name, exec_check_frequency_cd, exec_check_method,
+    executor_id, execution_date, execution_status, execution_result_cd, execution_result_content,
+    obligation_cd, obligation_info, responsibility_detail_cd, responsibility_detail_info,
+    responsibility_cd, responsibility_info,
+    inspector_id, inspection_status_cd, inspection_result_content, inspection_date,
+    improvement_status_cd, improvement_manager_id, improvement_plan_content, improvement_plan_date,
+    improvement_plan_approved_by, improvement_plan_approved_date, improvement_detail_content, improvement_completed_date,
+    final_inspection_result_cd, final_inspection_result_content, final_inspection_date,
+    rejection_count, is_active, created_at, created_by, updated_at, updated_by, refreshed_at)
+  SELECT
+    i.impl_inspection_item_id, i.impl_inspection_plan_id, i.manual_cd,
+    p.ledger_order_id, p.impl_inspection_name, p.inspection_type_cd, p.impl_inspection_start_date, p.impl_inspection_end_date,
+    m.resp_item, m.activity_name, m.org_code, COALESCE(org.org_name, m.org_code), m.exec_check_frequency_cd, m.exec_check_method,
+    m.executor_id, m.execution_date, m.execution_status, m.execution_result_cd, m.execution_result_content,
+    m.obligation_cd, o.obligation_info, rd.responsibility_detail_cd, rd.responsibility_detail_info,
+    r.responsibility_cd, r.responsibility_info,
+    i.inspector_id, i.inspection_status_cd, i.inspection_result_content, i.inspection_date,
+    i.improvement_status_cd, i.improvement_manager_id, i.improvement_plan_content, i.improvement_plan_date,
+    i.improvement_plan_approved_by, i.improvement_plan_approved_date, i.improvement_detail_content, i.improvement_completed_date,
+    i.final_inspection_result_cd, i.final_inspection_result_content, i.final_inspection_date,
+    i.rejection_count, i.is_active, i.created_at, i.created_by, i.updated_at, i.updated_by, CURRENT_TIMESTAMP
+  FROM rsms.impl_inspection_items i
+  LEFT JOIN rsms.impl_inspection_plans p ON p.impl_inspection_plan_id = i.impl_inspection_plan_id
+  LEFT JOIN rsms.dept_manager_manuals m ON m.manual_cd = i.manual_cd
+  LEFT JOIN rsms.organizations org ON org.org_code = m.org_code
+  LEFT JOIN rsms.management_obligations o ON o.obligation_cd = m.obligation_cd
+  LEFT JOIN rsms.responsibility_details rd ON rd.responsibility_detail_cd = o.responsibility_detail_cd
+  LEFT JOIN rsms.responsibilities r ON r.responsibility_cd = rd.responsibility_cd
+  WHERE i.impl_inspection_item_id = ANY(p_item_ids)
+  ON CONFLICT (impl_inspection_item_id) DO UPDATE SET
+    impl_inspection_plan_id = EXCLUDED.impl_inspection_plan_id,
+    manual_cd = EXCLUDED.manual_cd,
+    ledger_order_id = EXCLUDED.ledger_order_id,
+    impl_inspection_name = EXCLUDED.impl_inspection_name,
+    inspection_type_cd = EXCLUDED.inspection_type_cd,
+    impl_inspection_start_date = EXCLUDED.impl_inspection_start_date,
+    impl_inspection_end_date = EXCLUDED.impl_inspection_end_date,
+    resp_item = EXCLUDED.resp_item,
+    activity_name = EXCLUDED.activity_name,
+    org_code = EXCLUDED.org_code,
+    org_name = EXCLUDED.org_name,
+    exec_check_frequency_cd = EXCLUDED.exec_check_frequency_cd,
+    exec_check_method = EXCLUDED.exec_check_method,
+    executor_id = EXCLUDED.executor_id,
+    execution_date = EXCLUDED.execution_date,
+    execution_status = EXCLUDED.execution_status,
+    execution_result_cd = EXCLUDED.execution_result_cd,
+    execution_result_content = EXCLUDED.execution_result_content,
+    obligation_cd = EXCLUDED.obligation_cd,
+    obligation_info = EXCLUDED.obligation_info,
+    responsibility_detail_cd = EXCLUDED.responsibility_detail_cd,
+    responsibility_detail_info = EXCLUDED.responsibility_detail_info,
+    responsibility_cd = EXCLUDED.responsibility_cd,
+    responsibility_info = EXCLUDED.responsibility_info,
+    inspector_id = EXCLUDED.inspector_id,
+    inspection_status_cd = EXCLUDED.inspection_status_cd,
+    inspection_result_content = EXCLUDED.inspection_result_content,
+    inspection_date = EXCLUDED.inspection_date,
+    improvement_status_cd = EXCLUDED.improvement_status_cd,
+    improvement_manager_id = EXCLUDED.improvement_manager_id,
+    improvement_plan_content = EXCLUDED.improvement_plan_content,
+    improvement_plan_date = EXCLUDED.improvement_plan_date,
+    improvement_plan_approved_by = EXCLUDED.improvement_plan_approved_by,
+    improvement_plan_approved_date = EXCLUDED.improvement_plan_approved_date,
+    improvement_detail_content = EXCLUDED.improvement_detail_content,
+    improvement_completed_date = EXCLUDED.improvement_completed_date,
+    final_inspection_result_cd = EXCLUDED.final_inspection_result_cd,
+    final_inspection_result_content = EXCLUDED.final_inspection_result_content,
+    final_inspection_date = EXCLUDED.final_inspection_date,
+    rejection_count = EXCLUDED.rejection_count,
+    is_active = EXCLUDED.is_active,
+    created_at = EXCLUDED.created_at,
+    created_by = EXCLUDED.created_by,
+    updated_at = EXCLUDED.updated_at,
+    updated_by = EXCLUDED.updated_by,
+    refreshed_at = EXCLUDED.refreshed_at;
+
+  GET DIAGNOSTICS v_count = ROW_COUNT;
+  RETURN v_count;
+END;
+$$ LANGUAGE plpgsql;
+
+COMMENT ON FUNCTION rsms.refresh_impl_inspection_item_view(VARCHAR[]) IS '지정한 이행점검항목의 읽기 모델 행을 원본 테이블에서 다시 작성';
+
+-- ============================================
+-- 증분 갱신 트리거 (문장 단위, 전이 테이블 사용)
+-- - 대량 INSERT ... SELECT / 일괄 UPDATE도 문장당 1회 갱신
+-- - 점검항목 삭제는 FK ON DELETE CASCADE로 반영
+-- ============================================
+
+-- 점검항목 INSERT / UPDATE
+CREATE OR REPLACE FUNCTION rsms.sync_impl_inspection_item_view_from_items()
+RETURNS TRIGGER AS $$
+BEGIN
+  PERFORM rsms.refresh_impl_inspection_item_view(ARRAY(
+    SELECT n.impl_inspection_item_id FROM new_rows n));
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_impl_inspection_items_view_insert ON rsms.impl_inspection_items;
+CREATE TRIGGER trg_impl_inspection_items_view_insert
+  AFTER INSERT ON rsms.impl_inspection_items
+  REFERENCING NEW TABLE AS new_rows
+  FOR EACH STATEMENT
+  EXECUTE FUNCTION rsms.sync_impl_inspection_item_view_from_items();
+
+DROP TRIGGER IF EXISTS trg_impl_inspection_items_view_update ON rsms.impl_inspection_items;
+CREATE TRIGGER trg_impl_inspection_items_view_update
+  AFTER UPDATE ON rsms.impl_inspection_items
+  REFERENCING NEW TABLE AS new_rows
+  FOR EACH STATEMENT
+  EXECUTE FUNCTION rsms.sync_impl_inspection_item_view_from_items();
+
+-- 이행점검계획 UPDATE
+CREATE OR REPLACE FUNCTION rsms.sync_impl_inspection_item_view_from_plans()
+RETURNS TRIGGER AS $$
+BEGIN
+  PERFORM rsms.refresh_impl_inspection_item_view(ARRAY(
+    SELECT i.impl_inspection_item_id
+    FROM rsms.impl_inspection_items i
+    JOIN new_rows n ON n.impl_inspection_plan_id = i.impl_inspection_plan_id));
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_impl_inspection_plans_item_view_update ON rsms.impl_inspection_plans;
+CREATE TRIGGER trg_impl_inspection_plans_item_view_update
+  AFTER UPDATE ON rsms.impl_inspection_plans
+  REFERENCING NEW TABLE AS new_rows
+  FOR EACH STATEMENT
+  EXECUTE FUNCTION rsms.sync_impl_inspection_item_view_from_plans();
+
+-- 부서장업무메뉴얼 UPDATE (수행자 지정, 수행결과 등)
+CREATE OR REPLACE FUNCTION rsms.sync_impl_inspection_item_view_from_manuals()
+RETURNS TRIGGER AS $$
+BEGIN
+  PERFORM rsms.refresh_impl_inspection_item_view(ARRAY(
+    SELECT i.impl_inspection_item_id
+    FROM rsms.impl_inspection_items i
+    JOIN new_rows n ON n.manual_cd = i.manual_cd));
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_dept_manager_manuals_item_view_update ON rsms.dept_manager_manuals;
+CREATE TRIGGER trg_dept_manager_manuals_item_view_update
+  AFTER UPDATE ON rsms.dept_manager_manuals
+  REFERENCING NEW TABLE AS new_rows
+  FOR EACH STATEMENT
+  EXECUTE FUNCTION rsms.sync_impl_inspection_item_view_from_manuals();
+
+-- 조직 UPDATE (조직명)
+CREATE OR REPLACE FUNCTION rsms.sync_impl_inspection_item_view_from_organizations()
+RETURNS TRIGGER AS $$
+BEGIN
+  PERFORM rsms.refresh_impl_inspection_item_view(ARRAY(
+    SELECT i.impl_inspection_item_id
+    FROM rsms.impl_inspection_items i
+    JOIN rsms.dept_manager_manuals m ON m.manual_cd = i.manual_cd
+    JOIN new_rows n ON n.org_code = m.org_code));
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_organizations_item_view_update ON rsms.organizations;
+CREATE TRIGGER trg_organizations_item_view_update
+  AFTER UPDATE ON rsms.organizations
+  REFERENCING NEW TABLE AS new_rows
+  FOR EACH STATEMENT
+  EXECUTE FUNCTION rsms.sync_impl_inspection_item_view_from_organizations();
+
+-- 관리의무 UPDATE
+CREATE OR REPLACE FUNCTION rsms.sync_impl_inspection_item_view_from_obligations()
+RETURNS TRIGGER AS $$
+BEGIN
+  PERFORM rsms.refresh_impl_inspection_item_view(ARRAY(
+    SELECT i.impl_inspection_item_id
+    FROM rsms.impl_inspection_items i
+    JOIN rsms.dept_manager_manuals m ON m.manual_cd = i.manual_cd
+    JOIN new_rows n ON n.obligation_cd = m.obligation_cd));
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_management_obligations_item_view_update ON rsms.management_obligations;
+CREATE TRIGGER trg_management_obligations_item_view_update
+  AFTER UPDATE ON rsms.management_obligations
+  REFERENCING NEW TABLE AS new_rows
+  FOR EACH STATEMENT
+  EXECUTE FUNCTION rsms.sync_impl_inspection_item_view_from_obligations();
+
+-- 책무세부 UPDATE
+CREATE OR REPLACE FUNCTION rsms.sync_impl_inspection_item_view_from_responsibility_details()
+RETURNS TRIGGER AS $$
+BEGIN
+  PERFORM rsms.refresh_impl_inspection_item_view(ARRAY(
+    SELECT i.impl_inspection_item_id
+    FROM rsms.impl_inspection_items i
+    JOIN rsms.dept_manager_manuals m ON m.manual_cd = i.manual_cd
+    JOIN rsms.management_obligations o ON o.obligation_cd = m.obligation_cd
+    JOIN new_rows n ON n.responsibility_detail_cd = o.responsibility_detail_cd));
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_responsibility_details_item_view_update ON rsms.responsibility_details;
+CREATE TRIGGER trg_responsibility_details_item_view_update
+  AFTER UPDATE ON rsms.responsibility_details
+  REFERENCING NEW TABLE AS new_rows
+  FOR EACH STATEMENT
+  EXECUTE FUNCTION rsms.sync_impl_inspection_item_view_from_responsibility_details();
+
+-- 책무 UPDATE
+CREATE OR REPLACE FUNCTION rsms.sync_impl_inspection_item_view_from_responsibilities()
+RETURNS TRIGGER AS $$
+BEGIN
+  PERFORM rsms.refresh_impl_inspection_item_view(ARRAY(
+    SELECT i.impl_inspection_item_id
+    FROM rsms.impl_inspection_items i
+    JOIN rsms.dept_manager_manuals m ON m.manual_cd = i.manual_cd
+    JOIN rsms.management_obligations o ON o.obligation_cd = m.obligation_cd
+    JOIN rsms.responsibility_details rd ON rd.responsibility_detail_cd = o.responsibility_detail_cd
+    JOIN new_rows n ON n.responsibility_cd = rd.responsibility_cd));
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_responsibilities_item_view_update ON rsms.responsibilities;
+CREATE TRIGGER trg_responsibilities_item_view_update
+  AFTER UPDATE ON rsms.responsibilities
+  REFERENCING NEW TABLE AS new_rows
+  FOR EACH STATEMENT
+  EXECUTE FUNCTION rsms.sync_impl_inspection_item_view_from_responsibilities();
+
+-- 기존 점검항목 적재
+SELECT rsms.refresh_impl_inspection_item_view(ARRAY(
+  SELECT impl_inspection_item_id FROM rsms.impl_inspection_items));
+
+-- 테이블 코멘트
+COMMENT ON TABLE rsms.impl_inspection_item_view IS '이행점검항목 목록 읽기 모델 - 점검항목/계획/메뉴얼/조직/관리의무/책무세부/책무 평탄화 (트리거로 증분 갱신)';
+
+-- 컬럼 코멘트
+COMMENT ON COLUMN rsms.impl_inspection_item_view.impl_inspection_item_id IS '이행점검항목ID';
+COMMENT ON COLUMN rsms.impl_inspection_item_view.impl_inspection_plan_id IS '이행점검계획ID';
+COMMENT ON COLUMN rsms.impl_inspection_item_view.manual_cd IS '부서장업무메뉴얼CD';
+COMMENT ON COLUMN rsms.impl_inspection_item_view.ledger_order_id IS '원장차수ID (이행점검계획)';
+COMMENT ON COLUMN rsms.impl_inspection_item_view.org_code IS '조직코드 (부서장업무메뉴얼)';
+COMMENT ON COLUMN rsms.impl_inspection_item_view.org_name IS '조직명 (조직 없으면 조직코드)';
+COMMENT ON COLUMN rsms.impl_inspection_item_view.executor_id IS '수행자ID (부서장업무메뉴얼)';
+COMMENT ON COLUMN rsms.impl_inspection_item_view.inspector_id IS '점검자ID';
+COMMENT ON COLUMN rsms.impl_inspection_item_view.refreshed_at IS '마지막 갱신일시';
+
+-- 권한 부여 (필요시)
+-- GRANT SELECT ON rsms.impl_inspection_item_view TO rsms_app;
+
+-- =====================================================
+-- 스크립트 완료
+-- =====================================================
@@ -0,0 +1,43 @@
+
+-- =====================================================
+-- 부서장업무메뉴얼 / 이행점검항목 목록 페이지 조회 인덱스 생성
+-- =====================================================
+-- 설명: 목록 화면 서버 페이징 (필터 + 등록일시 역순 정렬) 용 복합 인덱스
+-- 작성자: Claude AI
+-- 작성일: 2025-12-05
+-- 참고:
+--   - 부서장업무메뉴얼 목록: GET /api/resps/dept-manager-manuals/page
+--   - 이행점검항목 목록: GET /api/compliance/impl-inspection-plans/items/page
+--   - 정렬 기본값: created_at DESC (동률 시 코드 역순)
+--   - 키워드(LIKE '%..%') 조건은 필터 인덱스로 범위를 줄인 뒤 적용
+-- =====================================================
+
+-- 부서장업무메뉴얼: 원장차수 + 등록일시 + 메뉴얼코드
+CREATE INDEX IF NOT EXISTS idx_dept_manager_manuals_ledger_page
+    ON rsms.dept_manager_manuals (ledger_order_id, created_at DESC, manual_cd DESC);
+
+-- 부서장업무메뉴얼: 조직 + 등록일시 + 메뉴얼코드
+CREATE INDEX IF NOT EXISTS idx_dept_manager_manuals_org_page
+    ON rsms.dept_manager_manuals (org_code, created_at DESC, manual_cd DESC);
+
+-- 부서장업무메뉴얼: 수행자 + 등록일시 + 메뉴얼코드
+CREATE INDEX IF NOT EXISTS idx_dept_manager_manuals_executor_page
+    ON rsms.dept_manager_manuals (executor_id, created_at DESC, manual_cd DESC);
+
+-- 이행점검항목 읽기 모델: 원장차수 + 조직 + 등록일시 (점검자지정 화면 부서 필터)
+CREATE INDEX IF NOT EXISTS idx_impl_inspection_item_view_ledger_org
+    ON rsms.impl_inspection_item_view (ledger_order_id, org_code, created_at DESC)
+    WHERE is_active = 'Y';
+
+-- =====================================================
+-- 코멘트
+-- =====================================================
+
+COMMENT ON INDEX rsms.idx_dept_manager_manuals_ledger_page IS '부서장업무메뉴얼 목록 페이지 조회 (원장차수, 등록일시 DESC, 메뉴얼코드 DESC)';
+COMMENT ON INDEX rsms.idx_dept_manager_manuals_org_page IS '부서장업무메뉴얼 목록 페이지 조회 (조직코드, 등록일시 DESC, 메뉴얼코드 DESC)';
+COMMENT ON INDEX rsms.idx_dept_manager_manuals_executor_page IS '부서장업무메뉴얼 목록 페이지 조회 (수행자ID, 등록일시 DESC, 메뉴얼코드 DESC)';
+COMMENT ON INDEX rsms.idx_impl_inspection_item_view_ledger_org IS '이행점검항목 목록 페이지 조회 (원장차수, 조직코드, 등록일시 DESC, 활성 항목)';
+
+-- =====================================================
+-- 스크립트 완료
+-- =====================================================